@@ -0,0 +1,104 @@
+package io.quarkus.cxf.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.cxf.staxutils.StaxUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.xml.fastinfoset.stax.StAXDocumentParser;
+import com.sun.xml.fastinfoset.stax.StAXDocumentSerializer;
+
+/**
+ * Compares the cost of serializing and parsing an order as plain XML, with the StAX implementation used by CXF, and
+ * as Fast Infoset, the way the Fast Infoset interceptors of CXF do. The size of both encodings is printed once per
+ * trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FastInfosetBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    int lines;
+
+    private Marshaller marshaller;
+    private Unmarshaller unmarshaller;
+    private Order order;
+    private byte[] xml;
+    private byte[] fastInfoset;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        JAXBContext context = JAXBContext.newInstance(Order.class);
+        marshaller = context.createMarshaller();
+        unmarshaller = context.createUnmarshaller();
+        order = Order.create(lines);
+        xml = serializeXml();
+        fastInfoset = serializeFastInfoset();
+        System.out.printf("%n%d lines: %d bytes of XML, %d bytes of Fast Infoset%n", lines, xml.length,
+                fastInfoset.length);
+    }
+
+    @Benchmark
+    public byte[] serializeXml() throws JAXBException, XMLStreamException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XMLStreamWriter writer = StaxUtils.createXMLStreamWriter(out, "UTF-8");
+        marshaller.marshal(order, writer);
+        writer.flush();
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] serializeFastInfoset() throws JAXBException, XMLStreamException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StAXDocumentSerializer writer = new StAXDocumentSerializer(out);
+        marshaller.marshal(order, (XMLStreamWriter) writer);
+        writer.flush();
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public Object parseXml() throws JAXBException, XMLStreamException {
+        XMLStreamReader reader = StaxUtils.createXMLStreamReader(new ByteArrayInputStream(xml));
+        try {
+            return unmarshaller.unmarshal(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Benchmark
+    public Object parseFastInfoset() throws JAXBException, XMLStreamException {
+        StAXDocumentParser reader = new StAXDocumentParser(new ByteArrayInputStream(fastInfoset));
+        reader.setStringInterning(true);
+        try {
+            return unmarshaller.unmarshal(reader);
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.quarkus.cxf.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * A payload shaped like the messages of our services: a header of a few fields and a list of repeated entries,
+ * mixing short strings, numbers and attributes.
+ */
+@XmlRootElement(name = "order", namespace = Order.NAMESPACE)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class Order {
+
+    static final String NAMESPACE = "http://benchmarks.cxf.quarkus.io/";
+
+    @XmlAttribute
+    String id;
+    @XmlElement(namespace = NAMESPACE)
+    String customer;
+    @XmlElement(namespace = NAMESPACE)
+    String currency;
+    @XmlElement(name = "line", namespace = NAMESPACE)
+    List<Line> lines = new ArrayList<>();
+
+    @XmlAccessorType(XmlAccessType.FIELD)
+    @XmlType(namespace = NAMESPACE)
+    public static class Line {
+        @XmlAttribute
+        int number;
+        @XmlElement(namespace = NAMESPACE)
+        String sku;
+        @XmlElement(namespace = NAMESPACE)
+        String description;
+        @XmlElement(namespace = NAMESPACE)
+        int quantity;
+        @XmlElement(namespace = NAMESPACE)
+        BigDecimal price;
+    }
+
+    static Order create(int lineCount) {
+        Order order = new Order();
+        order.id = "ORD-2020-000042";
+        order.customer = "ACME Corporation";
+        order.currency = "EUR";
+        for (int i = 0; i < lineCount; i++) {
+            Line line = new Line();
+            line.number = i + 1;
+            line.sku = "SKU-" + (100000 + i * 7);
+            line.description = "Replacement part " + i + " for assembly line " + (i % 5);
+            line.quantity = 1 + i % 12;
+            line.price = BigDecimal.valueOf(1999 + i * 13L, 2);
+            order.lines.add(line);
+        }
+        return order;
+    }
+}
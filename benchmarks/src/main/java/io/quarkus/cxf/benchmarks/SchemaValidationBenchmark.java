@@ -0,0 +1,170 @@
+package io.quarkus.cxf.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.XMLConstants;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.SchemaOutputResolver;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+
+import org.apache.cxf.common.xmlschema.LSInputImpl;
+import org.apache.cxf.staxutils.StaxUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.SAXException;
+
+/**
+ * Measures the cost of validating an order against its schema: while JAXB unmarshals or marshals it, the way the
+ * endpoints validate their messages, and as a separate pass over the document before unmarshalling it. The
+ * compilation of the schema, done once for the endpoints sharing it, is measured too.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SchemaValidationBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    int lines;
+
+    private Map<String, byte[]> schemaDocuments;
+    private Schema schema;
+    private Marshaller marshaller;
+    private Marshaller validatingMarshaller;
+    private Unmarshaller unmarshaller;
+    private Unmarshaller validatingUnmarshaller;
+    private Validator validator;
+    private Order order;
+    private byte[] xml;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        JAXBContext context = JAXBContext.newInstance(Order.class);
+        schemaDocuments = generateSchema(context);
+        schema = compileSchema();
+        marshaller = context.createMarshaller();
+        validatingMarshaller = context.createMarshaller();
+        validatingMarshaller.setSchema(schema);
+        unmarshaller = context.createUnmarshaller();
+        validatingUnmarshaller = context.createUnmarshaller();
+        validatingUnmarshaller.setSchema(schema);
+        validator = schema.newValidator();
+        order = Order.create(lines);
+        xml = serialize();
+    }
+
+    /**
+     * @return the schema documents by system id
+     */
+    private static Map<String, byte[]> generateSchema(JAXBContext context) throws IOException {
+        Map<String, ByteArrayOutputStream> outs = new LinkedHashMap<>();
+        context.generateSchema(new SchemaOutputResolver() {
+            @Override
+            public Result createOutput(String namespaceUri, String suggestedFileName) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                outs.put(suggestedFileName, out);
+                StreamResult result = new StreamResult(out);
+                result.setSystemId(suggestedFileName);
+                return result;
+            }
+        });
+        Map<String, byte[]> documents = new LinkedHashMap<>();
+        outs.forEach((systemId, out) -> documents.put(systemId, out.toByteArray()));
+        return documents;
+    }
+
+    @Benchmark
+    public Schema compileSchema() throws SAXException {
+        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        // the documents import one another by their system ids
+        factory.setResourceResolver((type, namespace, publicId, systemId, baseUri) -> {
+            byte[] document = schemaDocuments.get(systemId);
+            return document == null ? null
+                    : new LSInputImpl(publicId, systemId, new ByteArrayInputStream(document));
+        });
+        List<Source> sources = new ArrayList<>();
+        schemaDocuments.forEach(
+                (systemId, document) -> sources.add(new StreamSource(new ByteArrayInputStream(document), systemId)));
+        return factory.newSchema(sources.toArray(new Source[0]));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JAXBException, XMLStreamException {
+        return serialize(marshaller);
+    }
+
+    @Benchmark
+    public byte[] serializeValidating() throws JAXBException, XMLStreamException {
+        return serialize(validatingMarshaller);
+    }
+
+    private byte[] serialize(Marshaller marshaller) throws JAXBException, XMLStreamException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XMLStreamWriter writer = StaxUtils.createXMLStreamWriter(out, "UTF-8");
+        marshaller.marshal(order, writer);
+        writer.flush();
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public Object parse() throws JAXBException, XMLStreamException {
+        return parse(unmarshaller);
+    }
+
+    @Benchmark
+    public Object parseValidating() throws JAXBException, XMLStreamException {
+        return parse(validatingUnmarshaller);
+    }
+
+    @Benchmark
+    public Object validateThenParse() throws JAXBException, XMLStreamException, SAXException, IOException {
+        XMLStreamReader reader = StaxUtils.createXMLStreamReader(new ByteArrayInputStream(xml));
+        try {
+            validator.validate(new StAXSource(reader));
+        } finally {
+            reader.close();
+        }
+        return parse(unmarshaller);
+    }
+
+    private Object parse(Unmarshaller unmarshaller) throws JAXBException, XMLStreamException {
+        XMLStreamReader reader = StaxUtils.createXMLStreamReader(new ByteArrayInputStream(xml));
+        try {
+            return unmarshaller.unmarshal(reader);
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.quarkus.cxf.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.cxf.CXFClientInfo;
+
+public final class CXFClientInfoBuildItem extends MultiBuildItem {
+
+    private final CXFClientInfo info;
+
+    public CXFClientInfoBuildItem(CXFClientInfo info) {
+        this.info = info;
+    }
+
+    public CXFClientInfo getInfo() {
+        return info;
+    }
+}
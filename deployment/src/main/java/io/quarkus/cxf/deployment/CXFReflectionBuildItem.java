@@ -0,0 +1,60 @@
+package io.quarkus.cxf.deployment;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Classes that CXF, JAXB or the XML parsers look up by reflection, with the members they use and the reason. They are
+ * merged into the reflective classes of the native image and listed in the reflection report.
+ */
+public final class CXFReflectionBuildItem extends MultiBuildItem {
+
+    private final String reason;
+    private final boolean methods;
+    private final boolean fields;
+    private final boolean weak;
+    private final List<String> classNames;
+
+    public CXFReflectionBuildItem(String reason, boolean methods, boolean fields, String... classNames) {
+        this(reason, methods, fields, false, classNames);
+    }
+
+    private CXFReflectionBuildItem(String reason, boolean methods, boolean fields, boolean weak,
+            String... classNames) {
+        this.reason = reason;
+        this.methods = methods;
+        this.fields = fields;
+        this.weak = weak;
+        this.classNames = Arrays.asList(classNames);
+    }
+
+    /**
+     * Classes that are only looked up when they are present, e.g. to detect an optional library. They are registered if
+     * the native image contains them anyway.
+     */
+    public static CXFReflectionBuildItem weak(String reason, String... classNames) {
+        return new CXFReflectionBuildItem(reason, true, true, true, classNames);
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public boolean isMethods() {
+        return methods;
+    }
+
+    public boolean isFields() {
+        return fields;
+    }
+
+    public boolean isWeak() {
+        return weak;
+    }
+
+    public List<String> getClassNames() {
+        return classNames;
+    }
+}
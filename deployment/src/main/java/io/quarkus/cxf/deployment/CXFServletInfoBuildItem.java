@@ -4,6 +4,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.cxf.attachment.MtomInfo;
+import io.quarkus.cxf.compression.CompressionInfo;
+import io.quarkus.cxf.server.CoalescingInfo;
+import io.quarkus.cxf.server.ResponseCacheInfo;
+import io.quarkus.cxf.server.WsdlDocumentInfo;
+import io.quarkus.cxf.transport.EnvelopeTemplates;
 
 public final class CXFServletInfoBuildItem extends MultiBuildItem {
 
@@ -17,6 +23,19 @@ public final class CXFServletInfoBuildItem extends MultiBuildItem {
     private String sei;
     private String wsdlPath;
     private String soapBinding;
+    private ResponseCacheInfo responseCache;
+    private CoalescingInfo coalescing;
+    private CompressionInfo compression;
+    private MtomInfo mtom;
+    private EnvelopeTemplates envelopeTemplates;
+    private WsdlDocumentInfo wsdlDocument;
+    private String schemaValidation;
+    private boolean fastInfosetEnabled;
+    private boolean fastInfosetForce;
+    private boolean directBufferResponses;
+    private boolean directBufferRequests;
+    private List<String> streamingOperations = new ArrayList<>();
+    private List<String> lazyOperations = new ArrayList<>();
 
     public CXFServletInfoBuildItem(String path, String className, String sei, String wsdlPath, String soapBinding) {
         this.path = path;
@@ -70,4 +89,100 @@ public final class CXFServletInfoBuildItem extends MultiBuildItem {
     public String getSOAPBinding() {
         return soapBinding;
     }
-}
\ No newline at end of file
+
+    public ResponseCacheInfo getResponseCache() {
+        return responseCache;
+    }
+
+    public void setResponseCache(ResponseCacheInfo responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    public CoalescingInfo getCoalescing() {
+        return coalescing;
+    }
+
+    public void setCoalescing(CoalescingInfo coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    public CompressionInfo getCompression() {
+        return compression;
+    }
+
+    public void setCompression(CompressionInfo compression) {
+        this.compression = compression;
+    }
+
+    public MtomInfo getMtom() {
+        return mtom;
+    }
+
+    public void setMtom(MtomInfo mtom) {
+        this.mtom = mtom;
+    }
+
+    public EnvelopeTemplates getEnvelopeTemplates() {
+        return envelopeTemplates;
+    }
+
+    public void setEnvelopeTemplates(EnvelopeTemplates envelopeTemplates) {
+        this.envelopeTemplates = envelopeTemplates;
+    }
+
+    public WsdlDocumentInfo getWsdlDocument() {
+        return wsdlDocument;
+    }
+
+    public void setWsdlDocument(WsdlDocumentInfo wsdlDocument) {
+        this.wsdlDocument = wsdlDocument;
+    }
+
+    public String getSchemaValidation() {
+        return schemaValidation;
+    }
+
+    public void setSchemaValidation(String schemaValidation) {
+        this.schemaValidation = schemaValidation;
+    }
+
+    public List<String> getStreamingOperations() {
+        return streamingOperations;
+    }
+
+    public List<String> getLazyOperations() {
+        return lazyOperations;
+    }
+
+    public boolean isFastInfosetEnabled() {
+        return fastInfosetEnabled;
+    }
+
+    public void setFastInfosetEnabled(boolean fastInfosetEnabled) {
+        this.fastInfosetEnabled = fastInfosetEnabled;
+    }
+
+    public boolean isFastInfosetForce() {
+        return fastInfosetForce;
+    }
+
+    public void setFastInfosetForce(boolean fastInfosetForce) {
+        this.fastInfosetForce = fastInfosetForce;
+    }
+
+    public boolean isDirectBufferResponses() {
+        return directBufferResponses;
+    }
+
+    public void setDirectBufferResponses(boolean directBufferResponses) {
+        this.directBufferResponses = directBufferResponses;
+    }
+
+    public boolean isDirectBufferRequests() {
+        return directBufferRequests;
+    }
+
+    public void setDirectBufferRequests(boolean directBufferRequests) {
+        this.directBufferRequests = directBufferRequests;
+    }
+}
@@ -0,0 +1,42 @@
+package io.quarkus.cxf.deployment;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.cxf.client.BulkheadType;
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CxfBulkheadConfig {
+
+    /**
+     * Limit the number of concurrent calls of the client
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The bulkhead type: a semaphore limiting the calls on the caller thread, or a dedicated thread pool
+     */
+    @ConfigItem(defaultValue = "semaphore")
+    public BulkheadType type;
+
+    /**
+     * The maximum number of concurrent calls
+     */
+    @ConfigItem(defaultValue = "25")
+    public int maxConcurrentCalls;
+
+    /**
+     * How long a call waits for a free place in a semaphore bulkhead before being rejected
+     */
+    @ConfigItem
+    public Optional<Duration> maxWait;
+
+    /**
+     * The number of calls queued by a thread pool bulkhead once all its threads are busy
+     */
+    @ConfigItem(defaultValue = "0")
+    public int queueSize;
+}
@@ -0,0 +1,59 @@
+package io.quarkus.cxf.deployment;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CxfCircuitBreakerConfig {
+
+    /**
+     * Stop calling the service while it is failing or too slow
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The failure rate in percent opening the circuit
+     */
+    @ConfigItem(defaultValue = "50")
+    public float failureRateThreshold;
+
+    /**
+     * The slow call rate in percent opening the circuit
+     */
+    @ConfigItem(defaultValue = "100")
+    public float slowCallRateThreshold;
+
+    /**
+     * The duration above which a call is slow
+     */
+    @ConfigItem(defaultValue = "60s")
+    public Duration slowCallDuration;
+
+    /**
+     * The number of the last calls the rates are computed on
+     */
+    @ConfigItem(defaultValue = "100")
+    public int slidingWindowSize;
+
+    /**
+     * The number of calls to record before the rates are computed, the sliding window size by default
+     */
+    @ConfigItem
+    public Optional<Integer> minimumNumberOfCalls;
+
+    /**
+     * How long the circuit stays open before letting trial calls through
+     */
+    @ConfigItem(defaultValue = "60s")
+    public Duration waitDurationInOpenState;
+
+    /**
+     * The number of trial calls deciding whether the circuit closes again
+     */
+    @ConfigItem(defaultValue = "10")
+    public int permittedCallsInHalfOpenState;
+}
@@ -0,0 +1,61 @@
+package io.quarkus.cxf.deployment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.cxf.client.CacheStore;
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CxfClientCacheConfig {
+
+    /**
+     * Cache the results of the cacheable operations of the client by arguments
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The cacheable operations, or {@code *} for all of them. Defaults to the idempotent operations of the client.
+     * Their arguments must implement equals and hashCode
+     */
+    @ConfigItem
+    public Optional<List<String>> operations;
+
+    /**
+     * The request context entries whose values select the result, e.g. a tenant sent in a header, added to the key of
+     * the calls with the endpoint address. The calls whose request context has other entries, or other values for
+     * them, than the request context of the client at startup are not cached
+     */
+    @ConfigItem
+    public Optional<List<String>> requestContextKeys;
+
+    /**
+     * The maximum number of cached results
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maximumSize;
+
+    /**
+     * The age from which a result is stale: it is still returned while a background call refreshes it.
+     * {@code 0} never refreshes results
+     */
+    @ConfigItem(defaultValue = "30s")
+    public Duration refreshAfter;
+
+    /**
+     * The age from which a result is not returned anymore
+     */
+    @ConfigItem(defaultValue = "300s")
+    public Duration ttl;
+
+    /**
+     * Where results are kept: on the Java heap, or serialized in direct buffers. On the heap, every caller receives
+     * the same instance of a result: a caller changing it changes the result the next callers receive, so the results
+     * must be treated as read-only. Off the heap, each caller receives its own copy
+     */
+    @ConfigItem(defaultValue = "heap")
+    public CacheStore store;
+}
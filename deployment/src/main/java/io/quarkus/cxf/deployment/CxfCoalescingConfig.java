@@ -0,0 +1,53 @@
+package io.quarkus.cxf.deployment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CxfCoalescingConfig {
+
+    /**
+     * Process concurrent identical requests to the idempotent operations of the endpoint once, all of them receiving
+     * the same response
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The operations whose identical requests are coalesced, or {@code *} for all of them. Defaults to the idempotent
+     * operations of the endpoint
+     */
+    @ConfigItem
+    public Optional<List<String>> operations;
+
+    /**
+     * The request headers which must be equal besides the SOAP action and the body. Only the first request goes
+     * through the interceptors of the endpoint, security included: the credentials of the requests must be part of
+     * the key, so that a caller only gets the responses of its own calls
+     */
+    @ConfigItem(defaultValue = "Authorization,Cookie")
+    public List<String> keyHeaders;
+
+    /**
+     * The time a request waits for the response of the identical request in progress, before being processed on its
+     * own
+     */
+    @ConfigItem(defaultValue = "30s")
+    public Duration waitTimeout;
+
+    /**
+     * The size above which a request is processed on its own, its body not being read in memory to be compared
+     */
+    @ConfigItem(defaultValue = "65536")
+    public int maxRequestBytes;
+
+    /**
+     * The size above which a response is not shared, the waiting requests being processed on their own
+     */
+    @ConfigItem(defaultValue = "1048576")
+    public int maxResponseBytes;
+}
@@ -0,0 +1,49 @@
+package io.quarkus.cxf.deployment;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CxfCompressionConfig {
+
+    /**
+     * Compress the messages larger than the threshold, and decompress the compressed messages received
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The content encodings, by order of preference: {@code gzip}, {@code deflate}, or the encoding of a
+     * {@code io.quarkus.cxf.compression.CompressionCodec} service provider such as {@code br} or {@code zstd}
+     */
+    @ConfigItem(defaultValue = "gzip,deflate")
+    public List<String> encodings;
+
+    /**
+     * The size in bytes from which a message is compressed
+     */
+    @ConfigItem(defaultValue = "1024")
+    public int threshold;
+
+    /**
+     * The compression level, from 1 (fastest) to 9 (smallest), or -1 for the default level of the codec
+     */
+    @ConfigItem(defaultValue = "-1")
+    public int level;
+
+    /**
+     * Compress the requests of the client with the first encoding, the server must accept compressed requests.
+     * Responses are compressed whenever the client accepts it
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean compressRequests;
+
+    /**
+     * The maximum size in bytes of a compressed message once decompressed, above which it is rejected with a fault,
+     * or -1 for no maximum
+     */
+    @ConfigItem(defaultValue = "10485760")
+    public long maxDecompressedBytes;
+}
@@ -1,6 +1,7 @@
 package io.quarkus.cxf.deployment;
 
 import java.util.Map;
+import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -19,4 +20,19 @@ final class CxfConfig {
      */
     @ConfigItem(name = "endpoint")
     Map<String, CxfEndpointConfig> endpoints;
+
+    /**
+     * The maximum number of deflaters, and of inflaters, kept for reuse by the compression of the messages. Defaults to
+     * twice the number of processors
+     */
+    @ConfigItem
+    Optional<Integer> compressionPoolSize;
+
+    /**
+     * Whether JAXB may generate XML schemas at runtime in native images, e.g. for clients created programmatically for
+     * a service interface that is not configured. The schemas of the configured endpoints and clients are generated
+     * during the image build
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean runtimeSchemaGeneration;
 }
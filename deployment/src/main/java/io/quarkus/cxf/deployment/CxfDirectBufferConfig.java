@@ -0,0 +1,24 @@
+package io.quarkus.cxf.deployment;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CxfDirectBufferConfig {
+
+    /**
+     * Encode the XML of the UTF-8 responses of the endpoint straight into the pooled direct buffer of the Undertow
+     * servlet stream instead of into a byte array copied into that buffer. The responses which are compressed, carry
+     * attachments, are in Fast Infoset or are not written by Undertow take the regular path
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean responses;
+
+    /**
+     * Parse the XML of the UTF-8 requests of the endpoint straight from the pooled direct buffers of the Undertow
+     * request instead of from the servlet stream copying them into byte arrays. The requests which are compressed,
+     * carry attachments, are in Fast Infoset or were already read take the regular path
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean requests;
+}
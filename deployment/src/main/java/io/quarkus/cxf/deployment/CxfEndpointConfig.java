@@ -1,7 +1,11 @@
 package io.quarkus.cxf.deployment;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.apache.cxf.annotations.SchemaValidation.SchemaValidationType;
+
+import io.quarkus.cxf.client.RequestContextScope;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 
@@ -15,20 +19,150 @@ public class CxfEndpointConfig {
     public Optional<String> implementor;
 
     /**
-     * The wsdl path
+     * The wsdl path. For a client, the wsdl and the documents it imports are read at build time, from the classpath,
+     * a file or an url, and embedded in the application as a single document
      */
     @ConfigItem(name = "wsdl")
     public Optional<String> wsdlPath;
 
     /**
-     * The client endpoint url
+     * The client endpoint url, or several urls of the same service to balance the calls across
      */
     @ConfigItem
-    public Optional<String> clientEndpointUrl;
+    public Optional<List<String>> clientEndpointUrl;
 
     /**
      * The client interface
      */
     @ConfigItem
     public Optional<String> serviceInterface;
+
+    /**
+     * Implement the client with a stub class generated at build time instead of decorating the CXF dynamic proxy. A
+     * stub is not accepted by ClientProxy.getClient(): cast it to org.apache.cxf.endpoint.Client instead
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean clientStub;
+
+    /**
+     * The scope of the client request context: shared by all threads, copied for each thread, or copied for each call.
+     * With the thread and call scopes the injected client can be used by concurrent threads changing the context.
+     */
+    @ConfigItem(defaultValue = "shared")
+    public RequestContextScope requestContextScope;
+
+    /**
+     * The client bulkhead
+     */
+    @ConfigItem
+    public CxfBulkheadConfig bulkhead;
+
+    /**
+     * The client circuit breaker
+     */
+    @ConfigItem
+    public CxfCircuitBreakerConfig circuitBreaker;
+
+    /**
+     * The operations which may be called several times, e.g. retried or hedged by the client, or answered from the
+     * response cache of the server: method names of the service interface, or {@code *} for all of them
+     */
+    @ConfigItem
+    public Optional<List<String>> idempotentOperations;
+
+    /**
+     * The operations of the endpoint whose last parameter, when it is a list, is unmarshalled element by element while
+     * the implementor iterates it, instead of entirely before the call: method names of the service interface, or
+     * {@code *} for all of them. Ignored when the requests are validated against the schema.
+     */
+    @ConfigItem
+    public Optional<List<String>> streamingOperations;
+
+    /**
+     * The operations of the endpoint whose list parameters are kept as XML until the implementor first accesses them,
+     * so that the requests which do not use a list skip its binding: method names of the service interface, or
+     * {@code *} for all of them. Ignored when the requests are validated against the schema.
+     */
+    @ConfigItem
+    public Optional<List<String>> lazyOperations;
+
+    /**
+     * The client retries
+     */
+    @ConfigItem
+    public CxfRetryConfig retry;
+
+    /**
+     * The client hedged requests
+     */
+    @ConfigItem
+    public CxfHedgingConfig hedging;
+
+    /**
+     * The budget of client retries and hedged attempts
+     */
+    @ConfigItem
+    public CxfRetryBudgetConfig retryBudget;
+
+    /**
+     * The client load balancing across several endpoint urls
+     */
+    @ConfigItem
+    public CxfLoadBalancingConfig loadBalancing;
+
+    /**
+     * The client cache
+     */
+    @ConfigItem
+    public CxfClientCacheConfig cache;
+
+    /**
+     * The server response cache
+     */
+    @ConfigItem
+    public CxfResponseCacheConfig responseCache;
+
+    /**
+     * The server coalescing of concurrent identical requests
+     */
+    @ConfigItem
+    public CxfCoalescingConfig coalescing;
+
+    /**
+     * The compression of the messages of the client or the endpoint
+     */
+    @ConfigItem
+    public CxfCompressionConfig compression;
+
+    /**
+     * The negotiation of Fast Infoset binary XML by the client or the endpoint
+     */
+    @ConfigItem
+    public CxfFastInfosetConfig fastInfoset;
+
+    /**
+     * The use of the pooled direct buffers of the servlet streams by the endpoint
+     */
+    @ConfigItem
+    public CxfDirectBufferConfig directBuffer;
+
+    /**
+     * The MTOM attachments of the client or the endpoint
+     */
+    @ConfigItem
+    public CxfMtomConfig mtom;
+
+    /**
+     * The WSDL answered to the {@code ?wsdl} requests of an endpoint without a wsdl setting
+     */
+    @ConfigItem
+    public CxfWsdlDocumentConfig wsdlDocument;
+
+    /**
+     * The messages of the endpoint validated against the schemas of its service: the requests ({@code in}), the
+     * responses ({@code out}) or both. The schemas are compiled once and shared by the endpoints using the same
+     * documents.
+     */
+    @ConfigItem(defaultValue = "none")
+    public SchemaValidationType schemaValidation;
 }
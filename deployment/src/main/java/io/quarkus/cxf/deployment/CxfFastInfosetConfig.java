@@ -0,0 +1,23 @@
+package io.quarkus.cxf.deployment;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CxfFastInfosetConfig {
+
+    /**
+     * Exchange Fast Infoset binary XML with the peers which accept it, requires
+     * {@code com.sun.xml.fastinfoset:FastInfoset}. A client accepts Fast Infoset responses by adding
+     * {@code application/fastinfoset} to its {@code Accept} header, an endpoint answers in Fast Infoset the requests
+     * which accept it. Messages received in Fast Infoset are read whatever this switch
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * Send every message in Fast Infoset without negotiation, for clients whose endpoint is known to accept it
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean force;
+}
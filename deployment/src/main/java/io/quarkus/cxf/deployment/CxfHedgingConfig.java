@@ -0,0 +1,41 @@
+package io.quarkus.cxf.deployment;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CxfHedgingConfig {
+
+    /**
+     * Start another attempt of the idempotent operations of the client when the first one is slow
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The maximum number of concurrent attempts of a call, the first one included
+     */
+    @ConfigItem(defaultValue = "2")
+    public int maxAttempts;
+
+    /**
+     * The percentile of the recent call durations after which another attempt is started
+     */
+    @ConfigItem(defaultValue = "95")
+    public double percentile;
+
+    /**
+     * The delay before another attempt is started, as long as too few calls were recorded to compute the percentile
+     */
+    @ConfigItem(defaultValue = "0.1s")
+    public Duration initialDelay;
+
+    /**
+     * The expected number of concurrent calls of the client being hedged. The attempts of hedged calls run on a pool
+     * of {@code max-attempts} threads per concurrent call, the calls finding it full are not hedged.
+     */
+    @ConfigItem(defaultValue = "16")
+    public int maxConcurrentCalls;
+}
@@ -0,0 +1,36 @@
+package io.quarkus.cxf.deployment;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CxfLoadBalancingConfig {
+
+    /**
+     * The strategy choosing the url of each call: round-robin, least-outstanding, power-of-two-choices or the name of
+     * a class implementing io.quarkus.cxf.client.LoadBalancingStrategy. round-robin by default
+     */
+    @ConfigItem
+    public Optional<String> strategy;
+
+    /**
+     * The number of consecutive failures ejecting an url from the rotation, 0 to never eject
+     */
+    @ConfigItem(defaultValue = "5")
+    public int consecutiveFailures;
+
+    /**
+     * How long an url stays ejected, multiplied by the number of times it was ejected
+     */
+    @ConfigItem(defaultValue = "30s")
+    public Duration baseEjectionTime;
+
+    /**
+     * The maximum share in percent of the urls which may be ejected at the same time
+     */
+    @ConfigItem(defaultValue = "50")
+    public int maxEjectionPercent;
+}
@@ -0,0 +1,41 @@
+package io.quarkus.cxf.deployment;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CxfMtomConfig {
+
+    /**
+     * Send binary content as MTOM attachments, and spool the large attachments received to temporary files read
+     * back through memory mappings
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The size in bytes from which binary content is sent as an attachment instead of inline base64
+     */
+    @ConfigItem(defaultValue = "0")
+    public int threshold;
+
+    /**
+     * The size in bytes from which an attachment received is spooled to a temporary file instead of the heap
+     */
+    @ConfigItem(defaultValue = "102400")
+    public int spoolThreshold;
+
+    /**
+     * The directory of the spooled attachments. Defaults to the temporary directory of the system
+     */
+    @ConfigItem
+    public Optional<String> spoolDirectory;
+
+    /**
+     * The maximum size in bytes of an attachment received, larger attachments are rejected. Unlimited by default
+     */
+    @ConfigItem
+    public Optional<Long> maxAttachmentSize;
+}
@@ -0,0 +1,58 @@
+package io.quarkus.cxf.deployment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CxfResponseCacheConfig {
+
+    /**
+     * Answer identical requests to the idempotent operations of the endpoint with the response of a previous call
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The operations whose responses are cached, or {@code *} for all of them. Defaults to the idempotent operations
+     * of the endpoint
+     */
+    @ConfigItem
+    public Optional<List<String>> operations;
+
+    /**
+     * The request headers which are part of the cache key besides the SOAP action and the body. A cached response is
+     * written without going through the interceptors of the endpoint, security included: the credentials of the
+     * requests must be part of the key, so that a caller only gets the responses of its own calls
+     */
+    @ConfigItem(defaultValue = "Authorization,Cookie")
+    public List<String> keyHeaders;
+
+    /**
+     * The maximum number of cached responses
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maximumSize;
+
+    /**
+     * The time a response stays in the cache
+     */
+    @ConfigItem(defaultValue = "60s")
+    public Duration ttl;
+
+    /**
+     * The size above which a request is processed without the cache, its body not being read in memory to be part of
+     * the key
+     */
+    @ConfigItem(defaultValue = "65536")
+    public int maxRequestBytes;
+
+    /**
+     * The size above which a response is not cached
+     */
+    @ConfigItem(defaultValue = "65536")
+    public int maxEntryBytes;
+}
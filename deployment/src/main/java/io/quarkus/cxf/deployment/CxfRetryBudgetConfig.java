@@ -0,0 +1,20 @@
+package io.quarkus.cxf.deployment;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CxfRetryBudgetConfig {
+
+    /**
+     * The maximum ratio of retries and hedged attempts to calls
+     */
+    @ConfigItem(defaultValue = "0.1")
+    public double ratio;
+
+    /**
+     * The number of retries and hedged attempts allowed on top of the ratio, e.g. for clients with little traffic
+     */
+    @ConfigItem(defaultValue = "10")
+    public int maxTokens;
+}
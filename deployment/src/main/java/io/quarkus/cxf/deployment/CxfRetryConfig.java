@@ -0,0 +1,46 @@
+package io.quarkus.cxf.deployment;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CxfRetryConfig {
+
+    /**
+     * Retry the idempotent operations of the client after technical failures
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The maximum number of attempts of a call, the first one included
+     */
+    @ConfigItem(defaultValue = "3")
+    public int maxAttempts;
+
+    /**
+     * The backoff before the first retry
+     */
+    @ConfigItem(defaultValue = "0.1s")
+    public Duration initialBackoff;
+
+    /**
+     * The maximum backoff between two attempts
+     */
+    @ConfigItem(defaultValue = "2s")
+    public Duration maxBackoff;
+
+    /**
+     * The factor applied to the backoff after each attempt
+     */
+    @ConfigItem(defaultValue = "2")
+    public double backoffMultiplier;
+
+    /**
+     * The part of the backoff, between 0 and 1, which is randomly left out
+     */
+    @ConfigItem(defaultValue = "0.5")
+    public double jitter;
+}
@@ -0,0 +1,32 @@
+package io.quarkus.cxf.deployment;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CxfWsdlDocumentConfig {
+
+    /**
+     * Render the WSDL generated for the endpoint once, when it is published, and answer the {@code ?wsdl} requests with
+     * these bytes instead of CXF building and serializing the WSDL for each request
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean prerendered;
+
+    /**
+     * The time any client or proxy may cache the WSDL without asking for it again, sent as
+     * {@code Cache-Control: public, max-age}. When not set, the WSDL is sent with {@code Cache-Control: no-cache}, the
+     * clients revalidating their copy with its ETag on each request.
+     */
+    @ConfigItem
+    public Optional<Duration> maxAge;
+
+    /**
+     * Keep a gzip variant of the WSDL for the requests which accept it
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean gzip;
+}
@@ -1,15 +1,31 @@
 package io.quarkus.cxf.deployment;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -21,6 +37,7 @@ import javax.servlet.DispatcherType;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import javax.xml.namespace.QName;
 import javax.xml.ws.soap.SOAPBinding;
 
 import com.sun.xml.txw2.annotation.XmlNamespace;
@@ -28,6 +45,9 @@ import io.quarkus.arc.deployment.BeanDefiningAnnotationBuildItem;
 import io.quarkus.gizmo.Gizmo;
 import io.quarkus.gizmo.GizmoClassVisitor;
 import io.quarkus.runtime.util.HashUtil;
+import org.apache.cxf.annotations.SchemaValidation.SchemaValidationType;
+import org.apache.cxf.binding.soap.Soap11;
+import org.apache.cxf.binding.soap.Soap12;
 import org.apache.cxf.common.jaxb.JAXBUtils;
 import org.apache.cxf.common.util.StringUtils;
 import org.jboss.jandex.AnnotationInstance;
@@ -35,9 +55,11 @@ import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.MethodParameterInfo;
+import org.jboss.jandex.PrimitiveType;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
@@ -48,19 +70,45 @@ import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.processor.DotNames;
 import io.quarkus.cxf.AbstractCxfClientProducer;
+import io.quarkus.cxf.CXFClientInfo;
+import io.quarkus.cxf.CXFClientRecorder;
 import io.quarkus.cxf.CXFQuarkusServlet;
 import io.quarkus.cxf.CXFServletRecorder;
+import io.quarkus.cxf.attachment.MtomInfo;
+import io.quarkus.cxf.bus.BusExtensionInfo;
+import io.quarkus.cxf.bus.BusExtensionRecorder;
+import io.quarkus.cxf.client.AbstractClientStub;
+import io.quarkus.cxf.client.ClientCallExecutor;
+import io.quarkus.cxf.compression.CompressionCodec;
+import io.quarkus.cxf.compression.CompressionInfo;
+import io.quarkus.cxf.compression.CompressionRecorder;
+import io.quarkus.cxf.jaxb.JAXBContextRecorder;
+import io.quarkus.cxf.jaxb.SharedJAXBDataBinding;
+import io.quarkus.cxf.metrics.CxfMetricsRecorder;
+import io.quarkus.cxf.server.CoalescingInfo;
+import io.quarkus.cxf.server.ResponseCacheInfo;
+import io.quarkus.cxf.server.WsdlDocumentInfo;
+import io.quarkus.cxf.transport.EnvelopeTemplate;
+import io.quarkus.cxf.transport.EnvelopeTemplates;
 import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBundleBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
+import io.quarkus.deployment.pkg.steps.NativeBuild;
+import io.quarkus.deployment.util.ServiceUtil;
 import io.quarkus.gizmo.BranchResult;
 import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.ClassCreator;
@@ -94,9 +142,20 @@ class QuarkusCxfProcessor {
     private static final DotName RESPONSE_WRAPPER_ANNOTATION = DotName.createSimple("javax.xml.ws.ResponseWrapper");
     private static final DotName SOAPBINDING_ANNOTATION = DotName.createSimple("javax.jws.soap.SOAPBinding");
     private static final DotName WEBFAULT_ANNOTATION = DotName.createSimple("javax.jws.WebFault");
-    private static final DotName ABSTRACT_FEATURE = DotName.createSimple("org.apache.cxf.feature.AbstractFeature");
-    private static final DotName ABSTRACT_INTERCEPTOR = DotName.createSimple("org.apache.cxf.phase.AbstractPhaseInterceptor");
-    private static final DotName DATABINDING = DotName.createSimple("org.apache.cxf.databinding");
+    private static final DotName XML_SEE_ALSO = DotName.createSimple("javax.xml.bind.annotation.XmlSeeAlso");
+    private static final DotName XML_TRANSIENT = DotName.createSimple("javax.xml.bind.annotation.XmlTransient");
+    private static final DotName ADDRESSING_ANNOTATION = DotName.createSimple("javax.xml.ws.soap.Addressing");
+    private static final String XJC = "com.sun.tools.xjc.api.XJC";
+    private static final String BUS_EXTENSIONS = "META-INF/cxf/bus-extensions.txt";
+    private static final List<String> JAXB_UTILS_XJC_TYPES = Arrays.asList(
+            "org.apache.cxf.common.jaxb.JAXBUtils$S2JJAXBModel",
+            "org.apache.cxf.common.jaxb.JAXBUtils$Options",
+            "org.apache.cxf.common.jaxb.JAXBUtils$JCodeModel",
+            "org.apache.cxf.common.jaxb.JAXBUtils$Mapping",
+            "org.apache.cxf.common.jaxb.JAXBUtils$TypeAndAnnotation",
+            "org.apache.cxf.common.jaxb.JAXBUtils$JType",
+            "org.apache.cxf.common.jaxb.JAXBUtils$JPackage",
+            "org.apache.cxf.common.jaxb.JAXBUtils$JDefinedClass");
     private static final DotName BINDING_TYPE_ANNOTATION = DotName.createSimple("javax.xml.ws.BindingType");
     private static final DotName XML_NAMESPACE = DotName.createSimple("com.sun.xml.txw2.annotation.XmlNamespace");
     private static final Logger LOGGER = Logger.getLogger(QuarkusCxfProcessor.class);
@@ -132,7 +191,169 @@ class QuarkusCxfProcessor {
                     cxfServletInfo.getClassName(), cxfServletInfo.getInInterceptors(),
                     cxfServletInfo.getOutInterceptors(), cxfServletInfo.getOutFaultInterceptors(),
                     cxfServletInfo.getInFaultInterceptors(), cxfServletInfo.getFeatures(), cxfServletInfo.getSei(),
-                    cxfServletInfo.getWsdlPath(), cxfServletInfo.getSOAPBinding());
+                    cxfServletInfo.getWsdlPath(), cxfServletInfo.getSOAPBinding(), cxfServletInfo.getResponseCache(),
+                    cxfServletInfo.getCoalescing(), cxfServletInfo.getCompression(),
+                    cxfServletInfo.isFastInfosetEnabled(), cxfServletInfo.isFastInfosetForce(),
+                    cxfServletInfo.isDirectBufferResponses(), cxfServletInfo.isDirectBufferRequests(),
+                    cxfServletInfo.getMtom(), cxfServletInfo.getStreamingOperations(),
+                    cxfServletInfo.getLazyOperations(), cxfServletInfo.getEnvelopeTemplates(),
+                    cxfServletInfo.getWsdlDocument(), cxfServletInfo.getSchemaValidation());
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    public void registerClients(List<CXFClientInfoBuildItem> cxfClientInfos, CXFClientRecorder recorder) {
+        for (CXFClientInfoBuildItem cxfClientInfo : cxfClientInfos) {
+            recorder.registerCXFClient(cxfClientInfo.getInfo());
+        }
+    }
+
+    @BuildStep(onlyIf = NativeBuild.class)
+    @Record(ExecutionTime.STATIC_INIT)
+    public void createJaxbContexts(List<CXFServletInfoBuildItem> cxfServletInfos,
+            List<CXFClientInfoBuildItem> cxfClientInfos, JAXBContextRecorder recorder) {
+        List<String> serviceClasses = new ArrayList<>();
+        Map<String, String> wsdlLocations = new HashMap<>();
+        Map<String, String> embeddedWsdls = new HashMap<>();
+        List<String> validatedClasses = new ArrayList<>();
+        for (CXFServletInfoBuildItem cxfServletInfo : cxfServletInfos) {
+            serviceClasses.add(cxfServletInfo.getClassName());
+            if (cxfServletInfo.getWsdlPath() != null) {
+                wsdlLocations.put(cxfServletInfo.getClassName(), cxfServletInfo.getWsdlPath());
+            }
+            if (cxfServletInfo.getSchemaValidation() != null) {
+                validatedClasses.add(cxfServletInfo.getClassName());
+            }
+        }
+        for (CXFClientInfoBuildItem cxfClientInfo : cxfClientInfos) {
+            CXFClientInfo info = cxfClientInfo.getInfo();
+            serviceClasses.add(info.getSei());
+            if (info.getWsdlUrl() != null && !info.getWsdlUrl().isEmpty()) {
+                wsdlLocations.put(info.getSei(), info.getWsdlUrl());
+            }
+            if (info.getEmbeddedWsdl() != null) {
+                embeddedWsdls.put(info.getSei(), info.getEmbeddedWsdl());
+            }
+        }
+        if (!serviceClasses.isEmpty()) {
+            recorder.createContexts(serviceClasses, wsdlLocations, embeddedWsdls, validatedClasses);
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    public void clearJaxbContexts(ShutdownContextBuildItem shutdownContext, JAXBContextRecorder recorder) {
+        recorder.clearOnShutdown(shutdownContext);
+    }
+
+    /**
+     * Read the extensions of the {@code bus-extensions.txt} files and record those whose classes are on the class path,
+     * so that the buses of the endpoints are created from this table instead of scanning the class path for the files.
+     */
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    public void registerBusExtensions(BusExtensionRecorder recorder,
+            BuildProducer<CXFReflectionBuildItem> reflectiveItems) throws IOException {
+        Map<String, BusExtensionInfo> extensions = new LinkedHashMap<>();
+        Enumeration<URL> urls = Thread.currentThread().getContextClassLoader().getResources(BUS_EXTENSIONS);
+        while (urls.hasMoreElements()) {
+            URL url = urls.nextElement();
+            for (BusExtensionInfo extension : readBusExtensions(url)) {
+                if (!isClassPresent(extension.getClassName())
+                        || extension.getInterfaceName() != null && !isClassPresent(extension.getInterfaceName())) {
+                    LOGGER.debugf("bus extension %s of %s not registered, its classes are not available", extension,
+                            url);
+                    continue;
+                }
+                // the first extension of a name is the one the extension manager keeps
+                extensions.putIfAbsent(extension.getInterfaceName() == null ? extension.getClassName()
+                        : extension.getInterfaceName(), extension);
+            }
+        }
+        recorder.registerExtensions(new ArrayList<>(extensions.values()));
+        Set<String> classNames = new LinkedHashSet<>();
+        for (BusExtensionInfo extension : extensions.values()) {
+            classNames.add(extension.getClassName());
+            if (extension.getInterfaceName() != null) {
+                classNames.add(extension.getInterfaceName());
+            }
+        }
+        reflectiveItems.produce(new CXFReflectionBuildItem("bus extensions created by the extension manager", false,
+                false, classNames.toArray(new String[0])));
+    }
+
+    /**
+     * Parse the {@code className:interfaceName:deferred:optional} lines of a {@code bus-extensions.txt} file the way
+     * the {@code TextExtensionFragmentParser} of CXF does.
+     */
+    private static List<BusExtensionInfo> readBusExtensions(URL url) throws IOException {
+        List<BusExtensionInfo> extensions = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+                String[] parts = line.split(":");
+                String interfaceName = parts.length > 1 ? parts[1].trim() : "";
+                extensions.add(new BusExtensionInfo(parts[0].trim(), interfaceName.isEmpty() ? null : interfaceName,
+                        parts.length > 2 && Boolean.parseBoolean(parts[2].trim()),
+                        parts.length > 3 && Boolean.parseBoolean(parts[3].trim())));
+            }
+        }
+        return extensions;
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    public void enableMetrics(Capabilities capabilities, CxfMetricsRecorder recorder) {
+        if (capabilities.isPresent(Capability.METRICS)) {
+            recorder.enableMetrics();
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    public void configureCompression(CompressionRecorder recorder,
+            BuildProducer<ServiceProviderBuildItem> serviceProviders) throws IOException {
+        if (cxfConfig.compressionPoolSize.isPresent()) {
+            recorder.setPoolSize(cxfConfig.compressionPoolSize.get());
+        }
+        String service = CompressionCodec.class.getName();
+        Set<String> codecs = ServiceUtil.classNamesNamedIn(Thread.currentThread().getContextClassLoader(),
+                "META-INF/services/" + service);
+        if (!codecs.isEmpty()) {
+            serviceProviders.produce(new ServiceProviderBuildItem(service, new ArrayList<>(codecs)));
+        }
+    }
+
+    @BuildStep
+    public void registerFastInfoset(BuildProducer<NativeImageResourceBundleBuildItem> resourceBundles) {
+        if (cxfConfig.endpoints.values().stream().noneMatch(endpoint -> endpoint.fastInfoset.enabled)) {
+            return;
+        }
+        try {
+            Class.forName("com.sun.xml.fastinfoset.stax.StAXDocumentParser", false,
+                    Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException e) {
+            LOGGER.warn("fast-infoset enabled without com.sun.xml.fastinfoset:FastInfoset in the application,"
+                    + " Fast Infoset messages cannot be read or written");
+            return;
+        }
+        // the parser and the serializer are registered for reflection with the other XML classes
+        resourceBundles.produce(
+                new NativeImageResourceBundleBuildItem("com.sun.xml.fastinfoset.resources.ResourceBundle"));
+    }
+
+    @BuildStep
+    public void registerMtom(BuildProducer<NativeImageResourceBuildItem> resources) {
+        if (cxfConfig.endpoints.values().stream().anyMatch(endpoint -> endpoint.mtom.enabled)) {
+            // the MIME types of the attachments are found with the default mailcap of javax.activation
+            resources.produce(new NativeImageResourceBuildItem("META-INF/mailcap.default",
+                    "META-INF/mimetypes.default"));
         }
     }
 
@@ -906,13 +1127,16 @@ class QuarkusCxfProcessor {
             CombinedIndexBuildItem combinedIndexBuildItem,
             BuildProducer<FeatureBuildItem> feature,
             BuildProducer<ServletBuildItem> servlet,
-            BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
+            BuildProducer<CXFReflectionBuildItem> reflectiveClass,
             BuildProducer<FilterBuildItem> filters,
             BuildProducer<CXFServletInfoBuildItem> cxfServletInfos,
+            BuildProducer<CXFClientInfoBuildItem> cxfClientInfos,
             BuildProducer<ServletInitParamBuildItem> servletInitParameters,
             BuildProducer<JaxbFileRootBuildItem> forceJaxb,
             BuildProducer<NativeImageProxyDefinitionBuildItem> proxies,
             BuildProducer<GeneratedBeanBuildItem> generatedBeans,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> resources,
             BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
         IndexView index = combinedIndexBuildItem.getIndex();
         if (!capabilities.isCapabilityPresent(Capabilities.SERVLET)) {
@@ -921,26 +1145,33 @@ class QuarkusCxfProcessor {
             return;
         }
         // Register package-infos for reflection
-        for (AnnotationInstance xmlNamespaceInstance : index.getAnnotations(XML_NAMESPACE)) {
-            reflectiveClass.produce(new ReflectiveClassBuildItem(true, true, xmlNamespaceInstance.target().asClass().name().toString()));
+        if (isSchemaGeneratedAtRuntime()) {
+            for (AnnotationInstance xmlNamespaceInstance : index.getAnnotations(XML_NAMESPACE)) {
+                reflectiveClass.produce(new CXFReflectionBuildItem("namespace of the XML schema writers", false, false,
+                        xmlNamespaceInstance.target().asClass().name().toString()));
+            }
         }
 
         forceJaxb.produce(new JaxbFileRootBuildItem("."));
         //TODO bad code it is set in loop but use outside...
         ClassOutput classOutput = new GeneratedBeanGizmoAdaptor(generatedBeans);
         createNamespaceWrapperInternal(classOutput);
-        reflectiveClass.produce(new ReflectiveClassBuildItem(true, true, "org.apache.cxf.jaxb.NamespaceMapperRI"));
+        reflectiveClass.produce(new CXFReflectionBuildItem("namespace mapper of the marshallers", true, false,
+                "org.apache.cxf.jaxb.NamespaceMapperRI"));
         unremovableBeans.produce(new UnremovableBeanBuildItem(
                 new UnremovableBeanBuildItem.BeanClassNameExclusion("org.apache.cxf.jaxb.NamespaceMapperRI")));
         Set<String> generatedClass = new HashSet<>();
+        Map<String, Map<String, WrapperElements>> wrappersBySei = new HashMap<>();
         for (AnnotationInstance annotation : index.getAnnotations(WEBSERVICE_ANNOTATION)) {
             if (annotation.target().kind() != AnnotationTarget.Kind.CLASS) {
                 continue;
             }
 
             ClassInfo wsClassInfo = annotation.target().asClass();
-            reflectiveClass
-                    .produce(new ReflectiveClassBuildItem(true, true, wsClassInfo.name().toString()));
+            // the service model is built from the annotated methods, which the implementors are invoked through
+            reflectiveClass.produce(new CXFReflectionBuildItem("web service " + wsClassInfo.name(), true, false,
+                    wsClassInfo.name().toString()));
+            registerBoundTypes(index, wsClassInfo, reflectiveClass);
             unremovableBeans.produce(new UnremovableBeanBuildItem(
                     new UnremovableBeanBuildItem.BeanClassNameExclusion(wsClassInfo.name().toString())));
 
@@ -1000,7 +1231,8 @@ class QuarkusCxfProcessor {
                                     AnnotationValue.createStringValue("namespace", namespace)}));
                 }*/
                 generatedClass.add(packageName);
-                reflectiveClass.produce(new ReflectiveClassBuildItem(true, true, packageName));
+                reflectiveClass.produce(new CXFReflectionBuildItem("namespace of the wrappers of " + wsClassInfo.name(),
+                        false, false, packageName));
 
             }
             //TODO get SOAPBINDING_ANNOTATION to get isRPC
@@ -1028,6 +1260,11 @@ class QuarkusCxfProcessor {
                         operationName = nameVal.asString();
                     }
                 }
+                wrappersBySei.computeIfAbsent(wsClassInfo.name().toString(), k -> new HashMap<>()).put(operationName,
+                        new WrapperElements(
+                                wrapperElement(mi.annotation(REQUEST_WRAPPER_ANNOTATION), namespace, operationName),
+                                wrapperElement(mi.annotation(RESPONSE_WRAPPER_ANNOTATION), namespace,
+                                        operationName + "Response")));
 
                 AnnotationInstance webResultAnnotation = mi.annotation(WEBRESULT_ANNOTATION);
                 String resultName = "return";
@@ -1079,19 +1316,14 @@ class QuarkusCxfProcessor {
                     getters.clear();
                     setters.clear();
 
-                    reflectiveClass.produce(new ReflectiveClassBuildItem(true, true, pkg + "." + className));
-                    reflectiveClass
-                            .produce(new ReflectiveClassBuildItem(true, true, pkg + "." + className + RESPONSE_CLASS_POSTFIX));
-                    reflectiveClass
-                            .produce(new ReflectiveClassBuildItem(true, true, wrapperHelperClassName));
-                    reflectiveClass
-                            .produce(new ReflectiveClassBuildItem(true, true, wrapperHelperResponseClassName));
-                    reflectiveClass.produce(new ReflectiveClassBuildItem(true, true, pkg + ".ObjectFactory"));
-                    reflectiveClass
-                            .produce(new ReflectiveClassBuildItem(true, true, pkg + "." + className + WRAPPER_FACTORY_POSTFIX));
-                    reflectiveClass.produce(
-                            new ReflectiveClassBuildItem(true, true,
-                                    pkg + "." + className + RESPONSE_CLASS_POSTFIX + WRAPPER_FACTORY_POSTFIX));
+                    String operation = wsClassInfo.name() + "." + operationName;
+                    reflectiveClass.produce(new CXFReflectionBuildItem("wrappers bound by JAXB for " + operation, true,
+                            true, pkg + "." + className, pkg + "." + className + RESPONSE_CLASS_POSTFIX));
+                    reflectiveClass.produce(new CXFReflectionBuildItem("wrapper helpers of " + operation, false, false,
+                            wrapperHelperClassName, wrapperHelperResponseClassName));
+                    reflectiveClass.produce(new CXFReflectionBuildItem("wrapper factories of " + operation, true, false,
+                            pkg + ".ObjectFactory", pkg + "." + className + WRAPPER_FACTORY_POSTFIX,
+                            pkg + "." + className + RESPONSE_CLASS_POSTFIX + WRAPPER_FACTORY_POSTFIX));
                     generatedClass.add(pkg + className);
                 }
 
@@ -1114,7 +1346,10 @@ class QuarkusCxfProcessor {
             servlet.produce(ServletBuildItem.builder(JAX_WS_SERVLET_NAME, CXFQuarkusServlet.class.getName())
                     .setLoadOnStartup(0).addMapping(mappingPath).setAsyncSupported(true).build());
         }
-        reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, CXFQuarkusServlet.class.getName()));
+        reflectiveClass.produce(new CXFReflectionBuildItem("servlet of the endpoints", false, false,
+                CXFQuarkusServlet.class.getName()));
+        reflectiveClass.produce(new CXFReflectionBuildItem("data binding of the bus", false, false,
+                SharedJAXBDataBinding.class.getName()));
         //TODO servletInitParameters
         /*
          * AbstractHTTPServlet.STATIC_RESOURCES_PARAMETER
@@ -1162,15 +1397,43 @@ class QuarkusCxfProcessor {
 
                 sei = cxfEndPointConfig.serviceInterface.get();
                 LOGGER.warn(" produce loadCxfClient on " + sei);
-                String wsAbsoluteUrl = cxfEndPointConfig.clientEndpointUrl.isPresent()
-                        ? cxfEndPointConfig.clientEndpointUrl.get()
-                        : "http://localhost:8080";
-                wsAbsoluteUrl = wsAbsoluteUrl.endsWith("/") ? wsAbsoluteUrl.substring(0, wsAbsoluteUrl.length() - 2)
-                        : wsAbsoluteUrl;
-                wsAbsoluteUrl = relativePath.startsWith("/") ? wsAbsoluteUrl + relativePath
-                        : wsAbsoluteUrl + "/" + relativePath;
+                List<String> wsAbsoluteUrls = new ArrayList<>();
+                for (String clientEndpointUrl : cxfEndPointConfig.clientEndpointUrl
+                        .orElse(Collections.singletonList("http://localhost:8080"))) {
+                    String wsAbsoluteUrl = clientEndpointUrl.endsWith("/")
+                            ? clientEndpointUrl.substring(0, clientEndpointUrl.length() - 1)
+                            : clientEndpointUrl;
+                    wsAbsoluteUrls.add(relativePath.startsWith("/") ? wsAbsoluteUrl + relativePath
+                            : wsAbsoluteUrl + "/" + relativePath);
+                }
                 String seiClientproducerClassName = sei + "CxfClientProducer";
-                generateCxfClientProducer(generatedBeans, seiClientproducerClassName, wsAbsoluteUrl, sei, wsdlPath, soapBinding);
+                generateCxfClientProducer(generatedBeans, seiClientproducerClassName, sei);
+                CXFClientInfo clientInfo = createClientInfo(cxfEndPointConfig, sei, wsAbsoluteUrls, wsdlPath,
+                        soapBinding);
+                if (cxfEndPointConfig.mtom.enabled) {
+                    clientInfo.setMtom(createMtomInfo(cxfEndPointConfig.mtom));
+                }
+                if (cxfEndPointConfig.compression.enabled) {
+                    clientInfo.setCompression(createCompressionInfo(cxfEndPointConfig.compression));
+                }
+                if (wsdlPath != null) {
+                    clientInfo.setEmbeddedWsdl(embedWsdl(wsdlPath, "META-INF/cxf/wsdl/" + sei + ".wsdl",
+                            generatedResources, resources));
+                }
+                clientInfo.setEnvelopeTemplates(createEnvelopeTemplates(soapBinding, wrappersBySei.get(sei)));
+                if (cxfEndPointConfig.clientStub) {
+                    String stubClassName = generateCxfClientStub(classOutput, index, sei);
+                    if (stubClassName != null) {
+                        clientInfo.setStubClassName(stubClassName);
+                        reflectiveClass.produce(new CXFReflectionBuildItem("client stub of " + sei, false, false,
+                                stubClassName));
+                    }
+                }
+                cxfClientInfos.produce(new CXFClientInfoBuildItem(clientInfo));
+                cxfEndPointConfig.loadBalancing.strategy
+                        .filter(strategy -> strategy.indexOf('.') > 0)
+                        .ifPresent(strategy -> reflectiveClass.produce(new CXFReflectionBuildItem(
+                                "load balancing strategy of " + relativePath, false, false, strategy)));
                 unremovableBeans.produce(new UnremovableBeanBuildItem(
                         new UnremovableBeanBuildItem.BeanClassNameExclusion(seiClientproducerClassName)));
 
@@ -1194,6 +1457,36 @@ class QuarkusCxfProcessor {
 
                 CXFServletInfoBuildItem cxfServletInfo = new CXFServletInfoBuildItem(relativePath,
                         cxfEndPointConfig.implementor.get(), sei, wsdlPath, soapBinding);
+                if (cxfEndPointConfig.responseCache.enabled) {
+                    cxfServletInfo.setResponseCache(createResponseCacheInfo(cxfEndPointConfig));
+                }
+                if (cxfEndPointConfig.coalescing.enabled) {
+                    cxfServletInfo.setCoalescing(createCoalescingInfo(cxfEndPointConfig));
+                }
+                cxfServletInfo.setFastInfosetEnabled(cxfEndPointConfig.fastInfoset.enabled);
+                cxfServletInfo.setFastInfosetForce(cxfEndPointConfig.fastInfoset.force);
+                cxfServletInfo.setDirectBufferResponses(cxfEndPointConfig.directBuffer.responses);
+                cxfServletInfo.setDirectBufferRequests(cxfEndPointConfig.directBuffer.requests);
+                if (cxfEndPointConfig.mtom.enabled) {
+                    cxfServletInfo.setMtom(createMtomInfo(cxfEndPointConfig.mtom));
+                }
+                cxfServletInfo.setEnvelopeTemplates(createEnvelopeTemplates(soapBinding, wrappersBySei.get(sei)));
+                if (wsdlPath == null && cxfEndPointConfig.wsdlDocument.prerendered) {
+                    cxfServletInfo.setWsdlDocument(createWsdlDocumentInfo(cxfEndPointConfig.wsdlDocument));
+                }
+                if (cxfEndPointConfig.schemaValidation != SchemaValidationType.NONE) {
+                    cxfServletInfo.setSchemaValidation(cxfEndPointConfig.schemaValidation.name());
+                }
+                cxfEndPointConfig.streamingOperations.ifPresent(cxfServletInfo.getStreamingOperations()::addAll);
+                cxfEndPointConfig.lazyOperations.ifPresent(cxfServletInfo.getLazyOperations()::addAll);
+                if ((cxfEndPointConfig.streamingOperations.isPresent() || cxfEndPointConfig.lazyOperations.isPresent())
+                        && validatesRequests(cxfEndPointConfig.schemaValidation)) {
+                    LOGGER.warn("streaming-operations and lazy-operations of " + relativePath + " ignored: the requests"
+                            + " validated against the schema are unmarshalled before the call");
+                }
+                if (cxfEndPointConfig.compression.enabled) {
+                    cxfServletInfo.setCompression(createCompressionInfo(cxfEndPointConfig.compression));
+                }
                 for (AnnotationInstance annotation : wsClass.classAnnotations()) {
                     switch (annotation.name().toString()) {
                         case "org.apache.cxf.feature.Features":
@@ -1202,10 +1495,8 @@ class QuarkusCxfProcessor {
                             cxfServletInfo.getFeatures().addAll(features);
                             unremovableBeans.produce(new UnremovableBeanBuildItem(
                                     new UnremovableBeanBuildItem.BeanClassNamesExclusion(features)));
-                            reflectiveClass
-                                    .produce(
-                                            new ReflectiveClassBuildItem(true, true,
-                                                    annotation.value("features").asStringArray()));
+                            reflectiveClass.produce(new CXFReflectionBuildItem("feature of " + webServiceImplementor,
+                                    false, false, annotation.value("features").asStringArray()));
                             break;
                         case "org.apache.cxf.interceptor.InInterceptors":
                             HashSet<String> inInterceptors = new HashSet<>(
@@ -1213,9 +1504,9 @@ class QuarkusCxfProcessor {
                             cxfServletInfo.getInInterceptors().addAll(inInterceptors);
                             unremovableBeans.produce(new UnremovableBeanBuildItem(
                                     new UnremovableBeanBuildItem.BeanClassNamesExclusion(inInterceptors)));
-                            reflectiveClass
-                                    .produce(new ReflectiveClassBuildItem(true, true,
-                                            annotation.value(ANNOTATION_VALUE_INTERCEPTORS).asStringArray()));
+                            reflectiveClass.produce(new CXFReflectionBuildItem(
+                                    "interceptor of " + webServiceImplementor, false, false,
+                                    annotation.value(ANNOTATION_VALUE_INTERCEPTORS).asStringArray()));
                             break;
                         case "org.apache.cxf.interceptor.OutInterceptors":
                             HashSet<String> outInterceptors = new HashSet<>(
@@ -1223,9 +1514,9 @@ class QuarkusCxfProcessor {
                             cxfServletInfo.getOutInterceptors().addAll(outInterceptors);
                             unremovableBeans.produce(new UnremovableBeanBuildItem(
                                     new UnremovableBeanBuildItem.BeanClassNamesExclusion(outInterceptors)));
-                            reflectiveClass
-                                    .produce(new ReflectiveClassBuildItem(true, true,
-                                            annotation.value(ANNOTATION_VALUE_INTERCEPTORS).asStringArray()));
+                            reflectiveClass.produce(new CXFReflectionBuildItem(
+                                    "interceptor of " + webServiceImplementor, false, false,
+                                    annotation.value(ANNOTATION_VALUE_INTERCEPTORS).asStringArray()));
                             break;
                         case "org.apache.cxf.interceptor.OutFaultInterceptors":
                             HashSet<String> outFaultInterceptors = new HashSet<>(
@@ -1233,9 +1524,9 @@ class QuarkusCxfProcessor {
                             cxfServletInfo.getOutFaultInterceptors().addAll(outFaultInterceptors);
                             unremovableBeans.produce(new UnremovableBeanBuildItem(
                                     new UnremovableBeanBuildItem.BeanClassNamesExclusion(outFaultInterceptors)));
-                            reflectiveClass
-                                    .produce(new ReflectiveClassBuildItem(true, true,
-                                            annotation.value(ANNOTATION_VALUE_INTERCEPTORS).asStringArray()));
+                            reflectiveClass.produce(new CXFReflectionBuildItem(
+                                    "interceptor of " + webServiceImplementor, false, false,
+                                    annotation.value(ANNOTATION_VALUE_INTERCEPTORS).asStringArray()));
                             break;
                         case "org.apache.cxf.interceptor.InFaultInterceptors":
                             HashSet<String> inFaultInterceptors = new HashSet<>(
@@ -1243,9 +1534,9 @@ class QuarkusCxfProcessor {
                             cxfServletInfo.getInFaultInterceptors().addAll(inFaultInterceptors);
                             unremovableBeans.produce(new UnremovableBeanBuildItem(
                                     new UnremovableBeanBuildItem.BeanClassNamesExclusion(inFaultInterceptors)));
-                            reflectiveClass
-                                    .produce(new ReflectiveClassBuildItem(true, true,
-                                            annotation.value(ANNOTATION_VALUE_INTERCEPTORS).asStringArray()));
+                            reflectiveClass.produce(new CXFReflectionBuildItem(
+                                    "interceptor of " + webServiceImplementor, false, false,
+                                    annotation.value(ANNOTATION_VALUE_INTERCEPTORS).asStringArray()));
                             break;
                         default:
                             break;
@@ -1257,22 +1548,68 @@ class QuarkusCxfProcessor {
                 LOGGER.error("either webservice interface (client) or implementation (server) is mandatory");
             }
         }
-
-        for (ClassInfo subclass : index.getAllKnownSubclasses(ABSTRACT_FEATURE)) {
-            reflectiveClass.produce(new ReflectiveClassBuildItem(true, true, subclass.name().toString()));
-        }
-        for (ClassInfo subclass : index.getAllKnownSubclasses(ABSTRACT_INTERCEPTOR)) {
-            reflectiveClass.produce(new ReflectiveClassBuildItem(true, true, subclass.name().toString()));
-        }
-        for (ClassInfo subclass : index.getAllKnownImplementors(DATABINDING)) {
-            reflectiveClass.produce(new ReflectiveClassBuildItem(true, true, subclass.name().toString()));
-        }
-        //TODO parse XmlSeeAlso annotation to add reflection on class too
     }
     @BuildStep
     BeanDefiningAnnotationBuildItem additionalBeanDefiningAnnotation() {
         return new BeanDefiningAnnotationBuildItem(WEBSERVICE_ANNOTATION);
     }
+
+    private static CXFClientInfo createClientInfo(CxfEndpointConfig cxfEndPointConfig, String sei,
+            List<String> endpointAddresses, String wsdlUrl, String soapBinding) {
+        CXFClientInfo info = new CXFClientInfo(sei, endpointAddresses.get(0), wsdlUrl, soapBinding);
+        info.getEndpointAddresses().addAll(endpointAddresses);
+        info.setRequestContextScope(cxfEndPointConfig.requestContextScope);
+        CxfLoadBalancingConfig loadBalancing = cxfEndPointConfig.loadBalancing;
+        info.setLoadBalancingStrategy(loadBalancing.strategy.orElse(null));
+        info.setLoadBalancingConsecutiveFailures(loadBalancing.consecutiveFailures);
+        info.setLoadBalancingBaseEjectionMillis(loadBalancing.baseEjectionTime.toMillis());
+        info.setLoadBalancingMaxEjectionPercent(loadBalancing.maxEjectionPercent);
+        CxfBulkheadConfig bulkhead = cxfEndPointConfig.bulkhead;
+        info.setBulkheadEnabled(bulkhead.enabled);
+        info.setBulkheadType(bulkhead.type);
+        info.setBulkheadMaxConcurrentCalls(bulkhead.maxConcurrentCalls);
+        info.setBulkheadMaxWaitMillis(bulkhead.maxWait.map(Duration::toMillis).orElse(0L));
+        info.setBulkheadQueueSize(bulkhead.queueSize);
+        CxfCircuitBreakerConfig circuitBreaker = cxfEndPointConfig.circuitBreaker;
+        info.setCircuitBreakerEnabled(circuitBreaker.enabled);
+        info.setCircuitBreakerFailureRateThreshold(circuitBreaker.failureRateThreshold);
+        info.setCircuitBreakerSlowCallRateThreshold(circuitBreaker.slowCallRateThreshold);
+        info.setCircuitBreakerSlowCallDurationMillis(circuitBreaker.slowCallDuration.toMillis());
+        info.setCircuitBreakerSlidingWindowSize(circuitBreaker.slidingWindowSize);
+        info.setCircuitBreakerMinimumNumberOfCalls(
+                circuitBreaker.minimumNumberOfCalls.orElse(circuitBreaker.slidingWindowSize));
+        info.setCircuitBreakerWaitDurationInOpenStateMillis(circuitBreaker.waitDurationInOpenState.toMillis());
+        info.setCircuitBreakerPermittedCallsInHalfOpenState(circuitBreaker.permittedCallsInHalfOpenState);
+        cxfEndPointConfig.idempotentOperations.ifPresent(info.getIdempotentOperations()::addAll);
+        CxfRetryConfig retry = cxfEndPointConfig.retry;
+        info.setRetryEnabled(retry.enabled);
+        info.setRetryMaxAttempts(retry.maxAttempts);
+        info.setRetryInitialBackoffMillis(retry.initialBackoff.toMillis());
+        info.setRetryMaxBackoffMillis(retry.maxBackoff.toMillis());
+        info.setRetryBackoffMultiplier(retry.backoffMultiplier);
+        info.setRetryJitter(retry.jitter);
+        info.setRetryBudgetRatio(cxfEndPointConfig.retryBudget.ratio);
+        info.setRetryBudgetMaxTokens(cxfEndPointConfig.retryBudget.maxTokens);
+        CxfHedgingConfig hedging = cxfEndPointConfig.hedging;
+        info.setHedgingEnabled(hedging.enabled);
+        info.setHedgingMaxAttempts(hedging.maxAttempts);
+        info.setHedgingPercentile(hedging.percentile);
+        info.setHedgingInitialDelayMillis(hedging.initialDelay.toMillis());
+        info.setHedgingMaxConcurrentCalls(hedging.maxConcurrentCalls);
+        CxfClientCacheConfig cache = cxfEndPointConfig.cache;
+        info.setCacheEnabled(cache.enabled);
+        info.getCacheOperations().addAll(cache.operations
+                .orElse(cxfEndPointConfig.idempotentOperations.orElse(Collections.emptyList())));
+        info.getCacheRequestContextKeys().addAll(cache.requestContextKeys.orElse(Collections.emptyList()));
+        info.setCacheMaximumSize(cache.maximumSize);
+        info.setCacheRefreshAfterMillis(cache.refreshAfter.toMillis());
+        info.setCacheTtlMillis(cache.ttl.toMillis());
+        info.setCacheStore(cache.store);
+        info.setFastInfosetEnabled(cxfEndPointConfig.fastInfoset.enabled);
+        info.setFastInfosetForce(cxfEndPointConfig.fastInfoset.force);
+        return info;
+    }
+
     /**
      * Create Producer bean managing webservice client
      * <p>
@@ -1284,13 +1621,14 @@ class QuarkusCxfProcessor {
      * &#64;Produces
      * &#64;Default
      * public FruitWebService createService() {
-     * return (FruitWebService) loadCxfClient ("org.acme.FruitWebService", "http://localhost/fruit",
-     * "http://myServiceNamespace", "FruitWebServiceName", "http://myPortNamespace", "fruitWebServicePortName", SOAPBinding.SOAP11HTTP_BINDING);
+     * return (FruitWebService) loadCxfClient ("org.acme.FruitWebService");
      * }
+     * </pre>
      *
+     * The client configuration is recorded by {@link #registerClients}.
      */
     private void generateCxfClientProducer(BuildProducer<GeneratedBeanBuildItem> generatedBean,
-            String cxfClientProducerClassName, String endpointAddress, String sei, String wsdlUrl, String soapBinding) {
+            String cxfClientProducerClassName, String sei) {
         ClassOutput classOutput = new GeneratedBeanGizmoAdaptor(generatedBean);
 
         try (ClassCreator classCreator = ClassCreator.builder().classOutput(classOutput)
@@ -1305,32 +1643,307 @@ class QuarkusCxfProcessor {
                 cxfClientMethodCreator.addAnnotation(Default.class);
 
                 ResultHandle seiRH = cxfClientMethodCreator.load(sei);
-                ResultHandle endpointAddressRH = cxfClientMethodCreator.load(endpointAddress);
-                ResultHandle soapBindingRH = cxfClientMethodCreator.load(soapBinding);
-
-                ResultHandle wsdlUrlRH;
-                if (wsdlUrl != null) {
-                    wsdlUrlRH = cxfClientMethodCreator.load(wsdlUrl);
-                } else {
-                    wsdlUrlRH = cxfClientMethodCreator.loadNull();
-                }
 
-                // New configuration
                 ResultHandle cxfClient = cxfClientMethodCreator.invokeVirtualMethod(
                         MethodDescriptor.ofMethod(AbstractCxfClientProducer.class,
                                 "loadCxfClient",
                                 Object.class,
-                                String.class,
-                                String.class,
-                                String.class,
                                 String.class),
-                        cxfClientMethodCreator.getThis(), seiRH, endpointAddressRH, wsdlUrlRH, soapBindingRH);
+                        cxfClientMethodCreator.getThis(), seiRH);
                 ResultHandle cxfClientCasted = cxfClientMethodCreator.checkCast(cxfClient, sei);
                 cxfClientMethodCreator.returnValue(cxfClientCasted);
             }
         }
     }
 
+    private static boolean validatesRequests(SchemaValidationType schemaValidation) {
+        switch (schemaValidation) {
+            case IN:
+            case REQUEST:
+            case BOTH:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static ResponseCacheInfo createResponseCacheInfo(CxfEndpointConfig cxfEndPointConfig) {
+        CxfResponseCacheConfig config = cxfEndPointConfig.responseCache;
+        ResponseCacheInfo info = new ResponseCacheInfo();
+        info.setOperations(new ArrayList<>(config.operations
+                .orElse(cxfEndPointConfig.idempotentOperations.orElse(Collections.emptyList()))));
+        if (info.getOperations().isEmpty()) {
+            LOGGER.warn("response cache enabled without operations to cache: set the idempotent-operations"
+                    + " or the response-cache.operations of the endpoint");
+        }
+        info.setKeyHeaders(new ArrayList<>(config.keyHeaders));
+        info.setMaximumSize(config.maximumSize);
+        info.setTtlMillis(config.ttl.toMillis());
+        info.setMaxEntryBytes(config.maxEntryBytes);
+        info.setMaxRequestBytes(config.maxRequestBytes);
+        return info;
+    }
+
+    private static WsdlDocumentInfo createWsdlDocumentInfo(CxfWsdlDocumentConfig config) {
+        WsdlDocumentInfo info = new WsdlDocumentInfo();
+        info.setMaxAgeSeconds(config.maxAge.map(Duration::getSeconds).orElse(-1L));
+        info.setGzip(config.gzip);
+        return info;
+    }
+
+    private static CoalescingInfo createCoalescingInfo(CxfEndpointConfig cxfEndPointConfig) {
+        CxfCoalescingConfig config = cxfEndPointConfig.coalescing;
+        CoalescingInfo info = new CoalescingInfo();
+        info.setOperations(new ArrayList<>(config.operations
+                .orElse(cxfEndPointConfig.idempotentOperations.orElse(Collections.emptyList()))));
+        if (info.getOperations().isEmpty()) {
+            LOGGER.warn("coalescing enabled without operations to coalesce: set the idempotent-operations"
+                    + " or the coalescing.operations of the endpoint");
+        }
+        info.setKeyHeaders(new ArrayList<>(config.keyHeaders));
+        info.setMaxResponseBytes(config.maxResponseBytes);
+        info.setMaxRequestBytes(config.maxRequestBytes);
+        info.setWaitTimeoutMillis(config.waitTimeout.toMillis());
+        return info;
+    }
+
+    private static CompressionInfo createCompressionInfo(CxfCompressionConfig config) {
+        CompressionInfo info = new CompressionInfo();
+        info.setEncodings(new ArrayList<>(config.encodings));
+        info.setThreshold(config.threshold);
+        info.setLevel(config.level);
+        info.setCompressRequests(config.compressRequests);
+        info.setMaxDecompressedBytes(config.maxDecompressedBytes);
+        return info;
+    }
+
+    private static MtomInfo createMtomInfo(CxfMtomConfig config) {
+        MtomInfo info = new MtomInfo();
+        info.setThreshold(config.threshold);
+        info.setSpoolThreshold(config.spoolThreshold);
+        info.setSpoolDirectory(config.spoolDirectory.orElse(null));
+        info.setMaxAttachmentSize(config.maxAttachmentSize.orElse(-1L));
+        return info;
+    }
+
+    /**
+     * The element of the request or response wrapper of an operation, by default the operation name in the namespace
+     * of the service interface.
+     */
+    private static QName wrapperElement(AnnotationInstance wrapperAnnotation, String namespace, String name) {
+        if (wrapperAnnotation != null) {
+            AnnotationValue localName = wrapperAnnotation.value("localName");
+            AnnotationValue targetNamespace = wrapperAnnotation.value("targetNamespace");
+            if (localName != null && !localName.asString().isEmpty()) {
+                name = localName.asString();
+            }
+            if (targetNamespace != null && !targetNamespace.asString().isEmpty()) {
+                namespace = targetNamespace.asString();
+            }
+        }
+        return new QName(namespace, name);
+    }
+
+    /**
+     * @return the envelope templates of the operations of a service interface, or null if the binding is not
+     *         SOAP over HTTP or the interface is not in the index
+     */
+    private static EnvelopeTemplates createEnvelopeTemplates(String soapBinding,
+            Map<String, WrapperElements> wrappers) {
+        String soapNamespace;
+        if (soapBinding.startsWith(SOAPBinding.SOAP11HTTP_BINDING)) {
+            soapNamespace = Soap11.SOAP_NAMESPACE;
+        } else if (soapBinding.startsWith(SOAPBinding.SOAP12HTTP_BINDING)) {
+            soapNamespace = Soap12.SOAP_NAMESPACE;
+        } else {
+            return null;
+        }
+        if (wrappers == null) {
+            return null;
+        }
+        EnvelopeTemplates templates = new EnvelopeTemplates();
+        templates.setSoapNamespace(soapNamespace);
+        templates.setEnvelope(EnvelopeTemplate.of(soapNamespace));
+        wrappers.forEach((operation, elements) -> {
+            templates.getRequests().put(operation, EnvelopeTemplate.of(soapNamespace,
+                    elements.request.getNamespaceURI(), elements.request.getLocalPart()));
+            templates.getResponses().put(operation, EnvelopeTemplate.of(soapNamespace,
+                    elements.response.getNamespaceURI(), elements.response.getLocalPart()));
+        });
+        return templates;
+    }
+
+    private static final class WrapperElements {
+        private final QName request;
+        private final QName response;
+
+        WrapperElements(QName request, QName response) {
+            this.request = request;
+            this.response = response;
+        }
+    }
+
+    /**
+     * Read the WSDL of a client with the documents it imports, and add it to the application as a single document
+     *
+     * @return the path of the resource of the WSDL, or null if it cannot be read at build time
+     */
+    private String embedWsdl(String wsdlPath, String resource,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> resources) {
+        URL url = WsdlNormalizer.resolve(wsdlPath);
+        if (url == null) {
+            LOGGER.warnf("WSDL %s not found at build time, it will be read when the client is created", wsdlPath);
+            return null;
+        }
+        try {
+            generatedResources.produce(new GeneratedResourceBuildItem(resource, WsdlNormalizer.normalize(url)));
+        } catch (IOException e) {
+            LOGGER.warnf(e, "WSDL %s cannot be embedded at build time, it will be read when the client is created",
+                    wsdlPath);
+            return null;
+        }
+        resources.produce(new NativeImageResourceBuildItem(resource));
+        return resource;
+    }
+
+    /**
+     * Create a stub class implementing the service endpoint interface of a client
+     * <p>
+     * The generated class will look like
+     *
+     * <pre>
+     * public class FruitWebServiceCxfClientStub extends AbstractClientStub implements FruitWebService {
+     * public FruitWebServiceCxfClientStub(Class seiClass, Object cxfProxy, ClientCallExecutor executor) {
+     * super(seiClass, cxfProxy, executor, new String[] { "count()", "add(org.acme.Fruit)" });
+     * }
+     * public int count() {
+     * return ((Integer) invoke(0, new Object[0])).intValue();
+     * }
+     * public Set add(Fruit fruit) {
+     * return (Set) invoke(1, new Object[] { fruit });
+     * }
+     * }
+     * </pre>
+     *
+     * @return the name of the stub class, or null if some interface of the client is not in the index
+     */
+    private String generateCxfClientStub(ClassOutput classOutput, IndexView index, String sei) {
+        Map<String, MethodInfo> operations = new LinkedHashMap<>();
+        if (!collectOperations(index, DotName.createSimple(sei), operations)) {
+            LOGGER.debugf("%s is not fully indexed, its client will use the CXF proxy", sei);
+            return null;
+        }
+        String stubClassName = sei + "CxfClientStub";
+        try (ClassCreator classCreator = ClassCreator.builder().classOutput(classOutput)
+                .className(stubClassName)
+                .superClass(AbstractClientStub.class)
+                .interfaces(sei)
+                .build()) {
+
+            String[] signatures = operations.keySet().toArray(new String[0]);
+            try (MethodCreator ctor = classCreator.getMethodCreator("<init>", void.class, Class.class, Object.class,
+                    ClientCallExecutor.class)) {
+                ResultHandle signaturesRH = ctor.newArray(String.class, signatures.length);
+                for (int i = 0; i < signatures.length; i++) {
+                    ctor.writeArrayValue(signaturesRH, i, ctor.load(signatures[i]));
+                }
+                ctor.invokeSpecialMethod(MethodDescriptor.ofConstructor(AbstractClientStub.class, Class.class,
+                        Object.class, ClientCallExecutor.class, String[].class), ctor.getThis(),
+                        ctor.getMethodParam(0), ctor.getMethodParam(1), ctor.getMethodParam(2), signaturesRH);
+                ctor.returnValue(null);
+            }
+
+            int operationIndex = 0;
+            for (MethodInfo mi : operations.values()) {
+                MethodDescriptor descriptor = MethodDescriptor.of(mi);
+                try (MethodCreator method = classCreator.getMethodCreator(MethodDescriptor.ofMethod(stubClassName,
+                        descriptor.getName(), descriptor.getReturnType(), descriptor.getParameterTypes()))) {
+                    for (Type exceptionType : mi.exceptions()) {
+                        method.addException(exceptionType.name().toString());
+                    }
+                    ResultHandle args = method.newArray(Object.class, mi.parameters().size());
+                    for (int i = 0; i < mi.parameters().size(); i++) {
+                        method.writeArrayValue(args, i, box(method, method.getMethodParam(i), mi.parameters().get(i)));
+                    }
+                    ResultHandle result = method.invokeVirtualMethod(
+                            MethodDescriptor.ofMethod(stubClassName, "invoke", Object.class, int.class,
+                                    Object[].class),
+                            method.getThis(), method.load(operationIndex++), args);
+                    if (mi.returnType().kind() == Type.Kind.VOID) {
+                        method.returnValue(null);
+                    } else {
+                        method.returnValue(unbox(method, result, mi.returnType()));
+                    }
+                }
+            }
+        }
+        return stubClassName;
+    }
+
+    /**
+     * Collect the abstract methods of an interface and of its super interfaces by signature, as expected by
+     * {@link AbstractClientStub}.
+     *
+     * @return false if some interface is not in the index
+     */
+    private static boolean collectOperations(IndexView index, DotName interfaceName, Map<String, MethodInfo> operations) {
+        ClassInfo classInfo = index.getClassByName(interfaceName);
+        if (classInfo == null) {
+            return false;
+        }
+        for (MethodInfo mi : classInfo.methods()) {
+            if (!Modifier.isAbstract(mi.flags())) {
+                continue;
+            }
+            StringBuilder signature = new StringBuilder(mi.name()).append('(');
+            for (int i = 0; i < mi.parameters().size(); i++) {
+                if (i > 0) {
+                    signature.append(',');
+                }
+                signature.append(mi.parameters().get(i).name().toString());
+            }
+            operations.putIfAbsent(signature.append(')').toString(), mi);
+        }
+        for (DotName superInterface : classInfo.interfaceNames()) {
+            if (!collectOperations(index, superInterface, operations)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final Map<Type, Class<?>> PRIMITIVE_WRAPPERS = new HashMap<>();
+    static {
+        PRIMITIVE_WRAPPERS.put(PrimitiveType.BOOLEAN, Boolean.class);
+        PRIMITIVE_WRAPPERS.put(PrimitiveType.BYTE, Byte.class);
+        PRIMITIVE_WRAPPERS.put(PrimitiveType.CHAR, Character.class);
+        PRIMITIVE_WRAPPERS.put(PrimitiveType.SHORT, Short.class);
+        PRIMITIVE_WRAPPERS.put(PrimitiveType.INT, Integer.class);
+        PRIMITIVE_WRAPPERS.put(PrimitiveType.LONG, Long.class);
+        PRIMITIVE_WRAPPERS.put(PrimitiveType.FLOAT, Float.class);
+        PRIMITIVE_WRAPPERS.put(PrimitiveType.DOUBLE, Double.class);
+    }
+
+    private static ResultHandle box(BytecodeCreator bc, ResultHandle value, Type type) {
+        Class<?> wrapper = PRIMITIVE_WRAPPERS.get(type);
+        if (wrapper == null) {
+            return value;
+        }
+        return bc.invokeStaticMethod(MethodDescriptor.ofMethod(wrapper, "valueOf", wrapper, type.name().toString()),
+                value);
+    }
+
+    private static ResultHandle unbox(BytecodeCreator bc, ResultHandle value, Type type) {
+        Class<?> wrapper = PRIMITIVE_WRAPPERS.get(type);
+        if (wrapper == null) {
+            return bc.checkCast(value, type.name().toString());
+        }
+        String primitive = type.name().toString();
+        return bc.invokeVirtualMethod(MethodDescriptor.ofMethod(wrapper, primitive + "Value", primitive),
+                bc.checkCast(value, wrapper));
+    }
+
     @BuildStep
     List<RuntimeInitializedClassBuildItem> runtimeInitializedClasses() {
         return Arrays.asList(
@@ -1348,7 +1961,6 @@ class QuarkusCxfProcessor {
         proxies.produce(new NativeImageProxyDefinitionBuildItem("org.apache.cxf.common.jaxb.JAXBContextProxy"));
         proxies.produce(new NativeImageProxyDefinitionBuildItem("org.apache.cxf.common.jaxb.JAXBBeanInfo"));
         proxies.produce(new NativeImageProxyDefinitionBuildItem("org.apache.cxf.common.jaxb.JAXBUtils$BridgeWrapper"));
-        proxies.produce(new NativeImageProxyDefinitionBuildItem("org.apache.cxf.common.jaxb.JAXBUtils$SchemaCompiler"));
         proxies.produce(new NativeImageProxyDefinitionBuildItem("org.apache.cxf.common.util.ASMHelper$ClassWriter"));
         proxies.produce(new NativeImageProxyDefinitionBuildItem("javax.wsdl.extensions.soap.SOAPOperation"));
         proxies.produce(new NativeImageProxyDefinitionBuildItem("javax.wsdl.extensions.soap.SOAPBody"));
@@ -1364,6 +1976,15 @@ class QuarkusCxfProcessor {
         proxies.produce(new NativeImageProxyDefinitionBuildItem("org.apache.cxf.binding.soap.wsdl.extensions.SoapOperation"));
         proxies.produce(new NativeImageProxyDefinitionBuildItem("com.sun.xml.bind.marshaller.CharacterEscapeHandler"));
         proxies.produce(new NativeImageProxyDefinitionBuildItem("com.sun.xml.internal.bind.marshaller.CharacterEscapeHandler"));
+        if (isClassPresent(XJC)) {
+            proxies.produce(new NativeImageProxyDefinitionBuildItem("org.apache.cxf.common.jaxb.JAXBUtils$SchemaCompiler"));
+            for (String xjcType : JAXB_UTILS_XJC_TYPES) {
+                proxies.produce(new NativeImageProxyDefinitionBuildItem(xjcType));
+            }
+        }
+        if (!isSchemaGeneratedAtRuntime()) {
+            return;
+        }
         // all subclass of TypedXmlWriter
         proxies.produce(new NativeImageProxyDefinitionBuildItem("com.sun.xml.bind.v2.schemagen.xmlschema.Annotated"));
         proxies.produce(new NativeImageProxyDefinitionBuildItem("com.sun.xml.bind.v2.schemagen.xmlschema.Annotation"));
@@ -1450,54 +2071,15 @@ class QuarkusCxfProcessor {
         proxies.produce(new NativeImageProxyDefinitionBuildItem("com.sun.xml.bind.v2.model.impl.PropertySeed"));
         proxies.produce(new NativeImageProxyDefinitionBuildItem("com.sun.xml.bind.v2.model.core.TypeInfo"));
         */
-        proxies.produce(new NativeImageProxyDefinitionBuildItem("org.apache.cxf.common.jaxb.JAXBUtils$S2JJAXBModel"));
-        proxies.produce(new NativeImageProxyDefinitionBuildItem("org.apache.cxf.common.jaxb.JAXBUtils$Options"));
-        proxies.produce(new NativeImageProxyDefinitionBuildItem("org.apache.cxf.common.jaxb.JAXBUtils$JCodeModel"));
-        proxies.produce(new NativeImageProxyDefinitionBuildItem("org.apache.cxf.common.jaxb.JAXBUtils$Mapping"));
-        proxies.produce(new NativeImageProxyDefinitionBuildItem("org.apache.cxf.common.jaxb.JAXBUtils$TypeAndAnnotation"));
-        proxies.produce(new NativeImageProxyDefinitionBuildItem("org.apache.cxf.common.jaxb.JAXBUtils$JType"));
-        proxies.produce(new NativeImageProxyDefinitionBuildItem("org.apache.cxf.common.jaxb.JAXBUtils$JPackage"));
-        proxies.produce(new NativeImageProxyDefinitionBuildItem("org.apache.cxf.common.jaxb.JAXBUtils$JDefinedClass"));
     }
 
     @BuildStep
-    public void registerReflectionItems(BuildProducer<ReflectiveClassBuildItem> reflectiveItems) {
-        //TODO load all bus-extensions.txt file and parse it to generate the reflective class.
+    public void registerReflectionItems(List<CXFServletInfoBuildItem> cxfServletInfos,
+            BuildProducer<CXFReflectionBuildItem> reflectiveItems) {
         //TODO load all handler from https://github.com/apache/cxf/tree/master/rt/frontend/jaxws/src/main/java/org/apache/cxf/jaxws/handler/types
-        reflectiveItems.produce(new ReflectiveClassBuildItem(true, true,
+        reflectiveItems.produce(new CXFReflectionBuildItem("JAXB runtime and its CXF integration", true, true,
                 "io.quarkus.cxf.QuarkusJAXBBeanInfo",
-                "java.net.HttpURLConnection",
-                "com.sun.xml.bind.v2.schemagen.xmlschema.Schema",
-                "com.sun.xml.bind.v2.schemagen.xmlschema.package-info",
-                "com.sun.org.apache.xerces.internal.dom.DocumentTypeImpl",
-                "org.w3c.dom.DocumentType",
                 "java.lang.Throwable",
-                "java.nio.charset.Charset",
-                "com.sun.org.apache.xerces.internal.parsers.StandardParserConfiguration",
-                "com.sun.org.apache.xerces.internal.xni.parser.XMLInputSource",
-                "com.sun.org.apache.xml.internal.resolver.readers.XCatalogReader",
-                "com.sun.org.apache.xml.internal.resolver.readers.ExtendedXMLCatalogReader",
-                "com.sun.org.apache.xml.internal.resolver.Catalog",
-                "org.apache.xml.resolver.readers.OASISXMLCatalogReader",
-                "com.sun.org.apache.xml.internal.resolver.readers.XCatalogReader",
-                "com.sun.org.apache.xml.internal.resolver.readers.OASISXMLCatalogReader",
-                "com.sun.org.apache.xml.internal.resolver.readers.TR9401CatalogReader",
-                "com.sun.org.apache.xml.internal.resolver.readers.SAXCatalogReader",
-                //"com.sun.xml.txw2.TypedXmlWriter",
-                //"com.sun.codemodel.JAnnotationWriter",
-                //"com.sun.xml.txw2.ContainerElement",
-                "javax.xml.parsers.DocumentBuilderFactory",
-                "com.sun.org.apache.xerces.internal.jaxp.DocumentBuilderFactoryImpl",
-                "com.sun.org.apache.xml.internal.serializer.ToXMLStream",
-                "com.sun.org.apache.xerces.internal.dom.EntityImpl",
-                "org.apache.cxf.common.jaxb.JAXBUtils$S2JJAXBModel",
-                "org.apache.cxf.common.jaxb.JAXBUtils$Options",
-                "org.apache.cxf.common.jaxb.JAXBUtils$JCodeModel",
-                "org.apache.cxf.common.jaxb.JAXBUtils$Mapping",
-                "org.apache.cxf.common.jaxb.JAXBUtils$TypeAndAnnotation",
-                "org.apache.cxf.common.jaxb.JAXBUtils$JType",
-                "org.apache.cxf.common.jaxb.JAXBUtils$JPackage",
-                "org.apache.cxf.common.jaxb.JAXBUtils$JDefinedClass",
                 "com.sun.xml.bind.v2.model.nav.ReflectionNavigator",
                 "com.sun.xml.bind.v2.runtime.unmarshaller.StAXExConnector",
                 "com.sun.xml.bind.v2.runtime.unmarshaller.FastInfosetConnector",
@@ -1509,11 +2091,52 @@ class QuarkusCxfProcessor {
                 "com.sun.xml.fastinfoset.stax.StAXDocumentParser",
                 "org.jvnet.fastinfoset.stax.FastInfosetStreamReader",
                 "org.jvnet.staxex.XMLStreamReaderEx",
-                // missing from jaxp extension
-                //GregorSamsa but which package ???
-                "com.sun.org.apache.xalan.internal.xsltc.dom.CollatorFactoryBase",
-                //objecttype in jaxp
-                "com.sun.org.apache.xerces.internal.impl.xs.XMLSchemaLoader",
+                "com.sun.xml.bind.api.CompositeStructure",
+                "org.apache.cxf.common.logging.Slf4jLogger",
+                "io.quarkus.cxf.AddressTypeExtensibility",
+                "io.quarkus.cxf.CXFException",
+                "io.quarkus.cxf.HTTPClientPolicyExtensibility",
+                "io.quarkus.cxf.HTTPServerPolicyExtensibility",
+                "io.quarkus.cxf.XMLBindingMessageFormatExtensibility",
+                "io.quarkus.cxf.XMLFormatBindingExtensibility",
+                "org.apache.cxf.common.util.ReflectionInvokationHandler",
+                "com.sun.xml.internal.bind.marshaller.NoEscapeHandler",
+                "com.sun.xml.internal.bind.marshaller.MinimumEscapeHandler",
+                "com.sun.xml.internal.bind.marshaller.DumbEscapeHandler",
+                "com.sun.xml.internal.bind.marshaller.NioEscapeHandler",
+                "com.sun.xml.bind.marshaller.NoEscapeHandler",
+                "com.sun.xml.bind.marshaller.MinimumEscapeHandler",
+                "com.sun.xml.bind.marshaller.DumbEscapeHandler",
+                "com.sun.xml.bind.marshaller.NioEscapeHandler",
+                "org.apache.cxf.common.jaxb.NamespaceMapper",
+                "org.apache.cxf.jaxb.NamespaceMapper",
+                "com.sun.xml.internal.bind.api.JAXBRIContext",
+                "com.sun.xml.bind.api.JAXBRIContext",
+                "javax.xml.ws.wsaddressing.W3CEndpointReference",
+                "org.apache.cxf.common.jaxb.JAXBBeanInfo",
+                "com.sun.xml.bind.v2.runtime.LeafBeanInfoImpl",
+                "com.sun.xml.bind.v2.runtime.ArrayBeanInfoImpl",
+                "com.sun.xml.bind.v2.runtime.ValueListBeanInfoImpl",
+                "com.sun.xml.bind.v2.runtime.AnyTypeBeanInfo",
+                "com.sun.xml.bind.v2.runtime.JaxBeanInfo",
+                "com.sun.xml.bind.v2.runtime.ClassBeanInfoImpl",
+                "com.sun.xml.bind.v2.runtime.CompositeStructureBeanInfo",
+                "com.sun.xml.bind.v2.runtime.ElementBeanInfoImpl",
+                "com.sun.xml.bind.v2.runtime.MarshallerImpl",
+                "com.sun.xml.messaging.saaj.soap.SOAPDocumentImpl",
+                "com.sun.xml.internal.messaging.saaj.soap.SOAPDocumentImpl",
+                "com.sun.xml.bind.v2.runtime.BridgeContextImpl",
+                "com.sun.xml.bind.v2.runtime.JAXBContextImpl",
+                "com.sun.xml.bind.v2.model.annotation.RuntimeAnnotationReader",
+                "com.sun.xml.bind.XmlAccessorFactory",
+                "org.apache.cxf.common.jaxb.SchemaCollectionContextProxy",
+                "com.sun.xml.internal.bind.v2.model.annotation.RuntimeAnnotationReader",
+                "com.sun.xml.internal.bind.XmlAccessorFactory",
+                "com.sun.xml.bind.marshaller.CharacterEscapeHandler",
+                "com.sun.xml.internal.bind.marshaller.CharacterEscapeHandler",
+                "com.ibm.wsdl.extensions.schema.SchemaImpl"));
+        // JAXB binds them without annotations, their fields are never read
+        reflectiveItems.produce(new CXFReflectionBuildItem("built-in types of the JAXB runtime", true, false,
                 "java.lang.Object",
                 "java.lang.String",
                 "java.math.BigInteger",
@@ -1528,9 +2151,7 @@ class QuarkusCxfProcessor {
                 "java.lang.Boolean",
                 "java.lang.Byte",
                 "java.lang.StringBuffer",
-                "java.lang.Throwable",
                 "java.lang.Character",
-                "com.sun.xml.bind.api.CompositeStructure",
                 "java.net.URI",
                 "javax.xml.bind.JAXBElement",
                 "javax.xml.namespace.QName",
@@ -1545,25 +2166,51 @@ class QuarkusCxfProcessor {
                 "java.util.UUID",
                 "javax.activation.DataHandler",
                 "javax.xml.transform.Source",
-                "com.sun.org.apache.xml.internal.serializer.ToXMLSAXHandler",
-                "com.sun.org.apache.xerces.internal.xni.parser.XMLParserConfiguration",
+                "javax.xml.bind.JAXBContext",
+                "java.net.HttpURLConnection",
+                "java.nio.charset.Charset",
+                "javax.xml.parsers.DocumentBuilderFactory",
+                "javax.xml.stream.XMLStreamConstants",
+                "org.w3c.dom.Document",
+                "org.w3c.dom.DocumentType",
+                "org.w3c.dom.Node",
+                "org.xml.sax.Parser",
+                "org.xml.sax.XMLReader",
+                "javax.wsdl.Types",
+                "javax.wsdl.extensions.mime.MIMEPart"));
+        reflectiveItems.produce(new CXFReflectionBuildItem("instantiated by name by the XML parsers and transformers",
+                false, false,
+                "com.sun.org.apache.xerces.internal.dom.DocumentTypeImpl",
                 "com.sun.org.apache.xerces.internal.parsers.StandardParserConfiguration",
+                "com.sun.org.apache.xerces.internal.xni.parser.XMLParserConfiguration",
                 "com.sun.org.apache.xerces.internal.xni.parser.XMLInputSource",
+                "com.sun.org.apache.xml.internal.resolver.readers.XCatalogReader",
+                "com.sun.org.apache.xml.internal.resolver.readers.ExtendedXMLCatalogReader",
+                "com.sun.org.apache.xml.internal.resolver.Catalog",
+                "org.apache.xml.resolver.readers.OASISXMLCatalogReader",
+                "com.sun.org.apache.xml.internal.resolver.readers.OASISXMLCatalogReader",
+                "com.sun.org.apache.xml.internal.resolver.readers.TR9401CatalogReader",
+                "com.sun.org.apache.xml.internal.resolver.readers.SAXCatalogReader",
+                "com.sun.org.apache.xerces.internal.jaxp.DocumentBuilderFactoryImpl",
+                "com.sun.org.apache.xml.internal.serializer.ToXMLStream",
+                "com.sun.org.apache.xml.internal.serializer.ToXMLSAXHandler",
+                "com.sun.org.apache.xerces.internal.dom.EntityImpl",
+                // missing from jaxp extension
+                //GregorSamsa but which package ???
+                "com.sun.org.apache.xalan.internal.xsltc.dom.CollatorFactoryBase",
+                //objecttype in jaxp
+                "com.sun.org.apache.xerces.internal.impl.xs.XMLSchemaLoader",
                 "org.xml.sax.helpers.XMLReaderAdapter",
                 "org.xml.sax.helpers.XMLFilterImpl",
+                "org.xml.sax.helpers.AttributesImpl",
                 "javax.xml.validation.ValidatorHandler",
                 "org.xml.sax.ext.DefaultHandler2",
                 "org.xml.sax.helpers.DefaultHandler",
-                "com.sun.org.apache.xalan.internal.lib.Extensions",
-                "com.sun.org.apache.xalan.internal.lib.ExsltCommon",
-                "com.sun.org.apache.xalan.internal.lib.ExsltMath",
-                "com.sun.org.apache.xalan.internal.lib.ExsltSets",
-                "com.sun.org.apache.xalan.internal.lib.ExsltDatetime",
-                "com.sun.org.apache.xalan.internal.lib.ExsltStrings",
                 "com.sun.org.apache.xerces.internal.dom.DocumentImpl",
                 "com.sun.org.apache.xalan.internal.processor.TransformerFactoryImpl",
                 "com.sun.org.apache.xerces.internal.dom.CoreDocumentImpl",
                 "com.sun.org.apache.xerces.internal.dom.PSVIDocumentImpl",
+                "com.sun.org.apache.xerces.internal.dom.ElementNSImpl",
                 "com.sun.org.apache.xpath.internal.domapi.XPathEvaluatorImpl",
                 "com.sun.org.apache.xerces.internal.impl.xs.XMLSchemaValidator",
                 "com.sun.org.apache.xerces.internal.impl.dtd.XMLDTDValidator",
@@ -1572,111 +2219,90 @@ class QuarkusCxfProcessor {
                 "com.sun.xml.internal.stream.XMLOutputFactoryImpl",
                 "com.sun.xml.internal.stream.XMLInputFactoryImpl",
                 "com.sun.org.apache.xerces.internal.jaxp.datatype.DatatypeFactoryImpl",
-                "javax.xml.stream.XMLStreamConstants",
+                "com.sun.org.apache.xerces.internal.dom.DOMXSImplementationSourceImpl"));
+        reflectiveItems.produce(new CXFReflectionBuildItem("extension functions of the XSLT processor", true, false,
+                "com.sun.org.apache.xalan.internal.lib.Extensions",
+                "com.sun.org.apache.xalan.internal.lib.ExsltCommon",
+                "com.sun.org.apache.xalan.internal.lib.ExsltMath",
+                "com.sun.org.apache.xalan.internal.lib.ExsltSets",
+                "com.sun.org.apache.xalan.internal.lib.ExsltDatetime",
+                "com.sun.org.apache.xalan.internal.lib.ExsltStrings"));
+        if (isSchemaGeneratedAtRuntime()) {
+            reflectiveItems.produce(new CXFReflectionBuildItem("schema generation of the JAXB runtime", true, true,
+                    "com.sun.xml.bind.v2.schemagen.xmlschema.Schema",
+                    "com.sun.xml.bind.v2.schemagen.xmlschema.package-info"));
+        }
+        if (isClassPresent(XJC)) {
+            reflectiveItems.produce(new CXFReflectionBuildItem("schema compiler of the dynamic clients", true, true,
+                    JAXB_UTILS_XJC_TYPES.toArray(new String[0])));
+        }
+        reflectiveItems.produce(CXFReflectionBuildItem.weak("version and environment checks of the XML libraries",
                 "com.sun.org.apache.xalan.internal.xslt.XSLProcessorVersion",
                 "com.sun.org.apache.xalan.internal.processor.XSLProcessorVersion",
                 "com.sun.org.apache.xalan.internal.Version",
                 "com.sun.org.apache.xerces.internal.framework.Version",
                 "com.sun.org.apache.xerces.internal.impl.Version",
+                "org.apache.xerces.impl.Version",
                 "org.apache.crimson.parser.Parser2",
                 "org.apache.tools.ant.Main",
-                "org.w3c.dom.Document",
-                "org.w3c.dom.Node",
-                "org.xml.sax.Parser",
-                "org.xml.sax.XMLReader",
-                "org.xml.sax.helpers.AttributesImpl",
-                //already in jaxp quarkus extension
-                //"com.sun.org.apache.xalan.internal.xsltc.trax.TransformerFactoryImpl",
-                //"com.sun.org.apache.xerces.internal.jaxp.SAXParserFactoryImpl",
-                //"com.sun.org.apache.xerces.internal.jaxp.DocumentBuilderFactoryImpl",
-                //"com.sun.xml.internal.bind.v2.ContextFactory",
-                //"com.sun.xml.bind.v2.ContextFactory",
-                "org.apache.cxf.common.logging.Slf4jLogger",
-                "io.quarkus.cxf.AddressTypeExtensibility",
-                "io.quarkus.cxf.CXFException",
-                "io.quarkus.cxf.HTTPClientPolicyExtensibility",
-                "io.quarkus.cxf.HTTPServerPolicyExtensibility",
-                "io.quarkus.cxf.XMLBindingMessageFormatExtensibility",
-                "io.quarkus.cxf.XMLFormatBindingExtensibility",
-                "org.apache.cxf.common.util.ReflectionInvokationHandler",
-                "com.sun.codemodel.internal.writer.FileCodeWriter",
-                "com.sun.codemodel.writer.FileCodeWriter",
-                "com.sun.xml.internal.bind.marshaller.NoEscapeHandler",
-                "com.sun.xml.internal.bind.marshaller.MinimumEscapeHandler",
-                "com.sun.xml.internal.bind.marshaller.DumbEscapeHandler",
-                "com.sun.xml.internal.bind.marshaller.NioEscapeHandler",
-                "com.sun.xml.bind.marshaller.NoEscapeHandler",
-                "com.sun.xml.bind.marshaller.MinimumEscapeHandler",
-                "com.sun.xml.bind.marshaller.DumbEscapeHandler",
-                "com.sun.xml.bind.marshaller.NioEscapeHandler",
-                "org.apache.cxf.common.jaxb.NamespaceMapper",
-                "org.apache.cxf.jaxb.NamespaceMapper",
+                "sun.security.ssl.SSLLogger",
                 "com.sun.tools.internal.xjc.api.XJC",
                 "com.sun.tools.xjc.api.XJC",
-                "com.sun.xml.internal.bind.api.JAXBRIContext",
-                "com.sun.xml.bind.api.JAXBRIContext",
-                "org.apache.cxf.common.util.ReflectionInvokationHandler",
-                "javax.xml.ws.wsaddressing.W3CEndpointReference",
-                "org.apache.cxf.common.jaxb.JAXBBeanInfo",
-                "javax.xml.bind.JAXBContext",
-                "com.sun.xml.bind.v2.runtime.LeafBeanInfoImpl",
-                "com.sun.xml.bind.v2.runtime.ArrayBeanInfoImpl",
-                "com.sun.xml.bind.v2.runtime.ValueListBeanInfoImpl",
-                "com.sun.xml.bind.v2.runtime.AnyTypeBeanInfo",
-                "com.sun.xml.bind.v2.runtime.JaxBeanInfo",
-                "com.sun.xml.bind.v2.runtime.ClassBeanInfoImpl",
-                "com.sun.xml.bind.v2.runtime.CompositeStructureBeanInfo",
-                "com.sun.xml.bind.v2.runtime.ElementBeanInfoImpl",
-                "com.sun.xml.bind.v2.runtime.MarshallerImpl",
-                "com.sun.xml.messaging.saaj.soap.SOAPDocumentImpl",
-                "com.sun.xml.internal.messaging.saaj.soap.SOAPDocumentImpl",
-                "com.sun.org.apache.xerces.internal.dom.DOMXSImplementationSourceImpl",
-                "javax.wsdl.Types",
-                "javax.wsdl.extensions.mime.MIMEPart",
-                "com.sun.xml.bind.v2.runtime.BridgeContextImpl",
-                "com.sun.xml.bind.v2.runtime.JAXBContextImpl",
-                "com.sun.xml.bind.subclassReplacements",
-                "com.sun.xml.bind.defaultNamespaceRemap",
-                "com.sun.xml.bind.c14n",
-                "com.sun.xml.bind.v2.model.annotation.RuntimeAnnotationReader",
-                "com.sun.xml.bind.XmlAccessorFactory",
-                "com.sun.xml.bind.treatEverythingNillable",
-                "com.sun.xml.bind.retainReferenceToInfo",
-                "com.sun.xml.internal.bind.subclassReplacements",
-                "com.sun.xml.internal.bind.defaultNamespaceRemap",
-                "com.sun.xml.internal.bind.c14n",
-                "org.apache.cxf.common.jaxb.SchemaCollectionContextProxy",
-                "com.sun.xml.internal.bind.v2.model.annotation.RuntimeAnnotationReader",
-                "com.sun.xml.internal.bind.XmlAccessorFactory",
-                "com.sun.xml.internal.bind.treatEverythingNillable",
-                "com.sun.xml.bind.marshaller.CharacterEscapeHandler",
-                "com.sun.xml.internal.bind.marshaller.CharacterEscapeHandler",
-                "com.sun.org.apache.xerces.internal.dom.ElementNSImpl",
-                "sun.security.ssl.SSLLogger",
-                "com.ibm.wsdl.extensions.schema.SchemaImpl",
-                //TODO add refection only if soap 1.2
-                "com.ibm.wsdl.extensions.soap12.SOAP12AddressImpl",
-                "com.ibm.wsdl.extensions.soap12.SOAP12AddressSerializer",
-                "com.ibm.wsdl.extensions.soap12.SOAP12BindingImpl",
-                "com.ibm.wsdl.extensions.soap12.SOAP12BindingSerializer",
-                "com.ibm.wsdl.extensions.soap12.SOAP12BodyImpl",
-                "com.ibm.wsdl.extensions.soap12.SOAP12BodySerializer",
-                "com.ibm.wsdl.extensions.soap12.SOAP12Constants",
-                "com.ibm.wsdl.extensions.soap12.SOAP12FaultImpl",
-                "com.ibm.wsdl.extensions.soap12.SOAP12FaultSerializer",
-                "com.ibm.wsdl.extensions.soap12.SOAP12HeaderFaultImpl",
-                "com.ibm.wsdl.extensions.soap12.SOAP12HeaderImpl",
-                "com.ibm.wsdl.extensions.soap12.SOAP12HeaderSerializer",
-                "com.ibm.wsdl.extensions.soap12.SOAP12OperationImpl",
-                "com.ibm.wsdl.extensions.soap12.SOAP12OperationSerializer",
-                "com.sun.xml.internal.bind.retainReferenceToInfo"));
-        reflectiveItems.produce(new ReflectiveClassBuildItem(false, false,
+                "com.sun.codemodel.internal.writer.FileCodeWriter",
+                "com.sun.codemodel.writer.FileCodeWriter"));
+        if (usesSoap12(cxfServletInfos)) {
+            reflectiveItems.produce(new CXFReflectionBuildItem("WSDL extensions of the SOAP 1.2 endpoints", true, true,
+                    "com.ibm.wsdl.extensions.soap12.SOAP12AddressImpl",
+                    "com.ibm.wsdl.extensions.soap12.SOAP12AddressSerializer",
+                    "com.ibm.wsdl.extensions.soap12.SOAP12BindingImpl",
+                    "com.ibm.wsdl.extensions.soap12.SOAP12BindingSerializer",
+                    "com.ibm.wsdl.extensions.soap12.SOAP12BodyImpl",
+                    "com.ibm.wsdl.extensions.soap12.SOAP12BodySerializer",
+                    "com.ibm.wsdl.extensions.soap12.SOAP12Constants",
+                    "com.ibm.wsdl.extensions.soap12.SOAP12FaultImpl",
+                    "com.ibm.wsdl.extensions.soap12.SOAP12FaultSerializer",
+                    "com.ibm.wsdl.extensions.soap12.SOAP12HeaderFaultImpl",
+                    "com.ibm.wsdl.extensions.soap12.SOAP12HeaderImpl",
+                    "com.ibm.wsdl.extensions.soap12.SOAP12HeaderSerializer",
+                    "com.ibm.wsdl.extensions.soap12.SOAP12OperationImpl",
+                    "com.ibm.wsdl.extensions.soap12.SOAP12OperationSerializer"));
+        }
+        reflectiveItems.produce(CXFReflectionBuildItem.weak("optional libraries detected by CXF",
+                "io.swagger.jaxrs.DefaultParameterExtension",
+                "java.security.acl.Group",
+                "com.oracle.xmlns.webservices.jaxws_databinding.ObjectFactory",
+                "com.sun.xml.ws.runtime.config.ObjectFactory",
+                "net.sf.cglib.proxy.Enhancer",
+                "net.sf.cglib.proxy.MethodInterceptor",
+                "net.sf.cglib.proxy.MethodProxy",
+                "net.sf.ehcache.CacheManager",
+                "org.apache.cxf.jaxrs.utils.JAXRSUtils",
+                "org.apache.cxf.metrics.codahale.CodahaleMetricsProvider",
+                "org.apache.karaf.jaas.boot.principal.Group",
+                "org.apache.yoko.orb.OB.BootManager",
+                "org.apache.yoko.orb.OB.BootManagerHelper",
+                "org.eclipse.jetty.jaas.spi.PropertyFileLoginModule",
+                "org.eclipse.jetty.jmx.MBeanContainer",
+                "org.eclipse.jetty.plus.jaas.spi.PropertyFileLoginModule",
+                "org.hsqldb.jdbcDriver",
+                "org.jdom.Document",
+                "org.jdom.Element",
+                "org.osgi.framework.Bundle",
+                "org.osgi.framework.BundleContext",
+                "org.osgi.framework.FrameworkUtil",
+                "org.springframework.aop.framework.Advised",
+                "org.springframework.aop.support.AopUtils",
+                "org.springframework.core.io.support.PathMatchingResourcePatternResolver",
+                "org.springframework.core.type.classreading.CachingMetadataReaderFactory",
+                "org.springframework.osgi.io.OsgiBundleResourcePatternResolver",
+                "org.springframework.osgi.util.BundleDelegatingClassLoader",
+                "org.apache.cxf.configuration.spring.ConfigurerImpl"));
+        reflectiveItems.produce(new CXFReflectionBuildItem("loaded by name by CXF", false, false,
                 //manually added
                 "org.apache.cxf.wsdl.interceptors.BareInInterceptor",
                 "com.sun.msv.reader.GrammarReaderController",
                 "org.apache.cxf.binding.soap.interceptor.RPCInInterceptor",
                 "org.apache.cxf.wsdl.interceptors.DocLiteralInInterceptor",
-                "StaxSchemaValidationInInterceptor",
                 "org.apache.cxf.binding.soap.interceptor.SoapHeaderInterceptor",
                 "org.apache.cxf.binding.soap.model.SoapHeaderInfo",
                 "javax.xml.stream.XMLStreamReader",
@@ -1705,7 +2331,6 @@ class QuarkusCxfProcessor {
                 "org.apache.cxf.binding.soap.interceptor.StartBodyInterceptor",
                 "java.lang.Exception",
                 "org.apache.cxf.staxutils.W3CDOMStreamWriter",
-                "javax.xml.stream.XMLStreamReader",
                 "javax.xml.stream.XMLStreamWriter",
                 "org.apache.cxf.common.jaxb.JAXBContextCache",
                 "com.ctc.wstx.sax.WstxSAXParserFactory",
@@ -1721,6 +2346,7 @@ class QuarkusCxfProcessor {
                 "com.ibm.wsdl.extensions.soap.SOAPHeaderImpl",
                 "com.ibm.wsdl.extensions.soap.SOAPOperationImpl",
                 "com.ibm.wsdl.factory.WSDLFactoryImpl",
+                "com.ibm.wsdl.DefinitionImpl",
                 "com.ibm.wsdl.FaultImpl",
                 "com.ibm.wsdl.InputImpl",
                 "com.ibm.wsdl.MessageImpl",
@@ -1731,7 +2357,6 @@ class QuarkusCxfProcessor {
                 "com.ibm.wsdl.PortTypeImpl",
                 "com.ibm.wsdl.ServiceImpl",
                 "com.ibm.wsdl.TypesImpl",
-                "com.oracle.xmlns.webservices.jaxws_databinding.ObjectFactory",
                 "com.sun.org.apache.xerces.internal.utils.XMLSecurityManager",
                 "com.sun.org.apache.xerces.internal.utils.XMLSecurityPropertyManager",
                 "com.sun.xml.bind.api.TypeReference",
@@ -1740,15 +2365,11 @@ class QuarkusCxfProcessor {
                 "com.sun.xml.internal.bind.api.TypeReference",
                 "com.sun.xml.internal.bind.DatatypeConverterImpl",
                 "com.sun.xml.internal.bind.marshaller.MinimumEscapeHandler",
-                "com.sun.xml.ws.runtime.config.ObjectFactory",
-                "ibm.wsdl.DefinitionImpl",
-                "io.swagger.jaxrs.DefaultParameterExtension",
                 "io.undertow.server.HttpServerExchange",
                 "io.undertow.UndertowOptions",
                 "java.lang.invoke.MethodHandles",
                 "java.rmi.RemoteException",
                 "java.rmi.ServerException",
-                "java.security.acl.Group",
                 "javax.enterprise.inject.spi.CDI",
                 "javax.jws.Oneway",
                 "javax.jws.WebMethod",
@@ -1758,12 +2379,9 @@ class QuarkusCxfProcessor {
                 "javax.security.auth.login.Configuration",
                 "javax.servlet.WriteListener",
                 "javax.wsdl.Binding",
-                "javax.wsdl.Binding",
-                "javax.wsdl.BindingFault",
                 "javax.wsdl.BindingFault",
                 "javax.wsdl.BindingInput",
                 "javax.wsdl.BindingOperation",
-                "javax.wsdl.BindingOperation",
                 "javax.wsdl.BindingOutput",
                 "javax.wsdl.Definition",
                 "javax.wsdl.Fault",
@@ -1774,7 +2392,6 @@ class QuarkusCxfProcessor {
                 "javax.wsdl.Output",
                 "javax.wsdl.Part",
                 "javax.wsdl.Port",
-                "javax.wsdl.Port",
                 "javax.wsdl.PortType",
                 "javax.wsdl.Service",
                 "javax.wsdl.Types",
@@ -1792,10 +2409,6 @@ class QuarkusCxfProcessor {
                 "javax.xml.ws.soap.SOAPBinding",
                 "javax.xml.ws.WebFault",
                 "javax.xml.ws.WebServiceProvider",
-                "net.sf.cglib.proxy.Enhancer",
-                "net.sf.cglib.proxy.MethodInterceptor",
-                "net.sf.cglib.proxy.MethodProxy",
-                "net.sf.ehcache.CacheManager",
                 "org.apache.commons.logging.LogFactory",
                 "org.apache.cxf.binding.soap.SoapBinding",
                 "org.apache.cxf.binding.soap.SoapFault",
@@ -1810,16 +2423,11 @@ class QuarkusCxfProcessor {
                 "org.apache.cxf.interceptor.Fault",
                 "org.apache.cxf.jaxb.DatatypeFactory",
                 "org.apache.cxf.jaxb.JAXBDataBinding",
-                "org.apache.cxf.jaxrs.utils.JAXRSUtils",
                 "org.apache.cxf.jaxws.binding.soap.SOAPBindingImpl",
-                "org.apache.cxf.metrics.codahale.CodahaleMetricsProvider",
                 "org.apache.cxf.message.Exchange",
                 "org.apache.cxf.message.ExchangeImpl",
                 "org.apache.cxf.message.StringMapImpl",
                 "org.apache.cxf.message.StringMap",
-                "org.apache.cxf.tools.fortest.cxf523.Database",
-                "org.apache.cxf.tools.fortest.cxf523.DBServiceFault",
-                "org.apache.cxf.tools.fortest.withannotation.doc.HelloWrapped",
                 "org.apache.cxf.transports.http.configuration.HTTPClientPolicy",
                 "org.apache.cxf.transports.http.configuration.HTTPServerPolicy",
                 "org.apache.cxf.transports.http.configuration.ObjectFactory",
@@ -1828,146 +2436,218 @@ class QuarkusCxfProcessor {
                 "org.apache.cxf.ws.addressing.wsdl.ServiceNameType",
                 "org.apache.cxf.wsdl.http.AddressType",
                 "org.apache.cxf.wsdl.http.ObjectFactory",
-                "org.apache.hello_world.Greeter",
-                "org.apache.hello_world_soap_http.types.StringStruct",
-                "org.apache.karaf.jaas.boot.principal.Group",
-                "org.apache.xerces.impl.Version",
-                "org.apache.yoko.orb.OB.BootManager",
-                "org.apache.yoko.orb.OB.BootManagerHelper",
                 "org.codehaus.stax2.XMLStreamReader2",
-                "org.eclipse.jetty.jaas.spi.PropertyFileLoginModule",
-                "org.eclipse.jetty.jmx.MBeanContainer",
-                "org.eclipse.jetty.plus.jaas.spi.PropertyFileLoginModule",
-                "org.hsqldb.jdbcDriver",
-                "org.jdom.Document",
-                "org.jdom.Element",
-                "org.osgi.framework.Bundle",
-                "org.osgi.framework.BundleContext",
-                "org.osgi.framework.FrameworkUtil",
                 "org.slf4j.impl.StaticLoggerBinder",
-                "org.slf4j.LoggerFactory",
-                "org.springframework.aop.framework.Advised",
-                "org.springframework.aop.support.AopUtils",
-                "org.springframework.core.io.support.PathMatchingResourcePatternResolver",
-                "org.springframework.core.type.classreading.CachingMetadataReaderFactory",
-                "org.springframework.osgi.io.OsgiBundleResourcePatternResolver",
-                "org.springframework.osgi.util.BundleDelegatingClassLoader",
-                // org.apache.cxf.extension.BusExtension interface without duplicate
-                "org.apache.cxf.configuration.spring.ConfigurerImpl",
-                // policy bus-extensions.txt
-                "org.apache.cxf.ws.policy.PolicyEngineImpl",
-                "org.apache.cxf.ws.policy.PolicyEngine",
-                "org.apache.cxf.policy.PolicyDataEngine",
-                "org.apache.cxf.ws.policy.PolicyDataEngineImpl",
-                "org.apache.cxf.ws.policy.AssertionBuilderRegistry",
-                "org.apache.cxf.ws.policy.AssertionBuilderRegistryImpl",
-                "org.apache.cxf.ws.policy.PolicyInterceptorProviderRegistry",
-                "org.apache.cxf.ws.policy.PolicyInterceptorProviderRegistryImpl",
-                "org.apache.cxf.ws.policy.PolicyBuilder",
-                "org.apache.cxf.ws.policy.PolicyBuilderImpl",
-                "org.apache.cxf.ws.policy.PolicyAnnotationListener",
-                "org.apache.cxf.ws.policy.attachment.ServiceModelPolicyProvider",
-                "org.apache.cxf.ws.policy.attachment.external.DomainExpressionBuilderRegistry",
-                "org.apache.cxf.ws.policy.attachment.external.EndpointReferenceDomainExpressionBuilder",
-                "org.apache.cxf.ws.policy.attachment.external.URIDomainExpressionBuilder",
-                "org.apache.cxf.ws.policy.attachment.wsdl11.Wsdl11AttachmentPolicyProvider",
-                "org.apache.cxf.ws.policy.mtom.MTOMAssertionBuilder",
-                "org.apache.cxf.ws.policy.mtom.MTOMPolicyInterceptorProvider",
-                //transport undertow bus-extensions.txt
-                "org.apache.cxf.transport.http_undertow.UndertowDestinationFactory",
-                "org.apache.cxf.transport.http_undertow.UndertowHTTPServerEngineFactory",
-                //transport http bus-extensions.txt
-                "org.apache.cxf.transport.http.HTTPTransportFactory",
-                "org.apache.cxf.transport.http.HTTPWSDLExtensionLoader",
-                "org.apache.cxf.transport.http.policy.HTTPClientAssertionBuilder",
-                "org.apache.cxf.transport.http.policy.HTTPServerAssertionBuilder",
-                "org.apache.cxf.transport.http.policy.NoOpPolicyInterceptorProvider",
-                //jaxws bus-extensions.txt
-                "org.apache.cxf.jaxws.context.WebServiceContextResourceResolver",
-                //management bus-extensions.txt
-                "org.apache.cxf.management.InstrumentationManager",
-                "org.apache.cxf.management.jmx.InstrumentationManagerImpl",
-                //rt reliable message bus-extensions.txt
-                "org.apache.cxf.ws.rm.RMManager",
-                //mex bus-extensions.txt
-                "org.apache.cxf.ws.mex.MEXServerListener",
-                //sse bus-extensions.txt
-                "org.apache.cxf.transport.sse.SseProvidersExtension",
-                //transport websocket (over undertow) bus-extensions.txt
-                "org.apache.cxf.transport.websocket.WebSocketTransportFactory",
-                //rt wsdl bus-extensions.txt
-                "org.apache.cxf.wsdl.WSDLManager",
-                "org.apache.cxf.wsdl11.WSDLManagerImpl",
-                //xml binding bus-extensions.txt
-                "org.apache.cxf.binding.xml.XMLBindingFactory",
-                "org.apache.cxf.binding.xml.wsdl11.XMLWSDLExtensionLoader",
-                //rt soap binding bus-extensions.txt
-                "org.apache.cxf.binding.soap.SoapTransportFactory",
-                "org.apache.cxf.binding.soap.SoapBindingFactory",
-                // core bus-extensions.txt
-                "org.apache.cxf.bus.managers.PhaseManagerImpl",
-                "org.apache.cxf.phase.PhaseManager",
-                "org.apache.cxf.bus.managers.WorkQueueManagerImpl",
-                "org.apache.cxf.workqueue.WorkQueueManager",
-                "org.apache.cxf.bus.managers.CXFBusLifeCycleManager",
-                "org.apache.cxf.buslifecycle.BusLifeCycleManager",
-                "org.apache.cxf.bus.managers.ServerRegistryImpl",
-                "org.apache.cxf.endpoint.ServerRegistry",
-                "org.apache.cxf.bus.managers.EndpointResolverRegistryImpl",
-                "org.apache.cxf.endpoint.EndpointResolverRegistry",
-                "org.apache.cxf.bus.managers.HeaderManagerImpl",
-                "org.apache.cxf.headers.HeaderManager",
-                "org.apache.cxf.service.factory.FactoryBeanListenerManager",
-                "org.apache.cxf.bus.managers.ServerLifeCycleManagerImpl",
-                "org.apache.cxf.endpoint.ServerLifeCycleManager",
-                "org.apache.cxf.bus.managers.ClientLifeCycleManagerImpl",
-                "org.apache.cxf.endpoint.ClientLifeCycleManager",
-                "org.apache.cxf.bus.resource.ResourceManagerImpl",
-                "org.apache.cxf.resource.ResourceManager",
-                "org.apache.cxf.catalog.OASISCatalogManager",
-                "org.apache.cxf.catalog.OASISCatalogManager"));
+                "org.slf4j.LoggerFactory"));
     }
 
+    /**
+     * Merge the reflective classes of CXF into those of the native image, with the union of the members each use needs,
+     * and write the report of what is registered and why next to the application.
+     */
     @BuildStep
-    NativeImageResourceBuildItem nativeImageResourceBuildItem() {
+    public void registerReflection(List<CXFReflectionBuildItem> cxfReflectionItems, OutputTargetBuildItem outputTarget,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        Map<String, ReflectionRegistration> registrations = new TreeMap<>();
+        for (CXFReflectionBuildItem item : cxfReflectionItems) {
+            for (String className : item.getClassNames()) {
+                registrations.computeIfAbsent(className, k -> new ReflectionRegistration()).add(item);
+            }
+        }
+        Map<String, List<String>> classNamesByMembers = new TreeMap<>();
+        List<String> report = new ArrayList<>();
+        registrations.forEach((className, registration) -> {
+            classNamesByMembers.computeIfAbsent(registration.members(), k -> new ArrayList<>()).add(className);
+            report.add(className + " [" + registration.members() + "] " + String.join("; ", registration.reasons));
+        });
+        classNamesByMembers.forEach((members, classNames) -> {
+            String[] names = classNames.toArray(new String[0]);
+            if (members.equals(ReflectionRegistration.WEAK)) {
+                reflectiveClass.produce(ReflectiveClassBuildItem.weakClass(names));
+            } else {
+                reflectiveClass.produce(new ReflectiveClassBuildItem(members.contains(ReflectionRegistration.METHODS),
+                        members.contains(ReflectionRegistration.FIELDS), names));
+            }
+        });
+        if (outputTarget.getOutputDirectory() == null) {
+            return;
+        }
+        Path reportPath = outputTarget.getOutputDirectory().resolve("quarkus-cxf-reflection.txt");
+        try {
+            Files.write(reportPath, report, StandardCharsets.UTF_8);
+            LOGGER.debugf("%d classes registered for reflection, see %s", registrations.size(), reportPath);
+        } catch (IOException e) {
+            LOGGER.warnf("Cannot write the reflection report %s: %s", reportPath, e.getMessage());
+        }
+    }
+
+    /**
+     * Register the classes that JAXB binds for the operations of a web service: the parameters, results and faults of
+     * its methods, the types of their properties and the classes listed by {@code @XmlSeeAlso}. The walk stops at the
+     * classes outside the index, e.g. those of the JDK, which the JAXB runtime binds itself.
+     */
+    private void registerBoundTypes(IndexView index, ClassInfo wsClassInfo,
+            BuildProducer<CXFReflectionBuildItem> reflectiveClass) {
+        Deque<Type> types = new ArrayDeque<>();
+        for (MethodInfo method : wsClassInfo.methods()) {
+            types.addAll(method.parameters());
+            types.add(method.returnType());
+            types.addAll(method.exceptions());
+        }
+        addSeeAlso(wsClassInfo, types);
+        Set<String> bound = new LinkedHashSet<>();
+        while (!types.isEmpty()) {
+            Type type = types.pop();
+            if (type.kind() == Type.Kind.ARRAY) {
+                types.push(type.asArrayType().component());
+                continue;
+            }
+            if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+                types.addAll(type.asParameterizedType().arguments());
+            } else if (type.kind() != Type.Kind.CLASS) {
+                continue;
+            }
+            ClassInfo classInfo = index.getClassByName(type.name());
+            if (classInfo == null || !bound.add(classInfo.name().toString())) {
+                continue;
+            }
+            for (FieldInfo field : classInfo.fields()) {
+                if (!Modifier.isStatic(field.flags()) && !Modifier.isTransient(field.flags())
+                        && !field.hasAnnotation(XML_TRANSIENT)) {
+                    types.push(field.type());
+                }
+            }
+            for (MethodInfo method : classInfo.methods()) {
+                if (!Modifier.isStatic(method.flags()) && method.parameters().isEmpty()
+                        && (method.name().startsWith("get") || method.name().startsWith("is"))) {
+                    types.push(method.returnType());
+                }
+            }
+            if (classInfo.superName() != null) {
+                types.push(Type.create(classInfo.superName(), Type.Kind.CLASS));
+            }
+            addSeeAlso(classInfo, types);
+        }
+        if (!bound.isEmpty()) {
+            reflectiveClass.produce(new CXFReflectionBuildItem("bound by JAXB for " + wsClassInfo.name(), true, true,
+                    bound.toArray(new String[0])));
+        }
+    }
+
+    private static void addSeeAlso(ClassInfo classInfo, Deque<Type> types) {
+        AnnotationInstance seeAlso = classInfo.classAnnotation(XML_SEE_ALSO);
+        if (seeAlso != null && seeAlso.value() != null) {
+            types.addAll(Arrays.asList(seeAlso.value().asClassArray()));
+        }
+    }
+
+    private static final class ReflectionRegistration {
+        private static final String WEAK = "weak";
+        private static final String METHODS = "methods";
+        private static final String FIELDS = "fields";
+
+        private final Set<String> reasons = new LinkedHashSet<>();
+        private boolean methods;
+        private boolean fields;
+        private boolean weak = true;
+
+        void add(CXFReflectionBuildItem item) {
+            reasons.add(item.getReason());
+            methods |= item.isMethods();
+            fields |= item.isFields();
+            weak &= item.isWeak();
+        }
+
+        String members() {
+            if (weak) {
+                return WEAK;
+            }
+            StringBuilder members = new StringBuilder("constructors");
+            if (methods) {
+                members.append(", ").append(METHODS);
+            }
+            if (fields) {
+                members.append(", ").append(FIELDS);
+            }
+            return members.toString();
+        }
+    }
+
+    @BuildStep
+    void nativeImageResources(CombinedIndexBuildItem combinedIndexBuildItem,
+            List<CXFServletInfoBuildItem> cxfServletInfos, BuildProducer<NativeImageResourceBuildItem> resources) {
         //TODO add @HandlerChain (file) and parse it to add class loading
-        return new NativeImageResourceBuildItem("com/sun/xml/fastinfoset/resources/ResourceBundle.properties",
-                "META-INF/cxf/bus-extensions.txt",
-                "META-INF/cxf/cxf.xml",
-                "META-INF/cxf/org.apache.cxf.bus.factory",
+        resources.produce(new NativeImageResourceBuildItem("META-INF/cxf/org.apache.cxf.bus.factory",
                 "META-INF/services/org.apache.cxf.bus.factory",
-                "META-INF/blueprint.handlers",
-                "META-INF/spring.handlers",
-                "META-INF/spring.schemas",
                 "META-INF/jax-ws-catalog.xml",
-                "OSGI-INF/metatype/workqueue.xml",
-                "schemas/core.xsd",
-                "schemas/blueprint/core.xsd",
                 "schemas/wsdl/XMLSchema.xsd",
-                "schemas/wsdl/addressing.xjb",
-                "schemas/wsdl/addressing.xsd",
-                "schemas/wsdl/addressing200403.xjb",
-                "schemas/wsdl/addressing200403.xsd",
-                "schemas/wsdl/http.xjb",
                 "schemas/wsdl/http.xsd",
                 "schemas/wsdl/mime-binding.xsd",
                 "schemas/wsdl/soap-binding.xsd",
                 "schemas/wsdl/soap-encoding.xsd",
-                "schemas/wsdl/soap12-binding.xsd",
                 "schemas/wsdl/swaref.xsd",
-                "schemas/wsdl/ws-addr-wsdl.xjb",
-                "schemas/wsdl/ws-addr-wsdl.xsd",
-                "schemas/wsdl/ws-addr.xsd",
-                "schemas/wsdl/wsdl.xjb",
                 "schemas/wsdl/wsdl.xsd",
-                "schemas/wsdl/wsrm.xsd",
                 "schemas/wsdl/xmime.xsd",
-                "schemas/wsdl/xml.xsd",
-                "schemas/configuratio/cxf-beans.xsd",
-                "schemas/configuration/extension.xsd",
-                "schemas/configuration/parameterized-types.xsd",
-                "schemas/configuration/security.xjb",
-                "schemas/configuration/security.xsd");
+                "schemas/wsdl/xml.xsd"));
+        if (usesSoap12(cxfServletInfos)) {
+            resources.produce(new NativeImageResourceBuildItem("schemas/wsdl/soap12-binding.xsd"));
+        }
+        if (usesAddressing(combinedIndexBuildItem.getIndex(), cxfServletInfos)) {
+            resources.produce(new NativeImageResourceBuildItem("schemas/wsdl/addressing.xsd",
+                    "schemas/wsdl/addressing200403.xsd",
+                    "schemas/wsdl/ws-addr-wsdl.xsd",
+                    "schemas/wsdl/ws-addr.xsd"));
+        }
+        if (isClassPresent("org.apache.cxf.ws.rm.RMManager")) {
+            resources.produce(new NativeImageResourceBuildItem("schemas/wsdl/wsrm.xsd"));
+        }
+        // the XML configuration of the bus is only read by the Spring and Blueprint bus factories
+        if (isClassPresent("org.springframework.beans.factory.xml.NamespaceHandler")) {
+            resources.produce(new NativeImageResourceBuildItem("META-INF/cxf/cxf.xml",
+                    "META-INF/spring.handlers",
+                    "META-INF/spring.schemas",
+                    "schemas/core.xsd",
+                    "schemas/configuration/cxf-beans.xsd",
+                    "schemas/configuration/extension.xsd",
+                    "schemas/configuration/parameterized-types.xsd",
+                    "schemas/configuration/security.xsd"));
+        }
+        if (isClassPresent("org.osgi.service.blueprint.container.BlueprintContainer")) {
+            resources.produce(new NativeImageResourceBuildItem("META-INF/blueprint.handlers",
+                    "schemas/blueprint/core.xsd"));
+        }
+        if (isClassPresent("org.osgi.framework.Bundle")) {
+            resources.produce(new NativeImageResourceBuildItem("OSGI-INF/metatype/workqueue.xml"));
+        }
+    }
+
+    private static boolean usesSoap12(List<CXFServletInfoBuildItem> cxfServletInfos) {
+        return cxfServletInfos.stream().map(CXFServletInfoBuildItem::getSOAPBinding)
+                .anyMatch(binding -> binding != null && binding.startsWith(SOAPBinding.SOAP12HTTP_BINDING));
+    }
+
+    private static boolean usesAddressing(IndexView index, List<CXFServletInfoBuildItem> cxfServletInfos) {
+        return !index.getAnnotations(ADDRESSING_ANNOTATION).isEmpty() || cxfServletInfos.stream()
+                .flatMap(cxfServletInfo -> cxfServletInfo.getFeatures().stream())
+                .anyMatch(feature -> feature.endsWith(".WSAddressingFeature"));
+    }
+
+    /**
+     * Whether JAXB may generate the XML schemas of a service at runtime. Those of the configured endpoints and clients
+     * are generated when their JAXB contexts are created, during the build of native images.
+     */
+    private boolean isSchemaGeneratedAtRuntime() {
+        return cxfConfig.runtimeSchemaGeneration || cxfConfig.endpoints.values().stream()
+                .noneMatch(endpoint -> endpoint.implementor.isPresent() || endpoint.serviceInterface.isPresent());
+    }
+
+    private static boolean isClassPresent(String className) {
+        try {
+            Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
     }
 
     private String getMappingPath(String path) {
@@ -1984,7 +2664,7 @@ class QuarkusCxfProcessor {
     public void createBeans(
             BuildProducer<UnremovableBeanBuildItem> unremovableBeans,
             BuildProducer<GeneratedBeanBuildItem> generatedBeans,
-            BuildProducer<ReflectiveClassBuildItem> reflectiveItems) {
+            BuildProducer<CXFReflectionBuildItem> reflectiveItems) {
         for (Entry<String, CxfEndpointConfig> webServicesByPath : cxfConfig.endpoints.entrySet()) {
             if (webServicesByPath.getValue().implementor.isPresent()) {
                 String webServiceName = webServicesByPath.getValue().implementor.get();
@@ -1994,7 +2674,8 @@ class QuarkusCxfProcessor {
                 createProducer(producerClassName, classOutput, webServiceName);
                 unremovableBeans.produce(new UnremovableBeanBuildItem(
                         new UnremovableBeanBuildItem.BeanClassNameExclusion(producerClassName)));
-                reflectiveItems.produce(new ReflectiveClassBuildItem(true, true, producerClassName));
+                reflectiveItems.produce(new CXFReflectionBuildItem("producer of " + webServiceName, false, false,
+                        producerClassName));
             }
 
         }
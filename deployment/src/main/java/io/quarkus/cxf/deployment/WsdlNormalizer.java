@@ -0,0 +1,274 @@
+package io.quarkus.cxf.deployment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Reads a WSDL at build time and turns it into a single document without external references: WSDL imports of the
+ * same namespace are merged, and the XML schemas imported or included are inlined in the types of the WSDL.
+ * Comments and whitespace between elements are dropped.
+ * <p>
+ * Clients then read their WSDL from the application instead of fetching it, and its imports, over the network when
+ * they are created. The documents served over the network are read with a connect and a read timeout, so that an
+ * unresponsive host fails the embedding of the WSDL rather than blocking the build.
+ */
+final class WsdlNormalizer {
+
+    private static final String WSDL_NS = "http://schemas.xmlsoap.org/wsdl/";
+    private static final String XSD_NS = XMLConstants.W3C_XML_SCHEMA_NS_URI;
+    private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+    private static final int READ_TIMEOUT_MILLIS = 30_000;
+
+    private final DocumentBuilder documentBuilder;
+    private final Set<String> visited = new HashSet<>();
+    private final List<Element> importedSchemas = new ArrayList<>();
+    private Document document;
+
+    private WsdlNormalizer() throws IOException {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            documentBuilder = factory.newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new IOException("Cannot create the XML parser to read WSDL files", e);
+        }
+    }
+
+    /**
+     * Find a WSDL location the way it is configured: as a resource of the application, a file or an URL.
+     *
+     * @return the url of the WSDL, or null if it cannot be found
+     */
+    static URL resolve(String location) {
+        String resource = location.startsWith("classpath:") ? location.substring("classpath:".length()) : location;
+        URL url = Thread.currentThread().getContextClassLoader()
+                .getResource(resource.startsWith("/") ? resource.substring(1) : resource);
+        if (url != null) {
+            return url;
+        }
+        File file = new File(location);
+        try {
+            if (file.isFile()) {
+                return file.toURI().toURL();
+            }
+            return new URL(location);
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the self-contained WSDL
+     * @throws IOException if a document cannot be read, or uses imports which cannot be inlined
+     */
+    static byte[] normalize(URL wsdl) throws IOException {
+        return new WsdlNormalizer().process(wsdl);
+    }
+
+    private byte[] process(URL wsdl) throws IOException {
+        visited.add(wsdl.toExternalForm());
+        document = parse(wsdl);
+        Element definitions = document.getDocumentElement();
+        if (!isElement(definitions, WSDL_NS, "definitions")) {
+            throw new IOException(wsdl + " is not a WSDL 1.1 document");
+        }
+        Element types = mergeWsdlImports(definitions, definitions, wsdl);
+        if (types != null) {
+            for (Element schema : childElements(types, XSD_NS, "schema")) {
+                inlineSchemaReferences(schema, wsdl);
+            }
+            Node first = types.getFirstChild();
+            for (Element schema : importedSchemas) {
+                types.insertBefore(schema, first);
+            }
+        }
+        strip(definitions);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+            transformer.transform(new DOMSource(document), new StreamResult(out));
+        } catch (TransformerException e) {
+            throw new IOException("Cannot write the normalized WSDL of " + wsdl, e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Move the content of the WSDL imported by {@code definitions} into {@code target}.
+     *
+     * @return the types of {@code target}, if any
+     */
+    private Element mergeWsdlImports(Element target, Element definitions, URL base) throws IOException {
+        Element types = firstChildElement(target, WSDL_NS, "types");
+        for (Element wsdlImport : childElements(definitions, WSDL_NS, "import")) {
+            if (!wsdlImport.hasAttribute("location")) {
+                continue;
+            }
+            URL location = new URL(base, wsdlImport.getAttribute("location"));
+            wsdlImport.getParentNode().removeChild(wsdlImport);
+            if (!visited.add(location.toExternalForm())) {
+                continue;
+            }
+            Element imported = parse(location).getDocumentElement();
+            if (!target.getAttribute("targetNamespace").equals(imported.getAttribute("targetNamespace"))) {
+                throw new IOException("Cannot merge " + location + " which is not in the namespace of the WSDL");
+            }
+            types = mergeWsdlImports(target, imported, location);
+            for (Element child : childElements(imported, null, null)) {
+                if (isElement(child, WSDL_NS, "types")) {
+                    for (Element schema : childElements(child, XSD_NS, "schema")) {
+                        inlineSchemaReferences(schema, location);
+                        if (types == null) {
+                            types = document.createElementNS(WSDL_NS, target.getPrefix() == null ? "types"
+                                    : target.getPrefix() + ":types");
+                            target.insertBefore(types, firstChildElement(target, null, null));
+                        }
+                        types.appendChild(adopt(schema));
+                    }
+                } else if (!isElement(child, WSDL_NS, "documentation")) {
+                    target.appendChild(adopt(child));
+                }
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Merge the schemas included by {@code schema}, and replace the location of the schemas it imports by a copy
+     * of them in the types of the WSDL.
+     */
+    private void inlineSchemaReferences(Element schema, URL base) throws IOException {
+        for (Element reference : childElements(schema, XSD_NS, null)) {
+            String kind = reference.getLocalName();
+            if (!reference.hasAttribute("schemaLocation")
+                    || !("import".equals(kind) || "include".equals(kind) || "redefine".equals(kind))) {
+                continue;
+            }
+            URL location = new URL(base, reference.getAttribute("schemaLocation"));
+            if ("redefine".equals(kind)) {
+                throw new IOException("Cannot inline the schema redefined from " + location);
+            }
+            if ("include".equals(kind)) {
+                reference.getParentNode().removeChild(reference);
+                if (visited.add(location.toExternalForm())) {
+                    Element included = parse(location).getDocumentElement();
+                    inlineSchemaReferences(included, location);
+                    for (Element child : childElements(included, null, null)) {
+                        schema.appendChild(copyNamespaces(included, (Element) schema.getOwnerDocument()
+                                .importNode(child, true)));
+                    }
+                }
+            } else {
+                reference.removeAttribute("schemaLocation");
+                if (visited.add(location.toExternalForm())) {
+                    Element imported = parse(location).getDocumentElement();
+                    inlineSchemaReferences(imported, location);
+                    importedSchemas.add(adopt(imported));
+                }
+            }
+        }
+    }
+
+    private Element adopt(Element element) {
+        Element copy = (Element) document.importNode(element, true);
+        for (Node parent = element.getParentNode(); parent instanceof Element; parent = parent.getParentNode()) {
+            copyNamespaces((Element) parent, copy);
+        }
+        return copy;
+    }
+
+    /**
+     * Declare on {@code target} the namespaces declared on {@code source} it does not declare itself.
+     */
+    private static Element copyNamespaces(Element source, Element target) {
+        NamedNodeMap attributes = source.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            Attr attribute = (Attr) attributes.item(i);
+            if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI())
+                    && !target.hasAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, attribute.getLocalName())) {
+                target.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, attribute.getName(), attribute.getValue());
+            }
+        }
+        return target;
+    }
+
+    private static void strip(Element element) {
+        NodeList children = element.getChildNodes();
+        for (int i = children.getLength() - 1; i >= 0; i--) {
+            Node child = children.item(i);
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                strip((Element) child);
+            } else if (child.getNodeType() == Node.COMMENT_NODE
+                    || (child.getNodeType() == Node.TEXT_NODE && child.getNodeValue().trim().isEmpty())) {
+                element.removeChild(child);
+            }
+        }
+    }
+
+    private Document parse(URL location) throws IOException {
+        try {
+            URLConnection connection = location.openConnection();
+            connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+            connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+            try (InputStream in = connection.getInputStream()) {
+                return documentBuilder.parse(in, location.toExternalForm());
+            }
+        } catch (SAXException e) {
+            throw new IOException("Cannot parse " + location, e);
+        } catch (IOException e) {
+            throw new IOException("Cannot read " + location + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isElement(Node node, String namespace, String localName) {
+        return node instanceof Element
+                && (namespace == null || namespace.equals(node.getNamespaceURI()))
+                && (localName == null || localName.equals(node.getLocalName()));
+    }
+
+    private static List<Element> childElements(Element parent, String namespace, String localName) {
+        List<Element> elements = new ArrayList<>();
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (isElement(child, namespace, localName)) {
+                elements.add((Element) child);
+            }
+        }
+        return elements;
+    }
+
+    private static Element firstChildElement(Element parent, String namespace, String localName) {
+        List<Element> elements = childElements(parent, namespace, localName);
+        return elements.isEmpty() ? null : elements.get(0);
+    }
+}
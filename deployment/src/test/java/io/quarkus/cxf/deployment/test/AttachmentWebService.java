@@ -0,0 +1,12 @@
+package io.quarkus.cxf.deployment.test;
+
+import javax.jws.WebMethod;
+import javax.jws.WebParam;
+import javax.jws.WebService;
+
+@WebService
+public interface AttachmentWebService {
+
+    @WebMethod
+    int size(@WebParam(name = "content") byte[] content);
+}
@@ -0,0 +1,12 @@
+package io.quarkus.cxf.deployment.test;
+
+import javax.jws.WebService;
+
+@WebService(endpointInterface = "io.quarkus.cxf.deployment.test.AttachmentWebService")
+public class AttachmentWebServiceImpl implements AttachmentWebService {
+
+    @Override
+    public int size(byte[] content) {
+        return content.length;
+    }
+}
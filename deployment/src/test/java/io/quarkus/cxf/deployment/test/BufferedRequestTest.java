@@ -0,0 +1,101 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.cxf.helpers.IOUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cxf.server.BufferedRequest;
+
+public class BufferedRequestTest {
+
+    private static final byte[] BODY = "<soap:Envelope/>".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * A request of unknown length whose stream returns the body.
+     */
+    private static HttpServletRequest request() {
+        ByteArrayInputStream in = new ByteArrayInputStream(BODY);
+        ServletInputStream stream = new ServletInputStream() {
+            @Override
+            public int read() {
+                return in.read();
+            }
+
+            @Override
+            public boolean isFinished() {
+                return in.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                throw new IllegalStateException();
+            }
+        };
+        return (HttpServletRequest) Proxy.newProxyInstance(BufferedRequestTest.class.getClassLoader(),
+                new Class<?>[] { HttpServletRequest.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getInputStream":
+                            return stream;
+                        case "getContentLength":
+                            return -1;
+                        case "getContentLengthLong":
+                            return -1L;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    @Test
+    public void whenBodyLargerThanMaximum_thenNotBufferedAndStreamComplete() throws IOException {
+        BufferedRequest request = BufferedRequest.of(request(), 4);
+        Assertions.assertFalse(request.isBuffered());
+        Assertions.assertArrayEquals(BODY, IOUtils.readBytesFromStream(request.getInputStream()));
+    }
+
+    @Test
+    public void whenReadListenerSet_thenBufferedBodyAvailable() throws IOException {
+        BufferedRequest request = BufferedRequest.of(request(), 1024);
+        Assertions.assertTrue(request.isBuffered());
+        ServletInputStream in = request.getInputStream();
+        byte[] read = new byte[BODY.length];
+        AtomicBoolean allRead = new AtomicBoolean();
+        in.setReadListener(new ReadListener() {
+            int position;
+
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (in.isReady() && !in.isFinished()) {
+                    position += in.read(read, position, read.length - position);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                Assertions.fail(t);
+            }
+        });
+        Assertions.assertTrue(allRead.get());
+        Assertions.assertArrayEquals(BODY, read);
+    }
+}
@@ -0,0 +1,119 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cxf.client.BulkheadFullException;
+import io.quarkus.cxf.client.ClientCall;
+import io.quarkus.cxf.client.ClientCallHandler;
+import io.quarkus.cxf.client.SemaphoreBulkhead;
+import io.quarkus.cxf.client.ThreadPoolBulkhead;
+
+public class BulkheadTest {
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private Object call(ClientCallHandler bulkhead, boolean blocking) throws Throwable {
+        Method method = Object.class.getMethod("toString");
+        return bulkhead.handle(new ClientCall(method, new Object[0], Collections.emptyList(), (m, args) -> {
+            invocations.incrementAndGet();
+            if (blocking) {
+                started.countDown();
+                release.await();
+            }
+            return Thread.currentThread().getName();
+        }));
+    }
+
+    private CompletableFuture<Object> callBlocking(ClientCallHandler bulkhead) throws InterruptedException {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        new Thread(() -> {
+            try {
+                result.complete(call(bulkhead, true));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }).start();
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        return result;
+    }
+
+    @Test
+    public void whenSemaphoreBulkheadFull_thenRejected() throws Throwable {
+        SemaphoreBulkhead bulkhead = new SemaphoreBulkhead("test", 1, 0);
+        CompletableFuture<Object> running = callBlocking(bulkhead);
+        Assertions.assertEquals(0, bulkhead.getAvailableConcurrentCalls());
+
+        Assertions.assertThrows(BulkheadFullException.class, () -> call(bulkhead, false));
+        Assertions.assertEquals(1, invocations.get());
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, bulkhead.getAvailableConcurrentCalls());
+        // the calls run on the caller thread
+        Assertions.assertEquals(Thread.currentThread().getName(), call(bulkhead, false));
+    }
+
+    @Test
+    public void whenSemaphoreBulkheadWaiting_thenRejectedAfterMaxWait() throws Throwable {
+        SemaphoreBulkhead bulkhead = new SemaphoreBulkhead("test", 1, 50);
+        CompletableFuture<Object> running = callBlocking(bulkhead);
+        long start = System.nanoTime();
+        Assertions.assertThrows(BulkheadFullException.class, () -> call(bulkhead, false));
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void whenThreadPoolBulkheadFull_thenRejected() throws Throwable {
+        try (ThreadPoolBulkhead bulkhead = new ThreadPoolBulkhead("test", 1, 0)) {
+            CompletableFuture<Object> running = callBlocking(bulkhead);
+
+            Assertions.assertThrows(BulkheadFullException.class, () -> call(bulkhead, false));
+            Assertions.assertEquals(1, invocations.get());
+
+            release.countDown();
+            Assertions.assertTrue(running.get(5, TimeUnit.SECONDS).toString().startsWith("cxf-client-bulkhead-test-"));
+        }
+    }
+
+    @Test
+    public void whenThreadPoolBulkheadQueueFull_thenRejected() throws Throwable {
+        try (ThreadPoolBulkhead bulkhead = new ThreadPoolBulkhead("test", 1, 1)) {
+            CompletableFuture<Object> running = callBlocking(bulkhead);
+            // one of the calls waits in the queue, the other one finds it full
+            CompletableFuture<Object> first = callAsync(bulkhead);
+            CompletableFuture<Object> second = callAsync(bulkhead);
+            Object rejected = CompletableFuture.anyOf(first, second).handle((result, t) -> t).get(5, TimeUnit.SECONDS);
+            Assertions.assertTrue(rejected instanceof CompletionException
+                    && ((Throwable) rejected).getCause() instanceof BulkheadFullException, String.valueOf(rejected));
+
+            release.countDown();
+            running.get(5, TimeUnit.SECONDS);
+            CompletableFuture<Object> queued = first.isCompletedExceptionally() ? second : first;
+            queued.get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(2, invocations.get());
+        }
+    }
+
+    private CompletableFuture<Object> callAsync(ClientCallHandler bulkhead) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return call(bulkhead, false);
+            } catch (Throwable t) {
+                throw new CompletionException(t);
+            }
+        });
+    }
+}
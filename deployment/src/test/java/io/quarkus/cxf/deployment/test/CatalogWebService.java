@@ -0,0 +1,23 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.util.List;
+
+import javax.jws.WebMethod;
+import javax.jws.WebParam;
+import javax.jws.WebService;
+
+@WebService
+public interface CatalogWebService {
+
+    @WebMethod
+    List<Fruit> list(@WebParam(name = "count") int count);
+
+    @WebMethod
+    String importFruits(@WebParam(name = "supplier") String supplier, @WebParam(name = "fruit") List<Fruit> fruits);
+
+    @WebMethod
+    int countDescribed(@WebParam(name = "fruit") List<Fruit> fruits, @WebParam(name = "prefix") String prefix);
+
+    @WebMethod
+    String countFruits(@WebParam(name = "fruit") List<Fruit> fruits, @WebParam(name = "skip") boolean skip);
+}
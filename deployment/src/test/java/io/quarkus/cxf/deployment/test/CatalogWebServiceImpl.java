@@ -0,0 +1,57 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import javax.jws.WebService;
+
+import io.quarkus.cxf.server.StreamingList;
+
+@WebService(endpointInterface = "io.quarkus.cxf.deployment.test.CatalogWebService")
+public class CatalogWebServiceImpl implements CatalogWebService {
+
+    static final AtomicInteger CLOSED = new AtomicInteger();
+    /**
+     * The iterator of the last list the hasty supplier stopped reading after its first element.
+     */
+    static volatile Iterator<Fruit> leftUnread;
+
+    @Override
+    public List<Fruit> list(int count) {
+        return StreamingList.of(IntStream.range(0, count)
+                .mapToObj(i -> new Fruit("fruit" + i, "fruit number " + i))
+                .onClose(CLOSED::incrementAndGet));
+    }
+
+    @Override
+    public String importFruits(String supplier, List<Fruit> fruits) {
+        if ("hasty".equals(supplier)) {
+            Iterator<Fruit> iterator = fruits.iterator();
+            iterator.next();
+            leftUnread = iterator;
+            return supplier + " 1";
+        }
+        int count = 0;
+        for (Fruit fruit : fruits) {
+            if (!fruit.getName().equals("fruit" + count)) {
+                throw new IllegalArgumentException("unexpected fruit " + fruit.getName());
+            }
+            count++;
+        }
+        return supplier + " " + (fruits instanceof StreamingList ? "streamed " : "") + count;
+    }
+
+    @Override
+    public int countDescribed(List<Fruit> fruits, String prefix) {
+        return (int) fruits.stream()
+                .filter(fruit -> fruit.getDescription().equals(prefix + fruit.getName()))
+                .count();
+    }
+
+    @Override
+    public String countFruits(List<Fruit> fruits, boolean skip) {
+        return skip ? "skipped" : fruits.size() + " " + fruits.get(fruits.size() - 1).getName();
+    }
+}
@@ -0,0 +1,120 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.namespace.QName;
+import javax.xml.soap.SOAPFactory;
+import javax.xml.soap.SOAPFault;
+import javax.xml.ws.WebServiceException;
+import javax.xml.ws.soap.SOAPFaultException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cxf.client.CircuitBreaker;
+import io.quarkus.cxf.client.CircuitBreakerOpenException;
+import io.quarkus.cxf.client.ClientCall;
+
+public class CircuitBreakerTest {
+
+    private static final long WAIT_MILLIS = 100;
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private static CircuitBreaker circuitBreaker() {
+        // opens at 50% failures over 4 calls, slow calls never counted
+        return new CircuitBreaker("test", 50, 100, 60_000, 4, 4, WAIT_MILLIS, 2);
+    }
+
+    private Object call(CircuitBreaker circuitBreaker, Throwable failure) throws Throwable {
+        Method method = Object.class.getMethod("toString");
+        return circuitBreaker.handle(new ClientCall(method, new Object[0], Collections.emptyList(), (m, args) -> {
+            invocations.incrementAndGet();
+            if (failure != null) {
+                throw failure;
+            }
+            return "result";
+        }));
+    }
+
+    private void fail(CircuitBreaker circuitBreaker, Throwable failure) {
+        Assertions.assertThrows(failure.getClass(), () -> call(circuitBreaker, failure));
+    }
+
+    @Test
+    public void whenFailureRateReached_thenOpenAndRejecting() throws Throwable {
+        CircuitBreaker circuitBreaker = circuitBreaker();
+        call(circuitBreaker, null);
+        call(circuitBreaker, null);
+        fail(circuitBreaker, new WebServiceException("down"));
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assertions.assertEquals(-1, circuitBreaker.getFailureRate());
+        fail(circuitBreaker, new WebServiceException("down"));
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        Assertions.assertThrows(CircuitBreakerOpenException.class, () -> call(circuitBreaker, null));
+        Assertions.assertEquals(4, invocations.get());
+    }
+
+    @Test
+    public void whenServiceFaults_thenNotCountedAsFailures() throws Throwable {
+        CircuitBreaker circuitBreaker = circuitBreaker();
+        SOAPFault fault = SOAPFactory.newInstance().createFault("invalid fruit", new QName("", "Client"));
+        for (int i = 0; i < 4; i++) {
+            fail(circuitBreaker, new SOAPFaultException(fault));
+        }
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assertions.assertEquals(0, circuitBreaker.getFailureRate());
+    }
+
+    @Test
+    public void whenHalfOpenCallsSucceed_thenClosed() throws Throwable {
+        CircuitBreaker circuitBreaker = open();
+        Thread.sleep(WAIT_MILLIS + 50);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        call(circuitBreaker, null);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        call(circuitBreaker, null);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        // the window restarts empty
+        Assertions.assertEquals(-1, circuitBreaker.getFailureRate());
+    }
+
+    @Test
+    public void whenHalfOpenCallsFail_thenOpenAgain() throws Throwable {
+        CircuitBreaker circuitBreaker = open();
+        Thread.sleep(WAIT_MILLIS + 50);
+        call(circuitBreaker, null);
+        fail(circuitBreaker, new WebServiceException("still down"));
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assertions.assertThrows(CircuitBreakerOpenException.class, () -> call(circuitBreaker, null));
+    }
+
+    @Test
+    public void whenHalfOpenPermitsTaken_thenRejecting() throws Throwable {
+        CircuitBreaker circuitBreaker = open();
+        Thread.sleep(WAIT_MILLIS + 50);
+        Method method = Object.class.getMethod("toString");
+        // the two permitted calls are still running when the third one comes
+        Object result = circuitBreaker.handle(new ClientCall(method, new Object[0], Collections.emptyList(),
+                (m, args) -> circuitBreaker.handle(new ClientCall(method, new Object[0], Collections.emptyList(),
+                        (m2, args2) -> {
+                            Assertions.assertThrows(CircuitBreakerOpenException.class,
+                                    () -> call(circuitBreaker, null));
+                            return "result";
+                        }))));
+        Assertions.assertEquals("result", result);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    private CircuitBreaker open() {
+        CircuitBreaker circuitBreaker = circuitBreaker();
+        for (int i = 0; i < 4; i++) {
+            fail(circuitBreaker, new WebServiceException("down"));
+        }
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        return circuitBreaker;
+    }
+}
@@ -0,0 +1,222 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.ws.WebServiceException;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.bus.extension.ExtensionManagerBus;
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.frontend.ClientProxy;
+import org.apache.cxf.jaxws.JaxWsProxyFactoryBean;
+import org.apache.cxf.message.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cxf.client.CacheStore;
+import io.quarkus.cxf.client.ClientCacheHandler;
+import io.quarkus.cxf.client.ClientCall;
+
+public class ClientCacheTest {
+
+    private static final long REFRESH_AFTER_MILLIS = 50;
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ClientCacheHandler cache;
+
+    private Bus bus;
+
+    @AfterEach
+    public void close() {
+        release.countDown();
+        if (cache != null) {
+            cache.close();
+        }
+        if (bus != null) {
+            bus.shutdown(false);
+        }
+    }
+
+    private Client client() {
+        bus = new ExtensionManagerBus();
+        JaxWsProxyFactoryBean factory = new JaxWsProxyFactoryBean();
+        factory.setBus(bus);
+        factory.setServiceClass(FruitClientWebService.class);
+        factory.setAddress("http://localhost:8081/fruit");
+        return ClientProxy.getClient(factory.create());
+    }
+
+    private ClientCacheHandler cache(long refreshAfterMillis, CacheStore store) {
+        cache = new ClientCacheHandler("test", call -> true, 100, 60_000, refreshAfterMillis, store);
+        return cache;
+    }
+
+    /**
+     * @param blockingInvocation the invocation waiting for the release of the test, 0 for none
+     * @return the result of the call: the list of the invocation numbers up to the invocation answering it
+     */
+    private Object call(int blockingInvocation, Object... args) throws Throwable {
+        Method method = Object.class.getMethod("toString");
+        return cache.handle(new ClientCall(method, args, Collections.emptyList(), (m, a) -> {
+            int invocation = invocations.incrementAndGet();
+            if (invocation == blockingInvocation) {
+                release.await();
+            }
+            List<Integer> result = new ArrayList<>();
+            for (int i = 1; i <= invocation; i++) {
+                result.add(i);
+            }
+            return result;
+        }));
+    }
+
+    private CompletableFuture<Object> callAsync(int blockingInvocation) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return call(blockingInvocation);
+            } catch (Throwable t) {
+                throw new CompletionException(t);
+            }
+        });
+    }
+
+    private void awaitInvocations(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (invocations.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Assertions.assertEquals(expected, invocations.get());
+    }
+
+    @Test
+    public void whenSameArguments_thenAnsweredFromCache() throws Throwable {
+        cache(0, CacheStore.HEAP);
+        Assertions.assertEquals(Arrays.asList(1), call(0, "apple"));
+        Assertions.assertEquals(Arrays.asList(1), call(0, "apple"));
+        Assertions.assertEquals(Arrays.asList(1, 2), call(0, "pear"));
+        // arrays are compared by content
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), call(0, (Object) new String[] { "apple", "pear" }));
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), call(0, (Object) new String[] { "apple", "pear" }));
+        Assertions.assertEquals(3, invocations.get());
+    }
+
+    @Test
+    public void whenEndpointAddressOrKeyEntryChanged_thenCachedSeparately() throws Throwable {
+        Client client = client();
+        cache = new ClientCacheHandler("test", call -> true, client, Collections.singletonList("tenant"), 100, 60_000,
+                0, CacheStore.HEAP);
+        Map<String, Object> context = client.getRequestContext();
+        Assertions.assertEquals(Arrays.asList(1), call(0));
+        context.put(Message.ENDPOINT_ADDRESS, "http://localhost:8081/other");
+        Assertions.assertEquals(Arrays.asList(1, 2), call(0));
+        context.put(Message.ENDPOINT_ADDRESS, "http://localhost:8081/fruit");
+        Assertions.assertEquals(Arrays.asList(1), call(0));
+        context.put("tenant", "a");
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), call(0));
+        context.put("tenant", "b");
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 4), call(0));
+        context.put("tenant", "a");
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), call(0));
+        Assertions.assertEquals(4, invocations.get());
+    }
+
+    @Test
+    public void whenRequestContextHasPerCallValue_thenNotCached() throws Throwable {
+        Client client = client();
+        cache = new ClientCacheHandler("test", call -> true, client, Collections.emptyList(), 100, 60_000, 0,
+                CacheStore.HEAP);
+        Map<String, Object> context = client.getRequestContext();
+        Assertions.assertEquals(Arrays.asList(1), call(0));
+        context.put("tenant", "a");
+        Assertions.assertEquals(Arrays.asList(1, 2), call(0));
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), call(0));
+        context.remove("tenant");
+        Assertions.assertEquals(Arrays.asList(1), call(0));
+        Assertions.assertEquals(3, invocations.get());
+    }
+
+    @Test
+    public void whenStale_thenServedDuringSingleRefresh() throws Throwable {
+        cache(REFRESH_AFTER_MILLIS, CacheStore.HEAP);
+        Assertions.assertEquals(Arrays.asList(1), call(2));
+        Thread.sleep(REFRESH_AFTER_MILLIS * 2);
+
+        // the stale result is returned at once while the refresh is blocked
+        Assertions.assertEquals(Arrays.asList(1), call(2));
+        awaitInvocations(2);
+        Assertions.assertEquals(Arrays.asList(1), call(2));
+        Assertions.assertEquals(Arrays.asList(1), call(2));
+        Thread.sleep(REFRESH_AFTER_MILLIS);
+        Assertions.assertEquals(2, invocations.get());
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        Object result;
+        do {
+            result = call(0);
+        } while (!Arrays.asList(1, 2).equals(result) && System.nanoTime() < deadline);
+        Assertions.assertEquals(Arrays.asList(1, 2), result);
+    }
+
+    @Test
+    public void whenConcurrentMisses_thenCollapsedIntoOneCall() throws Throwable {
+        cache(0, CacheStore.HEAP);
+        CompletableFuture<Object> first = callAsync(1);
+        awaitInvocations(1);
+        CompletableFuture<Object> second = callAsync(1);
+        // the second call waits for the first one instead of calling the service
+        Thread.sleep(50);
+        Assertions.assertFalse(second.isDone());
+        release.countDown();
+        Assertions.assertEquals(Arrays.asList(1), first.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(Arrays.asList(1), second.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void whenCallFails_thenFailureNotCached() throws Throwable {
+        cache(0, CacheStore.HEAP);
+        Method method = Object.class.getMethod("toString");
+        Assertions.assertThrows(WebServiceException.class,
+                () -> cache.handle(new ClientCall(method, new Object[0], Collections.emptyList(), (m, a) -> {
+                    invocations.incrementAndGet();
+                    throw new WebServiceException("down");
+                })));
+        Assertions.assertEquals(Arrays.asList(1, 2), call(0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void whenOffHeap_thenEachCallerGetsCopy() throws Throwable {
+        cache(0, CacheStore.OFF_HEAP);
+        List<Integer> first = (List<Integer>) call(0);
+        first.add(42);
+        List<Integer> second = (List<Integer>) call(0);
+        Assertions.assertEquals(Arrays.asList(1), second);
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(1, invocations.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void whenOnHeap_thenCallersShareResult() throws Throwable {
+        cache(0, CacheStore.HEAP);
+        List<Integer> first = (List<Integer>) call(0);
+        first.add(42);
+        // the change of the first caller is seen by the next ones
+        Assertions.assertSame(first, call(0));
+        Assertions.assertEquals(Arrays.asList(1, 42), call(0));
+    }
+}
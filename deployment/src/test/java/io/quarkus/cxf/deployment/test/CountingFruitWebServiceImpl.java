@@ -0,0 +1,34 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jws.WebService;
+
+/**
+ * Counts the calls of {@link #count()}, which takes a while so that concurrent calls overlap.
+ */
+@WebService(endpointInterface = "io.quarkus.cxf.deployment.test.FruitWebService", serviceName = "FruitWebService")
+public class CountingFruitWebServiceImpl implements FruitWebService {
+
+    static final long DELAY_MILLIS = 300;
+    static final AtomicInteger COUNT_CALLS = new AtomicInteger();
+
+    @Override
+    public int count() {
+        COUNT_CALLS.incrementAndGet();
+        try {
+            Thread.sleep(DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 2;
+    }
+
+    @Override
+    public void add(Fruit fruit) {
+    }
+
+    @Override
+    public void delete(Fruit fruit) {
+    }
+}
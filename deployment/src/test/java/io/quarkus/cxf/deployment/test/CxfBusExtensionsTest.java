@@ -0,0 +1,44 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.util.Map;
+
+import org.apache.cxf.bus.extension.Extension;
+import org.apache.cxf.bus.extension.ExtensionRegistry;
+import org.apache.cxf.phase.PhaseManager;
+import org.apache.cxf.transport.http.HTTPTransportFactory;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cxf.AbstractCxfClientProducer;
+import io.quarkus.cxf.bus.QuarkusBusFactory;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CxfBusExtensionsTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(FruitWebService.class)
+                    .addClass(FruitWebServiceImpl.class)
+                    .addClass(Fruit.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.cxf.endpoint.\"/fruit\".implementor=io.quarkus.cxf.deployment.test.FruitWebServiceImpl"),
+                            "application.properties"));
+
+    @Test
+    public void whenBusCreated_thenExtensionsRegisteredAtBuildTime() {
+        Assertions.assertTrue(QuarkusBusFactory.isExtensionsRegistered());
+        Map<String, Extension> extensions = ExtensionRegistry.getRegisteredExtensions();
+        Assertions.assertTrue(extensions.containsKey(PhaseManager.class.getName()), extensions.keySet().toString());
+        Assertions.assertTrue(extensions.containsKey(HTTPTransportFactory.class.getName()),
+                extensions.keySet().toString());
+
+        FruitWebService client = (FruitWebService) new AbstractCxfClientProducer()
+                .loadCxfClient(FruitWebService.class.getName(), "http://localhost:8081/fruit", null, null);
+        Assertions.assertEquals(2, client.count());
+    }
+}
@@ -0,0 +1,77 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.xml.ws.BindingProvider;
+import javax.xml.ws.WebServiceException;
+
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.service.Service;
+import org.apache.cxf.service.invoker.MethodDispatcher;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.cxf.client.AbstractClientStub;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CxfClientStubTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(FruitWebService.class)
+                    .addClass(FruitWebServiceImpl.class)
+                    .addClass(FruitClientWebService.class)
+                    .addClass(Fruit.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.cxf.endpoint.\"/fruit\".implementor=io.quarkus.cxf.deployment.test.FruitWebServiceImpl\n"
+                                    + "quarkus.cxf.endpoint.\"/fruit\".service-interface=io.quarkus.cxf.deployment.test.FruitClientWebService\n"
+                                    + "quarkus.cxf.endpoint.\"/fruit\".client-endpoint-url=http://localhost:8081\n"
+                                    + "quarkus.cxf.endpoint.\"/fruit\".client-stub=true"),
+                            "application.properties"));
+
+    @Inject
+    FruitClientWebService clientService;
+
+    @Test
+    public void whenClientStubEnabled_thenStubCallsService() {
+        Object client = ((ClientProxy) clientService).arc_contextualInstance();
+        Assertions.assertTrue(client instanceof AbstractClientStub, client.getClass().getName());
+        Assertions.assertTrue(client instanceof Client);
+        Assertions.assertEquals(2, clientService.count());
+    }
+
+    @Test
+    public void whenClientStubEnabled_thenOperationNotDispatchedPerCall() {
+        Service service = ((Client) ((ClientProxy) clientService).arc_contextualInstance()).getEndpoint().getService();
+        // the CXF proxy looks the operation up through the dispatcher on every call, the stub resolved it beforehand
+        Object dispatcher = service.remove(MethodDispatcher.class.getName());
+        try {
+            Assertions.assertEquals(2, clientService.count());
+        } finally {
+            service.put(MethodDispatcher.class.getName(), dispatcher);
+        }
+    }
+
+    @Test
+    public void whenEndpointAddressChanged_thenStubCallsNewAddress() {
+        Map<String, Object> requestContext = ((BindingProvider) ((ClientProxy) clientService).arc_contextualInstance())
+                .getRequestContext();
+        Object address = requestContext.get(BindingProvider.ENDPOINT_ADDRESS_PROPERTY);
+        Assertions.assertEquals("http://localhost:8081/fruit", address);
+        try {
+            requestContext.put(BindingProvider.ENDPOINT_ADDRESS_PROPERTY, "http://localhost:8081/nowhere");
+            // the failure of the transport is mapped the way the CXF proxy maps it
+            Assertions.assertThrows(WebServiceException.class, () -> clientService.count());
+        } finally {
+            requestContext.put(BindingProvider.ENDPOINT_ADDRESS_PROPERTY, address);
+        }
+        Assertions.assertEquals(2, clientService.count());
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.cxf.deployment.test;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cxf.AbstractCxfClientProducer;
+import io.quarkus.cxf.jaxb.JAXBContextRegistry;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CxfJaxbContextTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(FruitWebService.class)
+                    .addClass(FruitWebServiceImpl.class)
+                    .addClass(Fruit.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.cxf.endpoint.\"/fruit\".implementor=io.quarkus.cxf.deployment.test.FruitWebServiceImpl"),
+                            "application.properties"));
+
+    @Test
+    public void whenClientAndEndpointShareModel_thenContextShared() {
+        FruitWebService client = (FruitWebService) new AbstractCxfClientProducer()
+                .loadCxfClient(FruitWebService.class.getName(), "http://localhost:8081/fruit", null, null);
+        Assertions.assertEquals(2, client.count());
+        Assertions.assertEquals(1, JAXBContextRegistry.getInstance().getContextCount(),
+                JAXBContextRegistry.getInstance().report());
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkus.cxf.deployment.test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class CxfMtomTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(AttachmentWebService.class)
+                    .addClass(AttachmentWebServiceImpl.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.cxf.endpoint.\"/attachment\".implementor=io.quarkus.cxf.deployment.test.AttachmentWebServiceImpl\n"
+                                    + "quarkus.cxf.endpoint.\"/attachment\".mtom.enabled=true\n"
+                                    + "quarkus.cxf.endpoint.\"/attachment\".mtom.spool-threshold=1024"),
+                            "application.properties"));
+
+    @Test
+    public void whenSendingAttachments_thenSpooledAndRead() throws IOException {
+        for (int size : new int[] { 100, 300_000 }) {
+            RestAssured.given()
+                    .header("Content-Type", "multipart/related; type=\"application/xop+xml\"; boundary=\"part\";"
+                            + " start=\"<root>\"; start-info=\"text/xml\"")
+                    .body(mtomRequest(size))
+                    .when().post("/attachment")
+                    .then()
+                    .statusCode(200)
+                    .body(containsString("<return>" + size + "</return>"));
+        }
+    }
+
+    private static byte[] mtomRequest(int size) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(("--part\r\n"
+                + "Content-Type: application/xop+xml; charset=UTF-8; type=\"text/xml\"\r\n"
+                + "Content-ID: <root>\r\n\r\n"
+                + "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                + "<soap:Body><ns:size xmlns:ns=\"http://test.deployment.cxf.quarkus.io/\"><content>"
+                + "<xop:Include xmlns:xop=\"http://www.w3.org/2004/08/xop/include\" href=\"cid:content\"/>"
+                + "</content></ns:size></soap:Body></soap:Envelope>\r\n"
+                + "--part\r\n"
+                + "Content-Type: application/octet-stream\r\n"
+                + "Content-Transfer-Encoding: binary\r\n"
+                + "Content-ID: <content>\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        byte[] content = new byte[size];
+        Arrays.fill(content, (byte) 'x');
+        out.write(content);
+        out.write("\r\n--part--\r\n".getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+}
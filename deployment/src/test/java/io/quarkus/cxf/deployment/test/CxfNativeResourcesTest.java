@@ -0,0 +1,72 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CxfNativeResourcesTest {
+
+    private static final String REGISTERED_RESOURCE = "cxf-native-resources-test.properties";
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(FruitWebService.class)
+                    .addClass(FruitWebServiceImpl.class)
+                    .addClass(Fruit.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.cxf.endpoint.\"/fruit\".implementor=io.quarkus.cxf.deployment.test.FruitWebServiceImpl"),
+                            "application.properties"))
+            // the build runs in another class loader, the registrations are passed to the test as a resource
+            .addBuildChainCustomizer(builder -> builder.addBuildStep(context -> {
+                Properties registered = new Properties();
+                for (NativeImageResourceBuildItem item : context.consumeMulti(NativeImageResourceBuildItem.class)) {
+                    item.getResources().forEach(resource -> registered.setProperty(resource, "resource"));
+                }
+                for (NativeImageProxyDefinitionBuildItem item : context
+                        .consumeMulti(NativeImageProxyDefinitionBuildItem.class)) {
+                    registered.setProperty(String.join(",", item.getClasses()), "proxy");
+                }
+                StringWriter writer = new StringWriter();
+                try {
+                    registered.store(writer, null);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                context.produce(new GeneratedResourceBuildItem(REGISTERED_RESOURCE,
+                        writer.toString().getBytes(StandardCharsets.ISO_8859_1)));
+            }).consumes(NativeImageResourceBuildItem.class).consumes(NativeImageProxyDefinitionBuildItem.class)
+                    .produces(GeneratedResourceBuildItem.class).build());
+
+    @Test
+    public void whenBuildingSoap11Endpoint_thenUnusedResourcesNotBundled() throws IOException {
+        Properties registered = new Properties();
+        try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(REGISTERED_RESOURCE)) {
+            registered.load(in);
+        }
+        Assertions.assertFalse(registered.containsKey("META-INF/cxf/bus-extensions.txt"));
+        Assertions.assertEquals("resource", registered.getProperty("schemas/wsdl/soap-binding.xsd"));
+        Assertions.assertFalse(registered.containsKey("schemas/wsdl/soap12-binding.xsd"));
+        Assertions.assertFalse(registered.containsKey("schemas/wsdl/ws-addr.xsd"));
+        Assertions.assertFalse(registered.containsKey("schemas/wsdl/wsrm.xsd"));
+        Assertions.assertFalse(registered.containsKey("META-INF/spring.handlers"));
+        Assertions.assertFalse(registered.containsKey("META-INF/blueprint.handlers"));
+        Assertions.assertEquals("proxy", registered.getProperty("com.sun.xml.bind.marshaller.CharacterEscapeHandler"));
+        Assertions.assertFalse(registered.containsKey("com.sun.xml.bind.v2.schemagen.xmlschema.Schema"));
+    }
+}
@@ -0,0 +1,67 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CxfReflectionTest {
+
+    private static final String MEMBERS_RESOURCE = "cxf-reflection-test.properties";
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(FruitWebService.class)
+                    .addClass(FruitWebServiceImpl.class)
+                    .addClass(Fruit.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.cxf.endpoint.\"/fruit\".implementor=io.quarkus.cxf.deployment.test.FruitWebServiceImpl"),
+                            "application.properties"))
+            // the build runs in another class loader, the registrations are passed to the test as a resource
+            .addBuildChainCustomizer(builder -> builder.addBuildStep(context -> {
+                Properties members = new Properties();
+                for (ReflectiveClassBuildItem item : context.consumeMulti(ReflectiveClassBuildItem.class)) {
+                    String itemMembers = item.isWeak() ? "weak"
+                            : (item.isMethods() ? "methods" : "") + (item.isFields() ? "fields" : "");
+                    item.getClassNames().forEach(className -> members.setProperty(className,
+                            members.getProperty(className, "") + itemMembers));
+                }
+                StringWriter writer = new StringWriter();
+                try {
+                    members.store(writer, null);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                context.produce(new GeneratedResourceBuildItem(MEMBERS_RESOURCE,
+                        writer.toString().getBytes(StandardCharsets.ISO_8859_1)));
+            }).consumes(ReflectiveClassBuildItem.class).produces(GeneratedResourceBuildItem.class).build());
+
+    @Test
+    public void whenBuildingEndpoint_thenOnlyUsedMembersRegistered() throws IOException {
+        Properties members = new Properties();
+        try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(MEMBERS_RESOURCE)) {
+            members.load(in);
+        }
+        Assertions.assertEquals("methods", members.getProperty(FruitWebService.class.getName()));
+        Assertions.assertEquals("methods", members.getProperty(FruitWebServiceImpl.class.getName()));
+        Assertions.assertTrue(members.getProperty(Fruit.class.getName()).contains("methodsfields"),
+                members.getProperty(Fruit.class.getName()));
+        Assertions.assertEquals("weak", members.getProperty("org.springframework.aop.support.AopUtils"));
+        Assertions.assertFalse(members.containsKey("com.ibm.wsdl.extensions.soap12.SOAP12BindingImpl"));
+        Assertions.assertFalse(members.containsKey("com.sun.xml.bind.c14n"));
+    }
+}
@@ -0,0 +1,132 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * The coalescing of the requests of an endpoint served at the default path, where CXF is installed as a filter.
+ */
+public class CxfRequestCoalescingTest {
+
+    private static final int REQUESTS = 5;
+    private static final String COUNT_REQUEST = "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:tem=\"http://test.deployment.cxf.quarkus.io/\">"
+            + "<soapenv:Body><tem:count/></soapenv:Body></soapenv:Envelope>";
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(FruitWebService.class)
+                    .addClass(CountingFruitWebServiceImpl.class)
+                    .addClass(Fruit.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.cxf.endpoint.\"/fruit\".implementor=io.quarkus.cxf.deployment.test.CountingFruitWebServiceImpl\n"
+                                    + "quarkus.cxf.endpoint.\"/fruit\".idempotent-operations=count\n"
+                                    + "quarkus.cxf.endpoint.\"/fruit\".coalescing.enabled=true\n"
+                                    + "quarkus.cxf.endpoint.\"/impatient\".implementor="
+                                    + "io.quarkus.cxf.deployment.test.CountingFruitWebServiceImpl\n"
+                                    + "quarkus.cxf.endpoint.\"/impatient\".idempotent-operations=count\n"
+                                    + "quarkus.cxf.endpoint.\"/impatient\".coalescing.enabled=true\n"
+                                    + "quarkus.cxf.endpoint.\"/impatient\".coalescing.wait-timeout=0.01S\n"
+                                    + "quarkus.cxf.endpoint.\"/bounded\".implementor="
+                                    + "io.quarkus.cxf.deployment.test.CountingFruitWebServiceImpl\n"
+                                    + "quarkus.cxf.endpoint.\"/bounded\".idempotent-operations=count\n"
+                                    + "quarkus.cxf.endpoint.\"/bounded\".coalescing.enabled=true\n"
+                                    + "quarkus.cxf.endpoint.\"/bounded\".coalescing.max-request-bytes=64"),
+                            "application.properties"));
+
+    @BeforeEach
+    public void reset() {
+        CountingFruitWebServiceImpl.COUNT_CALLS.set(0);
+    }
+
+    /**
+     * @param authorizations the Authorization header of each request, null for none
+     */
+    private static List<String> countConcurrently(String... authorizations) throws Exception {
+        return countConcurrentlyAt("/fruit", authorizations);
+    }
+
+    /**
+     * @param authorizations the Authorization header of each request, null for none
+     */
+    private static List<String> countConcurrentlyAt(String path, String... authorizations) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(authorizations.length);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<String>> responses = new ArrayList<>();
+            for (String authorization : authorizations) {
+                responses.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return (authorization == null ? RestAssured.given()
+                            : RestAssured.given().header("Authorization", authorization))
+                                    .header("Content-Type", "text/xml").body(COUNT_REQUEST)
+                                    .post(path).then().statusCode(200).extract().asString();
+                }, executor));
+            }
+            start.countDown();
+            List<String> bodies = new ArrayList<>();
+            for (CompletableFuture<String> response : responses) {
+                bodies.add(response.get(10, TimeUnit.SECONDS));
+            }
+            return bodies;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void whenConcurrentIdenticalRequests_thenProcessedOnce() throws Exception {
+        List<String> bodies = countConcurrently(new String[REQUESTS]);
+        for (String body : bodies) {
+            Assertions.assertTrue(body.contains("countFruitsResponse>2<"), body);
+        }
+        // the calls overlap for the delay of the implementor: without coalescing, each one would reach it
+        Assertions.assertTrue(CountingFruitWebServiceImpl.COUNT_CALLS.get() < REQUESTS,
+                CountingFruitWebServiceImpl.COUNT_CALLS.get() + " calls");
+    }
+
+    @Test
+    public void whenCredentialsDiffer_thenNotCoalesced() throws Exception {
+        countConcurrently("Basic YWxpY2U6c2VjcmV0", "Basic Ym9iOnNlY3JldA==");
+        Assertions.assertEquals(2, CountingFruitWebServiceImpl.COUNT_CALLS.get());
+    }
+
+    @Test
+    public void whenWaitLongerThanTimeout_thenProcessedIndependently() throws Exception {
+        List<String> bodies = countConcurrentlyAt("/impatient", new String[REQUESTS]);
+        for (String body : bodies) {
+            Assertions.assertTrue(body.contains("countFruitsResponse>2<"), body);
+        }
+        // the implementor takes longer than the timeout: each waiting request gives up and calls it
+        Assertions.assertEquals(REQUESTS, CountingFruitWebServiceImpl.COUNT_CALLS.get());
+    }
+
+    @Test
+    public void whenRequestLargerThanMaximum_thenNotCoalesced() throws Exception {
+        List<String> bodies = countConcurrentlyAt("/bounded", new String[REQUESTS]);
+        for (String body : bodies) {
+            Assertions.assertTrue(body.contains("countFruitsResponse>2<"), body);
+        }
+        Assertions.assertEquals(REQUESTS, CountingFruitWebServiceImpl.COUNT_CALLS.get());
+    }
+}
@@ -0,0 +1,110 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.cxf.helpers.IOUtils;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * The response cache of an endpoint served at the default path, where CXF is installed as a filter.
+ */
+public class CxfResponseCacheTest {
+
+    private static final String COUNT_REQUEST = "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:tem=\"http://test.deployment.cxf.quarkus.io/\">"
+            + "<soapenv:Body><tem:count>%s</tem:count></soapenv:Body></soapenv:Envelope>";
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(FruitWebService.class)
+                    .addClass(CountingFruitWebServiceImpl.class)
+                    .addClass(Fruit.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.cxf.endpoint.\"/fruit\".implementor=io.quarkus.cxf.deployment.test.CountingFruitWebServiceImpl\n"
+                                    + "quarkus.cxf.endpoint.\"/fruit\".idempotent-operations=count\n"
+                                    + "quarkus.cxf.endpoint.\"/fruit\".response-cache.enabled=true\n"
+                                    + "quarkus.cxf.endpoint.\"/fruit\".response-cache.max-request-bytes=1024"),
+                            "application.properties"));
+
+    /**
+     * The cache is kept from a test to the next one: each test sends its own requests.
+     */
+    @BeforeEach
+    public void reset() {
+        CountingFruitWebServiceImpl.COUNT_CALLS.set(0);
+    }
+
+    private static String count(RequestSpecification request, String content) {
+        return request.header("Content-Type", "text/xml").body(String.format(COUNT_REQUEST, content))
+                .post("/fruit").then().statusCode(200).extract().asString();
+    }
+
+    @Test
+    public void whenSameRequestAgain_thenAnsweredFromCache() {
+        String first = count(RestAssured.given(), "");
+        Assertions.assertTrue(first.contains("countFruitsResponse>2<"), first);
+        Assertions.assertEquals(1, CountingFruitWebServiceImpl.COUNT_CALLS.get());
+
+        Assertions.assertEquals(first, count(RestAssured.given(), ""));
+        Assertions.assertEquals(1, CountingFruitWebServiceImpl.COUNT_CALLS.get());
+    }
+
+    @Test
+    public void whenBodyDiffersByWhitespace_thenNotAnsweredFromCache() {
+        count(RestAssured.given(), "<!-- whitespace -->");
+        count(RestAssured.given(), " <!-- whitespace -->");
+        Assertions.assertEquals(2, CountingFruitWebServiceImpl.COUNT_CALLS.get());
+    }
+
+    @Test
+    public void whenRequestLargerThanMaximum_thenProcessedWithoutCache() throws Exception {
+        StringBuilder padding = new StringBuilder("<!-- large");
+        while (padding.length() < 1024) {
+            padding.append(" padding");
+        }
+        String large = padding.append(" -->").toString();
+        count(RestAssured.given(), large);
+        count(RestAssured.given(), large);
+        Assertions.assertEquals(2, CountingFruitWebServiceImpl.COUNT_CALLS.get());
+        // without a length, the bytes read before reaching the maximum are processed with the rest of the body
+        byte[] body = String.format(COUNT_REQUEST, large.replace("large", "chunked")).getBytes(StandardCharsets.UTF_8);
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:8081/fruit").openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "text/xml");
+        connection.setDoOutput(true);
+        connection.setChunkedStreamingMode(256);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body);
+        }
+        Assertions.assertEquals(200, connection.getResponseCode());
+        String response;
+        try (InputStream in = connection.getInputStream()) {
+            response = new String(IOUtils.readBytesFromStream(in), StandardCharsets.UTF_8);
+        }
+        Assertions.assertTrue(response.contains("countFruitsResponse>2<"), response);
+        Assertions.assertEquals(3, CountingFruitWebServiceImpl.COUNT_CALLS.get());
+    }
+
+    @Test
+    public void whenCredentialsDiffer_thenNotAnsweredFromCache() {
+        count(RestAssured.given().header("Authorization", "Basic YWxpY2U6c2VjcmV0"), "<!-- credentials -->");
+        count(RestAssured.given().header("Authorization", "Basic Ym9iOnNlY3JldA=="), "<!-- credentials -->");
+        Assertions.assertEquals(2, CountingFruitWebServiceImpl.COUNT_CALLS.get());
+        count(RestAssured.given().header("Authorization", "Basic YWxpY2U6c2VjcmV0"), "<!-- credentials -->");
+        Assertions.assertEquals(2, CountingFruitWebServiceImpl.COUNT_CALLS.get());
+    }
+}
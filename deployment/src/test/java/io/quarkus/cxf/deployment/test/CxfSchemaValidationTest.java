@@ -0,0 +1,65 @@
+package io.quarkus.cxf.deployment.test;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cxf.validation.SchemaRegistry;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class CxfSchemaValidationTest {
+
+    private static final String IMPLEMENTOR = "=io.quarkus.cxf.deployment.test.FruitWebServiceImpl\n";
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(FruitWebService.class)
+                    .addClass(FruitWebServiceImpl.class)
+                    .addClass(Fruit.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.cxf.endpoint.\"/fruit\".implementor" + IMPLEMENTOR
+                                    + "quarkus.cxf.endpoint.\"/fruit\".schema-validation=in\n"
+                                    + "quarkus.cxf.endpoint.\"/fruit-copy\".implementor" + IMPLEMENTOR
+                                    + "quarkus.cxf.endpoint.\"/fruit-copy\".schema-validation=both\n"
+                                    + "quarkus.cxf.endpoint.\"/unvalidated\".implementor" + IMPLEMENTOR),
+                            "application.properties"));
+
+    private static String delete(String fruit) {
+        return "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\""
+                + " xmlns:tem=\"http://test.deployment.cxf.quarkus.io/\">"
+                + "<soapenv:Body><tem:delete><fruit>" + fruit + "</fruit></tem:delete></soapenv:Body></soapenv:Envelope>";
+    }
+
+    @Test
+    public void whenRequestValid_thenAnswered() {
+        for (String path : new String[] { "/fruit", "/fruit-copy" }) {
+            RestAssured.given().header("Content-Type", "text/xml")
+                    .body(delete("<description>Unknown fruit</description><name>Unknown</name>")).post(path)
+                    .then().statusCode(200).body(Matchers.containsString("deleteResponse"));
+        }
+    }
+
+    @Test
+    public void whenRequestInvalid_thenFault() {
+        // JAXB binds the properties in any order, the schema expects the description first
+        String invalid = delete("<name>Unknown</name><description>Unknown fruit</description>");
+        for (String path : new String[] { "/fruit", "/fruit-copy" }) {
+            RestAssured.given().header("Content-Type", "text/xml").body(invalid).post(path)
+                    .then().statusCode(500).body(Matchers.containsString("cvc-complex-type"));
+        }
+        RestAssured.given().header("Content-Type", "text/xml").body(invalid).post("/unvalidated")
+                .then().statusCode(200);
+    }
+
+    @Test
+    public void whenEndpointsShareDocuments_thenSchemaShared() {
+        Assertions.assertEquals(1, SchemaRegistry.getInstance().getSchemaCount(),
+                SchemaRegistry.getInstance().report());
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import org.xml.sax.SAXException;
 
 import io.quarkus.test.QuarkusUnitTest;
@@ -78,4 +79,28 @@ public class CxfServiceTest {
         val = xpath.compile("/Envelope/Body/countResponse/countFruitsResponse").evaluate(doc);
         Assertions.assertEquals("2", val);
     }
+
+    @Test
+    public void whenUsingCountMethod_thenEnvelopeNamespacesBound()
+            throws IOException, SAXException, ParserConfigurationException {
+        String xml = "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:tem=\"http://test.deployment.cxf.quarkus.io/\">"
+                + "<soapenv:Body><tem:count/></soapenv:Body></soapenv:Envelope>";
+
+        Response response = RestAssured.given().header("Content-Type", "text/xml").and().body(xml).when().post("/fruit");
+        response.then().statusCode(200);
+
+        DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
+        dbFactory.setNamespaceAware(true);
+        Document doc = dbFactory.newDocumentBuilder().parse(response.body().asInputStream());
+        Element body = (Element) doc.getDocumentElement().getFirstChild();
+        Assertions.assertEquals("http://schemas.xmlsoap.org/soap/envelope/", body.getNamespaceURI());
+        Assertions.assertEquals("Body", body.getLocalName());
+        Element wrapper = (Element) body.getFirstChild();
+        Assertions.assertEquals("http://test.deployment.cxf.quarkus.io/", wrapper.getNamespaceURI());
+        Assertions.assertEquals("countResponse", wrapper.getLocalName());
+        Element result = (Element) wrapper.getFirstChild();
+        Assertions.assertEquals("http://test.deployment.cxf.quarkus.io/", result.getNamespaceURI());
+        Assertions.assertEquals("countFruitsResponse", result.getLocalName());
+        Assertions.assertEquals("2", result.getTextContent());
+    }
 }
@@ -0,0 +1,45 @@
+package io.quarkus.cxf.deployment.test;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Two endpoints whose classes share a package, and hence a JAXB context binding the classes of both.
+ */
+public class CxfSharedJaxbContextTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(FruitWebService.class)
+                    .addClass(FruitWebServiceImpl.class)
+                    .addClass(Fruit.class)
+                    .addClass(AttachmentWebService.class)
+                    .addClass(AttachmentWebServiceImpl.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.cxf.endpoint.\"/fruit\".implementor=io.quarkus.cxf.deployment.test.FruitWebServiceImpl\n"
+                                    + "quarkus.cxf.endpoint.\"/attachment\".implementor="
+                                    + "io.quarkus.cxf.deployment.test.AttachmentWebServiceImpl"),
+                            "application.properties"));
+
+    @Test
+    public void whenContextShared_thenWsdlOnlyListsTypesOfEndpoint() {
+        String attachmentWsdl = RestAssured.given().get("/attachment?wsdl").then().statusCode(200).extract()
+                .asString();
+        Assertions.assertTrue(attachmentWsdl.contains("name=\"sizeResponse\""), attachmentWsdl);
+        Assertions.assertFalse(attachmentWsdl.contains("name=\"Fruit\""), attachmentWsdl);
+        Assertions.assertFalse(attachmentWsdl.contains("name=\"countResponse\""), attachmentWsdl);
+
+        String fruitWsdl = RestAssured.given().get("/fruit?wsdl").then().statusCode(200).extract().asString();
+        Assertions.assertTrue(fruitWsdl.contains("name=\"Fruit\""), fruitWsdl);
+        Assertions.assertTrue(fruitWsdl.contains("name=\"countResponse\""), fruitWsdl);
+        Assertions.assertFalse(fruitWsdl.contains("name=\"sizeResponse\""), fruitWsdl);
+    }
+}
@@ -0,0 +1,222 @@
+package io.quarkus.cxf.deployment.test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class CxfStreamingTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(CatalogWebService.class)
+                    .addClass(CatalogWebServiceImpl.class)
+                    .addClass(DepthLimitedCatalogWebServiceImpl.class)
+                    .addClass(Fruit.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.cxf.endpoint.\"/catalog\".implementor=io.quarkus.cxf.deployment.test.CatalogWebServiceImpl\n"
+                                    + "quarkus.cxf.endpoint.\"/catalog\".streaming-operations=importFruits\n"
+                                    + "quarkus.cxf.endpoint.\"/catalog\".lazy-operations=countFruits\n"
+                                    + "quarkus.cxf.endpoint.\"/catalog\".direct-buffer.responses=true\n"
+                                    + "quarkus.cxf.endpoint.\"/catalog\".direct-buffer.requests=true\n"
+                                    + "quarkus.cxf.endpoint.\"/limited\".implementor=io.quarkus.cxf.deployment.test.DepthLimitedCatalogWebServiceImpl\n"
+                                    + "quarkus.cxf.endpoint.\"/limited\".direct-buffer.requests=true\n"
+                                    + "quarkus.cxf.endpoint.\"/validated\".implementor=io.quarkus.cxf.deployment.test.CatalogWebServiceImpl\n"
+                                    + "quarkus.cxf.endpoint.\"/validated\".streaming-operations=importFruits\n"
+                                    + "quarkus.cxf.endpoint.\"/validated\".lazy-operations=countFruits\n"
+                                    + "quarkus.cxf.endpoint.\"/validated\".schema-validation=in"),
+                            "application.properties"));
+
+    @Test
+    public void whenReturningStreamingList_thenElementsWrittenAndSourceClosed() {
+        String xml = "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                + "<soap:Body><ns:list xmlns:ns=\"http://test.deployment.cxf.quarkus.io/\"><count>10000</count></ns:list>"
+                + "</soap:Body></soap:Envelope>";
+        int closed = CatalogWebServiceImpl.CLOSED.get();
+        RestAssured.given()
+                .header("Content-Type", "text/xml")
+                .body(xml)
+                .when().post("/catalog")
+                .then()
+                .statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .body(containsString("<name>fruit0</name>"))
+                .body(containsString("<name>fruit9999</name>"));
+        Assertions.assertEquals(closed + 1, CatalogWebServiceImpl.CLOSED.get());
+    }
+
+    @Test
+    public void whenSendingLargeUtf8Request_thenDecoded() {
+        String prefix = "\u00e9t\u00e9 \ud834\udd1e ";
+        StringBuilder xml = new StringBuilder("<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                + "<soap:Body><ns:countDescribed xmlns:ns=\"http://test.deployment.cxf.quarkus.io/\">");
+        for (int i = 0; i < 10000; i++) {
+            xml.append("<fruit><description>").append(prefix).append("fruit").append(i)
+                    .append("</description><name>fruit").append(i).append("</name></fruit>");
+        }
+        xml.append("<prefix>").append(prefix).append("</prefix></ns:countDescribed></soap:Body></soap:Envelope>");
+        RestAssured.given()
+                .header("Content-Type", "text/xml; charset=UTF-8")
+                .body(xml.toString().getBytes(StandardCharsets.UTF_8))
+                .when().post("/catalog")
+                .then()
+                .statusCode(200)
+                .body(containsString("<return>10000</return>"));
+    }
+
+    @Test
+    public void whenRequestDeeperThanLimit_thenRejected() {
+        String deep = "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                + "<soap:Body><ns:countDescribed xmlns:ns=\"http://test.deployment.cxf.quarkus.io/\">"
+                + "<fruit><description>a</description><name>a</name></fruit><prefix></prefix>"
+                + "</ns:countDescribed></soap:Body></soap:Envelope>";
+        RestAssured.given()
+                .header("Content-Type", "text/xml; charset=UTF-8")
+                .body(deep.getBytes(StandardCharsets.UTF_8))
+                .when().post("/limited")
+                .then()
+                .statusCode(500)
+                .body(containsString("Maximum Element Depth limit (4) Exceeded"));
+        String shallow = "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                + "<soap:Body><ns:list xmlns:ns=\"http://test.deployment.cxf.quarkus.io/\"><count>3</count></ns:list>"
+                + "</soap:Body></soap:Envelope>";
+        RestAssured.given()
+                .header("Content-Type", "text/xml; charset=UTF-8")
+                .body(shallow.getBytes(StandardCharsets.UTF_8))
+                .when().post("/limited")
+                .then()
+                .statusCode(200)
+                .body(containsString("<name>fruit2</name>"));
+    }
+
+    @Test
+    public void whenReturningSmallResponse_thenSentWithContentLength() {
+        String xml = "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                + "<soap:Body><ns:list xmlns:ns=\"http://test.deployment.cxf.quarkus.io/\"><count>3</count></ns:list>"
+                + "</soap:Body></soap:Envelope>";
+        String body = RestAssured.given()
+                .header("Content-Type", "text/xml")
+                .body(xml)
+                .when().post("/catalog")
+                .then()
+                .statusCode(200)
+                .body(containsString("<name>fruit2</name>"))
+                .extract().asString();
+        Assertions.assertEquals(String.valueOf(body.getBytes(StandardCharsets.UTF_8).length),
+                RestAssured.given()
+                        .header("Content-Type", "text/xml")
+                        .body(xml)
+                        .when().post("/catalog")
+                        .header("Content-Length"));
+    }
+
+    @Test
+    public void whenSendingListToStreamingOperation_thenElementsIterated() {
+        StringBuilder xml = new StringBuilder("<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                + "<soap:Body><ns:importFruits xmlns:ns=\"http://test.deployment.cxf.quarkus.io/\">"
+                + "<supplier>farm</supplier>");
+        for (int i = 0; i < 10000; i++) {
+            xml.append("<fruit><description>fruit number ").append(i).append("</description><name>fruit").append(i)
+                    .append("</name></fruit>");
+        }
+        xml.append("</ns:importFruits></soap:Body></soap:Envelope>");
+        RestAssured.given()
+                .header("Content-Type", "text/xml")
+                .body(xml.toString())
+                .when().post("/catalog")
+                .then()
+                .statusCode(200)
+                .body(containsString("<return>farm streamed 10000</return>"));
+    }
+
+    @Test
+    public void whenStreamedListNotExhausted_thenClosedAtEndOfExchange() throws InterruptedException {
+        StringBuilder xml = new StringBuilder("<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                + "<soap:Body><ns:importFruits xmlns:ns=\"http://test.deployment.cxf.quarkus.io/\">"
+                + "<supplier>hasty</supplier>");
+        for (int i = 0; i < 3; i++) {
+            xml.append("<fruit><name>fruit").append(i).append("</name></fruit>");
+        }
+        xml.append("</ns:importFruits></soap:Body></soap:Envelope>");
+        RestAssured.given()
+                .header("Content-Type", "text/xml")
+                .body(xml.toString())
+                .when().post("/catalog")
+                .then()
+                .statusCode(200)
+                .body(containsString("<return>hasty 1</return>"));
+        // the exchange may end just after the response reached the client
+        long deadline = System.currentTimeMillis() + 5000;
+        while (CatalogWebServiceImpl.leftUnread.hasNext() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        // a closed list has no more elements, although the request has some left
+        Assertions.assertFalse(CatalogWebServiceImpl.leftUnread.hasNext());
+    }
+
+    @Test
+    public void whenSendingListToLazyOperation_thenBoundOnAccess() {
+        for (boolean skip : new boolean[] { true, false }) {
+            String xml = "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                    + "<soap:Body><ns:countFruits xmlns:ns=\"http://test.deployment.cxf.quarkus.io/\">\n"
+                    + "  <fruit><description>first</description><name>apple</name></fruit>\n"
+                    + "  <fruit><description>second</description><name>pear</name></fruit>\n"
+                    + "  <skip>" + skip + "</skip>\n"
+                    + "</ns:countFruits></soap:Body></soap:Envelope>";
+            RestAssured.given()
+                    .header("Content-Type", "text/xml")
+                    .body(xml)
+                    .when().post("/catalog")
+                    .then()
+                    .statusCode(200)
+                    .body(containsString(skip ? "<return>skipped</return>" : "<return>2 pear</return>"));
+        }
+    }
+
+    @Test
+    public void whenRequestsValidated_thenListsUnmarshalledBeforeCall() {
+        String fruits = "<fruit><description>fruit number 0</description><name>fruit0</name></fruit>"
+                + "<fruit><description>fruit number 1</description><name>fruit1</name></fruit>";
+        RestAssured.given()
+                .header("Content-Type", "text/xml")
+                .body(catalogRequest("importFruits", "<supplier>farm</supplier>" + fruits))
+                .when().post("/validated")
+                .then()
+                .statusCode(200)
+                .body(containsString("<return>farm 2</return>"));
+
+        // JAXB binds the properties in any order, the schema expects the description first
+        String invalid = "<fruit><name>fruit0</name><description>fruit number 0</description></fruit>";
+        RestAssured.given()
+                .header("Content-Type", "text/xml")
+                .body(catalogRequest("importFruits", "<supplier>farm</supplier>" + invalid))
+                .when().post("/validated")
+                .then()
+                .statusCode(500)
+                .body(containsString("cvc-complex-type"));
+        // even when the implementor does not access the list
+        RestAssured.given()
+                .header("Content-Type", "text/xml")
+                .body(catalogRequest("countFruits", invalid + "<skip>true</skip>"))
+                .when().post("/validated")
+                .then()
+                .statusCode(500)
+                .body(containsString("cvc-complex-type"));
+    }
+
+    private static String catalogRequest(String operation, String parameters) {
+        return "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                + "<soap:Body><ns:" + operation + " xmlns:ns=\"http://test.deployment.cxf.quarkus.io/\">" + parameters
+                + "</ns:" + operation + "></soap:Body></soap:Envelope>";
+    }
+}
@@ -0,0 +1,97 @@
+package io.quarkus.cxf.deployment.test;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+public class CxfWsdlDocumentTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(FruitWebService.class)
+                    .addClass(FruitWebServiceImpl.class)
+                    .addClass(Fruit.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.cxf.endpoint.\"/fruit\".implementor=io.quarkus.cxf.deployment.test.FruitWebServiceImpl\n"
+                                    + "quarkus.cxf.endpoint.\"/fruit\".wsdl-document.max-age=1h\n"
+                                    + "quarkus.cxf.endpoint.\"/revalidated\".implementor="
+                                    + "io.quarkus.cxf.deployment.test.FruitWebServiceImpl\n"
+                                    + "quarkus.cxf.endpoint.\"/generated\".implementor=io.quarkus.cxf.deployment.test.FruitWebServiceImpl\n"
+                                    + "quarkus.cxf.endpoint.\"/generated\".wsdl-document.prerendered=false"),
+                            "application.properties"));
+
+    @Test
+    public void whenRequestingWsdl_thenRenderedDocumentAnswered() {
+        Response response = withoutCompression().when().get("/fruit?wsdl");
+        response.then().statusCode(200).header("Cache-Control", "public, max-age=3600");
+        Assertions.assertNull(response.header("Content-Encoding"));
+        String etag = response.header("ETag");
+        Assertions.assertNotNull(etag);
+        Assertions.assertNotNull(response.header("Last-Modified"));
+
+        Response generated = withoutCompression().when().get("/generated?wsdl");
+        generated.then().statusCode(200);
+        Assertions.assertNull(generated.header("ETag"));
+        Assertions.assertEquals(withoutProlog(generated.asString()).replace("/generated\"", "/fruit\""),
+                withoutProlog(response.asString()));
+
+        withoutCompression().header("If-None-Match", etag).when()
+                .get("/fruit?wsdl").then().statusCode(304);
+    }
+
+    @Test
+    public void whenNoMaxAge_thenRevalidatedWithEtag() {
+        Response response = withoutCompression().when().get("/revalidated?wsdl");
+        response.then().statusCode(200).header("Cache-Control", "no-cache");
+        String etag = response.header("ETag");
+        Assertions.assertNotNull(etag);
+
+        withoutCompression().header("If-None-Match", etag).when()
+                .get("/revalidated?wsdl").then().statusCode(304).header("Cache-Control", "no-cache");
+    }
+
+    @Test
+    public void whenAcceptingGzip_thenCompressedVariantAnswered() {
+        String plain = withoutCompression().when().get("/fruit?wsdl").asString();
+        Response response = RestAssured.given().header("Accept-Encoding", "gzip").when().get("/fruit?wsdl");
+        response.then().statusCode(200).header("Content-Encoding", "gzip").header("Vary", "Accept-Encoding");
+        Assertions.assertTrue(response.header("ETag").endsWith("-gzip\""), response.header("ETag"));
+        Assertions.assertEquals(plain, response.asString());
+    }
+
+    @Test
+    public void whenManyHostNames_thenOthersAnsweredUncompressed() {
+        // the document of localhost is kept for the other tests
+        RestAssured.given().header("Accept-Encoding", "gzip").when().get("/fruit?wsdl").then().statusCode(200);
+        for (int i = 0; i < 20; i++) {
+            String host = "fruit-" + i + ".invalid";
+            Response response = withoutCompression().header("Host", host).header("Accept-Encoding", "gzip").when()
+                    .get("/fruit?wsdl");
+            response.then().statusCode(200);
+            if (i == 19) {
+                Assertions.assertNull(response.header("Content-Encoding"));
+                Assertions.assertFalse(response.header("ETag").endsWith("-gzip\""), response.header("ETag"));
+                Assertions.assertTrue(response.asString().contains("http://" + host + "/fruit"));
+            }
+        }
+    }
+
+    private static RequestSpecification withoutCompression() {
+        return RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()));
+    }
+
+    private static String withoutProlog(String document) {
+        return document.startsWith("<?xml") ? document.substring(document.indexOf("?>") + 2) : document;
+    }
+}
@@ -0,0 +1,200 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CxfWsdlNormalizerTest {
+
+    private static final String WSDL_NS = "http://schemas.xmlsoap.org/wsdl/";
+    private static final String XSD_NS = XMLConstants.W3C_XML_SCHEMA_NS_URI;
+    private static final String TNS = "http://test.deployment.cxf.quarkus.io/";
+
+    private static final String FRUIT_WSDL = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<!-- the fruit service -->\n"
+            + "<wsdl:definitions xmlns:wsdl=\"http://schemas.xmlsoap.org/wsdl/\"\n"
+            + "        xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\"\n"
+            + "        xmlns:tns=\"" + TNS + "\" targetNamespace=\"" + TNS + "\">\n"
+            + "    <wsdl:import namespace=\"" + TNS + "\" location=\"fruit-messages.wsdl\"/>\n"
+            + "    <wsdl:types>\n"
+            + "        <xsd:schema targetNamespace=\"" + TNS + "\">\n"
+            + "            <xsd:include schemaLocation=\"xsd/fruit.xsd\"/>\n"
+            + "            <xsd:element name=\"count\" type=\"tns:count\"/>\n"
+            + "            <xsd:element name=\"countResponse\" type=\"tns:countResponse\"/>\n"
+            + "        </xsd:schema>\n"
+            + "    </wsdl:types>\n"
+            + "    <wsdl:portType name=\"FruitWebService\">\n"
+            + "        <wsdl:operation name=\"count\">\n"
+            + "            <wsdl:input message=\"tns:count\"/>\n"
+            + "            <wsdl:output message=\"tns:countResponse\"/>\n"
+            + "        </wsdl:operation>\n"
+            + "    </wsdl:portType>\n"
+            + "</wsdl:definitions>\n";
+
+    private static final String FRUIT_MESSAGES_WSDL = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<wsdl:definitions xmlns:wsdl=\"http://schemas.xmlsoap.org/wsdl/\"\n"
+            + "        xmlns:tns=\"" + TNS + "\" targetNamespace=\"" + TNS + "\">\n"
+            + "    <wsdl:message name=\"count\">\n"
+            + "        <wsdl:part name=\"parameters\" element=\"tns:count\"/>\n"
+            + "    </wsdl:message>\n"
+            + "    <wsdl:message name=\"countResponse\">\n"
+            + "        <wsdl:part name=\"parameters\" element=\"tns:countResponse\"/>\n"
+            + "    </wsdl:message>\n"
+            + "</wsdl:definitions>\n";
+
+    private static final String FRUIT_XSD = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<xsd:schema xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:common=\"urn:common\"\n"
+            + "        targetNamespace=\"" + TNS + "\">\n"
+            + "    <!-- relative to this schema -->\n"
+            + "    <xsd:import namespace=\"urn:common\" schemaLocation=\"common.xsd\"/>\n"
+            + "    <xsd:complexType name=\"count\"/>\n"
+            + "    <xsd:complexType name=\"countResponse\">\n"
+            + "        <xsd:sequence>\n"
+            + "            <xsd:element name=\"countFruitsResponse\" type=\"common:quantity\"/>\n"
+            + "        </xsd:sequence>\n"
+            + "    </xsd:complexType>\n"
+            + "</xsd:schema>\n";
+
+    private static final String COMMON_XSD = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<xsd:schema xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" targetNamespace=\"urn:common\">\n"
+            + "    <xsd:simpleType name=\"quantity\">\n"
+            + "        <xsd:restriction base=\"xsd:int\"/>\n"
+            + "    </xsd:simpleType>\n"
+            + "</xsd:schema>\n";
+
+    private static final String REDEFINING_WSDL = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<wsdl:definitions xmlns:wsdl=\"http://schemas.xmlsoap.org/wsdl/\"\n"
+            + "        xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" targetNamespace=\"" + TNS + "\">\n"
+            + "    <wsdl:types>\n"
+            + "        <xsd:schema targetNamespace=\"" + TNS + "\">\n"
+            + "            <xsd:redefine schemaLocation=\"xsd/fruit.xsd\"/>\n"
+            + "        </xsd:schema>\n"
+            + "    </wsdl:types>\n"
+            + "</wsdl:definitions>\n";
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(FruitWebService.class)
+                    .addClass(FruitClientWebService.class)
+                    .addClass(Fruit.class)
+                    .addAsResource(new StringAsset(FRUIT_WSDL), "wsdl/fruit.wsdl")
+                    .addAsResource(new StringAsset(FRUIT_MESSAGES_WSDL), "wsdl/fruit-messages.wsdl")
+                    .addAsResource(new StringAsset(FRUIT_XSD), "wsdl/xsd/fruit.xsd")
+                    .addAsResource(new StringAsset(COMMON_XSD), "wsdl/xsd/common.xsd")
+                    .addAsResource(new StringAsset(REDEFINING_WSDL), "wsdl/redefining.wsdl")
+                    .addAsResource(new StringAsset(
+                            "quarkus.cxf.endpoint.\"/fruit\".service-interface=io.quarkus.cxf.deployment.test.FruitWebService\n"
+                                    + "quarkus.cxf.endpoint.\"/fruit\".wsdl=wsdl/fruit.wsdl\n"
+                                    + "quarkus.cxf.endpoint.\"/redefining\".service-interface=io.quarkus.cxf.deployment.test.FruitClientWebService\n"
+                                    + "quarkus.cxf.endpoint.\"/redefining\".wsdl=wsdl/redefining.wsdl"),
+                            "application.properties"));
+
+    private static InputStream embeddedWsdl(Class<?> sei) {
+        return Thread.currentThread().getContextClassLoader()
+                .getResourceAsStream("META-INF/cxf/wsdl/" + sei.getName() + ".wsdl");
+    }
+
+    @Test
+    public void whenWsdlImportsAndIncludes_thenEmbeddedAsSingleDocument() throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        Document document;
+        try (InputStream in = embeddedWsdl(FruitWebService.class)) {
+            Assertions.assertNotNull(in);
+            document = factory.newDocumentBuilder().parse(in);
+        }
+        Element definitions = document.getDocumentElement();
+
+        // no reference left to another document
+        Assertions.assertEquals(0, definitions.getElementsByTagNameNS(WSDL_NS, "import").getLength());
+        Assertions.assertEquals(0, definitions.getElementsByTagNameNS(XSD_NS, "include").getLength());
+        for (Element schemaImport : elements(definitions.getElementsByTagNameNS(XSD_NS, "import"))) {
+            Assertions.assertFalse(schemaImport.hasAttribute("schemaLocation"));
+        }
+
+        // the messages of the imported WSDL
+        List<String> messages = new ArrayList<>();
+        for (Element message : elements(definitions.getElementsByTagNameNS(WSDL_NS, "message"))) {
+            messages.add(message.getAttribute("name"));
+        }
+        Assertions.assertEquals(2, messages.size(), messages.toString());
+        Assertions.assertTrue(messages.contains("count") && messages.contains("countResponse"), messages.toString());
+
+        // the included types in the schema of the WSDL, the imported schema next to it
+        Element types = elements(definitions.getElementsByTagNameNS(WSDL_NS, "types")).get(0);
+        List<String> complexTypes = new ArrayList<>();
+        List<String> namespaces = new ArrayList<>();
+        for (Element schema : elements(types.getElementsByTagNameNS(XSD_NS, "schema"))) {
+            namespaces.add(schema.getAttribute("targetNamespace"));
+            if (TNS.equals(schema.getAttribute("targetNamespace"))) {
+                for (Element complexType : elements(schema.getElementsByTagNameNS(XSD_NS, "complexType"))) {
+                    complexTypes.add(complexType.getAttribute("name"));
+                }
+            }
+        }
+        Assertions.assertEquals(2, namespaces.size(), namespaces.toString());
+        Assertions.assertTrue(namespaces.contains("urn:common") && namespaces.contains(TNS), namespaces.toString());
+        Assertions.assertTrue(complexTypes.contains("count") && complexTypes.contains("countResponse"),
+                complexTypes.toString());
+
+        // the prefix of the imported types declared where they are used
+        Element countResponse = elements(definitions.getElementsByTagNameNS(XSD_NS, "element")).stream()
+                .filter(element -> "countFruitsResponse".equals(element.getAttribute("name")))
+                .findFirst().get();
+        Assertions.assertEquals("urn:common", countResponse.lookupNamespaceURI("common"));
+
+        assertNoComment(definitions);
+        assertNoLocation(definitions);
+    }
+
+    @Test
+    public void whenWsdlCannotBeInlined_thenNotEmbedded() {
+        // the client falls back to reading its WSDL when it is created
+        Assertions.assertNull(embeddedWsdl(FruitClientWebService.class));
+    }
+
+    private static List<Element> elements(NodeList nodes) {
+        List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            elements.add((Element) nodes.item(i));
+        }
+        return elements;
+    }
+
+    private static void assertNoComment(Node node) {
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            Assertions.assertNotEquals(Node.COMMENT_NODE, child.getNodeType(), child.getNodeValue());
+            assertNoComment(child);
+        }
+    }
+
+    private static void assertNoLocation(Element definitions) {
+        for (Element element : elements(definitions.getElementsByTagName("*"))) {
+            NamedNodeMap attributes = element.getAttributes();
+            for (int i = 0; i < attributes.getLength(); i++) {
+                String name = ((Attr) attributes.item(i)).getLocalName();
+                Assertions.assertFalse("location".equals(name) || "schemaLocation".equals(name),
+                        element.getTagName() + " " + name);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.quarkus.cxf.deployment.test;
+
+import javax.jws.WebService;
+
+import org.apache.cxf.interceptor.InInterceptors;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.apache.cxf.staxutils.StaxUtils;
+
+@WebService(endpointInterface = "io.quarkus.cxf.deployment.test.CatalogWebService")
+@InInterceptors(interceptors = "io.quarkus.cxf.deployment.test.DepthLimitedCatalogWebServiceImpl$ElementDepthLimit")
+public class DepthLimitedCatalogWebServiceImpl extends CatalogWebServiceImpl {
+
+    public static class ElementDepthLimit extends AbstractPhaseInterceptor<Message> {
+
+        public ElementDepthLimit() {
+            super(Phase.RECEIVE);
+        }
+
+        @Override
+        public void handleMessage(Message message) {
+            message.put(StaxUtils.MAX_ELEMENT_DEPTH, 4);
+        }
+    }
+}
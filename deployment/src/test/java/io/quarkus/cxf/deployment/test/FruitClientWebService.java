@@ -0,0 +1,13 @@
+package io.quarkus.cxf.deployment.test;
+
+import javax.jws.WebMethod;
+import javax.jws.WebResult;
+import javax.jws.WebService;
+
+@WebService
+public interface FruitClientWebService {
+
+    @WebMethod
+    @WebResult(name = "countFruitsResponse", targetNamespace = "http://test.deployment.cxf.quarkus.io/", partName = "parameters")
+    int count();
+}
@@ -0,0 +1,127 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.ws.WebServiceException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cxf.client.ClientCall;
+import io.quarkus.cxf.client.HedgingHandler;
+import io.quarkus.cxf.client.RetryBudget;
+
+public class HedgingTest {
+
+    private static final long DELAY_MILLIS = 50;
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private HedgingHandler hedging;
+
+    @AfterEach
+    public void close() {
+        release.countDown();
+        if (hedging != null) {
+            hedging.close();
+        }
+    }
+
+    /**
+     * @param slowAttempts the attempts blocking until the end of the test
+     */
+    private Object call(RetryBudget budget, int maxConcurrentCalls, int slowAttempts, Throwable failure)
+            throws Throwable {
+        hedging = new HedgingHandler("test", call -> true, budget, 3, 95, DELAY_MILLIS, maxConcurrentCalls);
+        Method method = Object.class.getMethod("toString");
+        return hedging.handle(new ClientCall(method, new Object[0], Collections.emptyList(), (m, args) -> {
+            int attempt = invocations.incrementAndGet();
+            if (attempt <= slowAttempts) {
+                release.await();
+                return "attempt " + attempt;
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return "attempt " + attempt + " on " + Thread.currentThread().getName();
+        }));
+    }
+
+    @Test
+    public void whenFirstAttemptSlow_thenHedgedAttemptWins() throws Throwable {
+        RetryBudget budget = new RetryBudget("test", 0.1, 10);
+        long start = System.nanoTime();
+        Object result = call(budget, 1, 1, null);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assertions.assertTrue(result.toString().startsWith("attempt 2 on cxf-client-hedging-test-"), result.toString());
+        Assertions.assertTrue(elapsedMillis >= DELAY_MILLIS && elapsedMillis < 5000, elapsedMillis + "ms");
+        Assertions.assertEquals(9, budget.getTokens(), 0.001);
+    }
+
+    @Test
+    public void whenFirstAttemptFast_thenNotHedged() throws Throwable {
+        RetryBudget budget = new RetryBudget("test", 0.1, 10);
+        Assertions.assertTrue(call(budget, 1, 0, null).toString().startsWith("attempt 1 "));
+        Thread.sleep(DELAY_MILLIS * 2);
+        Assertions.assertEquals(1, invocations.get());
+        Assertions.assertEquals(10, budget.getTokens(), 0.001);
+    }
+
+    @Test
+    public void whenTwoAttemptsSlow_thenThirdAttemptWins() throws Throwable {
+        RetryBudget budget = new RetryBudget("test", 0.1, 10);
+        Assertions.assertTrue(call(budget, 1, 2, null).toString().startsWith("attempt 3 "));
+        Assertions.assertEquals(8, budget.getTokens(), 0.001);
+    }
+
+    @Test
+    public void whenHedgedAttemptFails_thenFirstAttemptAwaited() throws Throwable {
+        RetryBudget budget = new RetryBudget("test", 0.1, 1);
+        new Thread(() -> {
+            try {
+                Thread.sleep(DELAY_MILLIS * 4);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        }).start();
+        // a slow answer is better than none
+        Assertions.assertEquals("attempt 1", call(budget, 1, 1, new WebServiceException("down")));
+        Assertions.assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void whenBudgetExhausted_thenCallerThreadRunsCall() throws Throwable {
+        RetryBudget budget = new RetryBudget("test", 0.1, 0);
+        Object result = call(budget, 1, 0, null);
+        Assertions.assertEquals("attempt 1 on " + Thread.currentThread().getName(), result);
+    }
+
+    @Test
+    public void whenPoolFull_thenCallerThreadRunsCall() throws Throwable {
+        RetryBudget budget = new RetryBudget("test", 0.1, 10);
+        // the single concurrent call takes the three threads of the pool
+        Thread blocked = new Thread(() -> {
+            try {
+                call(budget, 1, 3, null);
+            } catch (Throwable t) {
+                // released at the end of the test
+            }
+        });
+        blocked.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (invocations.get() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(3, invocations.get());
+        Method method = Object.class.getMethod("toString");
+        Object result = hedging.handle(new ClientCall(method, new Object[0], Collections.emptyList(),
+                (m, args) -> Thread.currentThread().getName()));
+        Assertions.assertEquals(Thread.currentThread().getName(), result);
+    }
+}
@@ -0,0 +1,117 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.cxf.jaxb.JAXBContextRecorder;
+import io.quarkus.cxf.jaxb.JAXBContextRegistry;
+import io.quarkus.cxf.validation.SchemaRegistry;
+
+public class JAXBContextRecorderTest {
+
+    private static final String TNS = "http://test.deployment.cxf.quarkus.io/";
+    private static final String SEI = FruitClientWebService.class.getName();
+    private static final String EMBEDDED_WSDL = "META-INF/cxf/wsdl/" + SEI + ".wsdl";
+
+    private static final String FRUIT_WSDL = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<wsdl:definitions xmlns:wsdl=\"http://schemas.xmlsoap.org/wsdl/\"\n"
+            + "        xmlns:soap=\"http://schemas.xmlsoap.org/wsdl/soap/\"\n"
+            + "        xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\"\n"
+            + "        xmlns:tns=\"" + TNS + "\" targetNamespace=\"" + TNS + "\">\n"
+            + "    <wsdl:types>\n"
+            + "        <xsd:schema targetNamespace=\"" + TNS + "\" elementFormDefault=\"qualified\">\n"
+            + "            <xsd:element name=\"count\">\n"
+            + "                <xsd:complexType/>\n"
+            + "            </xsd:element>\n"
+            + "            <xsd:element name=\"countResponse\">\n"
+            + "                <xsd:complexType>\n"
+            + "                    <xsd:sequence>\n"
+            + "                        <xsd:element name=\"countFruitsResponse\" type=\"xsd:int\"/>\n"
+            + "                    </xsd:sequence>\n"
+            + "                </xsd:complexType>\n"
+            + "            </xsd:element>\n"
+            + "        </xsd:schema>\n"
+            + "    </wsdl:types>\n"
+            + "    <wsdl:message name=\"count\">\n"
+            + "        <wsdl:part name=\"parameters\" element=\"tns:count\"/>\n"
+            + "    </wsdl:message>\n"
+            + "    <wsdl:message name=\"countResponse\">\n"
+            + "        <wsdl:part name=\"parameters\" element=\"tns:countResponse\"/>\n"
+            + "    </wsdl:message>\n"
+            + "    <wsdl:portType name=\"FruitClientWebService\">\n"
+            + "        <wsdl:operation name=\"count\">\n"
+            + "            <wsdl:input message=\"tns:count\"/>\n"
+            + "            <wsdl:output message=\"tns:countResponse\"/>\n"
+            + "        </wsdl:operation>\n"
+            + "    </wsdl:portType>\n"
+            + "    <wsdl:binding name=\"FruitClientWebServiceSoapBinding\" type=\"tns:FruitClientWebService\">\n"
+            + "        <soap:binding style=\"document\" transport=\"http://schemas.xmlsoap.org/soap/http\"/>\n"
+            + "        <wsdl:operation name=\"count\">\n"
+            + "            <soap:operation soapAction=\"\"/>\n"
+            + "            <wsdl:input><soap:body use=\"literal\"/></wsdl:input>\n"
+            + "            <wsdl:output><soap:body use=\"literal\"/></wsdl:output>\n"
+            + "        </wsdl:operation>\n"
+            + "    </wsdl:binding>\n"
+            + "    <wsdl:service name=\"FruitClientWebServiceService\">\n"
+            + "        <wsdl:port name=\"FruitClientWebServicePort\" binding=\"tns:FruitClientWebServiceSoapBinding\">\n"
+            + "            <soap:address location=\"http://localhost:8081/fruit\"/>\n"
+            + "        </wsdl:port>\n"
+            + "    </wsdl:service>\n"
+            + "</wsdl:definitions>\n";
+
+    @TempDir
+    Path classPath;
+
+    private ClassLoader classLoader;
+
+    @BeforeEach
+    public void embedWsdl() throws Exception {
+        Path wsdl = classPath.resolve(EMBEDDED_WSDL);
+        Files.createDirectories(wsdl.getParent());
+        Files.write(wsdl, FRUIT_WSDL.getBytes(StandardCharsets.UTF_8));
+        JAXBContextRegistry.getInstance().clear();
+        SchemaRegistry.getInstance().clear();
+        classLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(
+                new URLClassLoader(new URL[] { classPath.toUri().toURL() }, classLoader));
+    }
+
+    @AfterEach
+    public void restore() {
+        Thread.currentThread().setContextClassLoader(classLoader);
+        JAXBContextRegistry.getInstance().clear();
+        SchemaRegistry.getInstance().clear();
+    }
+
+    @Test
+    public void whenClientWsdlEmbedded_thenModelBuiltFromEmbeddedWsdl() {
+        // the original location is not available during the image build
+        String missing = new File(classPath.toFile(), "missing.wsdl").toURI().toString();
+        new JAXBContextRecorder().createContexts(Collections.singletonList(SEI),
+                Collections.singletonMap(SEI, missing), Collections.singletonMap(SEI, EMBEDDED_WSDL),
+                Collections.singletonList(SEI));
+        Assertions.assertEquals(1, JAXBContextRegistry.getInstance().getContextCount(),
+                JAXBContextRegistry.getInstance().report());
+        Assertions.assertEquals(1, SchemaRegistry.getInstance().getSchemaCount(), SchemaRegistry.getInstance().report());
+    }
+
+    @Test
+    public void whenClientWsdlNotEmbedded_thenWsdlLocationRead() {
+        String missing = new File(classPath.toFile(), "missing.wsdl").toURI().toString();
+        new JAXBContextRecorder().createContexts(Collections.singletonList(SEI),
+                Collections.singletonMap(SEI, missing), Collections.emptyMap(), Collections.singletonList(SEI));
+        // the missing location fails the model, left to the client at runtime
+        Assertions.assertEquals(0, SchemaRegistry.getInstance().getSchemaCount(), SchemaRegistry.getInstance().report());
+    }
+}
@@ -0,0 +1,157 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.ws.WebServiceException;
+
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.ExchangeImpl;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageImpl;
+import org.apache.cxf.transport.Conduit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cxf.client.EndpointAddress;
+import io.quarkus.cxf.client.LeastOutstandingStrategy;
+import io.quarkus.cxf.client.LoadBalancingConduitSelector;
+import io.quarkus.cxf.client.LoadBalancingStrategy;
+import io.quarkus.cxf.client.PowerOfTwoChoicesStrategy;
+import io.quarkus.cxf.client.RoundRobinStrategy;
+
+public class LoadBalancingTest {
+
+    private static final String A = "http://a/fruit";
+    private static final String B = "http://b/fruit";
+    private static final String C = "http://c/fruit";
+
+    /**
+     * Leaves the conduits out: the address the message is sent to is what is tested.
+     */
+    private static class TestSelector extends LoadBalancingConduitSelector {
+
+        TestSelector(LoadBalancingStrategy strategy, long baseEjectionMillis, String... addresses) {
+            super("test", Arrays.asList(addresses), strategy, 2, baseEjectionMillis, 50);
+        }
+
+        @Override
+        protected Conduit getSelectedConduit(Message message) {
+            return null;
+        }
+    }
+
+    private static Exchange send(LoadBalancingConduitSelector selector) {
+        Exchange exchange = new ExchangeImpl();
+        Message message = new MessageImpl();
+        exchange.setOutMessage(message);
+        message.setExchange(exchange);
+        selector.selectConduit(message);
+        return exchange;
+    }
+
+    private static String address(Exchange exchange) {
+        return (String) exchange.getOutMessage().get(Message.ENDPOINT_ADDRESS);
+    }
+
+    /**
+     * @return the address the completed call was sent to
+     */
+    private static String call(LoadBalancingConduitSelector selector, String failingAddress) {
+        Exchange exchange = send(selector);
+        String address = address(exchange);
+        if (address.equals(failingAddress)) {
+            exchange.getOutMessage().setContent(Exception.class, new WebServiceException("down"));
+        }
+        selector.complete(exchange);
+        return address;
+    }
+
+    @Test
+    public void whenRoundRobin_thenAddressesCalledInTurn() {
+        TestSelector selector = new TestSelector(new RoundRobinStrategy(), 60_000, A, B, C);
+        List<String> addresses = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            addresses.add(call(selector, null));
+        }
+        Assertions.assertEquals(Arrays.asList(A, B, C, A, B, C), addresses);
+    }
+
+    @Test
+    public void whenAddressFailsRepeatedly_thenEjectedAndCallsFailOver() {
+        TestSelector selector = new TestSelector(new RoundRobinStrategy(), 60_000, A, B);
+        // A fails twice in a row, B answers in between
+        Assertions.assertEquals(A, call(selector, A));
+        Assertions.assertEquals(B, call(selector, A));
+        Assertions.assertEquals(A, call(selector, A));
+        EndpointAddress a = selector.getAddresses().get(0);
+        Assertions.assertTrue(a.isEjected());
+        Assertions.assertEquals(1, a.getEjections());
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertEquals(B, call(selector, A));
+        }
+    }
+
+    @Test
+    public void whenAllAddressesFail_thenNoMoreThanMaxPercentEjected() {
+        TestSelector selector = new TestSelector(new RoundRobinStrategy(), 60_000, A, B);
+        for (int i = 0; i < 8; i++) {
+            call(selector, A);
+            call(selector, B);
+        }
+        // one address out of two at most: B keeps being called although it fails too
+        Assertions.assertTrue(selector.getAddresses().get(0).isEjected());
+        Assertions.assertFalse(selector.getAddresses().get(1).isEjected());
+        Assertions.assertEquals(B, call(selector, B));
+    }
+
+    @Test
+    public void whenEjectionOver_thenAddressBackInRotation() throws InterruptedException {
+        TestSelector selector = new TestSelector(new RoundRobinStrategy(), 50, A, B);
+        call(selector, A);
+        call(selector, A);
+        call(selector, A);
+        Assertions.assertTrue(selector.getAddresses().get(0).isEjected());
+        Thread.sleep(100);
+        List<String> addresses = Arrays.asList(call(selector, null), call(selector, null));
+        Assertions.assertTrue(addresses.contains(A), addresses.toString());
+        Assertions.assertFalse(selector.getAddresses().get(0).isEjected());
+    }
+
+    @Test
+    public void whenLeastOutstanding_thenIdleAddressCalled() {
+        TestSelector selector = new TestSelector(new LeastOutstandingStrategy(), 60_000, A, B, C);
+        List<Exchange> running = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            running.add(send(selector));
+        }
+        // one call in progress on each address
+        List<String> addresses = new ArrayList<>();
+        running.forEach(exchange -> addresses.add(address(exchange)));
+        Assertions.assertTrue(addresses.containsAll(Arrays.asList(A, B, C)), addresses.toString());
+
+        Exchange completed = running.stream().filter(exchange -> address(exchange).equals(B)).findFirst().get();
+        selector.complete(completed);
+        Assertions.assertEquals(B, address(send(selector)));
+    }
+
+    @Test
+    public void whenPowerOfTwoChoices_thenFasterAddressPreferred() throws InterruptedException {
+        TestSelector selector = new TestSelector(new PowerOfTwoChoicesStrategy(), 60_000, A, B);
+        // A answers in 20ms, B at once
+        EndpointAddress a = selector.getAddresses().get(0);
+        EndpointAddress b = selector.getAddresses().get(1);
+        while (a.getLatencyEwmaNanos() == 0 || b.getLatencyEwmaNanos() == 0) {
+            Exchange exchange = send(selector);
+            if (address(exchange).equals(A)) {
+                Thread.sleep(20);
+            }
+            selector.complete(exchange);
+        }
+        Assertions.assertTrue(a.getLatencyEwmaNanos() > b.getLatencyEwmaNanos());
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(B, call(selector, null));
+        }
+    }
+}
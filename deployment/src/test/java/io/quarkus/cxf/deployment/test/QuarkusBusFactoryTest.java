@@ -0,0 +1,31 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.util.Collections;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.bus.managers.PhaseManagerImpl;
+import org.apache.cxf.phase.PhaseManager;
+import org.apache.cxf.wsdl.WSDLManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cxf.bus.BusExtensionInfo;
+import io.quarkus.cxf.bus.BusExtensionRecorder;
+import io.quarkus.cxf.bus.QuarkusBusFactory;
+
+public class QuarkusBusFactoryTest {
+
+    @Test
+    public void whenExtensionsRegistered_thenExtensionFilesNotRead() {
+        new BusExtensionRecorder().registerExtensions(Collections.singletonList(
+                new BusExtensionInfo(PhaseManagerImpl.class.getName(), PhaseManager.class.getName(), false, false)));
+        Bus bus = new QuarkusBusFactory().createBus();
+        try {
+            Assertions.assertNotNull(bus.getExtension(PhaseManager.class));
+            // declared in the bus-extensions.txt of cxf-rt-wsdl, only found by reading the file
+            Assertions.assertNull(bus.getExtension(WSDLManager.class));
+        } finally {
+            bus.shutdown(false);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.frontend.ClientProxy;
+import org.apache.cxf.jaxws.JaxWsProxyFactoryBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cxf.client.ClientCallExecutor;
+import io.quarkus.cxf.client.ClientCallHandler;
+import io.quarkus.cxf.client.RequestContextScope;
+
+public class RequestContextScopeTest {
+
+    private Client client;
+
+    @BeforeEach
+    public void createClient() {
+        JaxWsProxyFactoryBean factory = new JaxWsProxyFactoryBean();
+        factory.setServiceClass(FruitWebService.class);
+        factory.setAddress("http://localhost:1/fruit");
+        client = ClientProxy.getClient(factory.create());
+        client.getRequestContext().put("configured", "yes");
+        client.setThreadLocalRequestContext(true);
+    }
+
+    @AfterEach
+    public void destroyClient() {
+        client.destroy();
+    }
+
+    /**
+     * @return the request context the target saw, after it put the given entry in it
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> call(ClientCallExecutor executor, String key, String value) throws Throwable {
+        Method method = Object.class.getMethod("toString");
+        return (Map<String, Object>) executor.execute(method, new Object[0], (m, args) -> {
+            Map<String, Object> context = client.getRequestContext();
+            context.put(key, value);
+            return Collections.unmodifiableMap(new HashMap<>(context));
+        });
+    }
+
+    @Test
+    public void whenCallScoped_thenChangesDroppedAfterCall() throws Throwable {
+        ClientCallExecutor executor = new ClientCallExecutor(client, Collections.emptyList(), RequestContextScope.CALL);
+        Map<String, Object> first = call(executor, "first", "1");
+        Assertions.assertEquals("yes", first.get("configured"));
+        Assertions.assertEquals("1", first.get("first"));
+
+        // same thread, next call: the configured context again, without the change of the first call
+        Map<String, Object> second = call(executor, "second", "2");
+        Assertions.assertEquals("yes", second.get("configured"));
+        Assertions.assertFalse(second.containsKey("first"), second.toString());
+        Assertions.assertFalse(client.getRequestContext().containsKey("second"));
+    }
+
+    @Test
+    public void whenThreadScoped_thenChangesKeptForNextCall() throws Throwable {
+        ClientCallExecutor executor = new ClientCallExecutor(client, Collections.emptyList(),
+                RequestContextScope.THREAD);
+        call(executor, "first", "1");
+        Map<String, Object> second = call(executor, "second", "2");
+        Assertions.assertEquals("1", second.get("first"));
+
+        // other threads do not see it
+        CompletableFuture<Map<String, Object>> other = CompletableFuture.supplyAsync(() -> {
+            try {
+                return call(executor, "other", "3");
+            } catch (Throwable t) {
+                throw new CompletionException(t);
+            }
+        });
+        Map<String, Object> otherContext = other.get();
+        Assertions.assertEquals("yes", otherContext.get("configured"));
+        Assertions.assertFalse(otherContext.containsKey("first"), otherContext.toString());
+    }
+
+    @Test
+    public void whenHandlerSwitchesThread_thenCallerContextPropagated() throws Throwable {
+        ClientCallHandler offload = call -> CompletableFuture.supplyAsync(() -> {
+            try {
+                return call.proceed();
+            } catch (Throwable t) {
+                throw new CompletionException(t);
+            }
+        }).join();
+        ClientCallExecutor executor = new ClientCallExecutor(client, Collections.singletonList(offload),
+                RequestContextScope.CALL);
+        client.getRequestContext().put("caller", "set before the call");
+        Map<String, Object> context = call(executor, "worker", "1");
+        Assertions.assertEquals("set before the call", context.get("caller"));
+        Assertions.assertEquals("yes", context.get("configured"));
+
+        // neither the caller nor the worker keep the context of the call
+        Assertions.assertFalse(client.getRequestContext().containsKey("caller"));
+        Map<String, Object> next = call(executor, "next", "1");
+        Assertions.assertFalse(next.containsKey("caller"), next.toString());
+        Assertions.assertFalse(next.containsKey("worker"), next.toString());
+    }
+}
@@ -0,0 +1,96 @@
+package io.quarkus.cxf.deployment.test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.namespace.QName;
+import javax.xml.soap.SOAPFactory;
+import javax.xml.ws.WebServiceException;
+import javax.xml.ws.soap.SOAPFaultException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cxf.client.ClientCall;
+import io.quarkus.cxf.client.LatencyTracker;
+import io.quarkus.cxf.client.RetryBudget;
+import io.quarkus.cxf.client.RetryHandler;
+
+public class RetryTest {
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private Object call(RetryBudget budget, RetryHandler retry, int failures, Throwable failure) throws Throwable {
+        Method method = Object.class.getMethod("toString");
+        return budget.handle(new ClientCall(method, new Object[0], Arrays.asList(retry), (m, args) -> {
+            if (invocations.incrementAndGet() <= failures) {
+                throw failure;
+            }
+            return "result";
+        }));
+    }
+
+    private static RetryHandler retry(RetryBudget budget) {
+        return new RetryHandler("test", call -> true, budget, 3, 1, 10, 2, 0.5);
+    }
+
+    @Test
+    public void whenFailingTwice_thenRetriedUntilSuccess() throws Throwable {
+        RetryBudget budget = new RetryBudget("test", 0.1, 10);
+        Assertions.assertEquals("result", call(budget, retry(budget), 2, new WebServiceException("down")));
+        Assertions.assertEquals(3, invocations.get());
+        Assertions.assertEquals(8, budget.getTokens(), 0.001);
+    }
+
+    @Test
+    public void whenBudgetExhausted_thenNotRetried() throws Throwable {
+        RetryBudget budget = new RetryBudget("test", 0.1, 1);
+        RetryHandler retry = retry(budget);
+        Assertions.assertThrows(WebServiceException.class,
+                () -> call(budget, retry, Integer.MAX_VALUE, new WebServiceException("down")));
+        // the reserve token pays for one retry out of the three attempts
+        Assertions.assertEquals(2, invocations.get());
+        Assertions.assertEquals(0, budget.getTokens(), 0.001);
+
+        Assertions.assertThrows(WebServiceException.class,
+                () -> call(budget, retry, Integer.MAX_VALUE, new WebServiceException("down")));
+        Assertions.assertEquals(3, invocations.get());
+        Assertions.assertFalse(budget.tryAcquire());
+
+        // ten calls earn a token back
+        for (int i = 0; i < 10; i++) {
+            budget.deposit();
+        }
+        Assertions.assertTrue(budget.tryAcquire());
+    }
+
+    @Test
+    public void whenServiceFaults_thenNotRetried() throws Throwable {
+        RetryBudget budget = new RetryBudget("test", 0.1, 10);
+        SOAPFaultException fault = new SOAPFaultException(
+                SOAPFactory.newInstance().createFault("invalid fruit", new QName("", "Client")));
+        Assertions.assertThrows(SOAPFaultException.class, () -> call(budget, retry(budget), 1, fault));
+        Assertions.assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void whenNotIdempotent_thenNotRetried() throws Throwable {
+        RetryBudget budget = new RetryBudget("test", 0.1, 10);
+        RetryHandler retry = new RetryHandler("test", call -> false, budget, 3, 1, 10, 2, 0.5);
+        Assertions.assertThrows(WebServiceException.class,
+                () -> call(budget, retry, 1, new WebServiceException("down")));
+        Assertions.assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void whenEnoughSamples_thenPercentile() {
+        LatencyTracker latencies = new LatencyTracker(1024, 95);
+        for (int i = 1; i < 64; i++) {
+            latencies.record(i);
+        }
+        Assertions.assertEquals(-1, latencies.getPercentileNanos());
+        latencies.record(64);
+        Assertions.assertEquals(61, latencies.getPercentileNanos());
+    }
+}
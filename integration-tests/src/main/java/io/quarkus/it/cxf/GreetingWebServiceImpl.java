@@ -1,5 +1,7 @@
 package io.quarkus.it.cxf;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import javax.jws.WebParam;
 import javax.jws.WebService;
 import javax.xml.ws.BindingType;
@@ -8,8 +10,11 @@ import javax.xml.ws.BindingType;
 @BindingType(javax.xml.ws.soap.SOAPBinding.SOAP12HTTP_BINDING)
 public class GreetingWebServiceImpl implements GreetingWebService {
 
+    static final AtomicInteger REPLIES = new AtomicInteger();
+
     @Override
     public String reply(@WebParam(name = "text") String text) {
+        REPLIES.incrementAndGet();
         return "Hello " + text;
     }
 }
@@ -3,6 +3,11 @@ package io.quarkus.it.cxf;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.containsString;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -41,6 +46,88 @@ class GreetingWebServiceImplTest {
                 .body(containsString("Hello foo"));
     }
 
+    @Test
+    void testCachedResponse() {
+        String xml = "<x:Envelope xmlns:x=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:cxf=\"http://cxf.it.quarkus.io/\">"
+                + "<x:Body><cxf:reply><text>cache</text></cxf:reply></x:Body></x:Envelope>";
+        int replies = GreetingWebServiceImpl.REPLIES.get();
+        for (int i = 0; i < 2; i++) {
+            given()
+                    .header("Content-Type", "text/xml").and().body(xml)
+                    .when().post("/soap/greeting")
+                    .then()
+                    .statusCode(200)
+                    .body(containsString("Hello cache"));
+        }
+        // the second response comes from the cache
+        Assertions.assertEquals(replies + 1, GreetingWebServiceImpl.REPLIES.get());
+    }
+
+    @Test
+    void testUnparsableQuality() {
+        String xml = "<x:Envelope xmlns:x=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:cxf=\"http://cxf.it.quarkus.io/\">"
+                + "<x:Body><cxf:reply><text>quality</text></cxf:reply></x:Body></x:Envelope>";
+        given()
+                .header("Content-Type", "text/xml").header("Accept-Encoding", "gzip;q=x").and().body(xml)
+                .when().post("/soap/greeting")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(containsString("Hello quality"));
+    }
+
+    @Test
+    void testCompressedMessages() throws IOException {
+        String xml = "<x:Envelope xmlns:x=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:cxf=\"http://cxf.it.quarkus.io/\">"
+                + "<x:Body><cxf:reply><text>gzip</text></cxf:reply></x:Body></x:Envelope>";
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(body)) {
+            gzip.write(xml.getBytes(StandardCharsets.UTF_8));
+        }
+        given()
+                .header("Content-Type", "text/xml").header("Content-Encoding", "gzip")
+                .header("Accept-Encoding", "gzip").and().body(body.toByteArray())
+                .when().post("/soap/greeting")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "Accept-Encoding")
+                .body(containsString("Hello gzip"));
+    }
+
+    @Test
+    void testCompressedMessageTooLarge() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            text.append('a');
+        }
+        String xml = "<x:Envelope xmlns:x=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:cxf=\"http://cxf.it.quarkus.io/\">"
+                + "<x:Body><cxf:reply><text>" + text + "</text></cxf:reply></x:Body></x:Envelope>";
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(body)) {
+            gzip.write(xml.getBytes(StandardCharsets.UTF_8));
+        }
+        given()
+                .header("Content-Type", "text/xml").header("Content-Encoding", "gzip").and().body(body.toByteArray())
+                .when().post("/soap/greeting")
+                .then()
+                .statusCode(500)
+                .body(containsString("larger than the maximum of 65536 bytes"));
+    }
+
+    @Test
+    void testFastInfosetNegotiation() {
+        String xml = "<x:Envelope xmlns:x=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:cxf=\"http://cxf.it.quarkus.io/\">"
+                + "<x:Body><cxf:reply><text>fi</text></cxf:reply></x:Body></x:Envelope>";
+        given()
+                .header("Content-Type", "text/xml").header("Accept", "application/fastinfoset, */*")
+                .and().body(xml)
+                .when().post("/soap/greeting")
+                .then()
+                .statusCode(200)
+                .contentType(containsString("application/fastinfoset"));
+    }
+
     @Test
     void testSoap12Binding() {
         given()
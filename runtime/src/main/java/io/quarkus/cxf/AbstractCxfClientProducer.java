@@ -1,15 +1,86 @@
 package io.quarkus.cxf;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.wsdl.Definition;
+import javax.wsdl.WSDLException;
+import javax.xml.stream.XMLStreamException;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.BusFactory;
+import org.apache.cxf.databinding.DataBinding;
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.feature.FastInfosetFeature;
+import org.apache.cxf.frontend.ClientProxy;
 import org.apache.cxf.jaxws.JaxWsProxyFactoryBean;
+import org.apache.cxf.staxutils.StaxUtils;
+import org.apache.cxf.wsdl.WSDLManager;
 import org.jboss.logging.Logger;
 
-import javax.enterprise.context.ApplicationScoped;
+import io.quarkus.cxf.attachment.AttachmentSpoolingInterceptor;
+import io.quarkus.cxf.client.BulkheadType;
+import io.quarkus.cxf.client.CircuitBreaker;
+import io.quarkus.cxf.client.ClientCacheHandler;
+import io.quarkus.cxf.client.ClientCall;
+import io.quarkus.cxf.client.ClientCallExecutor;
+import io.quarkus.cxf.client.ClientCallHandler;
+import io.quarkus.cxf.client.ClientInvocationHandler;
+import io.quarkus.cxf.client.HedgingHandler;
+import io.quarkus.cxf.client.LeastOutstandingStrategy;
+import io.quarkus.cxf.client.LoadBalancingConduitSelector;
+import io.quarkus.cxf.client.LoadBalancingStrategy;
+import io.quarkus.cxf.client.PowerOfTwoChoicesStrategy;
+import io.quarkus.cxf.client.RequestContextScope;
+import io.quarkus.cxf.client.RetryBudget;
+import io.quarkus.cxf.client.RetryHandler;
+import io.quarkus.cxf.client.RoundRobinStrategy;
+import io.quarkus.cxf.client.SemaphoreBulkhead;
+import io.quarkus.cxf.client.ThreadPoolBulkhead;
+import io.quarkus.cxf.compression.CompressionInInterceptor;
+import io.quarkus.cxf.compression.CompressionOutInterceptor;
+import io.quarkus.cxf.compression.CompressionStats;
+import io.quarkus.cxf.jaxb.JAXBContextRegistry;
+import io.quarkus.cxf.jaxb.SharedJAXBDataBinding;
+import io.quarkus.cxf.transport.EnvelopeTemplateInterceptor;
 
 @ApplicationScoped
 public class AbstractCxfClientProducer {
     private static final Logger LOGGER = Logger.getLogger(AbstractCxfClientProducer.class);
+    private static final Map<String, CXFClientInfo> CLIENTS = new ConcurrentHashMap<>();
+
+    private final List<Closeable> resources = new CopyOnWriteArrayList<>();
+
+    public static void publish(CXFClientInfo info) {
+        CLIENTS.put(info.getSei(), info);
+    }
+
+    public Object loadCxfClient(String sei) {
+        CXFClientInfo info = CLIENTS.get(sei);
+        if (info == null) {
+            LOGGER.error("no client configuration recorded for " + sei);
+            return null;
+        }
+        return loadCxfClient(info);
+    }
 
     public Object loadCxfClient(String sei, String endpointAddress, String wsdlUrl, String soapBinding) {
+        return loadCxfClient(new CXFClientInfo(sei, endpointAddress, wsdlUrl, soapBinding));
+    }
+
+    public Object loadCxfClient(CXFClientInfo info) {
+        String sei = info.getSei();
         Class<?> seiClass;
         try {
             seiClass = Class.forName(sei, false, Thread.currentThread().getContextClassLoader());
@@ -17,16 +88,188 @@ public class AbstractCxfClientProducer {
             LOGGER.error("either webservice interface (client) or implementation (server) is mandatory");
             return null;
         }
+        Bus bus = BusFactory.getThreadDefaultBus();
+        bus.setProperty(DataBinding.class.getName(), SharedJAXBDataBinding.class.getName());
+        JAXBContextRegistry.getInstance().registerMetrics();
         JaxWsProxyFactoryBean factory = new JaxWsProxyFactoryBean();
+        factory.setBus(bus);
         factory.setServiceClass(seiClass);
-        factory.setAddress(endpointAddress);
-        if (soapBinding != null) {
-            factory.setBindingId(soapBinding);
+        factory.setAddress(info.getEndpointAddress());
+        if (info.getSoapBinding() != null) {
+            factory.setBindingId(info.getSoapBinding());
+        }
+        String embeddedWsdl = info.getEmbeddedWsdl() == null ? null : loadEmbeddedWsdl(bus, info.getEmbeddedWsdl());
+        if (embeddedWsdl != null) {
+            factory.setWsdlURL(embeddedWsdl);
+        } else if (info.getWsdlUrl() != null && !info.getWsdlUrl().isEmpty()) {
+            factory.setWsdlURL(info.getWsdlUrl());
+        }
+        if (info.getMtom() != null) {
+            factory.setProperties(info.getMtom().createProperties());
+        }
+        Object cxfClient = factory.create();
+        Client client = ClientProxy.getClient(cxfClient);
+        if (info.getRequestContextScope() != RequestContextScope.SHARED) {
+            client.setThreadLocalRequestContext(true);
+        }
+        if (info.getMtom() != null) {
+            client.getInInterceptors().add(new AttachmentSpoolingInterceptor(info.getMtom()));
+        }
+        if (info.getEnvelopeTemplates() != null) {
+            client.getOutInterceptors().add(new EnvelopeTemplateInterceptor(info.getEnvelopeTemplates()));
+        }
+        if (info.isFastInfosetEnabled()) {
+            FastInfosetFeature fastInfoset = new FastInfosetFeature();
+            fastInfoset.setForce(info.isFastInfosetForce());
+            fastInfoset.initialize(client, client.getBus());
+        }
+        if (info.getCompression() != null) {
+            CompressionStats stats = new CompressionStats("client", sei);
+            client.getInInterceptors().add(new CompressionInInterceptor(stats,
+                    info.getCompression().getMaxDecompressedBytes()));
+            client.getOutInterceptors().add(new CompressionOutInterceptor(info.getCompression(), stats));
         }
-        if (wsdlUrl != null && !wsdlUrl.isEmpty()) {
-            factory.setWsdlURL(wsdlUrl);
+        if (info.getEndpointAddresses().size() > 1) {
+            LoadBalancingConduitSelector selector = new LoadBalancingConduitSelector(sei, info.getEndpointAddresses(),
+                    createStrategy(info.getLoadBalancingStrategy()), info.getLoadBalancingConsecutiveFailures(),
+                    info.getLoadBalancingBaseEjectionMillis(), info.getLoadBalancingMaxEjectionPercent());
+            selector.setEndpoint(client.getEndpoint());
+            client.setConduitSelector(selector);
         }
+        ClientCallExecutor executor = new ClientCallExecutor(client, createHandlers(info, client),
+                info.getRequestContextScope());
         LOGGER.info("cxf client loaded for " + sei);
-        return factory.create();
+        if (info.getStubClassName() != null) {
+            try {
+                return Class.forName(info.getStubClassName(), true, Thread.currentThread().getContextClassLoader())
+                        .getConstructor(Class.class, Object.class, ClientCallExecutor.class)
+                        .newInstance(seiClass, cxfClient, executor);
+            } catch (ReflectiveOperationException e) {
+                LOGGER.warn("failed to create client stub " + info.getStubClassName() + ", using the CXF proxy", e);
+            }
+        }
+        return ClientInvocationHandler.decorate(seiClass, cxfClient, executor);
+    }
+
+    /**
+     * Register the WSDL normalized at build time in the WSDL manager of the bus, so that the client finds it there
+     * instead of resolving and reading its location.
+     *
+     * @return the location of the WSDL for the client, or null if it cannot be loaded
+     */
+    public static String loadEmbeddedWsdl(Bus bus, String resource) {
+        String location = "classpath:" + resource;
+        WSDLManager wsdlManager = bus.getExtension(WSDLManager.class);
+        if (wsdlManager.getDefinitions().containsKey(location)) {
+            return location;
+        }
+        try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                return null;
+            }
+            Definition definition = wsdlManager.getDefinition(StaxUtils.read(in).getDocumentElement());
+            definition.setDocumentBaseURI(location);
+            wsdlManager.addDefinition(location, definition);
+            return location;
+        } catch (IOException | XMLStreamException | WSDLException e) {
+            LOGGER.warn("failed to load the embedded WSDL " + resource, e);
+            return null;
+        }
+    }
+
+    /**
+     * The built-in strategies by name, or an instance of the given {@link LoadBalancingStrategy} class.
+     */
+    protected LoadBalancingStrategy createStrategy(String strategy) {
+        if (strategy == null) {
+            return new RoundRobinStrategy();
+        }
+        switch (strategy) {
+            case "round-robin":
+                return new RoundRobinStrategy();
+            case "least-outstanding":
+                return new LeastOutstandingStrategy();
+            case "power-of-two-choices":
+                return new PowerOfTwoChoicesStrategy();
+            default:
+                try {
+                    return (LoadBalancingStrategy) Class
+                            .forName(strategy, true, Thread.currentThread().getContextClassLoader())
+                            .getConstructor().newInstance();
+                } catch (ReflectiveOperationException | ClassCastException e) {
+                    LOGGER.warn("failed to create load balancing strategy " + strategy + ", using round-robin", e);
+                    return new RoundRobinStrategy();
+                }
+        }
+    }
+
+    /**
+     * Handlers wrapping each call of the client, the first one being the outermost. Retries and hedged attempts go
+     * through the circuit breaker and the bulkhead like any other call. The circuit breaker comes before the bulkhead
+     * so that an open circuit rejects calls without taking a place in the bulkhead.
+     */
+    protected List<ClientCallHandler> createHandlers(CXFClientInfo info, Client client) {
+        List<ClientCallHandler> handlers = new ArrayList<>();
+        String name = info.getSei();
+        if (info.isCacheEnabled()) {
+            Set<String> operations = new HashSet<>(info.getCacheOperations());
+            ClientCacheHandler cache = new ClientCacheHandler(name,
+                    call -> operations.contains("*") || operations.contains(call.getOperationName()), client,
+                    info.getCacheRequestContextKeys(), info.getCacheMaximumSize(), info.getCacheTtlMillis(), info.getCacheRefreshAfterMillis(),
+                    info.getCacheStore());
+            resources.add(cache);
+            handlers.add(cache);
+        }
+        if (info.isRetryEnabled() || info.isHedgingEnabled()) {
+            Set<String> operations = new HashSet<>(info.getIdempotentOperations());
+            Predicate<ClientCall> idempotent = operations.contains("*")
+                    ? call -> true
+                    : call -> operations.contains(call.getOperationName());
+            RetryBudget budget = new RetryBudget(name, info.getRetryBudgetRatio(), info.getRetryBudgetMaxTokens());
+            handlers.add(budget);
+            if (info.isRetryEnabled()) {
+                handlers.add(new RetryHandler(name, idempotent, budget, info.getRetryMaxAttempts(),
+                        info.getRetryInitialBackoffMillis(), info.getRetryMaxBackoffMillis(),
+                        info.getRetryBackoffMultiplier(), info.getRetryJitter()));
+            }
+            if (info.isHedgingEnabled()) {
+                HedgingHandler hedging = new HedgingHandler(name, idempotent, budget, info.getHedgingMaxAttempts(),
+                        info.getHedgingPercentile(), info.getHedgingInitialDelayMillis(),
+                        info.getHedgingMaxConcurrentCalls());
+                resources.add(hedging);
+                handlers.add(hedging);
+            }
+        }
+        if (info.isCircuitBreakerEnabled()) {
+            handlers.add(new CircuitBreaker(name, info.getCircuitBreakerFailureRateThreshold(),
+                    info.getCircuitBreakerSlowCallRateThreshold(), info.getCircuitBreakerSlowCallDurationMillis(),
+                    info.getCircuitBreakerSlidingWindowSize(), info.getCircuitBreakerMinimumNumberOfCalls(),
+                    info.getCircuitBreakerWaitDurationInOpenStateMillis(),
+                    info.getCircuitBreakerPermittedCallsInHalfOpenState()));
+        }
+        if (info.isBulkheadEnabled()) {
+            if (info.getBulkheadType() == BulkheadType.THREAD_POOL) {
+                ThreadPoolBulkhead bulkhead = new ThreadPoolBulkhead(name, info.getBulkheadMaxConcurrentCalls(),
+                        info.getBulkheadQueueSize());
+                resources.add(bulkhead);
+                handlers.add(bulkhead);
+            } else {
+                handlers.add(new SemaphoreBulkhead(name, info.getBulkheadMaxConcurrentCalls(),
+                        info.getBulkheadMaxWaitMillis()));
+            }
+        }
+        return handlers;
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Closeable resource : resources) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                LOGGER.warn("unable to close " + resource, e);
+            }
+        }
+        resources.clear();
     }
 }
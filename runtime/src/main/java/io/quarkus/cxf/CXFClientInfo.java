@@ -0,0 +1,517 @@
+package io.quarkus.cxf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.quarkus.cxf.client.BulkheadType;
+import io.quarkus.cxf.client.CacheStore;
+import io.quarkus.cxf.client.RequestContextScope;
+import io.quarkus.cxf.attachment.MtomInfo;
+import io.quarkus.cxf.compression.CompressionInfo;
+import io.quarkus.cxf.transport.EnvelopeTemplates;
+
+/**
+ * Build time configuration of a generated CXF client, recorded for {@link AbstractCxfClientProducer}.
+ */
+public class CXFClientInfo {
+    private String sei;
+    private String endpointAddress;
+    private String wsdlUrl;
+    private String soapBinding;
+    private String embeddedWsdl;
+    private String stubClassName;
+    private RequestContextScope requestContextScope = RequestContextScope.SHARED;
+
+    private boolean bulkheadEnabled;
+    private BulkheadType bulkheadType = BulkheadType.SEMAPHORE;
+    private int bulkheadMaxConcurrentCalls;
+    private long bulkheadMaxWaitMillis;
+    private int bulkheadQueueSize;
+
+    private boolean circuitBreakerEnabled;
+    private float circuitBreakerFailureRateThreshold;
+    private float circuitBreakerSlowCallRateThreshold;
+    private long circuitBreakerSlowCallDurationMillis;
+    private int circuitBreakerSlidingWindowSize;
+    private int circuitBreakerMinimumNumberOfCalls;
+    private long circuitBreakerWaitDurationInOpenStateMillis;
+    private int circuitBreakerPermittedCallsInHalfOpenState;
+
+    private List<String> idempotentOperations = new ArrayList<>();
+
+    private boolean retryEnabled;
+    private int retryMaxAttempts;
+    private long retryInitialBackoffMillis;
+    private long retryMaxBackoffMillis;
+    private double retryBackoffMultiplier;
+    private double retryJitter;
+
+    private double retryBudgetRatio;
+    private int retryBudgetMaxTokens;
+
+    private boolean hedgingEnabled;
+    private int hedgingMaxAttempts;
+    private double hedgingPercentile;
+    private long hedgingInitialDelayMillis;
+    private int hedgingMaxConcurrentCalls;
+
+    private List<String> endpointAddresses = new ArrayList<>();
+    private String loadBalancingStrategy;
+    private int loadBalancingConsecutiveFailures;
+    private long loadBalancingBaseEjectionMillis;
+    private int loadBalancingMaxEjectionPercent;
+
+    private boolean cacheEnabled;
+    private List<String> cacheOperations = new ArrayList<>();
+    private List<String> cacheRequestContextKeys = new ArrayList<>();
+    private int cacheMaximumSize;
+    private long cacheRefreshAfterMillis;
+    private long cacheTtlMillis;
+    private CacheStore cacheStore = CacheStore.HEAP;
+    private CompressionInfo compression;
+    private MtomInfo mtom;
+    private EnvelopeTemplates envelopeTemplates;
+    private boolean fastInfosetEnabled;
+    private boolean fastInfosetForce;
+
+    public CXFClientInfo() {
+    }
+
+    public CXFClientInfo(String sei, String endpointAddress, String wsdlUrl, String soapBinding) {
+        this.sei = sei;
+        this.endpointAddress = endpointAddress;
+        this.wsdlUrl = wsdlUrl;
+        this.soapBinding = soapBinding;
+    }
+
+    public String getSei() {
+        return sei;
+    }
+
+    public void setSei(String sei) {
+        this.sei = sei;
+    }
+
+    public String getEndpointAddress() {
+        return endpointAddress;
+    }
+
+    public void setEndpointAddress(String endpointAddress) {
+        this.endpointAddress = endpointAddress;
+    }
+
+    public String getWsdlUrl() {
+        return wsdlUrl;
+    }
+
+    public void setWsdlUrl(String wsdlUrl) {
+        this.wsdlUrl = wsdlUrl;
+    }
+
+    public String getSoapBinding() {
+        return soapBinding;
+    }
+
+    public void setSoapBinding(String soapBinding) {
+        this.soapBinding = soapBinding;
+    }
+
+    /**
+     * @return the resource of the WSDL read at build time, or null if it is read from {@link #getWsdlUrl()}
+     */
+    public String getEmbeddedWsdl() {
+        return embeddedWsdl;
+    }
+
+    public void setEmbeddedWsdl(String embeddedWsdl) {
+        this.embeddedWsdl = embeddedWsdl;
+    }
+
+    public String getStubClassName() {
+        return stubClassName;
+    }
+
+    public void setStubClassName(String stubClassName) {
+        this.stubClassName = stubClassName;
+    }
+
+    public RequestContextScope getRequestContextScope() {
+        return requestContextScope;
+    }
+
+    public void setRequestContextScope(RequestContextScope requestContextScope) {
+        this.requestContextScope = requestContextScope;
+    }
+
+    public boolean isBulkheadEnabled() {
+        return bulkheadEnabled;
+    }
+
+    public void setBulkheadEnabled(boolean bulkheadEnabled) {
+        this.bulkheadEnabled = bulkheadEnabled;
+    }
+
+    public BulkheadType getBulkheadType() {
+        return bulkheadType;
+    }
+
+    public void setBulkheadType(BulkheadType bulkheadType) {
+        this.bulkheadType = bulkheadType;
+    }
+
+    public int getBulkheadMaxConcurrentCalls() {
+        return bulkheadMaxConcurrentCalls;
+    }
+
+    public void setBulkheadMaxConcurrentCalls(int bulkheadMaxConcurrentCalls) {
+        this.bulkheadMaxConcurrentCalls = bulkheadMaxConcurrentCalls;
+    }
+
+    public long getBulkheadMaxWaitMillis() {
+        return bulkheadMaxWaitMillis;
+    }
+
+    public void setBulkheadMaxWaitMillis(long bulkheadMaxWaitMillis) {
+        this.bulkheadMaxWaitMillis = bulkheadMaxWaitMillis;
+    }
+
+    public int getBulkheadQueueSize() {
+        return bulkheadQueueSize;
+    }
+
+    public void setBulkheadQueueSize(int bulkheadQueueSize) {
+        this.bulkheadQueueSize = bulkheadQueueSize;
+    }
+
+    public boolean isCircuitBreakerEnabled() {
+        return circuitBreakerEnabled;
+    }
+
+    public void setCircuitBreakerEnabled(boolean circuitBreakerEnabled) {
+        this.circuitBreakerEnabled = circuitBreakerEnabled;
+    }
+
+    public float getCircuitBreakerFailureRateThreshold() {
+        return circuitBreakerFailureRateThreshold;
+    }
+
+    public void setCircuitBreakerFailureRateThreshold(float circuitBreakerFailureRateThreshold) {
+        this.circuitBreakerFailureRateThreshold = circuitBreakerFailureRateThreshold;
+    }
+
+    public float getCircuitBreakerSlowCallRateThreshold() {
+        return circuitBreakerSlowCallRateThreshold;
+    }
+
+    public void setCircuitBreakerSlowCallRateThreshold(float circuitBreakerSlowCallRateThreshold) {
+        this.circuitBreakerSlowCallRateThreshold = circuitBreakerSlowCallRateThreshold;
+    }
+
+    public long getCircuitBreakerSlowCallDurationMillis() {
+        return circuitBreakerSlowCallDurationMillis;
+    }
+
+    public void setCircuitBreakerSlowCallDurationMillis(long circuitBreakerSlowCallDurationMillis) {
+        this.circuitBreakerSlowCallDurationMillis = circuitBreakerSlowCallDurationMillis;
+    }
+
+    public int getCircuitBreakerSlidingWindowSize() {
+        return circuitBreakerSlidingWindowSize;
+    }
+
+    public void setCircuitBreakerSlidingWindowSize(int circuitBreakerSlidingWindowSize) {
+        this.circuitBreakerSlidingWindowSize = circuitBreakerSlidingWindowSize;
+    }
+
+    public int getCircuitBreakerMinimumNumberOfCalls() {
+        return circuitBreakerMinimumNumberOfCalls;
+    }
+
+    public void setCircuitBreakerMinimumNumberOfCalls(int circuitBreakerMinimumNumberOfCalls) {
+        this.circuitBreakerMinimumNumberOfCalls = circuitBreakerMinimumNumberOfCalls;
+    }
+
+    public long getCircuitBreakerWaitDurationInOpenStateMillis() {
+        return circuitBreakerWaitDurationInOpenStateMillis;
+    }
+
+    public void setCircuitBreakerWaitDurationInOpenStateMillis(long circuitBreakerWaitDurationInOpenStateMillis) {
+        this.circuitBreakerWaitDurationInOpenStateMillis = circuitBreakerWaitDurationInOpenStateMillis;
+    }
+
+    public int getCircuitBreakerPermittedCallsInHalfOpenState() {
+        return circuitBreakerPermittedCallsInHalfOpenState;
+    }
+
+    public void setCircuitBreakerPermittedCallsInHalfOpenState(int circuitBreakerPermittedCallsInHalfOpenState) {
+        this.circuitBreakerPermittedCallsInHalfOpenState = circuitBreakerPermittedCallsInHalfOpenState;
+    }
+
+    public List<String> getIdempotentOperations() {
+        return idempotentOperations;
+    }
+
+    public void setIdempotentOperations(List<String> idempotentOperations) {
+        this.idempotentOperations = idempotentOperations;
+    }
+
+    public boolean isRetryEnabled() {
+        return retryEnabled;
+    }
+
+    public void setRetryEnabled(boolean retryEnabled) {
+        this.retryEnabled = retryEnabled;
+    }
+
+    public int getRetryMaxAttempts() {
+        return retryMaxAttempts;
+    }
+
+    public void setRetryMaxAttempts(int retryMaxAttempts) {
+        this.retryMaxAttempts = retryMaxAttempts;
+    }
+
+    public long getRetryInitialBackoffMillis() {
+        return retryInitialBackoffMillis;
+    }
+
+    public void setRetryInitialBackoffMillis(long retryInitialBackoffMillis) {
+        this.retryInitialBackoffMillis = retryInitialBackoffMillis;
+    }
+
+    public long getRetryMaxBackoffMillis() {
+        return retryMaxBackoffMillis;
+    }
+
+    public void setRetryMaxBackoffMillis(long retryMaxBackoffMillis) {
+        this.retryMaxBackoffMillis = retryMaxBackoffMillis;
+    }
+
+    public double getRetryBackoffMultiplier() {
+        return retryBackoffMultiplier;
+    }
+
+    public void setRetryBackoffMultiplier(double retryBackoffMultiplier) {
+        this.retryBackoffMultiplier = retryBackoffMultiplier;
+    }
+
+    public double getRetryJitter() {
+        return retryJitter;
+    }
+
+    public void setRetryJitter(double retryJitter) {
+        this.retryJitter = retryJitter;
+    }
+
+    public double getRetryBudgetRatio() {
+        return retryBudgetRatio;
+    }
+
+    public void setRetryBudgetRatio(double retryBudgetRatio) {
+        this.retryBudgetRatio = retryBudgetRatio;
+    }
+
+    public int getRetryBudgetMaxTokens() {
+        return retryBudgetMaxTokens;
+    }
+
+    public void setRetryBudgetMaxTokens(int retryBudgetMaxTokens) {
+        this.retryBudgetMaxTokens = retryBudgetMaxTokens;
+    }
+
+    public boolean isHedgingEnabled() {
+        return hedgingEnabled;
+    }
+
+    public void setHedgingEnabled(boolean hedgingEnabled) {
+        this.hedgingEnabled = hedgingEnabled;
+    }
+
+    public int getHedgingMaxAttempts() {
+        return hedgingMaxAttempts;
+    }
+
+    public void setHedgingMaxAttempts(int hedgingMaxAttempts) {
+        this.hedgingMaxAttempts = hedgingMaxAttempts;
+    }
+
+    public double getHedgingPercentile() {
+        return hedgingPercentile;
+    }
+
+    public void setHedgingPercentile(double hedgingPercentile) {
+        this.hedgingPercentile = hedgingPercentile;
+    }
+
+    public long getHedgingInitialDelayMillis() {
+        return hedgingInitialDelayMillis;
+    }
+
+    public void setHedgingInitialDelayMillis(long hedgingInitialDelayMillis) {
+        this.hedgingInitialDelayMillis = hedgingInitialDelayMillis;
+    }
+
+    public int getHedgingMaxConcurrentCalls() {
+        return hedgingMaxConcurrentCalls;
+    }
+
+    public void setHedgingMaxConcurrentCalls(int hedgingMaxConcurrentCalls) {
+        this.hedgingMaxConcurrentCalls = hedgingMaxConcurrentCalls;
+    }
+
+    public List<String> getEndpointAddresses() {
+        return endpointAddresses;
+    }
+
+    public void setEndpointAddresses(List<String> endpointAddresses) {
+        this.endpointAddresses = endpointAddresses;
+    }
+
+    public String getLoadBalancingStrategy() {
+        return loadBalancingStrategy;
+    }
+
+    public void setLoadBalancingStrategy(String loadBalancingStrategy) {
+        this.loadBalancingStrategy = loadBalancingStrategy;
+    }
+
+    public int getLoadBalancingConsecutiveFailures() {
+        return loadBalancingConsecutiveFailures;
+    }
+
+    public void setLoadBalancingConsecutiveFailures(int loadBalancingConsecutiveFailures) {
+        this.loadBalancingConsecutiveFailures = loadBalancingConsecutiveFailures;
+    }
+
+    public long getLoadBalancingBaseEjectionMillis() {
+        return loadBalancingBaseEjectionMillis;
+    }
+
+    public void setLoadBalancingBaseEjectionMillis(long loadBalancingBaseEjectionMillis) {
+        this.loadBalancingBaseEjectionMillis = loadBalancingBaseEjectionMillis;
+    }
+
+    public int getLoadBalancingMaxEjectionPercent() {
+        return loadBalancingMaxEjectionPercent;
+    }
+
+    public void setLoadBalancingMaxEjectionPercent(int loadBalancingMaxEjectionPercent) {
+        this.loadBalancingMaxEjectionPercent = loadBalancingMaxEjectionPercent;
+    }
+
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    public void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    public List<String> getCacheOperations() {
+        return cacheOperations;
+    }
+
+    public void setCacheOperations(List<String> cacheOperations) {
+        this.cacheOperations = cacheOperations;
+    }
+
+    public List<String> getCacheRequestContextKeys() {
+        return cacheRequestContextKeys;
+    }
+
+    public void setCacheRequestContextKeys(List<String> cacheRequestContextKeys) {
+        this.cacheRequestContextKeys = cacheRequestContextKeys;
+    }
+
+    public int getCacheMaximumSize() {
+        return cacheMaximumSize;
+    }
+
+    public void setCacheMaximumSize(int cacheMaximumSize) {
+        this.cacheMaximumSize = cacheMaximumSize;
+    }
+
+    public long getCacheRefreshAfterMillis() {
+        return cacheRefreshAfterMillis;
+    }
+
+    public void setCacheRefreshAfterMillis(long cacheRefreshAfterMillis) {
+        this.cacheRefreshAfterMillis = cacheRefreshAfterMillis;
+    }
+
+    public long getCacheTtlMillis() {
+        return cacheTtlMillis;
+    }
+
+    public void setCacheTtlMillis(long cacheTtlMillis) {
+        this.cacheTtlMillis = cacheTtlMillis;
+    }
+
+    public CacheStore getCacheStore() {
+        return cacheStore;
+    }
+
+    public void setCacheStore(CacheStore cacheStore) {
+        this.cacheStore = cacheStore;
+    }
+
+    /**
+     * @return the configuration of the compression of the messages, or null if they are not compressed
+     */
+    public CompressionInfo getCompression() {
+        return compression;
+    }
+
+    public void setCompression(CompressionInfo compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * @return the configuration of MTOM attachments, or null if MTOM is disabled
+     */
+    public MtomInfo getMtom() {
+        return mtom;
+    }
+
+    public void setMtom(MtomInfo mtom) {
+        this.mtom = mtom;
+    }
+
+    /**
+     * @return the templates of the envelopes of the wrapped operations, or null if the envelopes are written by CXF
+     */
+    public EnvelopeTemplates getEnvelopeTemplates() {
+        return envelopeTemplates;
+    }
+
+    public void setEnvelopeTemplates(EnvelopeTemplates envelopeTemplates) {
+        this.envelopeTemplates = envelopeTemplates;
+    }
+
+    /**
+     * @return whether Fast Infoset is negotiated with the peers
+     */
+    public boolean isFastInfosetEnabled() {
+        return fastInfosetEnabled;
+    }
+
+    public void setFastInfosetEnabled(boolean fastInfosetEnabled) {
+        this.fastInfosetEnabled = fastInfosetEnabled;
+    }
+
+    /**
+     * @return whether every message is sent in Fast Infoset without negotiation
+     */
+    public boolean isFastInfosetForce() {
+        return fastInfosetForce;
+    }
+
+    public void setFastInfosetForce(boolean fastInfosetForce) {
+        this.fastInfosetForce = fastInfosetForce;
+    }
+
+    @Override
+    public String toString() {
+        return "Web Service client " + sei + " on " + endpointAddress;
+    }
+}
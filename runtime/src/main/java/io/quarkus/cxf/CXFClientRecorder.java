@@ -0,0 +1,15 @@
+package io.quarkus.cxf;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class CXFClientRecorder {
+    private static final Logger LOGGER = Logger.getLogger(CXFClientRecorder.class);
+
+    public void registerCXFClient(CXFClientInfo info) {
+        AbstractCxfClientProducer.publish(info);
+        LOGGER.debug("registered " + info);
+    }
+}
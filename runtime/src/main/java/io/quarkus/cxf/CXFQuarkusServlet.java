@@ -1,14 +1,27 @@
 package io.quarkus.cxf;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Singleton;
+import javax.servlet.FilterChain;
 import javax.servlet.ServletConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.xml.stream.XMLStreamException;
 
 import org.apache.cxf.Bus;
 import org.apache.cxf.BusFactory;
+import org.apache.cxf.annotations.SchemaValidation.SchemaValidationType;
+import org.apache.cxf.databinding.DataBinding;
 import org.apache.cxf.endpoint.Server;
+import org.apache.cxf.feature.FastInfosetFeature;
 import org.apache.cxf.feature.Feature;
 import org.apache.cxf.interceptor.Interceptor;
 import org.apache.cxf.jaxws.JaxWsServerFactoryBean;
@@ -16,6 +29,25 @@ import org.apache.cxf.message.Message;
 import org.apache.cxf.transport.servlet.CXFNonSpringServlet;
 import org.jboss.logging.Logger;
 
+import io.quarkus.cxf.attachment.AttachmentSpoolingInterceptor;
+import io.quarkus.cxf.bus.QuarkusBusFactory;
+import io.quarkus.cxf.compression.CompressionInInterceptor;
+import io.quarkus.cxf.compression.CompressionOutInterceptor;
+import io.quarkus.cxf.compression.CompressionStats;
+import io.quarkus.cxf.jaxb.JAXBContextRegistry;
+import io.quarkus.cxf.jaxb.SharedJAXBDataBinding;
+import io.quarkus.cxf.server.DeferredParameterInInterceptor;
+import io.quarkus.cxf.server.RequestCoalescer;
+import io.quarkus.cxf.server.RequestFilter;
+import io.quarkus.cxf.server.RequestProcessor;
+import io.quarkus.cxf.server.ResponseCache;
+import io.quarkus.cxf.server.StreamingListCloser;
+import io.quarkus.cxf.server.WsdlDocument;
+import io.quarkus.cxf.transport.ByteBufReaderInterceptor;
+import io.quarkus.cxf.transport.ByteBufWriterInterceptor;
+import io.quarkus.cxf.transport.EnvelopeTemplateInterceptor;
+import io.quarkus.cxf.validation.SchemaRegistry;
+
 @Singleton
 public class CXFQuarkusServlet extends CXFNonSpringServlet {
 
@@ -23,6 +55,10 @@ public class CXFQuarkusServlet extends CXFNonSpringServlet {
 
     private static final List<CXFServletInfo> WEB_SERVICES = new ArrayList<>();
 
+    private final Map<String, List<RequestFilter>> requestFilters = new HashMap<>();
+
+    private final Map<String, WsdlDocument> wsdlDocuments = new HashMap<>();
+
     private Class<?> loadClass(String className) {
         try {
             return Thread.currentThread().getContextClassLoader().loadClass(className);
@@ -45,10 +81,11 @@ public class CXFQuarkusServlet extends CXFNonSpringServlet {
     public void loadBus(ServletConfig servletConfig) {
         LOGGER.info("Load CXF bus");
 
-        super.loadBus(servletConfig);
+        setBus(new QuarkusBusFactory().createBus());
 
         Bus bus = getBus();
         BusFactory.setDefaultBus(bus);
+        bus.setProperty(DataBinding.class.getName(), SharedJAXBDataBinding.class.getName());
 
         //ServerFactoryBean factory = new ServerFactoryBean();
         JaxWsServerFactoryBean factory = new JaxWsServerFactoryBean();
@@ -81,8 +118,19 @@ public class CXFQuarkusServlet extends CXFNonSpringServlet {
                 if (servletInfo.getSOAPBinding() != null) {
                     factory.setBindingId(servletInfo.getSOAPBinding());
                 }
+                // the factory is shared by the endpoints
+                Map<String, Object> properties = servletInfo.getMtom() == null ? new HashMap<>()
+                        : servletInfo.getMtom().createProperties();
+                // set for every endpoint, the service factory keeps the properties of the previous ones
+                properties.put(Message.SCHEMA_VALIDATION_ENABLED, servletInfo.getSchemaValidation() == null
+                        ? SchemaValidationType.NONE.name()
+                        : servletInfo.getSchemaValidation());
+                factory.setProperties(properties);
 
                 Server server = factory.create();
+                if (servletInfo.getSchemaValidation() != null) {
+                    SchemaRegistry.getInstance().register(server.getEndpoint().getService().getServiceInfos());
+                }
                 for (String className : servletInfo.getInFaultInterceptors()) {
                     Interceptor<? extends Message> interceptor = (Interceptor<? extends Message>) getInstance(className);
                     server.getEndpoint().getInFaultInterceptors().add(interceptor);
@@ -99,12 +147,142 @@ public class CXFQuarkusServlet extends CXFNonSpringServlet {
                     Interceptor<? extends Message> interceptor = (Interceptor<? extends Message>) getInstance(className);
                     server.getEndpoint().getOutInterceptors().add(interceptor);
                 }
+                server.getEndpoint().getOutInterceptors().add(new StreamingListCloser());
+                if (servletInfo.isDirectBufferRequests()) {
+                    server.getEndpoint().getInInterceptors().add(new ByteBufReaderInterceptor());
+                }
+                if (servletInfo.isDirectBufferResponses()) {
+                    server.getEndpoint().getOutInterceptors().add(new ByteBufWriterInterceptor());
+                    server.getEndpoint().getOutFaultInterceptors().add(new ByteBufWriterInterceptor());
+                }
+                if (servletInfo.getEnvelopeTemplates() != null) {
+                    server.getEndpoint().getOutInterceptors()
+                            .add(new EnvelopeTemplateInterceptor(servletInfo.getEnvelopeTemplates()));
+                }
+                if (!servletInfo.getStreamingOperations().isEmpty() || !servletInfo.getLazyOperations().isEmpty()) {
+                    server.getEndpoint().getInInterceptors().add(new DeferredParameterInInterceptor(
+                            servletInfo.getStreamingOperations(), servletInfo.getLazyOperations()));
+                }
+                if (servletInfo.getMtom() != null) {
+                    server.getEndpoint().getInInterceptors()
+                            .add(new AttachmentSpoolingInterceptor(servletInfo.getMtom()));
+                }
+                if (servletInfo.isFastInfosetEnabled()) {
+                    FastInfosetFeature fastInfoset = new FastInfosetFeature();
+                    fastInfoset.setForce(servletInfo.isFastInfosetForce());
+                    fastInfoset.initialize(server, bus);
+                }
+                if (servletInfo.getCompression() != null) {
+                    CompressionStats stats = new CompressionStats("endpoint", servletInfo.getPath());
+                    CompressionOutInterceptor compression = new CompressionOutInterceptor(
+                            servletInfo.getCompression(), stats);
+                    server.getEndpoint().getInInterceptors().add(new CompressionInInterceptor(stats,
+                            servletInfo.getCompression().getMaxDecompressedBytes()));
+                    server.getEndpoint().getOutInterceptors().add(compression);
+                    server.getEndpoint().getOutFaultInterceptors().add(compression);
+                }
+
+                String path = servletInfo.getPath().startsWith("/") ? servletInfo.getPath()
+                        : "/" + servletInfo.getPath();
+                List<RequestFilter> filters = new ArrayList<>();
+                if (servletInfo.getResponseCache() != null) {
+                    filters.add(new ResponseCache(servletInfo.getPath(), servletInfo.getResponseCache()));
+                }
+                if (servletInfo.getCoalescing() != null) {
+                    filters.add(new RequestCoalescer(servletInfo.getPath(), servletInfo.getCoalescing()));
+                }
+                if (!filters.isEmpty()) {
+                    for (RequestFilter filter : filters) {
+                        server.getEndpoint().getInInterceptors().add(filter.getInterceptor());
+                    }
+                    requestFilters.put(path, filters);
+                }
+                if (servletInfo.getWsdlDocument() != null) {
+                    try {
+                        wsdlDocuments.put(path, WsdlDocument.render(bus, server, path, servletInfo.getWsdlDocument()));
+                    } catch (XMLStreamException | RuntimeException e) {
+                        LOGGER.warn("WSDL of " + servletInfo + " not rendered, CXF will generate it for each request", e);
+                    }
+                }
 
                 LOGGER.info(servletInfo.toString() + " available.");
             } else {
                 LOGGER.error("Cannot initialize " + servletInfo.toString());
             }
         }
+        // before the first message, when CXF would compile the schema of each endpoint
+        SchemaRegistry.getInstance().compile();
+        JAXBContextRegistry.getInstance().registerMetrics();
+        LOGGER.debug(JAXBContextRegistry.getInstance().report());
+        LOGGER.debug(SchemaRegistry.getInstance().report());
+    }
+
+    @Override
+    protected void invoke(HttpServletRequest request, HttpServletResponse response) throws ServletException {
+        try {
+            if (serveWsdlDocument(request, response, request.getPathInfo())) {
+                return;
+            }
+            List<RequestFilter> filters = getRequestFilters(request, request.getPathInfo());
+            if (filters == null) {
+                super.invoke(request, response);
+            } else {
+                process(filters, 0, request, response, super::invoke);
+            }
+        } catch (IOException e) {
+            throw new ServletException(e);
+        }
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        // installed as a filter, CXF takes the requests of its endpoints without going through invoke
+        if (request instanceof HttpServletRequest && response instanceof HttpServletResponse) {
+            HttpServletRequest httpRequest = (HttpServletRequest) request;
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            String path = httpRequest.getServletPath()
+                    + (httpRequest.getPathInfo() == null ? "" : httpRequest.getPathInfo());
+            if (serveWsdlDocument(httpRequest, httpResponse, path)) {
+                return;
+            }
+            List<RequestFilter> filters = getRequestFilters(httpRequest, path);
+            if (filters != null) {
+                process(filters, 0, httpRequest, httpResponse, (req, res) -> super.doFilter(req, res, chain));
+                return;
+            }
+        }
+        super.doFilter(request, response, chain);
+    }
+
+    private List<RequestFilter> getRequestFilters(HttpServletRequest request, String path) {
+        return "POST".equals(request.getMethod()) ? requestFilters.get(path) : null;
+    }
+
+    /**
+     * Answer a {@code ?wsdl} request with the WSDL rendered for the endpoint, if it has one.
+     */
+    private boolean serveWsdlDocument(HttpServletRequest request, HttpServletResponse response, String path)
+            throws IOException {
+        if (!"GET".equals(request.getMethod()) || !WsdlDocument.isWsdlQuery(request.getQueryString())) {
+            return false;
+        }
+        WsdlDocument wsdlDocument = wsdlDocuments.get(path);
+        if (wsdlDocument == null) {
+            return false;
+        }
+        wsdlDocument.serve(request, response);
+        return true;
+    }
+
+    private static void process(List<RequestFilter> filters, int index, HttpServletRequest request,
+            HttpServletResponse response, RequestProcessor last) throws ServletException, IOException {
+        if (index == filters.size()) {
+            last.process(request, response);
+        } else {
+            filters.get(index).process(request, response,
+                    (req, res) -> process(filters, index + 1, req, res, last));
+        }
     }
 
     public static void publish(CXFServletInfo cfg) {
@@ -3,6 +3,13 @@ package io.quarkus.cxf;
 import java.util.ArrayList;
 import java.util.List;
 
+import io.quarkus.cxf.attachment.MtomInfo;
+import io.quarkus.cxf.compression.CompressionInfo;
+import io.quarkus.cxf.server.CoalescingInfo;
+import io.quarkus.cxf.server.ResponseCacheInfo;
+import io.quarkus.cxf.server.WsdlDocumentInfo;
+import io.quarkus.cxf.transport.EnvelopeTemplates;
+
 public class CXFServletInfo {
     private String path;
     private String className;
@@ -14,6 +21,19 @@ public class CXFServletInfo {
     private String sei;
     private String wsdlPath;
     private String soapBinding;
+    private ResponseCacheInfo responseCache;
+    private CoalescingInfo coalescing;
+    private CompressionInfo compression;
+    private MtomInfo mtom;
+    private EnvelopeTemplates envelopeTemplates;
+    private WsdlDocumentInfo wsdlDocument;
+    private String schemaValidation;
+    private boolean fastInfosetEnabled;
+    private boolean fastInfosetForce;
+    private boolean directBufferResponses;
+    private boolean directBufferRequests;
+    private List<String> streamingOperations = new ArrayList<>();
+    private List<String> lazyOperations = new ArrayList<>();
 
     public CXFServletInfo(String path, String className, String sei, String wsdlPath, String soapBinding) {
         super();
@@ -69,6 +89,140 @@ public class CXFServletInfo {
         return soapBinding;
     }
 
+    /**
+     * @return the configuration of the response cache, or null if responses are not cached
+     */
+    public ResponseCacheInfo getResponseCache() {
+        return responseCache;
+    }
+
+    public void setResponseCache(ResponseCacheInfo responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * @return the configuration of the coalescing of identical requests, or null if they are not coalesced
+     */
+    public CoalescingInfo getCoalescing() {
+        return coalescing;
+    }
+
+    public void setCoalescing(CoalescingInfo coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    /**
+     * @return the configuration of the compression of the messages, or null if they are not compressed
+     */
+    public CompressionInfo getCompression() {
+        return compression;
+    }
+
+    public void setCompression(CompressionInfo compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * @return the configuration of MTOM attachments, or null if MTOM is disabled
+     */
+    public MtomInfo getMtom() {
+        return mtom;
+    }
+
+    public void setMtom(MtomInfo mtom) {
+        this.mtom = mtom;
+    }
+
+    /**
+     * @return the templates of the envelopes of the wrapped operations, or null if the envelopes are written by CXF
+     */
+    public EnvelopeTemplates getEnvelopeTemplates() {
+        return envelopeTemplates;
+    }
+
+    public void setEnvelopeTemplates(EnvelopeTemplates envelopeTemplates) {
+        this.envelopeTemplates = envelopeTemplates;
+    }
+
+    public WsdlDocumentInfo getWsdlDocument() {
+        return wsdlDocument;
+    }
+
+    public void setWsdlDocument(WsdlDocumentInfo wsdlDocument) {
+        this.wsdlDocument = wsdlDocument;
+    }
+
+    /**
+     * @return the messages validated against the schemas of the service, as a CXF schema validation type, or null
+     */
+    public String getSchemaValidation() {
+        return schemaValidation;
+    }
+
+    public void setSchemaValidation(String schemaValidation) {
+        this.schemaValidation = schemaValidation;
+    }
+
+    /**
+     * @return the operations whose last parameter, when a list, is unmarshalled while the implementor iterates it
+     */
+    public List<String> getStreamingOperations() {
+        return streamingOperations;
+    }
+
+    public void setStreamingOperations(List<String> streamingOperations) {
+        this.streamingOperations = streamingOperations;
+    }
+
+    /**
+     * @return the operations whose list parameters are bound when the implementor first accesses them
+     */
+    public List<String> getLazyOperations() {
+        return lazyOperations;
+    }
+
+    public void setLazyOperations(List<String> lazyOperations) {
+        this.lazyOperations = lazyOperations;
+    }
+
+    /**
+     * @return whether Fast Infoset is negotiated with the peers
+     */
+    public boolean isFastInfosetEnabled() {
+        return fastInfosetEnabled;
+    }
+
+    public void setFastInfosetEnabled(boolean fastInfosetEnabled) {
+        this.fastInfosetEnabled = fastInfosetEnabled;
+    }
+
+    /**
+     * @return whether every message is sent in Fast Infoset without negotiation
+     */
+    public boolean isFastInfosetForce() {
+        return fastInfosetForce;
+    }
+
+    public void setFastInfosetForce(boolean fastInfosetForce) {
+        this.fastInfosetForce = fastInfosetForce;
+    }
+
+    public boolean isDirectBufferResponses() {
+        return directBufferResponses;
+    }
+
+    public void setDirectBufferResponses(boolean directBufferResponses) {
+        this.directBufferResponses = directBufferResponses;
+    }
+
+    public boolean isDirectBufferRequests() {
+        return directBufferRequests;
+    }
+
+    public void setDirectBufferRequests(boolean directBufferRequests) {
+        this.directBufferRequests = directBufferRequests;
+    }
+
     @Override
     public String toString() {
         return "Web Service " + className + " on " + path;
@@ -4,6 +4,13 @@ import java.util.List;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.cxf.attachment.MtomInfo;
+import io.quarkus.cxf.compression.CompressionInfo;
+import io.quarkus.cxf.server.CoalescingInfo;
+import io.quarkus.cxf.server.ResponseCacheInfo;
+import io.quarkus.cxf.server.WsdlDocumentInfo;
+import io.quarkus.cxf.transport.EnvelopeTemplates;
+
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -12,13 +19,31 @@ public class CXFServletRecorder {
 
     public void registerCXFServlet(String path, String className,
             List<String> inInterceptors, List<String> outInterceptors, List<String> outFaultInterceptors,
-            List<String> inFaultInterceptors, List<String> features, String sei, String wsdlPath, String soapBinding) {
+            List<String> inFaultInterceptors, List<String> features, String sei, String wsdlPath, String soapBinding,
+            ResponseCacheInfo responseCache, CoalescingInfo coalescing,
+            CompressionInfo compression, boolean fastInfosetEnabled, boolean fastInfosetForce,
+            boolean directBufferResponses, boolean directBufferRequests, MtomInfo mtom,
+            List<String> streamingOperations, List<String> lazyOperations, EnvelopeTemplates envelopeTemplates,
+            WsdlDocumentInfo wsdlDocument, String schemaValidation) {
         CXFServletInfo cfg = new CXFServletInfo(path, className, sei, wsdlPath, soapBinding);
         cfg.getInInterceptors().addAll(inInterceptors);
         cfg.getOutInterceptors().addAll(outInterceptors);
         cfg.getOutFaultInterceptors().addAll(outFaultInterceptors);
         cfg.getInFaultInterceptors().addAll(inFaultInterceptors);
         cfg.getFeatures().addAll(features);
+        cfg.setResponseCache(responseCache);
+        cfg.setCoalescing(coalescing);
+        cfg.setCompression(compression);
+        cfg.setFastInfosetEnabled(fastInfosetEnabled);
+        cfg.setFastInfosetForce(fastInfosetForce);
+        cfg.setDirectBufferResponses(directBufferResponses);
+        cfg.setDirectBufferRequests(directBufferRequests);
+        cfg.setMtom(mtom);
+        cfg.getStreamingOperations().addAll(streamingOperations);
+        cfg.getLazyOperations().addAll(lazyOperations);
+        cfg.setEnvelopeTemplates(envelopeTemplates);
+        cfg.setWsdlDocument(wsdlDocument);
+        cfg.setSchemaValidation(schemaValidation);
         LOGGER.info("register CXF Servlet info");
         CXFQuarkusServlet.publish(cfg);
         LOGGER.info("published CXF Servlet info");
@@ -0,0 +1,135 @@
+package io.quarkus.cxf.attachment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.activation.DataHandler;
+import javax.activation.DataSource;
+
+import org.apache.cxf.attachment.AttachmentImpl;
+import org.apache.cxf.attachment.ByteDataSource;
+import org.apache.cxf.interceptor.AttachmentInInterceptor;
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.message.Attachment;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.jboss.logging.Logger;
+
+/**
+ * Reads the attachments of incoming MTOM messages as they arrive, before the body is unmarshalled. Attachments
+ * smaller than the spool threshold are kept on the heap. Larger ones are copied from the request to a temporary file,
+ * without buffering them on the heap, and handed to the service as a {@link MappedDataSource} of that file. The file
+ * is deleted once mapped.
+ */
+public class AttachmentSpoolingInterceptor extends AbstractPhaseInterceptor<Message> {
+
+    private static final Logger LOGGER = Logger.getLogger(AttachmentSpoolingInterceptor.class);
+    private static final int CHUNK_SIZE = 8192;
+    private static final int TRANSFER_SIZE = 1 << 20;
+
+    private final int spoolThreshold;
+    private final Path spoolDirectory;
+    private final long maxAttachmentSize;
+
+    public AttachmentSpoolingInterceptor(MtomInfo info) {
+        super(Phase.RECEIVE);
+        addAfter(AttachmentInInterceptor.class.getName());
+        this.spoolThreshold = info.getSpoolThreshold();
+        this.spoolDirectory = info.getSpoolDirectory() == null ? null : Paths.get(info.getSpoolDirectory());
+        this.maxAttachmentSize = info.getMaxAttachmentSize();
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+        Collection<Attachment> attachments = message.getAttachments();
+        if (attachments == null) {
+            return;
+        }
+        List<Attachment> spooled = new ArrayList<>();
+        try {
+            // the attachments are parsed from the request while iterating
+            for (Iterator<Attachment> it = attachments.iterator(); it.hasNext();) {
+                Attachment attachment = it.next();
+                AttachmentImpl copy = new AttachmentImpl(attachment.getId(), spool(attachment.getDataHandler()));
+                copy.setXOP(attachment.isXOP());
+                for (Iterator<String> names = attachment.getHeaderNames(); names.hasNext();) {
+                    String name = names.next();
+                    copy.setHeader(name, attachment.getHeader(name));
+                }
+                spooled.add(copy);
+            }
+        } catch (IOException e) {
+            throw new Fault(e);
+        }
+        message.setAttachments(spooled);
+    }
+
+    private DataHandler spool(DataHandler handler) throws IOException {
+        String contentType = handler.getContentType();
+        try (InputStream in = handler.getInputStream()) {
+            ByteArrayOutputStream head = new ByteArrayOutputStream(Math.min(spoolThreshold + 1, CHUNK_SIZE));
+            byte[] chunk = new byte[CHUNK_SIZE];
+            for (int read; head.size() <= spoolThreshold
+                    && (read = in.read(chunk, 0, Math.min(chunk.length, spoolThreshold + 1 - head.size()))) > 0;) {
+                head.write(chunk, 0, read);
+            }
+            if (head.size() <= spoolThreshold) {
+                checkSize(head.size());
+                return new DataHandler(new ByteDataSource(head.toByteArray(), contentType));
+            }
+            Path file = spoolDirectory == null ? Files.createTempFile("cxf-attachment", ".tmp")
+                    : Files.createTempFile(spoolDirectory, "cxf-attachment", ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.write(ByteBuffer.wrap(head.toByteArray()));
+                    ReadableByteChannel source = Channels.newChannel(in);
+                    long size = head.size();
+                    for (long transferred; (transferred = channel.transferFrom(source, size, TRANSFER_SIZE)) > 0;) {
+                        size += transferred;
+                        checkSize(size);
+                    }
+                }
+                return new DataHandler(mapped(file, contentType));
+            } finally {
+                delete(file);
+            }
+        }
+    }
+
+    private static DataSource mapped(Path file, String contentType) throws IOException {
+        if (Files.size(file) > Integer.MAX_VALUE) {
+            throw new IOException("Cannot map an attachment larger than 2GB");
+        }
+        return MappedDataSource.map(file, contentType);
+    }
+
+    private void checkSize(long size) throws IOException {
+        if (maxAttachmentSize >= 0 && size > maxAttachmentSize) {
+            throw new IOException("The attachment is larger than the maximum size of " + maxAttachmentSize + " bytes");
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // a mapped file cannot be deleted on some systems
+            LOGGER.debugf("failed to delete %s, deleting it on exit: %s", file, e);
+            file.toFile().deleteOnExit();
+        }
+    }
+}
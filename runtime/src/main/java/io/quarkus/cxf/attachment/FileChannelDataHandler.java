@@ -0,0 +1,54 @@
+package io.quarkus.cxf.attachment;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import javax.activation.DataHandler;
+import javax.activation.FileDataSource;
+
+/**
+ * An attachment read from a file, for services and clients sending files as MTOM attachments.
+ * <p>
+ * The file is transferred from its channel to the message as the attachment is written, the way the system does it
+ * best for the stream of the message, without reading the whole file on the heap.
+ */
+public class FileChannelDataHandler extends DataHandler {
+
+    private final Path file;
+
+    public FileChannelDataHandler(Path file, String contentType) {
+        super(new TypedFileDataSource(file, contentType));
+        this.file = file;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = out instanceof WritableByteChannel ? (WritableByteChannel) out
+                    : Channels.newChannel(out);
+            long size = channel.size();
+            for (long position = 0; position < size;) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    private static final class TypedFileDataSource extends FileDataSource {
+        private final String contentType;
+
+        TypedFileDataSource(Path file, String contentType) {
+            super(file.toFile());
+            this.contentType = contentType;
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType;
+        }
+    }
+}
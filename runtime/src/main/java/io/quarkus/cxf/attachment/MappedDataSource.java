@@ -0,0 +1,64 @@
+package io.quarkus.cxf.attachment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import javax.activation.DataSource;
+
+/**
+ * The content of a file mapped in memory: it is read from the page cache instead of being copied on the heap, and
+ * can be read any number of times.
+ */
+public final class MappedDataSource implements DataSource {
+
+    private final ByteBuffer content;
+    private final String contentType;
+    private final String name;
+
+    private MappedDataSource(ByteBuffer content, String contentType, String name) {
+        this.content = content;
+        this.contentType = contentType;
+        this.name = name;
+    }
+
+    /**
+     * Map a file of at most 2GB. The file can be deleted once mapped, its content stays readable until the data
+     * source is garbage collected, on the systems allowing to delete mapped files.
+     */
+    public static MappedDataSource map(Path file, String contentType) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MappedDataSource(content, contentType, file.getFileName().toString());
+        }
+    }
+
+    public long getSize() {
+        return content.capacity();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteBufferInputStream(content.duplicate());
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+        throw new IOException("A mapped attachment is read-only");
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
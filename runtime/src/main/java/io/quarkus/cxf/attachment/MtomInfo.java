@@ -0,0 +1,79 @@
+package io.quarkus.cxf.attachment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.cxf.attachment.AttachmentDeserializer;
+import org.apache.cxf.message.Message;
+
+/**
+ * Build time configuration of the MTOM attachments of an endpoint or a client.
+ */
+public class MtomInfo {
+    private int threshold;
+    private int spoolThreshold;
+    private String spoolDirectory;
+    private long maxAttachmentSize;
+
+    /**
+     * @return the size from which binary content is sent as an attachment instead of inline base64
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * @return the size from which an incoming attachment is spooled to a temporary file
+     */
+    public int getSpoolThreshold() {
+        return spoolThreshold;
+    }
+
+    public void setSpoolThreshold(int spoolThreshold) {
+        this.spoolThreshold = spoolThreshold;
+    }
+
+    /**
+     * @return the directory of the spooled attachments, or null for the temporary directory of the system
+     */
+    public String getSpoolDirectory() {
+        return spoolDirectory;
+    }
+
+    public void setSpoolDirectory(String spoolDirectory) {
+        this.spoolDirectory = spoolDirectory;
+    }
+
+    /**
+     * @return the maximum size of an incoming attachment, or a negative value for no limit
+     */
+    public long getMaxAttachmentSize() {
+        return maxAttachmentSize;
+    }
+
+    public void setMaxAttachmentSize(long maxAttachmentSize) {
+        this.maxAttachmentSize = maxAttachmentSize;
+    }
+
+    /**
+     * @return the properties enabling MTOM on the factory of an endpoint or a client
+     */
+    public Map<String, Object> createProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(Message.MTOM_ENABLED, Boolean.TRUE);
+        properties.put(Message.MTOM_THRESHOLD, threshold);
+        // attachments are spooled by AttachmentSpoolingInterceptor, these apply to the root part, as strings
+        properties.put(AttachmentDeserializer.ATTACHMENT_MEMORY_THRESHOLD, String.valueOf(spoolThreshold));
+        if (spoolDirectory != null) {
+            properties.put(AttachmentDeserializer.ATTACHMENT_DIRECTORY, spoolDirectory);
+        }
+        if (maxAttachmentSize >= 0) {
+            properties.put(AttachmentDeserializer.ATTACHMENT_MAX_SIZE, String.valueOf(maxAttachmentSize));
+        }
+        return properties;
+    }
+}
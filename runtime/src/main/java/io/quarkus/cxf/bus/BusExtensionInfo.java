@@ -0,0 +1,58 @@
+package io.quarkus.cxf.bus;
+
+/**
+ * A bus extension declared in a {@code META-INF/cxf/bus-extensions.txt} file, read at build time.
+ */
+public class BusExtensionInfo {
+    private String className;
+    private String interfaceName;
+    private boolean deferred;
+    private boolean optional;
+
+    public BusExtensionInfo() {
+    }
+
+    public BusExtensionInfo(String className, String interfaceName, boolean deferred, boolean optional) {
+        this.className = className;
+        this.interfaceName = interfaceName;
+        this.deferred = deferred;
+        this.optional = optional;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public void setClassName(String className) {
+        this.className = className;
+    }
+
+    public String getInterfaceName() {
+        return interfaceName;
+    }
+
+    public void setInterfaceName(String interfaceName) {
+        this.interfaceName = interfaceName;
+    }
+
+    public boolean isDeferred() {
+        return deferred;
+    }
+
+    public void setDeferred(boolean deferred) {
+        this.deferred = deferred;
+    }
+
+    public boolean isOptional() {
+        return optional;
+    }
+
+    public void setOptional(boolean optional) {
+        this.optional = optional;
+    }
+
+    @Override
+    public String toString() {
+        return className + ":" + (interfaceName == null ? "" : interfaceName) + ":" + deferred + ":" + optional;
+    }
+}
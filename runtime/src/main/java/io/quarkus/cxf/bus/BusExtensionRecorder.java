@@ -0,0 +1,29 @@
+package io.quarkus.cxf.bus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.cxf.bus.extension.Extension;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class BusExtensionRecorder {
+
+    /**
+     * Register the bus extensions read from the {@code bus-extensions.txt} files at build time, which the buses created
+     * by the {@link QuarkusBusFactory} use instead of scanning the class path for these files.
+     */
+    public void registerExtensions(List<BusExtensionInfo> extensionInfos) {
+        List<Extension> extensions = new ArrayList<>(extensionInfos.size());
+        for (BusExtensionInfo info : extensionInfos) {
+            Extension extension = new Extension();
+            extension.setClassname(info.getClassName());
+            extension.setInterfaceName(info.getInterfaceName());
+            extension.setDeferred(info.isDeferred());
+            extension.setOptional(info.isOptional());
+            extensions.add(extension);
+        }
+        QuarkusBusFactory.registerExtensions(extensions);
+    }
+}
@@ -0,0 +1,269 @@
+package io.quarkus.cxf.bus;
+
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.BusFactory;
+import org.apache.cxf.binding.BindingFactoryManager;
+import org.apache.cxf.bus.extension.ExtensionManager;
+import org.apache.cxf.bus.extension.ExtensionManagerBus;
+import org.apache.cxf.bus.extension.ExtensionManagerImpl;
+import org.apache.cxf.bus.extension.ExtensionRegistry;
+import org.apache.cxf.bus.managers.BindingFactoryManagerImpl;
+import org.apache.cxf.bus.managers.ConduitInitiatorManagerImpl;
+import org.apache.cxf.bus.managers.DestinationFactoryManagerImpl;
+import org.apache.cxf.buslifecycle.BusCreationListener;
+import org.apache.cxf.buslifecycle.BusLifeCycleManager;
+import org.apache.cxf.configuration.ConfiguredBeanLocator;
+import org.apache.cxf.configuration.Configurer;
+import org.apache.cxf.configuration.NullConfigurer;
+import org.apache.cxf.feature.Feature;
+import org.apache.cxf.interceptor.AbstractBasicInterceptorProvider;
+import org.apache.cxf.resource.DefaultResourceManager;
+import org.apache.cxf.resource.ObjectTypeResolver;
+import org.apache.cxf.resource.PropertiesResolver;
+import org.apache.cxf.resource.ResourceManager;
+import org.apache.cxf.resource.ResourceResolver;
+import org.apache.cxf.resource.SinglePropertyResolver;
+import org.apache.cxf.transport.ConduitInitiatorManager;
+import org.apache.cxf.transport.DestinationFactoryManager;
+
+/**
+ * A bus behaving as the {@link ExtensionManagerBus}, whose extension manager only has the extensions of the
+ * {@link ExtensionRegistry}.
+ * <p>
+ * The {@link ExtensionManagerBus} always has its extension manager read the {@code META-INF/cxf/bus-extensions.txt}
+ * files, with the given class loader and with the class loader of CXF, which a bus extending it cannot prevent.
+ */
+public class QuarkusBus extends AbstractBasicInterceptorProvider implements Bus {
+
+    private static final String BUS_ID_PROPERTY_NAME = "org.apache.cxf.bus.id";
+
+    private final Map<Class<?>, Object> extensions;
+    private final Set<Class<?>> missingExtensions = new CopyOnWriteArraySet<>();
+    private final Collection<Feature> features = new CopyOnWriteArrayList<>();
+    private final Map<String, Object> properties = new ConcurrentHashMap<>(16, 0.75f, 4);
+    private final ExtensionManagerImpl extensionManager;
+    private String id;
+    private volatile BusState state = BusState.INITIAL;
+
+    public QuarkusBus(Map<Class<?>, Object> extensions, Map<String, Object> properties,
+            ClassLoader extensionClassLoader) {
+        this.extensions = extensions == null ? new ConcurrentHashMap<>(16, 0.75f, 4)
+                : new ConcurrentHashMap<>(extensions);
+        BusFactory.possiblySetDefaultBus(this);
+        if (properties != null) {
+            this.properties.putAll(properties);
+        }
+        if (this.extensions.get(Configurer.class) == null) {
+            this.extensions.put(Configurer.class, new NullConfigurer());
+        }
+        Object busId = this.properties.get(BUS_ID_PROPERTY_NAME);
+        id = busId instanceof String && !((String) busId).isEmpty() ? (String) busId : null;
+
+        ResourceManager resourceManager = new DefaultResourceManager();
+        this.properties.put(BUS_ID_PROPERTY_NAME, ExtensionManagerBus.BUS_PROPERTY_NAME);
+        this.properties.put(ExtensionManagerBus.BUS_PROPERTY_NAME, this);
+        this.properties.put(DEFAULT_BUS_ID, this);
+        resourceManager.addResourceResolver(new PropertiesResolver(this.properties));
+        resourceManager.addResourceResolver(new SinglePropertyResolver(ExtensionManagerBus.BUS_PROPERTY_NAME, this));
+        resourceManager.addResourceResolver(new ObjectTypeResolver(this));
+        resourceManager.addResourceResolver(new SinglePropertyResolver(DEFAULT_BUS_ID, this));
+        resourceManager.addResourceResolver(new ObjectTypeResolver(this));
+        resourceManager.addResourceResolver(new ResourceResolver() {
+            @Override
+            public <T> T resolve(String resourceName, Class<T> resourceType) {
+                return extensionManager == null ? null : extensionManager.getExtension(resourceName, resourceType);
+            }
+
+            @Override
+            public InputStream getAsStream(String name) {
+                return null;
+            }
+        });
+        this.extensions.put(ResourceManager.class, resourceManager);
+
+        // no resource to read, the extension manager starts from the registered extensions
+        extensionManager = new ExtensionManagerImpl(new String[0], extensionClassLoader, this.extensions,
+                resourceManager, this);
+        if (getExtension(DestinationFactoryManager.class) == null) {
+            new DestinationFactoryManagerImpl(this);
+        }
+        if (getExtension(ConduitInitiatorManager.class) == null) {
+            new ConduitInitiatorManagerImpl(this);
+        }
+        if (getExtension(BindingFactoryManager.class) == null) {
+            new BindingFactoryManagerImpl(this);
+        }
+        extensionManager.activateAllByType(ResourceResolver.class);
+        this.extensions.put(ExtensionManager.class, extensionManager);
+    }
+
+    @Override
+    public final <T> T getExtension(Class<T> extensionType) {
+        Object extension = extensions.get(extensionType);
+        if (extension == null) {
+            if (missingExtensions.contains(extensionType)) {
+                return null;
+            }
+            ConfiguredBeanLocator locator = (ConfiguredBeanLocator) extensions.get(ConfiguredBeanLocator.class);
+            if (locator == null) {
+                locator = createConfiguredBeanLocator();
+            }
+            extension = locator.getBeanOfType(extensionType.getName(), extensionType);
+            if (extension != null) {
+                extensions.put(extensionType, extension);
+            } else {
+                Collection<?> beans = locator.getBeansOfType(extensionType);
+                if (beans != null && !beans.isEmpty()) {
+                    extensions.put(extensionType, beans.iterator().next());
+                }
+                extension = extensions.get(extensionType);
+            }
+        }
+        if (extension != null) {
+            return extensionType.cast(extension);
+        }
+        missingExtensions.add(extensionType);
+        return null;
+    }
+
+    @Override
+    public boolean hasExtensionByName(String name) {
+        for (Class<?> extensionType : extensions.keySet()) {
+            if (extensionType.getName().equals(name)) {
+                return true;
+            }
+        }
+        ConfiguredBeanLocator locator = (ConfiguredBeanLocator) extensions.get(ConfiguredBeanLocator.class);
+        if (locator == null) {
+            locator = createConfiguredBeanLocator();
+        }
+        return locator.hasBeanOfName(name);
+    }
+
+    private synchronized ConfiguredBeanLocator createConfiguredBeanLocator() {
+        ConfiguredBeanLocator locator = (ConfiguredBeanLocator) extensions.get(ConfiguredBeanLocator.class);
+        if (locator == null) {
+            locator = extensionManager;
+            setExtension(locator, ConfiguredBeanLocator.class);
+        }
+        return locator;
+    }
+
+    @Override
+    public final <T> void setExtension(T extension, Class<T> extensionType) {
+        if (extension == null) {
+            extensions.remove(extensionType);
+            missingExtensions.add(extensionType);
+        } else {
+            extensions.put(extensionType, extension);
+            missingExtensions.remove(extensionType);
+        }
+    }
+
+    @Override
+    public String getId() {
+        return id == null ? "cxf" + Math.abs(hashCode()) : id;
+    }
+
+    @Override
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public void initialize() {
+        state = BusState.INITIALIZING;
+        for (BusCreationListener listener : getExtension(ConfiguredBeanLocator.class)
+                .getBeansOfType(BusCreationListener.class)) {
+            listener.busCreated(this);
+        }
+        extensionManager.initialize();
+        for (Feature feature : features) {
+            feature.initialize(this);
+        }
+        BusLifeCycleManager lifeCycleManager = getExtension(BusLifeCycleManager.class);
+        if (lifeCycleManager != null) {
+            lifeCycleManager.initComplete();
+        }
+        state = BusState.RUNNING;
+    }
+
+    @Override
+    public void shutdown(boolean wait) {
+        if (state == BusState.SHUTTING_DOWN) {
+            return;
+        }
+        BusLifeCycleManager lifeCycleManager = getExtension(BusLifeCycleManager.class);
+        if (lifeCycleManager != null) {
+            lifeCycleManager.preShutdown();
+        }
+        synchronized (this) {
+            state = BusState.SHUTTING_DOWN;
+        }
+        extensionManager.destroyBeans();
+        synchronized (this) {
+            state = BusState.SHUTDOWN;
+            notifyAll();
+        }
+        if (lifeCycleManager != null) {
+            lifeCycleManager.postShutdown();
+        }
+        if (BusFactory.getDefaultBus(false) == this) {
+            BusFactory.setDefaultBus(null);
+        }
+        BusFactory.clearDefaultBusForAnyThread(this);
+    }
+
+    @Override
+    public BusState getState() {
+        return state;
+    }
+
+    @Override
+    public Collection<Feature> getFeatures() {
+        return features;
+    }
+
+    @Override
+    public synchronized void setFeatures(Collection<? extends Feature> features) {
+        this.features.clear();
+        this.features.addAll(features);
+        if (state == BusState.RUNNING) {
+            for (Feature feature : this.features) {
+                feature.initialize(this);
+            }
+        }
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+        return properties;
+    }
+
+    @Override
+    public void setProperties(Map<String, Object> properties) {
+        this.properties.clear();
+        this.properties.putAll(properties);
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        return properties.get(name);
+    }
+
+    @Override
+    public void setProperty(String name, Object value) {
+        if (value == null) {
+            properties.remove(name);
+        } else {
+            properties.put(name, value);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkus.cxf.bus;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.bus.CXFBusFactory;
+import org.apache.cxf.bus.extension.Extension;
+import org.apache.cxf.bus.extension.ExtensionRegistry;
+
+/**
+ * Creates {@link QuarkusBus}es with the extensions registered at build time by the {@link BusExtensionRecorder},
+ * without reading the {@code META-INF/cxf/bus-extensions.txt} files of the class path. Until the extensions are
+ * registered, the buses are created the way the {@link CXFBusFactory} does.
+ */
+public class QuarkusBusFactory extends CXFBusFactory {
+
+    private static volatile boolean extensionsRegistered;
+
+    static void registerExtensions(List<Extension> extensions) {
+        ExtensionRegistry.addExtensions(extensions);
+        extensionsRegistered = true;
+    }
+
+    public static boolean isExtensionsRegistered() {
+        return extensionsRegistered;
+    }
+
+    @Override
+    public Bus createBus(Map<Class<?>, Object> extensions, Map<String, Object> properties) {
+        if (!extensionsRegistered) {
+            return super.createBus(extensions, properties);
+        }
+        QuarkusBus bus = new QuarkusBus(extensions, properties, Thread.currentThread().getContextClassLoader());
+        possiblySetDefaultBus(bus);
+        initializeBus(bus);
+        bus.initialize();
+        return bus;
+    }
+}
@@ -0,0 +1,62 @@
+package io.quarkus.cxf.cache;
+
+/**
+ * Estimates how often keys were seen recently, with a count-min sketch of 4 bit counters. All counters are halved
+ * once the number of recorded keys reaches ten times the size of the cache, so that old popularity fades away.
+ * <p>
+ * Not thread safe, callers hold the lock of their cache.
+ */
+final class FrequencySketch {
+
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = { 0x97cb3127, 0xb4f89a3d, 0x6c4ee16f, 0x3bd2e1a5 };
+
+    private final byte[] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(long maximumSize) {
+        int width = Integer.highestOneBit((int) Math.max(16, Math.min(1 << 24, maximumSize)) - 1) << 1;
+        this.counters = new byte[width * SEEDS.length];
+        this.mask = width - 1;
+        this.sampleSize = (int) Math.min(Integer.MAX_VALUE / 2, 10 * Math.max(16, maximumSize));
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            frequency = Math.min(frequency, counters[index(hash, i)]);
+        }
+        return frequency;
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = index(hash, i);
+            if (counters[index] < MAX_COUNT) {
+                counters[index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] >>= 1;
+            }
+            additions /= 2;
+        }
+    }
+
+    private int index(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % SEEDS.length];
+        return row * (mask + 1) + ((h ^ (h >>> 16)) & mask);
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9e3779b9;
+        return h ^ (h >>> 15);
+    }
+}
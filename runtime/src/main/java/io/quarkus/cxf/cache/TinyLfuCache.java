@@ -0,0 +1,178 @@
+package io.quarkus.cxf.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache with W-TinyLFU eviction and expiration after write.
+ * <p>
+ * New entries enter a small LRU window. An entry leaving the window is only admitted into the main space, an LRU
+ * split between a probation and a protected segment, if it was requested more often than the entry it would evict,
+ * according to a {@link FrequencySketch}. A burst of keys requested once thus cannot flush the popular entries, while
+ * the window still gives new keys the chance to become popular.
+ * <p>
+ * The cache is guarded by a single lock, held for constant time map operations only.
+ */
+public class TinyLfuCache<K, V> {
+
+    private final long ttlNanos;
+    private final int windowCapacity;
+    private final int protectedCapacity;
+    private final int mainCapacity;
+    private final LinkedHashMap<K, Node<V>> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<V>> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maximumSize the maximum number of entries
+     * @param ttlMillis the time an entry stays in the cache after it was written, or 0 to keep it until evicted
+     */
+    public TinyLfuCache(int maximumSize, long ttlMillis) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size of a cache must be positive: " + maximumSize);
+        }
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.windowCapacity = Math.max(1, maximumSize / 100);
+        this.mainCapacity = Math.max(0, maximumSize - windowCapacity);
+        this.protectedCapacity = (int) (mainCapacity * 0.8);
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * @return the value of the key, or null if it is absent or expired
+     */
+    public V get(K key) {
+        Node<V> node;
+        synchronized (this) {
+            sketch.increment(key);
+            node = find(key);
+        }
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return node.value;
+    }
+
+    public void put(K key, V value) {
+        Node<V> node = new Node<>(value, ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0);
+        synchronized (this) {
+            if (window.containsKey(key)) {
+                window.put(key, node);
+            } else if (probation.containsKey(key)) {
+                probation.put(key, node);
+            } else if (protectedSegment.containsKey(key)) {
+                protectedSegment.put(key, node);
+            } else {
+                window.put(key, node);
+                if (window.size() > windowCapacity) {
+                    Iterator<Map.Entry<K, Node<V>>> eldest = window.entrySet().iterator();
+                    Map.Entry<K, Node<V>> candidate = eldest.next();
+                    eldest.remove();
+                    admit(candidate.getKey(), candidate.getValue());
+                }
+            }
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        if (window.remove(key) == null && probation.remove(key) == null) {
+            protectedSegment.remove(key);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+    }
+
+    public synchronized int size() {
+        return window.size() + probation.size() + protectedSegment.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the ratio of lookups which found a value, or 0 before the first lookup
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long requestCount = hitCount + misses.sum();
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    private Node<V> find(K key) {
+        Node<V> node = window.get(key);
+        if (node == null) {
+            node = protectedSegment.get(key);
+        }
+        if (node == null) {
+            node = probation.remove(key);
+            if (node != null && !node.isExpired()) {
+                protectedSegment.put(key, node);
+                if (protectedSegment.size() > protectedCapacity) {
+                    Iterator<Map.Entry<K, Node<V>>> eldest = protectedSegment.entrySet().iterator();
+                    Map.Entry<K, Node<V>> demoted = eldest.next();
+                    eldest.remove();
+                    probation.put(demoted.getKey(), demoted.getValue());
+                }
+            }
+        }
+        if (node != null && node.isExpired()) {
+            invalidate(key);
+            return null;
+        }
+        return node;
+    }
+
+    private void admit(K candidate, Node<V> node) {
+        if (probation.size() + protectedSegment.size() < mainCapacity) {
+            probation.put(candidate, node);
+            return;
+        }
+        LinkedHashMap<K, Node<V>> victimSegment = probation.isEmpty() ? protectedSegment : probation;
+        if (victimSegment.isEmpty()) {
+            evictions.increment();
+            return;
+        }
+        Iterator<Map.Entry<K, Node<V>>> eldest = victimSegment.entrySet().iterator();
+        Map.Entry<K, Node<V>> victim = eldest.next();
+        if (victim.getValue().isExpired() || sketch.frequency(candidate) > sketch.frequency(victim.getKey())) {
+            eldest.remove();
+            probation.put(candidate, node);
+        }
+        evictions.increment();
+    }
+
+    private static final class Node<V> {
+        final V value;
+        final long expiresAt;
+
+        Node(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return expiresAt != 0 && System.nanoTime() - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package io.quarkus.cxf.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import javax.xml.namespace.QName;
+import javax.xml.ws.Binding;
+import javax.xml.ws.BindingProvider;
+import javax.xml.ws.EndpointReference;
+import javax.xml.ws.Response;
+import javax.xml.ws.WebServiceException;
+import javax.xml.ws.handler.MessageContext;
+import javax.xml.ws.http.HTTPBinding;
+import javax.xml.ws.http.HTTPException;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.endpoint.ClientCallback;
+import org.apache.cxf.endpoint.ClientImpl;
+import org.apache.cxf.endpoint.ConduitSelector;
+import org.apache.cxf.endpoint.Endpoint;
+import org.apache.cxf.helpers.CastUtils;
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.interceptor.Interceptor;
+import org.apache.cxf.jaxws.JaxWsClientProxy;
+import org.apache.cxf.jaxws.context.WrappedMessageContext;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.ExchangeImpl;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.service.invoker.MethodDispatcher;
+import org.apache.cxf.service.model.BindingOperationInfo;
+import org.apache.cxf.transport.Conduit;
+
+/**
+ * Base class of the client stubs generated at build time for the service endpoint interfaces.
+ * <p>
+ * A generated stub implements each operation as a call to {@link #invoke(int, Object[])} with the index of the
+ * operation, for which the {@link Method} and the {@link BindingOperationInfo} are resolved once, when the stub is
+ * created. The synchronous calls then go through the {@link ClientCallExecutor} straight to
+ * {@link ClientImpl#invoke(BindingOperationInfo, Object[], Exchange)}, without the dynamic proxy and the method
+ * dispatcher. The asynchronous operations, and the clients which are not a {@link ClientImpl}, are left to the
+ * {@link JaxWsClientProxy} of the CXF proxy.
+ * <p>
+ * Like the CXF proxy, a stub implements {@link BindingProvider}, {@link Closeable} and {@link Client}. As it is not a
+ * dynamic proxy, {@code ClientProxy.getClient()} does not accept it: cast it to {@link Client} instead.
+ */
+public abstract class AbstractClientStub implements BindingProvider, Closeable, Client {
+
+    private final JaxWsClientProxy handler;
+    private final Client client;
+    private final ClientCallExecutor executor;
+    private final Method[] methods;
+    private final ClientCall.Target[] targets;
+
+    /**
+     * @param operations the operations of the stub in the order of their indexes, each one as its method name
+     *        followed by the comma separated names of its parameter types between parentheses, e.g.
+     *        {@code reply(java.lang.String)}
+     */
+    protected AbstractClientStub(Class<?> seiClass, Object cxfProxy, ClientCallExecutor executor, String[] operations) {
+        this.handler = (JaxWsClientProxy) Proxy.getInvocationHandler(cxfProxy);
+        this.client = handler.getClient();
+        this.executor = executor;
+        Map<String, Method> seiMethods = new HashMap<>();
+        for (Method method : seiClass.getMethods()) {
+            seiMethods.put(signature(method), method);
+        }
+        Endpoint endpoint = client.getEndpoint();
+        MethodDispatcher dispatcher = (MethodDispatcher) endpoint.getService().get(MethodDispatcher.class.getName());
+        ClientCall.Target proxyTarget = (method, args) -> handler.invoke(cxfProxy, method, args);
+        this.methods = new Method[operations.length];
+        this.targets = new ClientCall.Target[operations.length];
+        for (int i = 0; i < operations.length; i++) {
+            Method method = seiMethods.get(operations[i]);
+            if (method == null) {
+                throw new WebServiceException("Method " + operations[i] + " not found on " + seiClass.getName());
+            }
+            methods[i] = method;
+            BindingOperationInfo operation = dispatcher.getBindingOperation(method, endpoint);
+            if (operation == null || !(client instanceof ClientImpl) || isAsync(method)) {
+                targets[i] = proxyTarget;
+            } else {
+                targets[i] = (m, args) -> invokeOperation(m, operation, args);
+            }
+        }
+    }
+
+    protected final Object invoke(int operation, Object[] args) throws Throwable {
+        return executor.execute(methods[operation], args, targets[operation]);
+    }
+
+    /**
+     * The synchronous path of {@link JaxWsClientProxy#invoke(Object, Method, Object[])}, with the operation resolved
+     * beforehand.
+     */
+    private Object invokeOperation(Method method, BindingOperationInfo operation, Object[] args) throws Throwable {
+        String address = client.getEndpoint().getEndpointInfo().getAddress();
+        client.getRequestContext().put(Method.class.getName(), method);
+        Object[] result;
+        try {
+            result = ((ClientImpl) client).invoke(operation, args == null ? new Object[0] : args, new ExchangeImpl());
+        } catch (WebServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw mapException(method, e);
+        } finally {
+            String newAddress = client.getEndpoint().getEndpointInfo().getAddress();
+            if (newAddress != null && !newAddress.equals(address)) {
+                handler.getRequestContext().put(ENDPOINT_ADDRESS_PROPERTY, newAddress);
+            }
+        }
+        Map<String, Object> responseContext = client.getResponseContext();
+        Map<String, MessageContext.Scope> scopes = CastUtils.cast((Map<?, ?>) responseContext
+                .get(WrappedMessageContext.SCOPES));
+        if (scopes != null) {
+            for (Map.Entry<String, MessageContext.Scope> scope : scopes.entrySet()) {
+                if (scope.getValue() == MessageContext.Scope.HANDLER) {
+                    responseContext.remove(scope.getKey());
+                }
+            }
+        }
+        return result == null || result.length == 0 ? null : result[0];
+    }
+
+    /**
+     * Maps the failures of the client the way {@link JaxWsClientProxy} does, except for the SOAP faults: the CXF proxy
+     * turns them into {@code SOAPFaultException}s when the SAAJ API is available, which the extension does not ship,
+     * and into {@link WebServiceException}s otherwise.
+     */
+    private Exception mapException(Method method, Exception e) {
+        for (Class<?> exceptionType : method.getExceptionTypes()) {
+            if (exceptionType.isInstance(e)) {
+                return e;
+            }
+        }
+        if (e instanceof Fault && e.getCause() instanceof IOException) {
+            return new WebServiceException(e.getMessage(), e.getCause());
+        }
+        if (handler.getBinding() instanceof HTTPBinding) {
+            HTTPException exception = new HTTPException(500);
+            exception.initCause(e);
+            return exception;
+        }
+        return new WebServiceException(e);
+    }
+
+    private static boolean isAsync(Method method) {
+        return method.getName().endsWith("Async")
+                && (method.getReturnType().equals(Response.class) || method.getReturnType().equals(Future.class));
+    }
+
+    private static String signature(Method method) {
+        StringBuilder signature = new StringBuilder(method.getName()).append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                signature.append(',');
+            }
+            signature.append(parameterTypes[i].getName());
+        }
+        return signature.append(')').toString();
+    }
+
+    // BindingProvider and Closeable, as implemented by the CXF proxy
+
+    @Override
+    public Map<String, Object> getRequestContext() {
+        return handler.getRequestContext();
+    }
+
+    @Override
+    public Map<String, Object> getResponseContext() {
+        return handler.getResponseContext();
+    }
+
+    @Override
+    public Binding getBinding() {
+        return handler.getBinding();
+    }
+
+    @Override
+    public EndpointReference getEndpointReference() {
+        return handler.getEndpointReference();
+    }
+
+    @Override
+    public <T extends EndpointReference> T getEndpointReference(Class<T> clazz) {
+        return handler.getEndpointReference(clazz);
+    }
+
+    @Override
+    public void close() throws IOException {
+        handler.close();
+    }
+
+    // Client
+
+    @Override
+    public Object[] invoke(String operationName, Object... params) throws Exception {
+        return client.invoke(operationName, params);
+    }
+
+    @Override
+    public Object[] invoke(QName operationName, Object... params) throws Exception {
+        return client.invoke(operationName, params);
+    }
+
+    @Override
+    public Object[] invokeWrapped(String operationName, Object... params) throws Exception {
+        return client.invokeWrapped(operationName, params);
+    }
+
+    @Override
+    public Object[] invokeWrapped(QName operationName, Object... params) throws Exception {
+        return client.invokeWrapped(operationName, params);
+    }
+
+    @Override
+    public Object[] invoke(BindingOperationInfo oi, Object... params) throws Exception {
+        return client.invoke(oi, params);
+    }
+
+    @Override
+    public Object[] invoke(BindingOperationInfo oi, Object[] params, Map<String, Object> context) throws Exception {
+        return client.invoke(oi, params, context);
+    }
+
+    @Override
+    public Object[] invoke(BindingOperationInfo oi, Object[] params, Map<String, Object> context, Exchange exchange)
+            throws Exception {
+        return client.invoke(oi, params, context, exchange);
+    }
+
+    @Override
+    public void invoke(ClientCallback callback, String operationName, Object... params) throws Exception {
+        client.invoke(callback, operationName, params);
+    }
+
+    @Override
+    public void invoke(ClientCallback callback, QName operationName, Object... params) throws Exception {
+        client.invoke(callback, operationName, params);
+    }
+
+    @Override
+    public void invokeWrapped(ClientCallback callback, String operationName, Object... params) throws Exception {
+        client.invokeWrapped(callback, operationName, params);
+    }
+
+    @Override
+    public void invokeWrapped(ClientCallback callback, QName operationName, Object... params) throws Exception {
+        client.invokeWrapped(callback, operationName, params);
+    }
+
+    @Override
+    public void invoke(ClientCallback callback, BindingOperationInfo oi, Object... params) throws Exception {
+        client.invoke(callback, oi, params);
+    }
+
+    @Override
+    public void invoke(ClientCallback callback, BindingOperationInfo oi, Object[] params, Map<String, Object> context)
+            throws Exception {
+        client.invoke(callback, oi, params, context);
+    }
+
+    @Override
+    public void invoke(ClientCallback callback, BindingOperationInfo oi, Object[] params, Exchange exchange)
+            throws Exception {
+        client.invoke(callback, oi, params, exchange);
+    }
+
+    @Override
+    public void invoke(ClientCallback callback, BindingOperationInfo oi, Object[] params, Map<String, Object> context,
+            Exchange exchange) throws Exception {
+        client.invoke(callback, oi, params, context, exchange);
+    }
+
+    @Override
+    public void setThreadLocalRequestContext(boolean b) {
+        client.setThreadLocalRequestContext(b);
+    }
+
+    @Override
+    public boolean isThreadLocalRequestContext() {
+        return client.isThreadLocalRequestContext();
+    }
+
+    @Override
+    public Contexts getContexts() {
+        return client.getContexts();
+    }
+
+    @Override
+    public Endpoint getEndpoint() {
+        return client.getEndpoint();
+    }
+
+    @Override
+    public Conduit getConduit() {
+        return client.getConduit();
+    }
+
+    @Override
+    public ConduitSelector getConduitSelector() {
+        return client.getConduitSelector();
+    }
+
+    @Override
+    public void setConduitSelector(ConduitSelector selector) {
+        client.setConduitSelector(selector);
+    }
+
+    @Override
+    public void destroy() {
+        client.destroy();
+    }
+
+    @Override
+    public void setExecutor(Executor executor) {
+        client.setExecutor(executor);
+    }
+
+    @Override
+    public Bus getBus() {
+        return client.getBus();
+    }
+
+    @Override
+    public List<Interceptor<? extends Message>> getInInterceptors() {
+        return client.getInInterceptors();
+    }
+
+    @Override
+    public List<Interceptor<? extends Message>> getOutInterceptors() {
+        return client.getOutInterceptors();
+    }
+
+    @Override
+    public List<Interceptor<? extends Message>> getInFaultInterceptors() {
+        return client.getInFaultInterceptors();
+    }
+
+    @Override
+    public List<Interceptor<? extends Message>> getOutFaultInterceptors() {
+        return client.getOutFaultInterceptors();
+    }
+
+    @Override
+    public void onMessage(Message message) {
+        client.onMessage(message);
+    }
+}
@@ -0,0 +1,15 @@
+package io.quarkus.cxf.client;
+
+import javax.xml.ws.WebServiceException;
+
+/**
+ * Thrown instead of calling the service when the bulkhead of a client has no capacity left.
+ */
+public class BulkheadFullException extends WebServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package io.quarkus.cxf.client;
+
+public enum BulkheadType {
+    /**
+     * Calls run on the caller thread, concurrency is limited by a semaphore.
+     */
+    SEMAPHORE,
+    /**
+     * Calls run on a bounded thread pool dedicated to the client.
+     */
+    THREAD_POOL
+}
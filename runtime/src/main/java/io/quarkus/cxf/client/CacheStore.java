@@ -0,0 +1,13 @@
+package io.quarkus.cxf.client;
+
+public enum CacheStore {
+    /**
+     * Cached results are kept as is and returned to every caller, who must not change them.
+     */
+    HEAP,
+    /**
+     * Cached results are serialized in direct buffers, outside of the Java heap, and each caller receives its own
+     * copy. Results which are not serializable are kept on the heap.
+     */
+    OFF_HEAP
+}
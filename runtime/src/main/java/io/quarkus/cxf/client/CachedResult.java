@@ -0,0 +1,76 @@
+package io.quarkus.cxf.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.ByteBuffer;
+
+/**
+ * The result of a call kept by {@link ClientCacheHandler}, either as is or serialized in a direct buffer.
+ */
+final class CachedResult {
+
+    private final Object value;
+    private final ByteBuffer serialized;
+    private final long writtenAt;
+
+    private CachedResult(Object value, ByteBuffer serialized) {
+        this.value = value;
+        this.serialized = serialized;
+        this.writtenAt = System.nanoTime();
+    }
+
+    static CachedResult onHeap(Object value) {
+        return new CachedResult(value, null);
+    }
+
+    /**
+     * @throws NotSerializableException if the value cannot be kept off the heap
+     */
+    static CachedResult offHeap(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.size());
+        buffer.put(bytes.toByteArray()).flip();
+        return new CachedResult(null, buffer);
+    }
+
+    boolean isOlderThan(long nanos) {
+        return System.nanoTime() - writtenAt >= nanos;
+    }
+
+    Object getValue() throws IOException, ClassNotFoundException {
+        if (serialized == null) {
+            return value;
+        }
+        ByteBuffer buffer = serialized.duplicate();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        try (ObjectInputStream in = new ContextClassLoaderObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+
+    private static final class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+        ContextClassLoaderObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, Thread.currentThread().getContextClassLoader());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
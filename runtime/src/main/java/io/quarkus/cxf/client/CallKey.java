@@ -0,0 +1,45 @@
+package io.quarkus.cxf.client;
+
+import java.util.Arrays;
+
+/**
+ * Identifies the calls of an operation with equal arguments, sent with equal values of the request context entries
+ * selecting the result, e.g. the endpoint address. Arguments and values are compared with their {@code equals}
+ * method, arrays by content.
+ */
+final class CallKey {
+
+    private final String operation;
+    private final Object[] args;
+    private final Object[] context;
+    private final int hashCode;
+
+    CallKey(String operation, Object[] args, Object[] context) {
+        this.operation = operation;
+        this.args = args == null ? new Object[0] : args.clone();
+        this.context = context;
+        this.hashCode = 31 * (31 * operation.hashCode() + Arrays.deepHashCode(this.args))
+                + Arrays.deepHashCode(context);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof CallKey)) {
+            return false;
+        }
+        CallKey other = (CallKey) obj;
+        return hashCode == other.hashCode && operation.equals(other.operation) && Arrays.deepEquals(args, other.args)
+                && Arrays.deepEquals(context, other.context);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return context.length == 0 ? operation + Arrays.deepToString(args)
+                : operation + Arrays.deepToString(args) + Arrays.deepToString(context);
+    }
+}
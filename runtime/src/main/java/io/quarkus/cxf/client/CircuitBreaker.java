@@ -0,0 +1,218 @@
+package io.quarkus.cxf.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.xml.ws.WebServiceException;
+import javax.xml.ws.soap.SOAPFaultException;
+
+import io.quarkus.cxf.metrics.CxfMetrics;
+
+/**
+ * Count based circuit breaker opening on a failure rate or a slow call rate.
+ * <p>
+ * Only technical failures (a {@link WebServiceException} which is not a SOAP fault) count as failures: faults returned
+ * by the service prove that it is reachable and answering, and a full bulkhead is a limit of the client. While the
+ * circuit is open, calls are rejected with a {@link CircuitBreakerOpenException} before any connection is opened.
+ */
+public class CircuitBreaker implements ClientCallHandler {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final int minimumNumberOfCalls;
+    private final long waitDurationInOpenStateNanos;
+    private final int permittedCallsInHalfOpenState;
+
+    /* ring buffer of the last outcomes, flags combined with SLOW */
+    private final byte[] window;
+    private int windowPosition;
+    private int windowCount;
+    private int windowFailures;
+    private int windowSlowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenCompleted;
+
+    private final LongAdder successfulCalls = new LongAdder();
+    private final LongAdder failedCalls = new LongAdder();
+    private final LongAdder slowCalls = new LongAdder();
+    private final LongAdder notPermittedCalls = new LongAdder();
+
+    public CircuitBreaker(String name, float failureRateThreshold, float slowCallRateThreshold, long slowCallDurationMillis,
+            int slidingWindowSize, int minimumNumberOfCalls, long waitDurationInOpenStateMillis,
+            int permittedCallsInHalfOpenState) {
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDurationNanos = TimeUnit.MILLISECONDS.toNanos(slowCallDurationMillis);
+        this.window = new byte[Math.max(1, slidingWindowSize)];
+        this.minimumNumberOfCalls = Math.max(1, Math.min(minimumNumberOfCalls, window.length));
+        this.waitDurationInOpenStateNanos = TimeUnit.MILLISECONDS.toNanos(waitDurationInOpenStateMillis);
+        this.permittedCallsInHalfOpenState = Math.max(1, permittedCallsInHalfOpenState);
+        registerMetrics();
+    }
+
+    @Override
+    public Object handle(ClientCall call) throws Throwable {
+        if (!tryAcquirePermission()) {
+            notPermittedCalls.increment();
+            throw new CircuitBreakerOpenException("Circuit breaker of client " + name + " is " + getState());
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = call.proceed();
+            onResult(false, System.nanoTime() - start);
+            return result;
+        } catch (Throwable t) {
+            onResult(isFailure(t), System.nanoTime() - start);
+            throw t;
+        }
+    }
+
+    protected boolean isFailure(Throwable t) {
+        return t instanceof WebServiceException && !(t instanceof SOAPFaultException)
+                && !(t instanceof BulkheadFullException);
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= waitDurationInOpenStateNanos) {
+            transitionToHalfOpen();
+        }
+        return state;
+    }
+
+    public synchronized float getFailureRate() {
+        return windowCount < minimumNumberOfCalls ? -1 : windowFailures * 100f / windowCount;
+    }
+
+    public synchronized float getSlowCallRate() {
+        return windowCount < minimumNumberOfCalls ? -1 : windowSlowCalls * 100f / windowCount;
+    }
+
+    private synchronized boolean tryAcquirePermission() {
+        switch (getState()) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (halfOpenPermits > 0) {
+                    halfOpenPermits--;
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private synchronized void onResult(boolean failure, long durationNanos) {
+        boolean slow = durationNanos >= slowCallDurationNanos;
+        if (failure) {
+            failedCalls.increment();
+        } else {
+            successfulCalls.increment();
+        }
+        if (slow) {
+            slowCalls.increment();
+        }
+        if (state == State.OPEN) {
+            // call permitted before the circuit opened, its outcome is already irrelevant
+            return;
+        }
+        record((byte) ((failure ? FAILURE : SUCCESS) | (slow ? SLOW : 0)));
+        if (state == State.HALF_OPEN) {
+            halfOpenCompleted++;
+            if (halfOpenCompleted >= permittedCallsInHalfOpenState) {
+                if (isAboveThresholds(halfOpenCompleted)) {
+                    transitionToOpen();
+                } else {
+                    transitionToClosed();
+                }
+            }
+        } else if (windowCount >= minimumNumberOfCalls && isAboveThresholds(windowCount)) {
+            transitionToOpen();
+        }
+    }
+
+    private void record(byte outcome) {
+        if (windowCount == window.length) {
+            byte evicted = window[windowPosition];
+            windowFailures -= evicted & FAILURE;
+            windowSlowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            windowCount++;
+        }
+        window[windowPosition] = outcome;
+        windowFailures += outcome & FAILURE;
+        windowSlowCalls += (outcome & SLOW) >> 1;
+        windowPosition = (windowPosition + 1) % window.length;
+    }
+
+    private boolean isAboveThresholds(int calls) {
+        int failures = state == State.HALF_OPEN ? countLast(calls, FAILURE) : windowFailures;
+        int slow = state == State.HALF_OPEN ? countLast(calls, SLOW) : windowSlowCalls;
+        return failures * 100f / calls >= failureRateThreshold || slow * 100f / calls >= slowCallRateThreshold;
+    }
+
+    private int countLast(int calls, byte flag) {
+        int count = 0;
+        for (int i = 1; i <= Math.min(calls, windowCount); i++) {
+            if ((window[(windowPosition - i + window.length) % window.length] & flag) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void transitionToOpen() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+    }
+
+    private void transitionToHalfOpen() {
+        state = State.HALF_OPEN;
+        halfOpenPermits = permittedCallsInHalfOpenState;
+        halfOpenCompleted = 0;
+    }
+
+    private void transitionToClosed() {
+        state = State.CLOSED;
+        windowPosition = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        windowSlowCalls = 0;
+    }
+
+    private void registerMetrics() {
+        String[] tags = { "client", name };
+        CxfMetrics.gauge("cxf.client.circuitbreaker.state",
+                "Circuit breaker state: 0 closed, 1 open, 2 half open", () -> getState().ordinal(), tags);
+        CxfMetrics.gauge("cxf.client.circuitbreaker.failure.rate",
+                "Failure rate in percent over the sliding window, -1 until enough calls were recorded",
+                this::getFailureRate, tags);
+        CxfMetrics.gauge("cxf.client.circuitbreaker.slow.call.rate",
+                "Slow call rate in percent over the sliding window, -1 until enough calls were recorded",
+                this::getSlowCallRate, tags);
+        CxfMetrics.counter("cxf.client.circuitbreaker.calls.successful", "Calls not counted as failures",
+                successfulCalls::sum, tags);
+        CxfMetrics.counter("cxf.client.circuitbreaker.calls.failed", "Calls counted as failures",
+                failedCalls::sum, tags);
+        CxfMetrics.counter("cxf.client.circuitbreaker.calls.slow", "Calls slower than the slow call duration",
+                slowCalls::sum, tags);
+        CxfMetrics.counter("cxf.client.circuitbreaker.calls.not.permitted", "Calls rejected by the open circuit",
+                notPermittedCalls::sum, tags);
+    }
+}
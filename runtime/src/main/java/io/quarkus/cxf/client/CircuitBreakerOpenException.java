@@ -0,0 +1,15 @@
+package io.quarkus.cxf.client;
+
+import javax.xml.ws.WebServiceException;
+
+/**
+ * Thrown instead of calling the service while the {@link CircuitBreaker} of a client does not permit calls.
+ */
+public class CircuitBreakerOpenException extends WebServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
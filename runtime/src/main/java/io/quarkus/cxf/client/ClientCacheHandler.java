@@ -0,0 +1,253 @@
+package io.quarkus.cxf.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import javax.xml.ws.WebServiceException;
+
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.message.Message;
+import org.jboss.logging.Logger;
+
+import io.quarkus.cxf.cache.TinyLfuCache;
+import io.quarkus.cxf.metrics.CxfMetrics;
+
+/**
+ * Caches the results of the cacheable operations of a client by operation and arguments, and by the endpoint address
+ * and the values of the configured entries of the request context.
+ * <p>
+ * The calls whose request context has other entries, or other values for them, than the request context of the client
+ * when the cache was created are not cached: they may select another result than the same call without them.
+ * <p>
+ * Once older than the refresh delay, a result is stale: it is still returned, while a single background call
+ * refreshes it. Results are dropped once older than the time to live. Concurrent calls missing the same key are
+ * collapsed into one call to the service, whose result or failure they all receive. Failures are not cached.
+ */
+public class ClientCacheHandler implements ClientCallHandler, Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(ClientCacheHandler.class);
+
+    private final String name;
+    private final Predicate<ClientCall> cacheable;
+    private final Client client;
+    private final String[] contextKeys;
+    private final Map<String, Object> initialContext;
+    private final long refreshAfterNanos;
+    private final CacheStore store;
+    private final TinyLfuCache<CallKey, CachedResult> cache;
+    private final ConcurrentMap<CallKey, CompletableFuture<CachedResult>> inFlight = new ConcurrentHashMap<>();
+    private final Set<CallKey> refreshing = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor refresher;
+    private final LongAdder collapsedCalls = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    /**
+     * A cache of calls which do not go through a CXF client, keyed by operation and arguments only.
+     *
+     * @param refreshAfterMillis the age of a stale result, or 0 to never refresh results in the background
+     */
+    public ClientCacheHandler(String name, Predicate<ClientCall> cacheable, int maximumSize, long ttlMillis,
+            long refreshAfterMillis, CacheStore store) {
+        this(name, cacheable, null, Collections.emptyList(), maximumSize, ttlMillis, refreshAfterMillis, store);
+    }
+
+    /**
+     * @param client the client whose request context is checked on each call
+     * @param contextKeys the request context entries whose values select the result, added to the key of the calls
+     * @param refreshAfterMillis the age of a stale result, or 0 to never refresh results in the background
+     */
+    public ClientCacheHandler(String name, Predicate<ClientCall> cacheable, Client client,
+            Collection<String> contextKeys, int maximumSize, long ttlMillis, long refreshAfterMillis,
+            CacheStore store) {
+        this.name = name;
+        this.cacheable = cacheable;
+        this.client = client;
+        this.contextKeys = contextKeys.toArray(new String[0]);
+        this.initialContext = client == null ? Collections.emptyMap() : keyless(client.getRequestContext());
+        this.refreshAfterNanos = TimeUnit.MILLISECONDS.toNanos(refreshAfterMillis);
+        this.store = store;
+        this.cache = new TinyLfuCache<>(maximumSize, ttlMillis);
+        this.refresher = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread thread = new Thread(r, "cxf-client-cache-" + name);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.refresher.allowCoreThreadTimeOut(true);
+        String[] tags = { "client", name };
+        CxfMetrics.counter("cxf.client.cache.hits", "Calls answered from the cache", cache::getHitCount, tags);
+        CxfMetrics.counter("cxf.client.cache.misses", "Calls not found in the cache", cache::getMissCount, tags);
+        CxfMetrics.gauge("cxf.client.cache.hit.rate", "Ratio of calls answered from the cache", cache::getHitRate,
+                tags);
+        CxfMetrics.gauge("cxf.client.cache.size", "Number of results in the cache", cache::size, tags);
+        CxfMetrics.counter("cxf.client.cache.collapsed.calls", "Calls which waited for the same call in flight",
+                collapsedCalls::sum, tags);
+        CxfMetrics.counter("cxf.client.cache.refreshes", "Stale results refreshed in the background",
+                refreshes::sum, tags);
+    }
+
+    @Override
+    public Object handle(ClientCall call) throws Throwable {
+        if (!cacheable.test(call)) {
+            return call.proceed();
+        }
+        CallKey key = key(call);
+        if (key == null) {
+            return call.proceed();
+        }
+        CachedResult cached = cache.get(key);
+        if (cached == null) {
+            return load(key, call);
+        }
+        if (refreshAfterNanos > 0 && cached.isOlderThan(refreshAfterNanos) && refreshing.add(key)) {
+            refresh(key, call);
+        }
+        return cached.getValue();
+    }
+
+    /**
+     * @return the key of the call, or null if its request context has per-call values
+     */
+    private CallKey key(ClientCall call) {
+        if (client == null) {
+            return new CallKey(call.getOperationName(), call.getArgs(), new Object[0]);
+        }
+        Map<String, Object> context = client.getRequestContext();
+        if (hasPerCallValues(context)) {
+            return null;
+        }
+        Object[] values = new Object[contextKeys.length + 1];
+        Object address = context.get(Message.ENDPOINT_ADDRESS);
+        values[0] = address != null ? address : client.getEndpoint().getEndpointInfo().getAddress();
+        for (int i = 0; i < contextKeys.length; i++) {
+            values[i + 1] = context.get(contextKeys[i]);
+        }
+        return new CallKey(call.getOperationName(), call.getArgs(), values);
+    }
+
+    private boolean hasPerCallValues(Map<String, Object> context) {
+        int entries = 0;
+        for (Map.Entry<String, Object> entry : context.entrySet()) {
+            if (isKeyOrCallEntry(entry.getKey())) {
+                continue;
+            }
+            entries++;
+            Object initialValue = initialContext.get(entry.getKey());
+            if (initialValue == null ? entry.getValue() != null || !initialContext.containsKey(entry.getKey())
+                    : !initialValue.equals(entry.getValue())) {
+                return true;
+            }
+        }
+        return entries != initialContext.size();
+    }
+
+    /**
+     * The entries of a request context which are not part of the keys.
+     */
+    private Map<String, Object> keyless(Map<String, Object> context) {
+        Map<String, Object> keyless = new HashMap<>();
+        for (Map.Entry<String, Object> entry : context.entrySet()) {
+            if (!isKeyOrCallEntry(entry.getKey())) {
+                keyless.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return keyless;
+    }
+
+    /**
+     * Whether the entry is part of the keys, or the method the CXF proxy records for each call.
+     */
+    private boolean isKeyOrCallEntry(String entryKey) {
+        if (Message.ENDPOINT_ADDRESS.equals(entryKey) || Method.class.getName().equals(entryKey)) {
+            return true;
+        }
+        for (String contextKey : contextKeys) {
+            if (contextKey.equals(entryKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        refresher.shutdownNow();
+    }
+
+    private Object load(CallKey key, ClientCall call) throws Throwable {
+        CompletableFuture<CachedResult> result = new CompletableFuture<>();
+        CompletableFuture<CachedResult> existing = inFlight.putIfAbsent(key, result);
+        if (existing != null) {
+            collapsedCalls.increment();
+            return await(existing).getValue();
+        }
+        try {
+            CachedResult cached = store(key, call.proceed());
+            cache.put(key, cached);
+            result.complete(cached);
+            return cached.getValue();
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, result);
+        }
+    }
+
+    private void refresh(CallKey key, ClientCall call) {
+        Callable<Object> task = call.toCallable();
+        try {
+            refresher.execute(() -> {
+                try {
+                    cache.put(key, store(key, task.call()));
+                    refreshes.increment();
+                } catch (Exception e) {
+                    LOGGER.debugf(e, "failed to refresh %s of client %s", key, name);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private CachedResult store(CallKey key, Object value) {
+        if (store == CacheStore.OFF_HEAP) {
+            try {
+                return CachedResult.offHeap(value);
+            } catch (IOException e) {
+                LOGGER.debugf("result of %s of client %s kept on the heap: %s", key, name, e);
+            }
+        }
+        return CachedResult.onHeap(value);
+    }
+
+    private CachedResult await(CompletableFuture<CachedResult> result) throws Throwable {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            throw ClientCall.unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebServiceException("Interrupted while waiting for the response of client " + name, e);
+        }
+    }
+}
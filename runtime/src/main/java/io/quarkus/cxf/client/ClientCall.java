@@ -0,0 +1,95 @@
+package io.quarkus.cxf.client;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * One invocation of a service endpoint interface method travelling through the {@link ClientCallHandler}s of a
+ * client.
+ * <p>
+ * Instances are immutable, so {@link #proceed()} may be called several times, possibly concurrently (e.g. to retry or
+ * hedge a call): every call runs the remaining handlers and the target again.
+ */
+public final class ClientCall {
+
+    /**
+     * The end of the handler chain, usually the CXF client itself.
+     */
+    @FunctionalInterface
+    public interface Target {
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+
+    private final Method method;
+    private final Object[] args;
+    private final List<ClientCallHandler> handlers;
+    private final int position;
+    private final Target target;
+
+    public ClientCall(Method method, Object[] args, List<ClientCallHandler> handlers, Target target) {
+        this(method, args, handlers, 0, target);
+    }
+
+    private ClientCall(Method method, Object[] args, List<ClientCallHandler> handlers, int position, Target target) {
+        this.method = method;
+        this.args = args;
+        this.handlers = handlers;
+        this.position = position;
+        this.target = target;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public String getOperationName() {
+        return method.getName();
+    }
+
+    public Object[] getArgs() {
+        return args;
+    }
+
+    /**
+     * Continue with the next handler, or invoke the target once all handlers have been passed.
+     */
+    public Object proceed() throws Throwable {
+        if (position < handlers.size()) {
+            return handlers.get(position).handle(new ClientCall(method, args, handlers, position + 1, target));
+        }
+        return target.invoke(method, args);
+    }
+
+    /**
+     * The rest of the call as a task for another thread. The task runs with the context class loader of the calling
+     * thread, and throwables which are neither exceptions nor errors are wrapped in an {@link ExecutionException}, to
+     * be unwrapped by {@link #unwrap(ExecutionException)}.
+     */
+    public Callable<Object> toCallable() {
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        return () -> {
+            Thread current = Thread.currentThread();
+            ClassLoader previous = current.getContextClassLoader();
+            current.setContextClassLoader(tccl);
+            try {
+                return proceed();
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new ExecutionException(t);
+            } finally {
+                current.setContextClassLoader(previous);
+            }
+        };
+    }
+
+    /**
+     * The failure of a task created by {@link #toCallable()}.
+     */
+    public static Throwable unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        return cause instanceof ExecutionException && cause.getCause() != null ? cause.getCause() : cause;
+    }
+}
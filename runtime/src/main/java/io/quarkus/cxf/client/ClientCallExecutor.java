@@ -0,0 +1,68 @@
+package io.quarkus.cxf.client;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.cxf.endpoint.Client;
+
+/**
+ * Runs the calls of a client through its {@link ClientCallHandler}s, within the configured
+ * {@link RequestContextScope}.
+ * <p>
+ * Unless the request context is {@link RequestContextScope#SHARED shared}, the request context of the calling thread is
+ * copied to the threads the handlers may run the call on, and a {@link RequestContextScope#CALL call scoped} request
+ * context is dropped after each call, the next one starting from a fresh copy of the configured context.
+ */
+public final class ClientCallExecutor {
+
+    private final List<ClientCallHandler> handlers;
+    private final RequestContextScope requestContextScope;
+    private final Client client;
+
+    public ClientCallExecutor(Client client, List<ClientCallHandler> handlers, RequestContextScope requestContextScope) {
+        this.handlers = handlers;
+        this.requestContextScope = requestContextScope;
+        this.client = requestContextScope == RequestContextScope.SHARED ? null : client;
+    }
+
+    /**
+     * @return whether calls can go straight to the client
+     */
+    public boolean isPassThrough() {
+        return handlers.isEmpty() && requestContextScope != RequestContextScope.CALL;
+    }
+
+    public Object execute(Method method, Object[] args, ClientCall.Target target) throws Throwable {
+        if (client == null) {
+            return handlers.isEmpty() ? target.invoke(method, args)
+                    : new ClientCall(method, args, handlers, target).proceed();
+        }
+        Map<String, Object> context = client.getRequestContext();
+        try {
+            return handlers.isEmpty() ? target.invoke(method, args)
+                    : new ClientCall(method, args, handlers, propagating(Thread.currentThread(), context, target))
+                            .proceed();
+        } finally {
+            if (requestContextScope == RequestContextScope.CALL) {
+                // drops the context of this thread, the next call copies the configured one again
+                context.clear();
+            }
+        }
+    }
+
+    private ClientCall.Target propagating(Thread caller, Map<String, Object> context, ClientCall.Target target) {
+        return (method, args) -> {
+            if (Thread.currentThread() == caller) {
+                return target.invoke(method, args);
+            }
+            Map<String, Object> workerContext = client.getRequestContext();
+            workerContext.putAll(context);
+            try {
+                return target.invoke(method, args);
+            } finally {
+                workerContext.clear();
+            }
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package io.quarkus.cxf.client;
+
+/**
+ * A policy applied around every operation invoked on a generated CXF client.
+ * <p>
+ * Implementations decide whether and how often to {@link ClientCall#proceed() proceed} with the call, which continues
+ * with the next handler and finally reaches the CXF client.
+ */
+@FunctionalInterface
+public interface ClientCallHandler {
+
+    Object handle(ClientCall call) throws Throwable;
+}
@@ -0,0 +1,59 @@
+package io.quarkus.cxf.client;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.apache.cxf.frontend.ClientProxy;
+
+/**
+ * Routes the service endpoint interface methods of a CXF client proxy through a {@link ClientCallExecutor}.
+ * <p>
+ * The decorating proxy implements exactly the interfaces of the CXF proxy, so it is covered by the same native image
+ * proxy definition. Methods of {@code BindingProvider}, {@code Client}, {@code Closeable} and {@code Object} are
+ * forwarded untouched. Being a {@link ClientProxy}, it still works with {@link ClientProxy#getClient(Object)}.
+ */
+public class ClientInvocationHandler extends ClientProxy {
+
+    private final Class<?> seiClass;
+    private final Object delegate;
+    private final ClientCallExecutor executor;
+    private final ClientCall.Target target;
+
+    public ClientInvocationHandler(Class<?> seiClass, Object delegate, ClientCallExecutor executor) {
+        super(ClientProxy.getClient(delegate));
+        this.seiClass = seiClass;
+        this.delegate = delegate;
+        this.executor = executor;
+        this.target = this::invokeDelegate;
+    }
+
+    public static Object decorate(Class<?> seiClass, Object cxfProxy, ClientCallExecutor executor) {
+        if (executor.isPassThrough()) {
+            return cxfProxy;
+        }
+        return Proxy.newProxyInstance(cxfProxy.getClass().getClassLoader(), cxfProxy.getClass().getInterfaces(),
+                new ClientInvocationHandler(seiClass, cxfProxy, executor));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (!method.getDeclaringClass().isAssignableFrom(seiClass) || method.getDeclaringClass() == Object.class) {
+            return invokeDelegate(method, args);
+        }
+        return executor.execute(method, args, target);
+    }
+
+    private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public void close() {
+        // the client belongs to the decorated proxy
+    }
+}
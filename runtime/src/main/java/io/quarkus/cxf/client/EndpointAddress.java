@@ -0,0 +1,101 @@
+package io.quarkus.cxf.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One of the addresses of a load balanced client, with the statistics the {@link LoadBalancingStrategy} and the
+ * outlier ejection rely on.
+ */
+public class EndpointAddress {
+
+    /* time constant of the latency moving average */
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final int MAX_EJECTION_MULTIPLIER = 10;
+
+    private final String address;
+    private final AtomicInteger outstandingCalls = new AtomicInteger();
+    private double latencyEwmaNanos;
+    private long lastUpdate = System.nanoTime();
+    private int consecutiveFailures;
+    private int ejections;
+    private long ejectedUntil;
+    private boolean ejected;
+
+    public EndpointAddress(String address) {
+        this.address = address;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public int getOutstandingCalls() {
+        return outstandingCalls.get();
+    }
+
+    /**
+     * The exponentially weighted moving average of the call durations, decaying with time so that the addresses
+     * which were slow are tried again. A call slower than the average replaces it at once, so that a latency spike is
+     * noticed on its first occurrence.
+     */
+    public synchronized double getLatencyEwmaNanos() {
+        return latencyEwmaNanos;
+    }
+
+    public synchronized boolean isEjected() {
+        return ejected;
+    }
+
+    public synchronized int getEjections() {
+        return ejections;
+    }
+
+    void callStarted() {
+        outstandingCalls.incrementAndGet();
+    }
+
+    /**
+     * @return whether the address has just been ejected
+     */
+    synchronized boolean callCompleted(long durationNanos, boolean failure, int consecutiveFailuresThreshold) {
+        outstandingCalls.decrementAndGet();
+        long now = System.nanoTime();
+        double weight = Math.exp(-(now - lastUpdate) / DECAY_NANOS);
+        latencyEwmaNanos = durationNanos > latencyEwmaNanos
+                ? durationNanos
+                : latencyEwmaNanos * weight + durationNanos * (1 - weight);
+        lastUpdate = now;
+        if (!failure) {
+            consecutiveFailures = 0;
+            return false;
+        }
+        consecutiveFailures++;
+        return !ejected && consecutiveFailuresThreshold > 0 && consecutiveFailures >= consecutiveFailuresThreshold;
+    }
+
+    /**
+     * Take the address out of rotation, for longer each time it is ejected again.
+     */
+    synchronized void eject(long baseEjectionNanos) {
+        ejections++;
+        ejected = true;
+        ejectedUntil = System.nanoTime() + baseEjectionNanos * Math.min(ejections, MAX_EJECTION_MULTIPLIER);
+    }
+
+    /**
+     * @return whether the address is in rotation, bringing it back once its ejection time is over
+     */
+    synchronized boolean isAvailable(long now) {
+        if (ejected && now - ejectedUntil >= 0) {
+            ejected = false;
+            consecutiveFailures = 0;
+        }
+        return !ejected;
+    }
+
+    @Override
+    public String toString() {
+        return address;
+    }
+}
@@ -0,0 +1,181 @@
+package io.quarkus.cxf.client;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import javax.xml.ws.WebServiceException;
+
+import io.quarkus.cxf.metrics.CxfMetrics;
+
+/**
+ * Hedges idempotent operations: when no response came back within the configured percentile of the recent call
+ * durations, another attempt is started and the first response wins.
+ * <p>
+ * Until enough calls were recorded the fixed initial delay is used. Each hedged attempt needs a token of the
+ * {@link RetryBudget}, so a slow service does not get twice the load.
+ * <p>
+ * The attempts of a hedged call run on a pool of {@code maxAttempts} threads per concurrent call, while the caller
+ * waits for the first response. A call which cannot be hedged, because the budget or the pool has no room for another
+ * attempt, runs on the caller thread. The losing attempts are abandoned rather than cancelled: blocking socket reads
+ * ignore interrupts, so they keep their thread and their connection until the service answers or the receive timeout
+ * of the client expires.
+ */
+public class HedgingHandler implements ClientCallHandler, Closeable {
+
+    private final String name;
+    private final Predicate<ClientCall> idempotent;
+    private final RetryBudget budget;
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final LatencyTracker latencies;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder hedgedCalls = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder unhedgedCalls = new LongAdder();
+
+    public HedgingHandler(String name, Predicate<ClientCall> idempotent, RetryBudget budget, int maxAttempts,
+            double percentile, long initialDelayMillis, int maxConcurrentCalls) {
+        this.name = name;
+        this.idempotent = idempotent;
+        this.budget = budget;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialDelayNanos = TimeUnit.MILLISECONDS.toNanos(initialDelayMillis);
+        this.latencies = new LatencyTracker(1024, percentile);
+        AtomicInteger threadCount = new AtomicInteger();
+        int maxThreads = this.maxAttempts * Math.max(1, maxConcurrentCalls);
+        this.executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                r -> {
+                    Thread thread = new Thread(r, "cxf-client-hedging-" + name + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        String[] tags = { "client", name };
+        CxfMetrics.gauge("cxf.client.hedging.delay", "Delay in milliseconds before a hedged attempt is started",
+                () -> TimeUnit.NANOSECONDS.toMillis(getDelayNanos()), tags);
+        CxfMetrics.counter("cxf.client.hedging.calls", "Hedged attempts started", hedgedCalls::sum, tags);
+        CxfMetrics.counter("cxf.client.hedging.wins", "Calls answered by a hedged attempt", hedgeWins::sum, tags);
+        CxfMetrics.counter("cxf.client.hedging.unhedged", "Calls run on the caller thread as the pool was full",
+                unhedgedCalls::sum, tags);
+    }
+
+    @Override
+    public Object handle(ClientCall call) throws Throwable {
+        if (!idempotent.test(call)) {
+            return call.proceed();
+        }
+        if (maxAttempts == 1 || budget.getTokens() < 1) {
+            // no other attempt could be started, the caller thread runs the call
+            return proceedTimed(call);
+        }
+        Callable<Object> task = call.toCallable();
+        CompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Object>> attempts = new ArrayList<>(maxAttempts);
+        try {
+            attempts.add(completion.submit(timed(task)));
+        } catch (RejectedExecutionException e) {
+            unhedgedCalls.increment();
+            return proceedTimed(call);
+        }
+        int pending = 1;
+        boolean hedging = true;
+        Throwable failure = null;
+        try {
+            while (pending > 0) {
+                Future<Object> done;
+                if (hedging) {
+                    done = completion.poll(getDelayNanos(), TimeUnit.NANOSECONDS);
+                    if (done == null) {
+                        hedging = budget.tryAcquire() && hedge(completion, task, attempts);
+                        if (hedging) {
+                            pending++;
+                            hedging = attempts.size() < maxAttempts;
+                        }
+                        continue;
+                    }
+                } else {
+                    done = completion.take();
+                }
+                pending--;
+                try {
+                    Object result = done.get();
+                    if (done != attempts.get(0)) {
+                        hedgeWins.increment();
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    Throwable cause = ClientCall.unwrap(e);
+                    if (!RetryHandler.isRetryable(cause)) {
+                        throw cause;
+                    }
+                    // wait for the other attempts, a slow answer is better than none
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                    hedging = false;
+                }
+            }
+            throw failure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebServiceException("Interrupted while waiting for the response of client " + name, e);
+        } finally {
+            // abandons the losing attempts, which only stop early if they are not blocked in socket I/O
+            for (Future<Object> attempt : attempts) {
+                attempt.cancel(true);
+            }
+        }
+    }
+
+    private boolean hedge(CompletionService<Object> completion, Callable<Object> task, List<Future<Object>> attempts) {
+        try {
+            attempts.add(completion.submit(timed(task)));
+        } catch (RejectedExecutionException e) {
+            budget.refund();
+            return false;
+        }
+        hedgedCalls.increment();
+        return true;
+    }
+
+    private Object proceedTimed(ClientCall call) throws Throwable {
+        long start = System.nanoTime();
+        Object result = call.proceed();
+        latencies.record(System.nanoTime() - start);
+        return result;
+    }
+
+    private Callable<Object> timed(Callable<Object> task) {
+        return () -> {
+            long start = System.nanoTime();
+            Object result = task.call();
+            latencies.record(System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    private long getDelayNanos() {
+        long percentile = latencies.getPercentileNanos();
+        return percentile < 0 ? initialDelayNanos : percentile;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,48 @@
+package io.quarkus.cxf.client;
+
+import java.util.Arrays;
+
+/**
+ * Percentile of the last call durations of a client.
+ * <p>
+ * The percentile is recomputed every {@value #REFRESH_INTERVAL} samples rather than on each call, which keeps the
+ * cost of a call constant.
+ */
+public class LatencyTracker {
+
+    private static final int REFRESH_INTERVAL = 64;
+
+    private final long[] samples;
+    private final double percentile;
+    private int position;
+    private int count;
+    private int sinceRefresh;
+    private long value = -1;
+
+    public LatencyTracker(int size, double percentile) {
+        this.samples = new long[size];
+        this.percentile = percentile;
+    }
+
+    public synchronized void record(long durationNanos) {
+        samples[position] = durationNanos;
+        position = (position + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (++sinceRefresh >= REFRESH_INTERVAL) {
+            sinceRefresh = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100 * count) - 1;
+            value = sorted[Math.max(0, Math.min(index, count - 1))];
+        }
+    }
+
+    /**
+     * @return the percentile in nanoseconds, or -1 as long as too few calls were recorded
+     */
+    public synchronized long getPercentileNanos() {
+        return value;
+    }
+}
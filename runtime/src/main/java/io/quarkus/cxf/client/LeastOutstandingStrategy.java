@@ -0,0 +1,25 @@
+package io.quarkus.cxf.client;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Calls the address with the fewest calls in progress, ties being broken randomly so that idle addresses share the
+ * load.
+ */
+public class LeastOutstandingStrategy implements LoadBalancingStrategy {
+
+    @Override
+    public EndpointAddress select(List<EndpointAddress> candidates) {
+        int size = candidates.size();
+        int offset = ThreadLocalRandom.current().nextInt(size);
+        EndpointAddress selected = null;
+        for (int i = 0; i < size; i++) {
+            EndpointAddress candidate = candidates.get((offset + i) % size);
+            if (selected == null || candidate.getOutstandingCalls() < selected.getOutstandingCalls()) {
+                selected = candidate;
+            }
+        }
+        return selected;
+    }
+}
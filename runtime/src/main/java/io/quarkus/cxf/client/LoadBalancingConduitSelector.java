@@ -0,0 +1,143 @@
+package io.quarkus.cxf.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import org.apache.cxf.endpoint.AbstractConduitSelector;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.transport.Conduit;
+
+import io.quarkus.cxf.metrics.CxfMetrics;
+
+/**
+ * Spreads the calls of a client over several addresses of the same service.
+ * <p>
+ * The address is chosen by a {@link LoadBalancingStrategy} when the message is sent and set as the
+ * {@link Message#ENDPOINT_ADDRESS} of the message; {@link AbstractConduitSelector} then reuses the conduit it created
+ * for that address, or creates one the first time the address is chosen, so there is one HTTP conduit per address.
+ * An address failing several times in a row is ejected from the rotation for a while (passive outlier ejection), but
+ * never more than the configured share of the addresses: if all of them fail, the service is down rather than the
+ * addresses.
+ */
+public class LoadBalancingConduitSelector extends AbstractConduitSelector {
+
+    private static final Logger LOG = Logger.getLogger(LoadBalancingConduitSelector.class.getName());
+    private static final String SELECTED_ADDRESS = LoadBalancingConduitSelector.class.getName() + ".address";
+    private static final String START_TIME = LoadBalancingConduitSelector.class.getName() + ".start";
+
+    private final String name;
+    private final List<EndpointAddress> addresses;
+    private final LoadBalancingStrategy strategy;
+    private final int consecutiveFailures;
+    private final long baseEjectionNanos;
+    private final int maxEjected;
+    private final LongAdder ejections = new LongAdder();
+
+    public LoadBalancingConduitSelector(String name, List<String> addresses, LoadBalancingStrategy strategy,
+            int consecutiveFailures, long baseEjectionMillis, int maxEjectionPercent) {
+        this.name = name;
+        this.addresses = new ArrayList<>(addresses.size());
+        for (String address : addresses) {
+            this.addresses.add(new EndpointAddress(address));
+        }
+        this.strategy = strategy;
+        this.consecutiveFailures = consecutiveFailures;
+        this.baseEjectionNanos = TimeUnit.MILLISECONDS.toNanos(baseEjectionMillis);
+        this.maxEjected = addresses.size() * maxEjectionPercent / 100;
+        registerMetrics();
+    }
+
+    public List<EndpointAddress> getAddresses() {
+        return addresses;
+    }
+
+    @Override
+    public void prepare(Message message) {
+        // the address is chosen when the message is sent
+    }
+
+    @Override
+    public Conduit selectConduit(Message message) {
+        Conduit conduit = message.get(Conduit.class);
+        if (conduit != null) {
+            return conduit;
+        }
+        Exchange exchange = message.getExchange();
+        EndpointAddress selected = strategy.select(getCandidates());
+        selected.callStarted();
+        exchange.put(SELECTED_ADDRESS, selected);
+        exchange.put(START_TIME, System.nanoTime());
+        message.put(Message.ENDPOINT_ADDRESS, selected.getAddress());
+        return getSelectedConduit(message);
+    }
+
+    @Override
+    public void complete(Exchange exchange) {
+        EndpointAddress selected = (EndpointAddress) exchange.remove(SELECTED_ADDRESS);
+        if (selected != null) {
+            long duration = System.nanoTime() - (Long) exchange.remove(START_TIME);
+            if (selected.callCompleted(duration, isFailure(exchange), consecutiveFailures)) {
+                eject(selected);
+            }
+        }
+        super.complete(exchange);
+    }
+
+    /**
+     * Technical failures only: a SOAP fault is an answer of the address.
+     */
+    protected boolean isFailure(Exchange exchange) {
+        Message outMessage = exchange.getOutMessage();
+        return outMessage != null && outMessage.getContent(Exception.class) != null
+                && exchange.getInFaultMessage() == null;
+    }
+
+    private List<EndpointAddress> getCandidates() {
+        long now = System.nanoTime();
+        List<EndpointAddress> candidates = new ArrayList<>(addresses.size());
+        for (EndpointAddress address : addresses) {
+            if (address.isAvailable(now)) {
+                candidates.add(address);
+            }
+        }
+        return candidates.isEmpty() ? addresses : candidates;
+    }
+
+    private synchronized void eject(EndpointAddress address) {
+        int ejected = 0;
+        for (EndpointAddress candidate : addresses) {
+            if (candidate.isEjected()) {
+                ejected++;
+            }
+        }
+        if (ejected < maxEjected) {
+            address.eject(baseEjectionNanos);
+            ejections.increment();
+            LOG.warning("Ejected " + address + " from the addresses of client " + name + " after "
+                    + consecutiveFailures + " consecutive failures");
+        }
+    }
+
+    private void registerMetrics() {
+        for (EndpointAddress address : addresses) {
+            String[] tags = { "client", name, "address", address.getAddress() };
+            CxfMetrics.gauge("cxf.client.loadbalancer.outstanding.calls", "Calls in progress",
+                    address::getOutstandingCalls, tags);
+            CxfMetrics.gauge("cxf.client.loadbalancer.latency", "Moving average of the call durations in milliseconds",
+                    () -> address.getLatencyEwmaNanos() / 1_000_000, tags);
+            CxfMetrics.gauge("cxf.client.loadbalancer.ejected", "1 while the address is out of rotation",
+                    () -> address.isEjected() ? 1 : 0, tags);
+        }
+        CxfMetrics.counter("cxf.client.loadbalancer.ejections", "Addresses taken out of rotation", ejections::sum,
+                "client", name);
+    }
+
+    @Override
+    protected Logger getLogger() {
+        return LOG;
+    }
+}
@@ -0,0 +1,19 @@
+package io.quarkus.cxf.client;
+
+import java.util.List;
+
+/**
+ * Chooses the address of the next call of a load balanced client.
+ * <p>
+ * Implementations are shared by all the threads calling the client and need a public no-args constructor to be
+ * configured by class name.
+ */
+@FunctionalInterface
+public interface LoadBalancingStrategy {
+
+    /**
+     * @param candidates the addresses currently in rotation, never empty
+     * @return one of the candidates
+     */
+    EndpointAddress select(List<EndpointAddress> candidates);
+}
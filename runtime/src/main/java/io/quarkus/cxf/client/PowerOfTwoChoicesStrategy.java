@@ -0,0 +1,33 @@
+package io.quarkus.cxf.client;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks two addresses at random and calls the one with the lower expected latency: its moving average latency
+ * weighted by the calls in progress. Comparing two random candidates instead of all of them keeps a stale view of the
+ * latencies from sending every call to the same address.
+ */
+public class PowerOfTwoChoicesStrategy implements LoadBalancingStrategy {
+
+    @Override
+    public EndpointAddress select(List<EndpointAddress> candidates) {
+        int size = candidates.size();
+        if (size == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        EndpointAddress a = candidates.get(first);
+        EndpointAddress b = candidates.get(second);
+        return cost(a) <= cost(b) ? a : b;
+    }
+
+    private static double cost(EndpointAddress address) {
+        return address.getLatencyEwmaNanos() * (address.getOutstandingCalls() + 1);
+    }
+}
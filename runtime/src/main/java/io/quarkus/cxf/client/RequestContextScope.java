@@ -0,0 +1,18 @@
+package io.quarkus.cxf.client;
+
+public enum RequestContextScope {
+    /**
+     * One request context for all the threads calling the client: the CXF default, only safe if no thread changes the
+     * context while others are calling.
+     */
+    SHARED,
+    /**
+     * Each thread gets a copy of the request context configured at startup, and keeps its changes for its next calls.
+     */
+    THREAD,
+    /**
+     * Each call gets a copy of the request context configured at startup: the changes a thread makes only apply to
+     * its next call.
+     */
+    CALL
+}
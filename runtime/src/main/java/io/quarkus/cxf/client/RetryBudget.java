@@ -0,0 +1,66 @@
+package io.quarkus.cxf.client;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.cxf.metrics.CxfMetrics;
+
+/**
+ * Token bucket shared by the retries and hedged attempts of a client, so that they cannot multiply the load on a
+ * failing service.
+ * <p>
+ * Every call deposits a fraction of a token and every extra attempt withdraws a whole one: extra attempts stay below
+ * the given ratio of the calls, plus a small reserve for clients with little traffic.
+ */
+public class RetryBudget implements ClientCallHandler {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+    private final LongAdder exhausted = new LongAdder();
+
+    public RetryBudget(String name, double ratio, int maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+        String[] tags = { "client", name };
+        CxfMetrics.gauge("cxf.client.retry.budget.tokens", "Extra attempts the client may still start",
+                this::getTokens, tags);
+        CxfMetrics.counter("cxf.client.retry.budget.exhausted", "Extra attempts not started for lack of budget",
+                exhausted::sum, tags);
+    }
+
+    @Override
+    public Object handle(ClientCall call) throws Throwable {
+        deposit();
+        return call.proceed();
+    }
+
+    public synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    /**
+     * @return whether an extra attempt may be started
+     */
+    public boolean tryAcquire() {
+        synchronized (this) {
+            if (tokens >= 1) {
+                tokens--;
+                return true;
+            }
+        }
+        exhausted.increment();
+        return false;
+    }
+
+    /**
+     * Give back the token of an extra attempt which could not be started after all.
+     */
+    public synchronized void refund() {
+        tokens = Math.min(maxTokens, tokens + 1);
+    }
+
+    public synchronized double getTokens() {
+        return tokens;
+    }
+}
@@ -0,0 +1,81 @@
+package io.quarkus.cxf.client;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import javax.xml.ws.WebServiceException;
+import javax.xml.ws.soap.SOAPFaultException;
+
+import io.quarkus.cxf.metrics.CxfMetrics;
+
+/**
+ * Retries idempotent operations after technical failures, waiting an exponential backoff with jitter between the
+ * attempts. Each retry needs a token of the {@link RetryBudget}.
+ */
+public class RetryHandler implements ClientCallHandler {
+
+    private final Predicate<ClientCall> idempotent;
+    private final RetryBudget budget;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final double backoffMultiplier;
+    private final double jitter;
+    private final LongAdder retries = new LongAdder();
+
+    public RetryHandler(String name, Predicate<ClientCall> idempotent, RetryBudget budget, int maxAttempts,
+            long initialBackoffMillis, long maxBackoffMillis, double backoffMultiplier, double jitter) {
+        this.idempotent = idempotent;
+        this.budget = budget;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.backoffMultiplier = backoffMultiplier;
+        this.jitter = Math.max(0, Math.min(1, jitter));
+        CxfMetrics.counter("cxf.client.retry.calls", "Retried attempts", retries::sum, "client", name);
+    }
+
+    /**
+     * Failures worth another attempt: technical failures raised before or while talking to the service. SOAP faults
+     * are answers of the service, and the rejections of the circuit breaker or of the bulkhead would only be repeated.
+     */
+    public static boolean isRetryable(Throwable t) {
+        return t instanceof WebServiceException && !(t instanceof SOAPFaultException)
+                && !(t instanceof CircuitBreakerOpenException) && !(t instanceof BulkheadFullException);
+    }
+
+    @Override
+    public Object handle(ClientCall call) throws Throwable {
+        if (!idempotent.test(call)) {
+            return call.proceed();
+        }
+        for (int attempt = 1;; attempt++) {
+            try {
+                return call.proceed();
+            } catch (Throwable t) {
+                if (attempt >= maxAttempts || !isRetryable(t) || !budget.tryAcquire()) {
+                    throw t;
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(backoffMillis(attempt));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    t.addSuppressed(e);
+                    throw t;
+                }
+                retries.increment();
+            }
+        }
+    }
+
+    /**
+     * The exponential backoff after the given attempt, shortened by a random part of up to {@code jitter} so that the
+     * clients failing together do not retry together.
+     */
+    long backoffMillis(int attempt) {
+        double backoff = Math.min(maxBackoffMillis, initialBackoffMillis * Math.pow(backoffMultiplier, attempt - 1));
+        return (long) (backoff * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+    }
+}
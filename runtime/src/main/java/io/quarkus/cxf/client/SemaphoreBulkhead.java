@@ -0,0 +1,54 @@
+package io.quarkus.cxf.client;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.cxf.metrics.CxfMetrics;
+
+/**
+ * Limits the number of concurrent calls of a client, the calls running on the caller thread.
+ */
+public class SemaphoreBulkhead implements ClientCallHandler {
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final long maxWaitMillis;
+    private final Semaphore semaphore;
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    public SemaphoreBulkhead(String name, int maxConcurrentCalls, long maxWaitMillis) {
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitMillis = maxWaitMillis;
+        this.semaphore = new Semaphore(maxConcurrentCalls, true);
+        String[] tags = { "client", name };
+        CxfMetrics.gauge("cxf.client.bulkhead.max.concurrent.calls", "Maximum number of concurrent calls",
+                () -> maxConcurrentCalls, tags);
+        CxfMetrics.gauge("cxf.client.bulkhead.available.concurrent.calls", "Number of calls which can still be started",
+                semaphore::availablePermits, tags);
+        CxfMetrics.counter("cxf.client.bulkhead.calls.rejected", "Calls rejected because the bulkhead was full",
+                rejectedCalls::sum, tags);
+    }
+
+    @Override
+    public Object handle(ClientCall call) throws Throwable {
+        boolean acquired = maxWaitMillis > 0
+                ? semaphore.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)
+                : semaphore.tryAcquire();
+        if (!acquired) {
+            rejectedCalls.increment();
+            throw new BulkheadFullException("Bulkhead of client " + name + " is full (" + maxConcurrentCalls
+                    + " concurrent calls)");
+        }
+        try {
+            return call.proceed();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public int getAvailableConcurrentCalls() {
+        return semaphore.availablePermits();
+    }
+}
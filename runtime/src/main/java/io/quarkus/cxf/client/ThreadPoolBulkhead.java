@@ -0,0 +1,75 @@
+package io.quarkus.cxf.client;
+
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.xml.ws.WebServiceException;
+
+import io.quarkus.cxf.metrics.CxfMetrics;
+
+/**
+ * Runs the calls of a client on a bounded thread pool of its own, so that a slow service can only block the threads
+ * of this pool. The caller waits for the result, but is never blocked by calls already queued for the service.
+ */
+public class ThreadPoolBulkhead implements ClientCallHandler, Closeable {
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    public ThreadPoolBulkhead(String name, int maxConcurrentCalls, int queueSize) {
+        this.name = name;
+        BlockingQueue<Runnable> queue = queueSize > 0 ? new ArrayBlockingQueue<>(queueSize) : new SynchronousQueue<>();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrentCalls, maxConcurrentCalls, 60, TimeUnit.SECONDS, queue,
+                r -> {
+                    Thread thread = new Thread(r, "cxf-client-bulkhead-" + name + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        String[] tags = { "client", name };
+        CxfMetrics.gauge("cxf.client.bulkhead.max.concurrent.calls", "Maximum number of concurrent calls",
+                () -> maxConcurrentCalls, tags);
+        CxfMetrics.gauge("cxf.client.bulkhead.available.concurrent.calls", "Number of calls which can still be started",
+                () -> maxConcurrentCalls - executor.getActiveCount(), tags);
+        CxfMetrics.gauge("cxf.client.bulkhead.queue.depth", "Calls waiting for a thread of the bulkhead",
+                executor.getQueue()::size, tags);
+        CxfMetrics.counter("cxf.client.bulkhead.calls.rejected", "Calls rejected because the bulkhead was full",
+                rejectedCalls::sum, tags);
+    }
+
+    @Override
+    public Object handle(ClientCall call) throws Throwable {
+        Future<Object> result;
+        try {
+            result = executor.submit(call.toCallable());
+        } catch (RejectedExecutionException e) {
+            rejectedCalls.increment();
+            throw new BulkheadFullException("Bulkhead of client " + name + " is full");
+        }
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            throw ClientCall.unwrap(e);
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new WebServiceException("Interrupted while waiting for the response of client " + name, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,79 @@
+package io.quarkus.cxf.compression;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Reuses {@link Deflater}s and {@link Inflater}s, whose native buffers are expensive to allocate and only freed by
+ * {@code end()} or the garbage collector. Coders beyond the size of the pool are ended when released.
+ */
+final class CoderPool {
+
+    private static volatile int maxPooled = 2 * Runtime.getRuntime().availableProcessors();
+
+    private static final CoderPool RAW = new CoderPool(true);
+    private static final CoderPool ZLIB = new CoderPool(false);
+
+    private final boolean nowrap;
+    private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledDeflaters = new AtomicInteger();
+    private final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledInflaters = new AtomicInteger();
+
+    private CoderPool(boolean nowrap) {
+        this.nowrap = nowrap;
+    }
+
+    static void setMaxPooled(int maxPooled) {
+        CoderPool.maxPooled = maxPooled;
+    }
+
+    /**
+     * @param nowrap whether the coders read and write raw deflate data, as in gzip, instead of the zlib format
+     */
+    static CoderPool get(boolean nowrap) {
+        return nowrap ? RAW : ZLIB;
+    }
+
+    Deflater acquireDeflater(int level) {
+        Deflater deflater = deflaters.poll();
+        if (deflater == null) {
+            return new Deflater(level, nowrap);
+        }
+        pooledDeflaters.decrementAndGet();
+        deflater.setLevel(level);
+        return deflater;
+    }
+
+    void release(Deflater deflater) {
+        if (pooledDeflaters.incrementAndGet() <= maxPooled) {
+            deflater.reset();
+            deflaters.offer(deflater);
+        } else {
+            pooledDeflaters.decrementAndGet();
+            deflater.end();
+        }
+    }
+
+    Inflater acquireInflater() {
+        Inflater inflater = inflaters.poll();
+        if (inflater == null) {
+            return new Inflater(nowrap);
+        }
+        pooledInflaters.decrementAndGet();
+        return inflater;
+    }
+
+    void release(Inflater inflater) {
+        if (pooledInflaters.incrementAndGet() <= maxPooled) {
+            inflater.reset();
+            inflaters.offer(inflater);
+        } else {
+            pooledInflaters.decrementAndGet();
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkus.cxf.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.cxf.io.AbstractThresholdOutputStream;
+import org.apache.cxf.message.Message;
+
+/**
+ * Buffers the first bytes of a message: messages smaller than the threshold are sent as is, the others are
+ * compressed as they are written, without being buffered.
+ */
+final class CompressingOutputStream extends AbstractThresholdOutputStream {
+
+    private final OutputStream original;
+    private final Message message;
+    private final CompressionCodec codec;
+    private final int level;
+    private final CompressionStats stats;
+
+    CompressingOutputStream(OutputStream original, Message message, CompressionCodec codec, int level, int threshold,
+            CompressionStats stats) {
+        super(Math.max(0, threshold));
+        this.wrappedStream = original;
+        this.original = original;
+        this.message = message;
+        this.codec = codec;
+        this.level = level;
+        this.stats = stats;
+    }
+
+    @Override
+    public void thresholdReached() throws IOException {
+        // headers are sent with the first bytes written to the original stream
+        ProtocolHeaders.set(message, "Content-Encoding", codec.getEncoding());
+        stats.sentMessages.increment();
+        wrappedStream = new CountingOutputStream(
+                codec.compress(new CountingOutputStream(original, stats.sentCompressedBytes), level), stats.sentBytes);
+    }
+
+    @Override
+    public void thresholdNotReached() {
+        // the buffered bytes are written as is to the original stream
+    }
+}
@@ -0,0 +1,29 @@
+package io.quarkus.cxf.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A content coding of HTTP messages. Besides the built-in gzip and deflate codings, implementations listed in
+ * {@code META-INF/services/io.quarkus.cxf.compression.CompressionCodec} are available, e.g. to add zstd or br with the
+ * library of your choice.
+ */
+public interface CompressionCodec {
+
+    /**
+     * @return the name of the coding in the Content-Encoding and Accept-Encoding headers
+     */
+    String getEncoding();
+
+    /**
+     * @param level the compression level, from 1 to 9, or -1 for the default level of the codec
+     * @return a stream compressing the bytes written to it into {@code out}, closing {@code out} when closed
+     */
+    OutputStream compress(OutputStream out, int level) throws IOException;
+
+    /**
+     * @return a stream reading the bytes decompressed from {@code in}
+     */
+    InputStream decompress(InputStream in) throws IOException;
+}
@@ -0,0 +1,46 @@
+package io.quarkus.cxf.compression;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The available {@link CompressionCodec}s by encoding: the built-in ones, then the ones found with the
+ * {@link ServiceLoader} of the context class loader.
+ */
+public final class CompressionCodecs {
+
+    private static final Logger LOGGER = Logger.getLogger(CompressionCodecs.class);
+
+    private static volatile Map<String, CompressionCodec> codecs;
+
+    private CompressionCodecs() {
+    }
+
+    /**
+     * @return the codec of the encoding, or null if it is not available
+     */
+    public static CompressionCodec get(String encoding) {
+        return getCodecs().get(encoding.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static Map<String, CompressionCodec> getCodecs() {
+        Map<String, CompressionCodec> result = codecs;
+        if (result == null) {
+            result = new ConcurrentHashMap<>();
+            for (CompressionCodec codec : new CompressionCodec[] { new GzipCodec(), new DeflateCodec() }) {
+                result.put(codec.getEncoding(), codec);
+            }
+            for (CompressionCodec codec : ServiceLoader.load(CompressionCodec.class,
+                    Thread.currentThread().getContextClassLoader())) {
+                LOGGER.debugf("compression codec %s provided by %s", codec.getEncoding(), codec.getClass().getName());
+                result.putIfAbsent(codec.getEncoding().toLowerCase(Locale.ROOT), codec);
+            }
+            codecs = result;
+        }
+        return result;
+    }
+}
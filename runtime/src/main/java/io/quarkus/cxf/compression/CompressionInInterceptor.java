@@ -0,0 +1,53 @@
+package io.quarkus.cxf.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+
+/**
+ * Decompresses incoming messages according to their Content-Encoding, as they are read. Reading a message fails once
+ * it exceeds the maximum decompressed size.
+ */
+public class CompressionInInterceptor extends AbstractPhaseInterceptor<Message> {
+
+    private final CompressionStats stats;
+    private final long maxDecompressedBytes;
+
+    /**
+     * @param maxDecompressedBytes the maximum size of a decompressed message, negative for no maximum
+     */
+    public CompressionInInterceptor(CompressionStats stats, long maxDecompressedBytes) {
+        super(Phase.RECEIVE);
+        this.stats = stats;
+        this.maxDecompressedBytes = maxDecompressedBytes;
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+        List<String> contentEncoding = ProtocolHeaders.get(message, "Content-Encoding");
+        if (contentEncoding.isEmpty() || "identity".equalsIgnoreCase(contentEncoding.get(0).trim())) {
+            return;
+        }
+        CompressionCodec codec = CompressionCodecs.get(contentEncoding.get(0));
+        InputStream is = message.getContent(InputStream.class);
+        if (codec == null || is == null) {
+            return;
+        }
+        try {
+            InputStream decompressed = codec.decompress(new CountingInputStream(is, stats.receivedCompressedBytes));
+            if (maxDecompressedBytes >= 0) {
+                decompressed = new BoundedInputStream(decompressed, maxDecompressedBytes);
+            }
+            message.setContent(InputStream.class, new CountingInputStream(decompressed, stats.receivedBytes));
+        } catch (IOException e) {
+            throw new Fault(e);
+        }
+        ProtocolHeaders.remove(message, "Content-Encoding");
+        stats.receivedMessages.increment();
+    }
+}
@@ -0,0 +1,55 @@
+package io.quarkus.cxf.compression;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Build time configuration of the compression of the messages of an endpoint or a client.
+ */
+public class CompressionInfo {
+    private List<String> encodings = new ArrayList<>();
+    private int threshold;
+    private int level;
+    private boolean compressRequests;
+    private long maxDecompressedBytes;
+
+    public List<String> getEncodings() {
+        return encodings;
+    }
+
+    public void setEncodings(List<String> encodings) {
+        this.encodings = encodings;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(int threshold) {
+        this.threshold = threshold;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    public boolean isCompressRequests() {
+        return compressRequests;
+    }
+
+    public void setCompressRequests(boolean compressRequests) {
+        this.compressRequests = compressRequests;
+    }
+
+    public long getMaxDecompressedBytes() {
+        return maxDecompressedBytes;
+    }
+
+    public void setMaxDecompressedBytes(long maxDecompressedBytes) {
+        this.maxDecompressedBytes = maxDecompressedBytes;
+    }
+}
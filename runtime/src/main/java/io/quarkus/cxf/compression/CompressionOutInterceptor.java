@@ -0,0 +1,102 @@
+package io.quarkus.cxf.compression;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.cxf.interceptor.MessageSenderInterceptor;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageUtils;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+
+/**
+ * Compresses outgoing messages larger than the threshold. A client advertises the encodings it accepts, and
+ * compresses its requests if configured to. A server compresses its responses with the first configured encoding the
+ * request accepts, and marks them as varying with the Accept-Encoding of the request.
+ */
+public class CompressionOutInterceptor extends AbstractPhaseInterceptor<Message> {
+
+    private final List<CompressionCodec> codecs = new ArrayList<>();
+    private final String acceptEncoding;
+    private final CompressionInfo info;
+    private final CompressionStats stats;
+
+    public CompressionOutInterceptor(CompressionInfo info, CompressionStats stats) {
+        super(Phase.PREPARE_SEND);
+        addAfter(MessageSenderInterceptor.class.getName());
+        this.info = info;
+        this.stats = stats;
+        List<String> encodings = new ArrayList<>();
+        for (String encoding : info.getEncodings()) {
+            CompressionCodec codec = CompressionCodecs.get(encoding);
+            if (codec != null) {
+                codecs.add(codec);
+                encodings.add(codec.getEncoding());
+            }
+        }
+        this.acceptEncoding = String.join(", ", encodings);
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+        if (codecs.isEmpty()) {
+            return;
+        }
+        CompressionCodec codec;
+        if (MessageUtils.isRequestor(message)) {
+            ProtocolHeaders.set(message, "Accept-Encoding", acceptEncoding);
+            codec = info.isCompressRequests() ? codecs.get(0) : null;
+        } else {
+            ProtocolHeaders.addToken(message, "Vary", "Accept-Encoding");
+            Message request = message.getExchange().getInMessage();
+            codec = request == null ? null : negotiate(ProtocolHeaders.get(request, "Accept-Encoding"));
+        }
+        OutputStream os = message.getContent(OutputStream.class);
+        if (codec != null && os != null) {
+            message.setContent(OutputStream.class,
+                    new CompressingOutputStream(os, message, codec, info.getLevel(), info.getThreshold(), stats));
+        }
+    }
+
+    /**
+     * @return the first configured codec accepted by the request, or null
+     */
+    private CompressionCodec negotiate(List<String> acceptEncodingHeaders) {
+        List<String> accepted = new ArrayList<>();
+        for (String header : acceptEncodingHeaders) {
+            for (String token : header.split(",")) {
+                String[] parts = token.split(";");
+                String encoding = parts[0].trim().toLowerCase(Locale.ROOT);
+                boolean refused = false;
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim();
+                    if (param.startsWith("q=") && isZero(param.substring(2).trim())) {
+                        refused = true;
+                    }
+                }
+                if (!refused) {
+                    accepted.add(encoding);
+                }
+            }
+        }
+        for (CompressionCodec codec : codecs) {
+            if (accepted.contains(codec.getEncoding()) || accepted.contains("*")) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * An unparsable quality does not refuse the encoding.
+     */
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.quarkus.cxf.compression;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class CompressionRecorder {
+
+    public void setPoolSize(int poolSize) {
+        CoderPool.setMaxPooled(poolSize);
+    }
+}
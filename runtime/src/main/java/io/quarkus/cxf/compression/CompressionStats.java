@@ -0,0 +1,51 @@
+package io.quarkus.cxf.compression;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.cxf.metrics.CxfMetrics;
+
+/**
+ * The payload sizes of the compressed messages of an endpoint or a client, before and after compression.
+ */
+public final class CompressionStats {
+
+    final LongAdder sentMessages = new LongAdder();
+    final LongAdder sentBytes = new LongAdder();
+    final LongAdder sentCompressedBytes = new LongAdder();
+    final LongAdder receivedMessages = new LongAdder();
+    final LongAdder receivedBytes = new LongAdder();
+    final LongAdder receivedCompressedBytes = new LongAdder();
+
+    /**
+     * @param tags alternating tag names and values of the metrics
+     */
+    public CompressionStats(String... tags) {
+        CxfMetrics.counter("cxf.compression.sent.messages", "Compressed messages sent", sentMessages::sum, tags);
+        CxfMetrics.counter("cxf.compression.sent.bytes", "Payload bytes of the compressed messages sent",
+                sentBytes::sum, tags);
+        CxfMetrics.counter("cxf.compression.sent.compressed.bytes", "Compressed bytes of the messages sent",
+                sentCompressedBytes::sum, tags);
+        CxfMetrics.counter("cxf.compression.received.messages", "Compressed messages received",
+                receivedMessages::sum, tags);
+        CxfMetrics.counter("cxf.compression.received.bytes", "Payload bytes of the compressed messages received",
+                receivedBytes::sum, tags);
+        CxfMetrics.counter("cxf.compression.received.compressed.bytes", "Compressed bytes of the messages received",
+                receivedCompressedBytes::sum, tags);
+    }
+
+    public long getSentBytes() {
+        return sentBytes.sum();
+    }
+
+    public long getSentCompressedBytes() {
+        return sentCompressedBytes.sum();
+    }
+
+    public long getReceivedBytes() {
+        return receivedBytes.sum();
+    }
+
+    public long getReceivedCompressedBytes() {
+        return receivedCompressedBytes.sum();
+    }
+}
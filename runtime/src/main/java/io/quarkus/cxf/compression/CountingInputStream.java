@@ -0,0 +1,34 @@
+package io.quarkus.cxf.compression;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.LongAdder;
+
+final class CountingInputStream extends FilterInputStream {
+
+    private final LongAdder count;
+
+    CountingInputStream(InputStream in, LongAdder count) {
+        super(in);
+        this.count = count;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b != -1) {
+            count.increment();
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = in.read(b, off, len);
+        if (read > 0) {
+            count.add(read);
+        }
+        return read;
+    }
+}
@@ -0,0 +1,28 @@
+package io.quarkus.cxf.compression;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.LongAdder;
+
+final class CountingOutputStream extends FilterOutputStream {
+
+    private final LongAdder count;
+
+    CountingOutputStream(OutputStream out, LongAdder count) {
+        super(out);
+        this.count = count;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        count.increment();
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        count.add(len);
+    }
+}
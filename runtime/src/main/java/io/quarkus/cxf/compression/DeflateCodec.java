@@ -0,0 +1,22 @@
+package io.quarkus.cxf.compression;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public class DeflateCodec implements CompressionCodec {
+
+    @Override
+    public String getEncoding() {
+        return "deflate";
+    }
+
+    @Override
+    public OutputStream compress(OutputStream out, int level) {
+        return PooledDeflaterOutputStream.zlib(out, level);
+    }
+
+    @Override
+    public InputStream decompress(InputStream in) {
+        return PooledInflaterInputStream.zlib(in);
+    }
+}
@@ -0,0 +1,23 @@
+package io.quarkus.cxf.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public class GzipCodec implements CompressionCodec {
+
+    @Override
+    public String getEncoding() {
+        return "gzip";
+    }
+
+    @Override
+    public OutputStream compress(OutputStream out, int level) throws IOException {
+        return PooledDeflaterOutputStream.gzip(out, level);
+    }
+
+    @Override
+    public InputStream decompress(InputStream in) throws IOException {
+        return PooledInflaterInputStream.gzip(in);
+    }
+}
@@ -0,0 +1,76 @@
+package io.quarkus.cxf.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Compresses with a pooled {@link Deflater}, in the zlib format, or in the gzip format when created with
+ * {@link #gzip(OutputStream, int)}. The deflater goes back to its pool when the stream is closed.
+ */
+final class PooledDeflaterOutputStream extends DeflaterOutputStream {
+
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+    private final CoderPool pool;
+    private final CRC32 crc;
+    private boolean closed;
+
+    private PooledDeflaterOutputStream(OutputStream out, CoderPool pool, int level, boolean gzip) {
+        super(out, pool.acquireDeflater(level), 8192);
+        this.pool = pool;
+        this.crc = gzip ? new CRC32() : null;
+    }
+
+    static PooledDeflaterOutputStream zlib(OutputStream out, int level) {
+        return new PooledDeflaterOutputStream(out, CoderPool.get(false), level, false);
+    }
+
+    static PooledDeflaterOutputStream gzip(OutputStream out, int level) throws IOException {
+        out.write(GZIP_HEADER);
+        return new PooledDeflaterOutputStream(out, CoderPool.get(true), level, true);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        super.write(b, off, len);
+        if (crc != null) {
+            crc.update(b, off, len);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (def.finished()) {
+            return;
+        }
+        super.finish();
+        if (crc != null) {
+            writeIntLE((int) crc.getValue());
+            writeIntLE(def.getTotalIn());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            finish();
+            out.close();
+        } finally {
+            pool.release(def);
+        }
+    }
+
+    private void writeIntLE(int value) throws IOException {
+        out.write(value & 0xff);
+        out.write((value >> 8) & 0xff);
+        out.write((value >> 16) & 0xff);
+        out.write((value >> 24) & 0xff);
+    }
+}
@@ -0,0 +1,102 @@
+package io.quarkus.cxf.compression;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Decompresses with a pooled {@link Inflater}, from the zlib format, or from the gzip format when created with
+ * {@link #gzip(InputStream)}. The inflater goes back to its pool at the end of the data or when the stream is
+ * closed, whichever comes first.
+ */
+final class PooledInflaterInputStream extends InflaterInputStream {
+
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+    private static final int FHCRC = 2;
+
+    private final CoderPool pool;
+    private boolean released;
+
+    private PooledInflaterInputStream(InputStream in, CoderPool pool) {
+        super(in, pool.acquireInflater(), 8192);
+        this.pool = pool;
+    }
+
+    static PooledInflaterInputStream zlib(InputStream in) {
+        return new PooledInflaterInputStream(in, CoderPool.get(false));
+    }
+
+    static PooledInflaterInputStream gzip(InputStream in) throws IOException {
+        if (readByte(in) != 0x1f || readByte(in) != 0x8b || readByte(in) != 8) {
+            throw new ZipException("Not in gzip format");
+        }
+        int flags = readByte(in);
+        skip(in, 6);
+        if ((flags & FEXTRA) != 0) {
+            skip(in, readByte(in) | (readByte(in) << 8));
+        }
+        if ((flags & FNAME) != 0) {
+            while (readByte(in) != 0) {
+                // skips the file name
+            }
+        }
+        if ((flags & FCOMMENT) != 0) {
+            while (readByte(in) != 0) {
+                // skips the comment
+            }
+        }
+        if ((flags & FHCRC) != 0) {
+            skip(in, 2);
+        }
+        return new PooledInflaterInputStream(in, CoderPool.get(true));
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (released) {
+            return -1;
+        }
+        int read = super.read(b, off, len);
+        if (read == -1) {
+            release();
+        }
+        return read;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return released ? 0 : super.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        release();
+        super.close();
+    }
+
+    private void release() {
+        if (!released) {
+            released = true;
+            pool.release(inf);
+        }
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b == -1) {
+            throw new EOFException("Unexpected end of gzip header");
+        }
+        return b;
+    }
+
+    private static void skip(InputStream in, int n) throws IOException {
+        for (int i = 0; i < n; i++) {
+            readByte(in);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.quarkus.cxf.compression;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.cxf.message.Message;
+
+/**
+ * Reads and writes the HTTP headers of CXF messages, whatever the case of their names.
+ */
+final class ProtocolHeaders {
+
+    private ProtocolHeaders() {
+    }
+
+    static List<String> get(Message message, String name) {
+        Map<String, List<String>> headers = getHeaders(message, false);
+        if (headers != null) {
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                if (name.equalsIgnoreCase(header.getKey()) && header.getValue() != null) {
+                    return header.getValue();
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    static void set(Message message, String name, String value) {
+        Map<String, List<String>> headers = getHeaders(message, true);
+        remove(headers, name);
+        List<String> values = new ArrayList<>(1);
+        values.add(value);
+        headers.put(name, values);
+    }
+
+    /**
+     * Add a token to a header listing comma separated tokens, unless it already has it.
+     */
+    static void addToken(Message message, String name, String token) {
+        List<String> values = get(message, name);
+        for (String value : values) {
+            for (String existing : value.split(",")) {
+                if (token.equalsIgnoreCase(existing.trim())) {
+                    return;
+                }
+            }
+        }
+        set(message, name, values.isEmpty() ? token : String.join(", ", values) + ", " + token);
+    }
+
+    static void remove(Message message, String name) {
+        Map<String, List<String>> headers = getHeaders(message, false);
+        if (headers != null) {
+            remove(headers, name);
+        }
+    }
+
+    private static void remove(Map<String, List<String>> headers, String name) {
+        headers.keySet().removeIf(name::equalsIgnoreCase);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, List<String>> getHeaders(Message message, boolean create) {
+        Map<String, List<String>> headers = (Map<String, List<String>>) message.get(Message.PROTOCOL_HEADERS);
+        if (headers == null && create) {
+            headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            message.put(Message.PROTOCOL_HEADERS, headers);
+        }
+        return headers;
+    }
+}
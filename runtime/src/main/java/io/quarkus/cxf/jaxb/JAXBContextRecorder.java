@@ -0,0 +1,78 @@
+package io.quarkus.cxf.jaxb;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.BusFactory;
+import org.apache.cxf.databinding.DataBinding;
+import org.apache.cxf.jaxws.support.JaxWsServiceFactoryBean;
+import org.apache.cxf.service.Service;
+import org.jboss.logging.Logger;
+
+import io.quarkus.cxf.AbstractCxfClientProducer;
+import io.quarkus.cxf.validation.SchemaRegistry;
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class JAXBContextRecorder {
+    private static final Logger LOGGER = Logger.getLogger(JAXBContextRecorder.class);
+
+    /**
+     * Build the service models of the endpoints and clients, so that the {@link JAXBContextRegistry} holds their JAXB
+     * contexts before the services are created. Recorded at static init, the contexts of a native image are built
+     * during the image build and stored in its heap, along with the validation schemas of the {@link SchemaRegistry}.
+     *
+     * @param serviceClasses the implementors of the endpoints and the service interfaces of the clients
+     * @param wsdlLocations the WSDL of the service classes having one
+     * @param embeddedWsdls the resource of the WSDL normalized at build time, for the clients having one, read instead
+     *        of their WSDL location
+     * @param validatedClasses the implementors of the endpoints validating their messages
+     */
+    public void createContexts(List<String> serviceClasses, Map<String, String> wsdlLocations,
+            Map<String, String> embeddedWsdls, List<String> validatedClasses) {
+        Bus bus = BusFactory.newInstance().createBus();
+        bus.setProperty(DataBinding.class.getName(), SharedJAXBDataBinding.class.getName());
+        try {
+            for (String serviceClass : serviceClasses) {
+                JaxWsServiceFactoryBean factory = new JaxWsServiceFactoryBean();
+                factory.setBus(bus);
+                try {
+                    factory.setServiceClass(
+                            Class.forName(serviceClass, false, Thread.currentThread().getContextClassLoader()));
+                    String embeddedWsdl = embeddedWsdls.containsKey(serviceClass)
+                            ? AbstractCxfClientProducer.loadEmbeddedWsdl(bus, embeddedWsdls.get(serviceClass))
+                            : null;
+                    if (embeddedWsdl != null) {
+                        factory.setWsdlURL(embeddedWsdl);
+                    } else if (wsdlLocations.containsKey(serviceClass)) {
+                        factory.setWsdlURL(wsdlLocations.get(serviceClass));
+                    }
+                    Service service = factory.create();
+                    if (validatedClasses.contains(serviceClass)) {
+                        SchemaRegistry.getInstance().register(service.getServiceInfos());
+                    }
+                } catch (ClassNotFoundException | RuntimeException e) {
+                    LOGGER.warn("JAXB context of " + serviceClass + " not created ahead, it will be on first use", e);
+                }
+            }
+        } finally {
+            bus.shutdown(false);
+        }
+        SchemaRegistry.getInstance().compile();
+        LOGGER.debug(JAXBContextRegistry.getInstance().report());
+        LOGGER.debug(SchemaRegistry.getInstance().report());
+    }
+
+    /**
+     * Clear the {@link JAXBContextRegistry} and the {@link SchemaRegistry} when the application stops, so that the
+     * contexts and schemas of an application restarted in dev mode do not pile up with those of the previous ones.
+     */
+    public void clearOnShutdown(ShutdownContext shutdownContext) {
+        shutdownContext.addShutdownTask(() -> {
+            JAXBContextRegistry.getInstance().clear();
+            SchemaRegistry.getInstance().clear();
+        });
+    }
+}
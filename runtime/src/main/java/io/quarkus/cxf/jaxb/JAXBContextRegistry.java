@@ -0,0 +1,211 @@
+package io.quarkus.cxf.jaxb;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.transform.dom.DOMSource;
+
+import org.apache.cxf.common.jaxb.JAXBContextCache.CachedContextAndSchemas;
+import org.jboss.logging.Logger;
+
+import io.quarkus.cxf.metrics.CxfMetrics;
+
+/**
+ * Process-wide registry of the JAXB contexts of the endpoints and clients, keyed by their bound classes and default
+ * namespace.
+ * <p>
+ * A context is reused by every data binding whose classes it already binds. A data binding whose classes share a
+ * package with those of a context gets a new context binding the union of both, which the later data bindings of
+ * either reuse, instead of a context of its own. It falls back to a context of its own when the classes cannot be
+ * bound together, e.g. when two of them map to the same XML type.
+ * <p>
+ * The schemas of a data binding sharing a context bound to other classes than its own are generated from the context
+ * and then filtered, so that its service does not list the types of the others.
+ */
+public final class JAXBContextRegistry {
+
+    private static final Logger LOGGER = Logger.getLogger(JAXBContextRegistry.class);
+    private static final JAXBContextRegistry INSTANCE = new JAXBContextRegistry();
+
+    private final List<Entry> entries = new ArrayList<>();
+    private boolean metricsRegistered;
+
+    private JAXBContextRegistry() {
+    }
+
+    public static JAXBContextRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    @FunctionalInterface
+    interface ContextFactory {
+        CachedContextAndSchemas create(Set<Class<?>> classes) throws JAXBException;
+    }
+
+    /**
+     * @param classes the classes to bind, to which the classes the returned context adds to them, e.g. the object
+     *        factories of their packages, are added, unless it binds other classes as well
+     */
+    synchronized CachedContextAndSchemas get(Set<Class<?>> classes, String defaultNs, ContextFactory factory)
+            throws JAXBException {
+        Set<String> packages = packages(classes);
+        Entry related = null;
+        for (Entry entry : entries) {
+            if (entry.superseded || !Objects.equals(entry.defaultNs, defaultNs)) {
+                continue;
+            }
+            if (entry.classes.containsAll(classes)) {
+                entry.users++;
+                if (classes.equals(entry.requested)) {
+                    classes.addAll(entry.classes);
+                }
+                return entry.context;
+            }
+            if (related == null && !Collections.disjoint(entry.packages, packages)) {
+                related = entry;
+            }
+        }
+        Entry entry = null;
+        if (related != null) {
+            Set<Class<?>> union = new LinkedHashSet<>(classes);
+            union.addAll(related.classes);
+            try {
+                entry = new Entry(defaultNs, null, union, factory.create(union));
+                related.superseded = true;
+            } catch (JAXBException e) {
+                LOGGER.debugf(e, "JAXB context binding the classes of %s along with %s cannot be created",
+                        classes, related.packages);
+            }
+        }
+        if (entry == null) {
+            Set<Class<?>> bound = new LinkedHashSet<>(classes);
+            entry = new Entry(defaultNs, new HashSet<>(classes), bound, factory.create(bound));
+            classes.addAll(entry.classes);
+        }
+        entries.add(entry);
+        return entry.context;
+    }
+
+    /**
+     * @param context a context returned by {@link #get(Set, String, ContextFactory)} for the classes
+     * @return the schemas of the context restricted to the components of the classes, or null if the context binds no
+     *         other classes
+     */
+    synchronized Collection<DOMSource> getSchemas(CachedContextAndSchemas context, Set<Class<?>> classes)
+            throws IOException {
+        for (Entry entry : entries) {
+            if (entry.context != context) {
+                continue;
+            }
+            if (classes.containsAll(entry.classes)) {
+                return null;
+            }
+            Collection<DOMSource> schemas = entry.schemas.get(classes);
+            if (schemas == null) {
+                schemas = SchemaFilter.generateSchemas(context.getContext(), entry.classes, classes);
+                entry.schemas.put(new HashSet<>(classes), schemas);
+            }
+            return schemas;
+        }
+        return null;
+    }
+
+    private static Set<String> packages(Set<Class<?>> classes) {
+        Set<String> packages = new HashSet<>();
+        for (Class<?> cls : classes) {
+            String name = cls.getName();
+            int index = name.lastIndexOf('.');
+            if (index > 0 && !name.startsWith("java.") && !name.startsWith("javax.")) {
+                packages.add(name.substring(0, index));
+            }
+        }
+        return packages;
+    }
+
+    /**
+     * Register the metrics of the registry, at runtime rather than when the contexts are created ahead.
+     */
+    public synchronized void registerMetrics() {
+        if (metricsRegistered) {
+            return;
+        }
+        metricsRegistered = true;
+        CxfMetrics.gauge("cxf.jaxb.contexts", "JAXB contexts created for the endpoints and clients",
+                this::getContextCount);
+        CxfMetrics.gauge("cxf.jaxb.bound.classes", "Classes bound by the JAXB contexts of the endpoints and clients",
+                this::getBoundClassCount);
+    }
+
+    /**
+     * @return the number of contexts created, including those superseded by a union context
+     */
+    public synchronized int getContextCount() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of classes bound by the contexts created
+     */
+    public synchronized int getBoundClassCount() {
+        return entries.stream().mapToInt(entry -> entry.classes.size()).sum();
+    }
+
+    /**
+     * @return a description of the contexts created, with the number of classes they bind and of the data bindings
+     *         using them
+     */
+    public synchronized String report() {
+        StringBuilder report = new StringBuilder().append(entries.size()).append(" JAXB context(s) binding ")
+                .append(getBoundClassCount()).append(" class(es)");
+        for (Entry entry : entries) {
+            report.append("\n- ").append(entry.packages.isEmpty() ? "no package" : String.join(", ", entry.packages))
+                    .append(": ").append(entry.classes.size()).append(" class(es), ").append(entry.users)
+                    .append(" user(s)");
+            if (entry.superseded) {
+                report.append(", superseded by a union context");
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Drop the contexts created, e.g. when the application is stopped before a dev mode restart, in which the registry
+     * outlives the application.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        metricsRegistered = false;
+    }
+
+    private static final class Entry {
+        private final String defaultNs;
+        /**
+         * The classes of the data binding for which the context was created, null for a union context.
+         */
+        private final Set<Class<?>> requested;
+        private final Set<Class<?>> classes;
+        private final Set<String> packages;
+        private final CachedContextAndSchemas context;
+        private final Map<Set<Class<?>>, Collection<DOMSource>> schemas = new HashMap<>();
+        private int users = 1;
+        private boolean superseded;
+
+        Entry(String defaultNs, Set<Class<?>> requested, Set<Class<?>> classes, CachedContextAndSchemas context) {
+            this.defaultNs = defaultNs;
+            this.requested = requested;
+            this.classes = classes;
+            this.packages = packages(classes);
+            this.context = context;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package io.quarkus.cxf.jaxb;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.XMLConstants;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.annotation.XmlElementDecl;
+import javax.xml.bind.annotation.XmlRegistry;
+import javax.xml.bind.annotation.XmlSchema;
+import javax.xml.namespace.QName;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.dom.DOMSource;
+
+import org.apache.cxf.common.jaxb.JAXBBeanInfo;
+import org.apache.cxf.common.jaxb.JAXBContextProxy;
+import org.apache.cxf.common.jaxb.JAXBUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Generates the schemas of a JAXB context binding more classes than those of a data binding, keeping only the
+ * components reachable from the elements and types of the classes of the data binding, so that the WSDL and the
+ * schema validation of a service do not include the types of the other services sharing the context.
+ */
+final class SchemaFilter {
+
+    private static final String DEFAULT = "##default";
+
+    /**
+     * The kinds of top level components, by symbol space: the complex and simple types share theirs.
+     */
+    private static final Map<String, String> SPACES = new HashMap<>();
+
+    static {
+        SPACES.put("element", "element");
+        SPACES.put("complexType", "type");
+        SPACES.put("simpleType", "type");
+        SPACES.put("attribute", "attribute");
+        SPACES.put("group", "group");
+        SPACES.put("attributeGroup", "attributeGroup");
+    }
+
+    private SchemaFilter() {
+    }
+
+    /**
+     * @param context the context binding the classes, along with others
+     * @param contextClasses the classes bound by the context
+     * @param classes the classes of the data binding
+     */
+    static List<DOMSource> generateSchemas(JAXBContext context, Collection<Class<?>> contextClasses,
+            Set<Class<?>> classes) throws IOException {
+        List<DOMResult> results = JAXBUtils.generateJaxbSchemas(context, Collections.emptyMap());
+        Map<Component, Element> components = new HashMap<>();
+        for (DOMResult result : results) {
+            Element schema = schemaElement(result.getNode());
+            String tns = schema.getAttribute("targetNamespace");
+            for (Element child : children(schema)) {
+                String space = SPACES.get(child.getLocalName());
+                if (space != null && child.hasAttribute("name")) {
+                    components.put(new Component(space, new QName(tns, child.getAttribute("name"))), child);
+                }
+            }
+        }
+
+        Set<Component> reached = new HashSet<>();
+        Deque<Component> pending = new ArrayDeque<>(roots(context, contextClasses, classes));
+        while (!pending.isEmpty()) {
+            Component component = pending.pop();
+            Element element = components.get(component);
+            if (element == null || !reached.add(component)) {
+                continue;
+            }
+            collectReferences(element, pending);
+            if (pending.isEmpty()) {
+                // the elements of the substitution groups of the elements reached may replace them
+                for (Map.Entry<Component, Element> entry : components.entrySet()) {
+                    Element candidate = entry.getValue();
+                    if (!reached.contains(entry.getKey()) && candidate.hasAttribute("substitutionGroup")
+                            && reached.contains(new Component("element",
+                                    qname(candidate, candidate.getAttribute("substitutionGroup"))))) {
+                        pending.push(entry.getKey());
+                    }
+                }
+            }
+        }
+
+        List<DOMSource> schemas = new ArrayList<>(results.size());
+        for (DOMResult result : results) {
+            Element schema = schemaElement(result.getNode());
+            String tns = schema.getAttribute("targetNamespace");
+            for (Element child : children(schema)) {
+                String space = SPACES.get(child.getLocalName());
+                if (space != null && child.hasAttribute("name")
+                        && !reached.contains(new Component(space, new QName(tns, child.getAttribute("name"))))) {
+                    schema.removeChild(child);
+                }
+            }
+            schemas.add(new DOMSource(result.getNode(), result.getSystemId()));
+        }
+        return schemas;
+    }
+
+    /**
+     * @return the elements and types of the classes, and the elements declared by the registries of the context for
+     *         the classes
+     */
+    private static List<Component> roots(JAXBContext context, Collection<Class<?>> contextClasses,
+            Set<Class<?>> classes) {
+        List<Component> roots = new ArrayList<>();
+        JAXBContextProxy proxy = JAXBUtils.createJAXBContextProxy(context);
+        for (Class<?> cls : classes) {
+            JAXBBeanInfo beanInfo = JAXBUtils.getBeanInfo(proxy, cls);
+            if (beanInfo == null) {
+                continue;
+            }
+            if (beanInfo.isElement()) {
+                roots.add(new Component("element",
+                        new QName(beanInfo.getElementNamespaceURI(null), beanInfo.getElementLocalName(null))));
+            }
+            for (QName typeName : beanInfo.getTypeNames()) {
+                roots.add(new Component("type", typeName));
+            }
+        }
+        for (Class<?> cls : contextClasses) {
+            if (cls.getAnnotation(XmlRegistry.class) == null) {
+                continue;
+            }
+            for (Method method : cls.getMethods()) {
+                XmlElementDecl decl = method.getAnnotation(XmlElementDecl.class);
+                if (decl != null && method.getParameterCount() == 1
+                        && classes.contains(method.getParameterTypes()[0])) {
+                    roots.add(new Component("element", new QName(namespace(cls, decl), decl.name())));
+                }
+            }
+        }
+        return roots;
+    }
+
+    private static String namespace(Class<?> registry, XmlElementDecl decl) {
+        if (!DEFAULT.equals(decl.namespace())) {
+            return decl.namespace();
+        }
+        XmlSchema schema = registry.getPackage() == null ? null : registry.getPackage().getAnnotation(XmlSchema.class);
+        return schema == null ? "" : schema.namespace();
+    }
+
+    /**
+     * Add the components referenced by the element and its descendants.
+     */
+    private static void collectReferences(Element element, Deque<Component> pending) {
+        String kind = element.getLocalName();
+        addReference(element, "type", "type", pending);
+        addReference(element, "base", "type", pending);
+        addReference(element, "itemType", "type", pending);
+        addReference(element, "substitutionGroup", "element", pending);
+        if (element.hasAttribute("memberTypes")) {
+            for (String memberType : element.getAttribute("memberTypes").trim().split("\\s+")) {
+                pending.push(new Component("type", qname(element, memberType)));
+            }
+        }
+        String refSpace = SPACES.get(kind);
+        if (refSpace != null && !"type".equals(refSpace)) {
+            addReference(element, "ref", refSpace, pending);
+        }
+        for (Element child : children(element)) {
+            collectReferences(child, pending);
+        }
+    }
+
+    private static void addReference(Element element, String attribute, String space, Deque<Component> pending) {
+        if (element.hasAttribute(attribute)) {
+            pending.push(new Component(space, qname(element, element.getAttribute(attribute))));
+        }
+    }
+
+    private static QName qname(Element element, String value) {
+        int index = value.indexOf(':');
+        String prefix = index < 0 ? null : value.substring(0, index);
+        String namespace = element.lookupNamespaceURI(prefix);
+        return new QName(namespace == null ? "" : namespace, value.substring(index + 1));
+    }
+
+    private static Element schemaElement(Node node) {
+        return node instanceof Document ? ((Document) node).getDocumentElement() : (Element) node;
+    }
+
+    private static List<Element> children(Element parent) {
+        List<Element> children = new ArrayList<>();
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element && XMLConstants.W3C_XML_SCHEMA_NS_URI.equals(child.getNamespaceURI())) {
+                children.add((Element) child);
+            }
+        }
+        return children;
+    }
+
+    private static final class Component {
+        private final String space;
+        private final QName name;
+
+        Component(String space, QName name) {
+            this.space = space;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Component)) {
+                return false;
+            }
+            Component other = (Component) obj;
+            return space.equals(other.space) && name.equals(other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return space.hashCode() * 31 + name.hashCode();
+        }
+    }
+}
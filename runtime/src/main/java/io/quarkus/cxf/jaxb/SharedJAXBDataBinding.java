@@ -0,0 +1,49 @@
+package io.quarkus.cxf.jaxb;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.transform.dom.DOMSource;
+
+import org.apache.cxf.common.jaxb.JAXBContextCache.CachedContextAndSchemas;
+import org.apache.cxf.jaxb.JAXBDataBinding;
+
+/**
+ * JAXB data binding taking its context from the {@link JAXBContextRegistry}, unless it has context properties or extra
+ * classes of its own. It is created by the service factories of the bus in place of the {@link JAXBDataBinding}.
+ * <p>
+ * When the context binds the classes of other data bindings as well, the data binding takes the schemas restricted to
+ * its own classes from the registry, rather than those of the whole context.
+ */
+public class SharedJAXBDataBinding extends JAXBDataBinding {
+
+    public SharedJAXBDataBinding(boolean qualified, Map<String, Object> props) throws JAXBException {
+        super(qualified, props);
+    }
+
+    @Override
+    public CachedContextAndSchemas createJAXBContextAndSchemas(Set<Class<?>> classes, String defaultNs)
+            throws JAXBException {
+        if (getContextProperties() != null && !getContextProperties().isEmpty()
+                || getExtraClass() != null && getExtraClass().length > 0) {
+            return super.createJAXBContextAndSchemas(classes, defaultNs);
+        }
+        JAXBContextRegistry registry = JAXBContextRegistry.getInstance();
+        CachedContextAndSchemas context = registry.get(classes, defaultNs,
+                bound -> super.createJAXBContextAndSchemas(bound, defaultNs));
+        if (getSchemas() == null || getSchemas().isEmpty()) {
+            try {
+                Collection<DOMSource> schemas = registry.getSchemas(context, classes);
+                if (schemas != null) {
+                    setSchemas(schemas);
+                }
+            } catch (IOException e) {
+                throw new JAXBException(e);
+            }
+        }
+        return context;
+    }
+}
@@ -0,0 +1,62 @@
+package io.quarkus.cxf.metrics;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Entry point used by the CXF extension to export its internal state as metrics.
+ * <p>
+ * Metrics are only published when quarkus-smallrye-metrics is part of the application, otherwise every call is a
+ * no-op and the state stays available through the plain Java accessors of the corresponding components.
+ */
+public final class CxfMetrics {
+
+    private static final Logger LOGGER = Logger.getLogger(CxfMetrics.class);
+
+    private static volatile boolean enabled;
+
+    private CxfMetrics() {
+    }
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Register a gauge.
+     *
+     * @param tags alternating tag names and values
+     */
+    public static void gauge(String name, String description, Supplier<? extends Number> value, String... tags) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            SmallRyeMetricsAdapter.gauge(name, description, value, tags);
+        } catch (RuntimeException | LinkageError e) {
+            LOGGER.warn("failed to register metric " + name, e);
+        }
+    }
+
+    /**
+     * Register a counter whose value is read from the given supplier.
+     *
+     * @param tags alternating tag names and values
+     */
+    public static void counter(String name, String description, LongSupplier count, String... tags) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            SmallRyeMetricsAdapter.counter(name, description, count, tags);
+        } catch (RuntimeException | LinkageError e) {
+            LOGGER.warn("failed to register metric " + name, e);
+        }
+    }
+}
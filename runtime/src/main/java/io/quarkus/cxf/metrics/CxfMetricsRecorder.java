@@ -0,0 +1,11 @@
+package io.quarkus.cxf.metrics;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class CxfMetricsRecorder {
+
+    public void enableMetrics() {
+        CxfMetrics.enable();
+    }
+}
@@ -0,0 +1,86 @@
+package io.quarkus.cxf.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.Metric;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.Tag;
+
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * Isolates every reference to the optional metrics API so that {@link CxfMetrics} can be loaded without it.
+ */
+final class SmallRyeMetricsAdapter {
+
+    private SmallRyeMetricsAdapter() {
+    }
+
+    static void gauge(String name, String description, Supplier<? extends Number> value, String... tags) {
+        Gauge<Number> gauge = value::get;
+        register(name, description, MetricType.GAUGE, gauge, tags);
+    }
+
+    static void counter(String name, String description, LongSupplier count, String... tags) {
+        register(name, description, MetricType.COUNTER, new SupplierCounter(count), tags);
+    }
+
+    private static void register(String name, String description, MetricType type, Metric metric, String... tags) {
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        Tag[] metricTags = toTags(tags);
+        // a new client or endpoint instance (dev mode restart) replaces the previous registration
+        registry.remove(new MetricID(name, metricTags));
+        Metadata metadata = Metadata.builder()
+                .withName(name)
+                .withDescription(description)
+                .withType(type)
+                .build();
+        registry.register(metadata, metric, metricTags);
+    }
+
+    private static Tag[] toTags(String... tags) {
+        Tag[] metricTags = new Tag[tags.length / 2];
+        for (int i = 0; i < metricTags.length; i++) {
+            metricTags[i] = new Tag(tags[2 * i], tags[2 * i + 1]);
+        }
+        return metricTags;
+    }
+
+    /**
+     * A counter reading its value from the supplier, to which the increments made through the metrics API, e.g. by
+     * the interceptors of the metrics extension, are added.
+     */
+    private static final class SupplierCounter implements Counter {
+        private final LongSupplier count;
+        private final LongAdder increments = new LongAdder();
+
+        SupplierCounter(LongSupplier count) {
+            this.count = count;
+        }
+
+        @Override
+        public void inc() {
+            increments.increment();
+        }
+
+        @Override
+        public void inc(long n) {
+            if (n < 0) {
+                throw new IllegalArgumentException("a counter cannot be decremented: " + n);
+            }
+            increments.add(n);
+        }
+
+        @Override
+        public long getCount() {
+            return count.getAsLong() + increments.sum();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package io.quarkus.cxf.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * A request whose body was already read, so that it can be both hashed and processed.
+ * <p>
+ * A body larger than the given maximum is not read entirely: the request is then not {@link #isBuffered() buffered},
+ * and its stream returns the bytes read so far followed by the rest of the original stream.
+ */
+public class BufferedRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+    private final boolean buffered;
+
+    private BufferedRequest(HttpServletRequest request, byte[] body, boolean buffered) {
+        super(request);
+        this.body = body;
+        this.buffered = buffered;
+    }
+
+    /**
+     * @param maxBodyBytes the size above which the body is not read entirely
+     * @return the request itself if its body was already read, or a request which is not buffered if its body is
+     *         larger than the maximum
+     */
+    public static BufferedRequest of(HttpServletRequest request, int maxBodyBytes) throws IOException {
+        if (request instanceof BufferedRequest) {
+            return (BufferedRequest) request;
+        }
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            return new BufferedRequest(request, new byte[0], false);
+        }
+        byte[] body = readBody(request, maxBodyBytes);
+        return new BufferedRequest(request, body, body.length <= maxBodyBytes);
+    }
+
+    /**
+     * @return whether the whole body was read, and is returned by {@link #getBody()}
+     */
+    public boolean isBuffered() {
+        return buffered;
+    }
+
+    /**
+     * @return the body, or the first bytes read of a body which is not {@link #isBuffered() buffered}
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Read the body up to one byte more than the maximum, leaving the rest in the stream of the request.
+     */
+    private static byte[] readBody(HttpServletRequest request, int maxBodyBytes) throws IOException {
+        int length = request.getContentLength();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length > 0 ? length : 4096);
+        byte[] buffer = new byte[4096];
+        InputStream in = request.getInputStream();
+        long limit = (long) maxBodyBytes + 1;
+        while (out.size() < limit) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, limit - out.size()));
+            if (read == -1) {
+                break;
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        return new BodyInputStream(body, buffered ? null : super.getInputStream());
+    }
+
+    /**
+     * The bytes read, followed by the rest of the original stream if the body is not buffered.
+     */
+    private static final class BodyInputStream extends ServletInputStream {
+
+        private final byte[] head;
+        private final ServletInputStream rest;
+        private int position;
+
+        BodyInputStream(byte[] head, ServletInputStream rest) {
+            this.head = head;
+            this.rest = rest;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position < head.length) {
+                return head[position++] & 0xff;
+            }
+            return rest == null ? -1 : rest.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (position < head.length) {
+                int read = Math.min(len, head.length - position);
+                System.arraycopy(head, position, b, off, read);
+                position += read;
+                return read;
+            }
+            return rest == null ? -1 : rest.read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return head.length - position + (rest == null ? 0 : rest.available());
+        }
+
+        @Override
+        public boolean isFinished() {
+            return position >= head.length && (rest == null || rest.isFinished());
+        }
+
+        @Override
+        public boolean isReady() {
+            return position < head.length || rest == null || rest.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            if (rest != null) {
+                rest.setReadListener(new ReadListener() {
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        readListener.onDataAvailable();
+                    }
+
+                    @Override
+                    public void onAllDataRead() throws IOException {
+                        if (position < head.length) {
+                            // the original stream was already at its end
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        readListener.onError(t);
+                    }
+                });
+                return;
+            }
+            // the whole body is in memory: it can be read at once
+            try {
+                if (position < head.length) {
+                    readListener.onDataAvailable();
+                }
+                readListener.onAllDataRead();
+            } catch (IOException | RuntimeException e) {
+                readListener.onError(e);
+            }
+        }
+    }
+}
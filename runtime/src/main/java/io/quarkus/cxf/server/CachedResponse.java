@@ -0,0 +1,34 @@
+package io.quarkus.cxf.server;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * The serialized response of an operation, written again as is for the following identical requests.
+ */
+public final class CachedResponse {
+
+    private final String contentType;
+    private final String contentEncoding;
+    private final byte[] body;
+
+    public CachedResponse(String contentType, String contentEncoding, byte[] body) {
+        this.contentType = contentType;
+        this.contentEncoding = contentEncoding;
+        this.body = body;
+    }
+
+    public void writeTo(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+        if (contentEncoding != null) {
+            response.setHeader("Content-Encoding", contentEncoding);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+    }
+}
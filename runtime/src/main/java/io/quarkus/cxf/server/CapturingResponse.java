@@ -0,0 +1,90 @@
+package io.quarkus.cxf.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * A response keeping a copy of the bytes written to the client, up to a maximum size.
+ */
+public class CapturingResponse extends HttpServletResponseWrapper {
+
+    private final int maxCapturedBytes;
+    private ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    private ServletOutputStream outputStream;
+
+    public CapturingResponse(HttpServletResponse response, int maxCapturedBytes) {
+        super(response);
+        this.maxCapturedBytes = maxCapturedBytes;
+    }
+
+    /**
+     * @return the bytes written to the response, or null if they were too many to keep
+     */
+    public byte[] getCapturedBytes() {
+        return captured == null ? null : captured.toByteArray();
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            ServletOutputStream delegate = super.getOutputStream();
+            outputStream = new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    delegate.write(b);
+                    capture(new byte[] { (byte) b }, 0, 1);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    delegate.write(b, off, len);
+                    capture(b, off, len);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    delegate.flush();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    delegate.close();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return delegate.isReady();
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    delegate.setWriteListener(writeListener);
+                }
+            };
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        captured = null;
+        return super.getWriter();
+    }
+
+    private void capture(byte[] b, int off, int len) {
+        if (captured == null) {
+            return;
+        }
+        if (captured.size() + len > maxCapturedBytes) {
+            captured = null;
+        } else {
+            captured.write(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.quarkus.cxf.server;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Build time configuration of the coalescing of the identical requests of an endpoint.
+ */
+public class CoalescingInfo {
+    private List<String> operations = new ArrayList<>();
+    private List<String> keyHeaders = new ArrayList<>();
+    private int maxResponseBytes;
+    private int maxRequestBytes;
+    private long waitTimeoutMillis;
+
+    public List<String> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<String> operations) {
+        this.operations = operations;
+    }
+
+    public List<String> getKeyHeaders() {
+        return keyHeaders;
+    }
+
+    public void setKeyHeaders(List<String> keyHeaders) {
+        this.keyHeaders = keyHeaders;
+    }
+
+    public int getMaxResponseBytes() {
+        return maxResponseBytes;
+    }
+
+    public void setMaxResponseBytes(int maxResponseBytes) {
+        this.maxResponseBytes = maxResponseBytes;
+    }
+
+    public int getMaxRequestBytes() {
+        return maxRequestBytes;
+    }
+
+    public void setMaxRequestBytes(int maxRequestBytes) {
+        this.maxRequestBytes = maxRequestBytes;
+    }
+
+    public long getWaitTimeoutMillis() {
+        return waitTimeoutMillis;
+    }
+
+    public void setWaitTimeoutMillis(long waitTimeoutMillis) {
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+}
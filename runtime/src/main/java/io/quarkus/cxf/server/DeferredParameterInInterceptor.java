@@ -0,0 +1,297 @@
+package io.quarkus.cxf.server;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.xml.XMLConstants;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.cxf.databinding.DataReader;
+import org.apache.cxf.interceptor.AbstractInDatabindingInterceptor;
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.interceptor.Interceptor;
+import org.apache.cxf.interceptor.InterceptorChain;
+import org.apache.cxf.interceptor.StaxInEndingInterceptor;
+import org.apache.cxf.jaxb.JAXBDataBinding;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageContentsList;
+import org.apache.cxf.phase.Phase;
+import org.apache.cxf.service.model.BindingOperationInfo;
+import org.apache.cxf.service.model.MessageInfo;
+import org.apache.cxf.service.model.MessagePartInfo;
+import org.apache.cxf.staxutils.DepthXMLStreamReader;
+import org.apache.cxf.staxutils.StaxUtils;
+import org.apache.cxf.wsdl.interceptors.DocLiteralInInterceptor;
+import org.apache.cxf.wsdl.service.factory.ReflectionServiceFactoryBean;
+
+/**
+ * Unmarshals the list parameters of some operations after the call started, instead of the
+ * {@link DocLiteralInInterceptor} unmarshalling every parameter before it:
+ * <ul>
+ * <li>the last parameter of the streaming operations, when it is a list, is a {@link StreamingList} reading one
+ * element at a time from the request while the implementor iterates it, so that the request never exists in memory
+ * as a whole;</li>
+ * <li>the list parameters of the lazy operations are {@link LazyList}s keeping their elements as XML, bound the first
+ * time the implementor accesses the list, so that the requests which never touch a large list skip its binding.</li>
+ * </ul>
+ * The other parameters are unmarshalled before the call as usual, and the other operations are left to the
+ * {@link DocLiteralInInterceptor}. So are the requests validated against the schema of the service: the elements of a
+ * list are declared locally in their wrapper, and cannot be validated one by one while they are bound.
+ */
+public class DeferredParameterInInterceptor extends AbstractInDatabindingInterceptor {
+
+    private final Set<String> streamingOperations;
+    private final Set<String> lazyOperations;
+
+    public DeferredParameterInInterceptor(Collection<String> streamingOperations, Collection<String> lazyOperations) {
+        super(Phase.UNMARSHAL);
+        addBefore(DocLiteralInInterceptor.class.getName());
+        this.streamingOperations = new HashSet<>(streamingOperations);
+        this.lazyOperations = new HashSet<>(lazyOperations);
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+        if (isRequestor(message) || isGET(message) || shouldValidate(message)) {
+            return;
+        }
+        DepthXMLStreamReader reader = getXMLStreamReader(message);
+        if (reader == null || !StaxUtils.toNextElement(reader)) {
+            return;
+        }
+        Exchange exchange = message.getExchange();
+        BindingOperationInfo operation = exchange.getBindingOperationInfo();
+        if (operation != null && operation.isUnwrapped()) {
+            operation = operation.getWrappedOperation();
+        }
+        if (operation == null) {
+            operation = getBindingOperationInfo(exchange, reader.getName(), false);
+        }
+        if (operation == null || !operation.isUnwrappedCapable()
+                || !operation.getOperationInfo().getInput().getFirstMessagePart().getConcreteName()
+                        .equals(reader.getName())
+                || !(exchange.getService().getDataBinding() instanceof JAXBDataBinding)) {
+            return;
+        }
+        String name = operation.getName().getLocalPart();
+        boolean streaming = contains(streamingOperations, name);
+        boolean lazy = contains(lazyOperations, name);
+        BindingOperationInfo unwrapped = operation.getUnwrappedOperation();
+        List<MessagePartInfo> parts = unwrapped.getOperationInfo().getInput().getMessageParts();
+        MessagePartInfo streamed = streaming && !parts.isEmpty() && elementClass(parts.get(parts.size() - 1)) != null
+                ? parts.get(parts.size() - 1)
+                : null;
+        if (streamed == null && !(lazy && parts.stream().anyMatch(part -> elementClass(part) != null))) {
+            return;
+        }
+        JAXBContext context = ((JAXBDataBinding) exchange.getService().getDataBinding()).getContext();
+
+        MessageInfo messageInfo = setMessage(message, unwrapped, false, operation.getBinding().getService(),
+                getMessageInfo(message, unwrapped, false));
+        DataReader<XMLStreamReader> dataReader = getDataReader(message);
+        MessageContentsList parameters = new MessageContentsList();
+        StaxUtils.nextEvent(reader);
+        for (MessagePartInfo part : messageInfo.getMessageParts()) {
+            if (part == streamed) {
+                StreamingList<Object> list;
+                try {
+                    list = new StreamingList<>(new ElementIterator(reader, context.createUnmarshaller(),
+                            part.getConcreteName(), elementClass(part)), reader::close);
+                } catch (JAXBException e) {
+                    throw new Fault(e);
+                }
+                parameters.put(part, list);
+                // the request is read after the interceptors, until the implementor is done with the list or the
+                // exchange is over
+                message.put(StaxInEndingInterceptor.STAX_IN_NOCLOSE, Boolean.TRUE);
+                StreamingRequestCloser.register(message, list, getId());
+            } else if (lazy && elementClass(part) != null) {
+                parameters.put(part, new LazyList<>(context, elementClass(part), buffer(reader, part.getConcreteName())));
+            } else if (StaxUtils.toNextElement(reader) && isElement(reader, part.getConcreteName())) {
+                parameters.put(part, dataReader.read(part, reader));
+            } else {
+                parameters.put(part, null);
+            }
+        }
+        message.setContent(List.class, parameters);
+        InterceptorChain chain = message.getInterceptorChain();
+        List<Interceptor<? extends Message>> unmarshallers = new ArrayList<>();
+        for (Interceptor<? extends Message> interceptor : chain) {
+            if (interceptor instanceof DocLiteralInInterceptor) {
+                unmarshallers.add(interceptor);
+            }
+        }
+        unmarshallers.forEach(chain::remove);
+    }
+
+    private static boolean contains(Set<String> operations, String operation) {
+        return operations.contains("*") || operations.contains(operation);
+    }
+
+    /**
+     * The children of the wrapper are unqualified unless the schema says otherwise, hence only their local names are
+     * compared, the wrapper itself having been matched with its namespace.
+     */
+    private static boolean isElement(XMLStreamReader reader, QName name) {
+        return name.getLocalPart().equals(reader.getLocalName());
+    }
+
+    private static Class<?> elementClass(MessagePartInfo part) {
+        if (!List.class.equals(part.getTypeClass())) {
+            return null;
+        }
+        Type type = (Type) part.getProperty(ReflectionServiceFactoryBean.GENERIC_TYPE);
+        if (type instanceof ParameterizedType) {
+            Type element = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (element instanceof Class) {
+                return (Class<?>) element;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Copy the consecutive elements with the given name under a root element, without binding them.
+     */
+    private static byte[] buffer(DepthXMLStreamReader reader, QName name) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XMLStreamWriter writer = StaxUtils.createXMLStreamWriter(out);
+        try {
+            writer.writeStartElement(LazyList.ROOT);
+            while (StaxUtils.toNextElement(reader) && isElement(reader, name)) {
+                copyElement(reader, writer);
+            }
+            writer.writeEndElement();
+            writer.flush();
+        } catch (XMLStreamException e) {
+            throw new Fault(e);
+        } finally {
+            StaxUtils.close(writer);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Copy the element the reader is on, leaving the reader after its end, declaring the namespaces it uses which are
+     * declared by its ancestors.
+     */
+    private static void copyElement(XMLStreamReader reader, XMLStreamWriter writer) throws XMLStreamException {
+        int depth = 0;
+        do {
+            switch (reader.getEventType()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    copyStartElement(reader, writer);
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    writer.writeEndElement();
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    writer.writeCharacters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    break;
+                case XMLStreamConstants.CDATA:
+                    writer.writeCData(reader.getText());
+                    break;
+                default:
+                    break;
+            }
+            reader.next();
+        } while (depth > 0);
+    }
+
+    private static void copyStartElement(XMLStreamReader reader, XMLStreamWriter writer) throws XMLStreamException {
+        String prefix = reader.getPrefix() == null ? XMLConstants.DEFAULT_NS_PREFIX : reader.getPrefix();
+        String namespace = reader.getNamespaceURI() == null ? XMLConstants.NULL_NS_URI : reader.getNamespaceURI();
+        writer.writeStartElement(prefix, reader.getLocalName(), namespace);
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            String declared = reader.getNamespacePrefix(i);
+            writeNamespace(writer, declared == null ? XMLConstants.DEFAULT_NS_PREFIX : declared,
+                    reader.getNamespaceURI(i));
+        }
+        declare(writer, prefix, namespace);
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String attributePrefix = reader.getAttributePrefix(i);
+            String attributeNamespace = reader.getAttributeNamespace(i);
+            if (attributeNamespace == null || attributeNamespace.isEmpty()) {
+                writer.writeAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            } else {
+                declare(writer, attributePrefix, attributeNamespace);
+                writer.writeAttribute(attributePrefix, attributeNamespace, reader.getAttributeLocalName(i),
+                        reader.getAttributeValue(i));
+            }
+        }
+    }
+
+    private static void declare(XMLStreamWriter writer, String prefix, String namespace) throws XMLStreamException {
+        String bound = writer.getNamespaceContext().getNamespaceURI(prefix);
+        if (!namespace.equals(bound == null ? XMLConstants.NULL_NS_URI : bound)) {
+            writeNamespace(writer, prefix, namespace);
+        }
+    }
+
+    private static void writeNamespace(XMLStreamWriter writer, String prefix, String namespace)
+            throws XMLStreamException {
+        if (prefix.isEmpty()) {
+            writer.writeDefaultNamespace(namespace);
+            writer.setDefaultNamespace(namespace);
+        } else {
+            writer.writeNamespace(prefix, namespace);
+            writer.setPrefix(prefix, namespace);
+        }
+    }
+
+    private static final class ElementIterator implements Iterator<Object> {
+        private final DepthXMLStreamReader reader;
+        private final Unmarshaller unmarshaller;
+        private final QName name;
+        private final Class<?> elementClass;
+        private Boolean hasNext;
+
+        ElementIterator(DepthXMLStreamReader reader, Unmarshaller unmarshaller, QName name,
+                Class<?> elementClass) {
+            this.reader = reader;
+            this.unmarshaller = unmarshaller;
+            this.name = name;
+            this.elementClass = elementClass;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (hasNext == null) {
+                hasNext = StaxUtils.toNextElement(reader) && isElement(reader, name);
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasNext = null;
+            try {
+                return unmarshaller.unmarshal(reader, elementClass).getValue();
+            } catch (JAXBException e) {
+                throw new Fault(e);
+            }
+        }
+    }
+}
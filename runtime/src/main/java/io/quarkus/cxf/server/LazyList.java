@@ -0,0 +1,83 @@
+package io.quarkus.cxf.server;
+
+import java.io.ByteArrayInputStream;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.staxutils.DepthXMLStreamReader;
+import org.apache.cxf.staxutils.StaxUtils;
+
+/**
+ * A list parameter kept as the XML of its elements until the implementor first accesses it, when all its elements are
+ * bound at once. It is then an ordinary list.
+ */
+final class LazyList<T> extends AbstractList<T> {
+
+    static final String ROOT = "elements";
+
+    private final JAXBContext context;
+    private final Class<T> elementClass;
+    private byte[] xml;
+    private List<T> elements;
+
+    LazyList(JAXBContext context, Class<T> elementClass, byte[] xml) {
+        this.context = context;
+        this.elementClass = elementClass;
+        this.xml = xml;
+    }
+
+    private List<T> elements() {
+        if (elements == null) {
+            List<T> bound = new ArrayList<>();
+            XMLStreamReader reader = StaxUtils.createXMLStreamReader(new ByteArrayInputStream(xml));
+            try {
+                Unmarshaller unmarshaller = context.createUnmarshaller();
+                DepthXMLStreamReader depthReader = new DepthXMLStreamReader(reader);
+                StaxUtils.toNextElement(depthReader);
+                StaxUtils.nextEvent(depthReader);
+                while (StaxUtils.toNextElement(depthReader)) {
+                    bound.add(unmarshaller.unmarshal(depthReader, elementClass).getValue());
+                }
+                StaxUtils.close(reader);
+            } catch (JAXBException | XMLStreamException e) {
+                throw new Fault(e);
+            }
+            elements = bound;
+            xml = null;
+        }
+        return elements;
+    }
+
+    @Override
+    public T get(int index) {
+        return elements().get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements().size();
+    }
+
+    @Override
+    public T set(int index, T element) {
+        return elements().set(index, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        elements().add(index, element);
+    }
+
+    @Override
+    public T remove(int index) {
+        return elements().remove(index);
+    }
+}
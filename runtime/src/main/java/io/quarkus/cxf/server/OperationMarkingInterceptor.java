@@ -0,0 +1,43 @@
+package io.quarkus.cxf.server;
+
+import java.util.Set;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.apache.cxf.service.model.BindingOperationInfo;
+import org.apache.cxf.transport.http.AbstractHTTPDestination;
+
+/**
+ * Sets an attribute on the servlet request once CXF knows its operation, if it is one of the given request-response
+ * operations. The {@link RequestFilter}s wrapping CXF read it to decide what to do with the response.
+ */
+public class OperationMarkingInterceptor extends AbstractPhaseInterceptor<Message> {
+
+    private final String attribute;
+    private final Set<String> operations;
+
+    /**
+     * @param operations the operation names, or {@code *} for all of them
+     */
+    public OperationMarkingInterceptor(String attribute, Set<String> operations) {
+        super(Phase.PRE_INVOKE);
+        this.attribute = attribute;
+        this.operations = operations;
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+        BindingOperationInfo operation = message.getExchange().getBindingOperationInfo();
+        if (operation == null || operation.getOperationInfo().isOneWay()
+                || !(operations.contains("*") || operations.contains(operation.getName().getLocalPart()))) {
+            return;
+        }
+        Object request = message.get(AbstractHTTPDestination.HTTP_REQUEST);
+        if (request instanceof HttpServletRequest) {
+            ((HttpServletRequest) request).setAttribute(attribute, Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.quarkus.cxf.server;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.cxf.interceptor.Interceptor;
+import org.apache.cxf.message.Message;
+
+import io.quarkus.cxf.metrics.CxfMetrics;
+
+/**
+ * Processes concurrent identical requests, by {@link RequestKey}, to the flagged operations of an endpoint once: the
+ * first request goes through CXF while the others wait, then they all receive its serialized response. Nothing is
+ * kept once the first request completed.
+ * <p>
+ * If the response cannot be shared, because the operation is not flagged, the call failed or the response is too
+ * large, each waiting request is processed on its own, as is a request which waited longer than the configured
+ * timeout. The requests larger than the configured maximum are processed on their own without waiting.
+ */
+public class RequestCoalescer implements RequestFilter {
+
+    private static final String COALESCED = RequestCoalescer.class.getName() + ".coalesced";
+
+    private final Set<String> operations;
+    private final List<String> keyHeaders;
+    private final int maxResponseBytes;
+    private final int maxRequestBytes;
+    private final long waitTimeoutMillis;
+    private final ConcurrentMap<RequestKey, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalescedRequests = new LongAdder();
+
+    public RequestCoalescer(String endpoint, CoalescingInfo info) {
+        this.operations = new HashSet<>(info.getOperations());
+        this.keyHeaders = info.getKeyHeaders();
+        this.maxResponseBytes = info.getMaxResponseBytes();
+        this.maxRequestBytes = info.getMaxRequestBytes();
+        this.waitTimeoutMillis = info.getWaitTimeoutMillis();
+        String[] tags = { "endpoint", endpoint };
+        CxfMetrics.counter("cxf.server.coalesced.requests", "Requests answered with the response of the same request",
+                coalescedRequests::sum, tags);
+        CxfMetrics.gauge("cxf.server.coalescing.in.flight", "Distinct requests being processed", inFlight::size,
+                tags);
+    }
+
+    @Override
+    public Interceptor<? extends Message> getInterceptor() {
+        return new OperationMarkingInterceptor(COALESCED, operations);
+    }
+
+    @Override
+    public void process(HttpServletRequest request, HttpServletResponse response, RequestProcessor next)
+            throws ServletException, IOException {
+        BufferedRequest bufferedRequest = BufferedRequest.of(request, maxRequestBytes);
+        if (!bufferedRequest.isBuffered()) {
+            next.process(bufferedRequest, response);
+            return;
+        }
+        RequestKey key = RequestKey.of(bufferedRequest, keyHeaders);
+        CompletableFuture<CachedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            CachedResponse shared = await(existing);
+            if (shared != null) {
+                coalescedRequests.increment();
+                shared.writeTo(response);
+            } else {
+                next.process(bufferedRequest, response);
+            }
+            return;
+        }
+        CachedResponse shared = null;
+        try {
+            CapturingResponse capturingResponse = new CapturingResponse(response, maxResponseBytes);
+            next.process(bufferedRequest, capturingResponse);
+            byte[] responseBody = capturingResponse.getCapturedBytes();
+            if (responseBody != null && capturingResponse.getStatus() == HttpServletResponse.SC_OK
+                    && Boolean.TRUE.equals(request.getAttribute(COALESCED))) {
+                shared = new CachedResponse(capturingResponse.getContentType(),
+                        capturingResponse.getHeader("Content-Encoding"), responseBody);
+            }
+        } finally {
+            inFlight.remove(key, flight);
+            flight.complete(shared);
+        }
+    }
+
+    /**
+     * @return the response to share, or null if there is none or it took longer than the timeout
+     */
+    private CachedResponse await(CompletableFuture<CachedResponse> flight) throws ServletException {
+        try {
+            return flight.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("Interrupted while waiting for an identical request", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkus.cxf.server;
+
+import java.io.IOException;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.cxf.interceptor.Interceptor;
+import org.apache.cxf.message.Message;
+
+/**
+ * Wraps the processing of the POST requests of an endpoint by CXF.
+ */
+public interface RequestFilter {
+
+    void process(HttpServletRequest request, HttpServletResponse response, RequestProcessor next)
+            throws ServletException, IOException;
+
+    /**
+     * @return the interceptor to add to the endpoint, telling the filter about the operation of the request
+     */
+    Interceptor<? extends Message> getInterceptor();
+}
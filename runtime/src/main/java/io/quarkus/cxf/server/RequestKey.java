@@ -0,0 +1,64 @@
+package io.quarkus.cxf.server;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Identifies the inbound requests expecting the same response: the SHA-256 hash of the endpoint path, the content
+ * type and SOAP action, which carry the action of SOAP 1.2 and 1.1 requests, the content encodings of the request
+ * and the response, the accepted content types, the selected headers and the bytes of the body of the request. The
+ * body is hashed as it is received: whitespace may be content, so requests differing by their indentation have
+ * different keys.
+ */
+public final class RequestKey {
+
+    private final byte[] digest;
+    private final int hashCode;
+
+    private RequestKey(byte[] digest) {
+        this.digest = digest;
+        this.hashCode = Arrays.hashCode(digest);
+    }
+
+    public static RequestKey of(BufferedRequest request, List<String> headers) {
+        byte[] body = request.getBody();
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(messageDigest, request.getServletPath());
+        update(messageDigest, request.getPathInfo());
+        update(messageDigest, request.getContentType());
+        update(messageDigest, request.getHeader("SOAPAction"));
+        update(messageDigest, request.getHeader("Content-Encoding"));
+        update(messageDigest, request.getHeader("Accept-Encoding"));
+        update(messageDigest, request.getHeader("Accept"));
+        for (String header : headers) {
+            update(messageDigest, request.getHeader(header));
+        }
+        messageDigest.update(body);
+        return new RequestKey(messageDigest.digest());
+    }
+
+    private static void update(MessageDigest messageDigest, String value) {
+        if (value != null) {
+            messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        messageDigest.update((byte) 0);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof RequestKey && Arrays.equals(digest, ((RequestKey) obj).digest);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -0,0 +1,16 @@
+package io.quarkus.cxf.server;
+
+import java.io.IOException;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * The processing of an inbound request by CXF, wrapped by the optimizations of the servlet.
+ */
+@FunctionalInterface
+public interface RequestProcessor {
+
+    void process(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException;
+}
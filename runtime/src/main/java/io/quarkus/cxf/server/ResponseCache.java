@@ -0,0 +1,81 @@
+package io.quarkus.cxf.server;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.cxf.interceptor.Interceptor;
+import org.apache.cxf.message.Message;
+
+import io.quarkus.cxf.cache.TinyLfuCache;
+import io.quarkus.cxf.metrics.CxfMetrics;
+
+/**
+ * Caches the serialized responses of the idempotent operations of an endpoint by {@link RequestKey}.
+ * <p>
+ * A hit writes the cached bytes without parsing the request, invoking the implementor or marshalling a response.
+ * On a miss, the request goes through CXF and its response is kept if its operation is cacheable and the call
+ * succeeded. The requests larger than the configured maximum are processed without the cache.
+ */
+public class ResponseCache implements RequestFilter {
+
+    private static final String CACHEABLE = ResponseCache.class.getName() + ".cacheable";
+
+    private final Set<String> operations;
+    private final List<String> keyHeaders;
+    private final int maxEntryBytes;
+    private final int maxRequestBytes;
+    private final TinyLfuCache<RequestKey, CachedResponse> cache;
+
+    public ResponseCache(String endpoint, ResponseCacheInfo info) {
+        this.operations = new HashSet<>(info.getOperations());
+        this.keyHeaders = info.getKeyHeaders();
+        this.maxEntryBytes = info.getMaxEntryBytes();
+        this.maxRequestBytes = info.getMaxRequestBytes();
+        this.cache = new TinyLfuCache<>(info.getMaximumSize(), info.getTtlMillis());
+        String[] tags = { "endpoint", endpoint };
+        CxfMetrics.counter("cxf.server.cache.hits", "Requests answered from the response cache",
+                cache::getHitCount, tags);
+        CxfMetrics.counter("cxf.server.cache.misses", "Requests not found in the response cache",
+                cache::getMissCount, tags);
+        CxfMetrics.counter("cxf.server.cache.evictions", "Responses evicted from the response cache",
+                cache::getEvictionCount, tags);
+        CxfMetrics.gauge("cxf.server.cache.hit.rate", "Ratio of requests answered from the response cache",
+                cache::getHitRate, tags);
+        CxfMetrics.gauge("cxf.server.cache.size", "Number of responses in the response cache", cache::size, tags);
+    }
+
+    @Override
+    public Interceptor<? extends Message> getInterceptor() {
+        return new OperationMarkingInterceptor(CACHEABLE, operations);
+    }
+
+    @Override
+    public void process(HttpServletRequest request, HttpServletResponse response, RequestProcessor next)
+            throws ServletException, IOException {
+        BufferedRequest bufferedRequest = BufferedRequest.of(request, maxRequestBytes);
+        if (!bufferedRequest.isBuffered()) {
+            next.process(bufferedRequest, response);
+            return;
+        }
+        RequestKey key = RequestKey.of(bufferedRequest, keyHeaders);
+        CachedResponse cached = cache.get(key);
+        if (cached != null) {
+            cached.writeTo(response);
+            return;
+        }
+        CapturingResponse capturingResponse = new CapturingResponse(response, maxEntryBytes);
+        next.process(bufferedRequest, capturingResponse);
+        byte[] responseBody = capturingResponse.getCapturedBytes();
+        if (responseBody != null && capturingResponse.getStatus() == HttpServletResponse.SC_OK
+                && Boolean.TRUE.equals(request.getAttribute(CACHEABLE))) {
+            cache.put(key, new CachedResponse(capturingResponse.getContentType(),
+                    capturingResponse.getHeader("Content-Encoding"), responseBody));
+        }
+    }
+}
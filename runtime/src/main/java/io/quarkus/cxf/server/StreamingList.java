@@ -0,0 +1,119 @@
+package io.quarkus.cxf.server;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * A collection result produced while the response is written: the elements are marshalled into the response one at
+ * a time as the iterator produces them, so that the whole result never exists in memory and the first elements reach
+ * the client before the last ones are produced.
+ * <p>
+ * An operation returning a {@code List} returns a streaming list instead of filling one:
+ *
+ * <pre>
+ * public List&lt;Fruit&gt; list() {
+ *     return StreamingList.of(repository.streamAll());
+ * }
+ * </pre>
+ *
+ * Likewise, the last list parameter of the streaming operations of an endpoint is a streaming list unmarshalling the
+ * elements of the request as the implementor iterates it.
+ * <p>
+ * The list can be iterated once, and neither has a size nor supports access by index. Its source is closed once all
+ * its elements were written, or when writing the response fails. A Mutiny {@code Multi} is streamed through
+ * {@code StreamingList.of(multi.subscribe().asIterable())}.
+ */
+public final class StreamingList<T> extends AbstractList<T> implements AutoCloseable {
+
+    private final Iterator<T> source;
+    private final AutoCloseable onClose;
+    private boolean iterated;
+    private boolean closed;
+
+    StreamingList(Iterator<T> source, AutoCloseable onClose) {
+        this.source = source;
+        this.onClose = onClose;
+    }
+
+    public static <T> StreamingList<T> of(Iterator<T> elements) {
+        return new StreamingList<>(elements, null);
+    }
+
+    public static <T> StreamingList<T> of(Iterable<T> elements) {
+        return new StreamingList<>(elements.iterator(),
+                elements instanceof AutoCloseable ? (AutoCloseable) elements : null);
+    }
+
+    public static <T> StreamingList<T> of(Stream<T> elements) {
+        return new StreamingList<>(elements.iterator(), elements);
+    }
+
+    @Override
+    public synchronized Iterator<T> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("A streaming list can only be iterated once");
+        }
+        iterated = true;
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                boolean hasNext;
+                try {
+                    hasNext = !closed && source.hasNext();
+                } catch (RuntimeException e) {
+                    close();
+                    throw e;
+                }
+                if (!hasNext) {
+                    close();
+                }
+                return hasNext;
+            }
+
+            @Override
+            public T next() {
+                if (closed) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    return source.next();
+                } catch (RuntimeException e) {
+                    close();
+                    throw e;
+                }
+            }
+        };
+    }
+
+    @Override
+    public T get(int index) {
+        throw new UnsupportedOperationException("The elements of a streaming list can only be iterated");
+    }
+
+    @Override
+    public int size() {
+        throw new UnsupportedOperationException("The size of a streaming list is unknown until it is iterated");
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (onClose != null) {
+            try {
+                onClose.close();
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to close the source of a streaming list", e);
+            }
+        }
+    }
+}
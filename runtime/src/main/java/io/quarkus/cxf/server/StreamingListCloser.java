@@ -0,0 +1,36 @@
+package io.quarkus.cxf.server;
+
+import java.util.List;
+
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageContentsList;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+
+/**
+ * Closes the {@link StreamingList} results whose response could not be written, the others being closed once
+ * iterated. The response is marshalled after this interceptor, whose {@link #handleFault} is called when it fails.
+ */
+public class StreamingListCloser extends AbstractPhaseInterceptor<Message> {
+
+    public StreamingListCloser() {
+        super(Phase.PREPARE_SEND);
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+        // nothing to do until the response fails
+    }
+
+    @Override
+    public void handleFault(Message message) {
+        List<?> contents = MessageContentsList.getContentsList(message);
+        if (contents != null) {
+            for (Object content : contents) {
+                if (content instanceof StreamingList) {
+                    ((StreamingList<?>) content).close();
+                }
+            }
+        }
+    }
+}
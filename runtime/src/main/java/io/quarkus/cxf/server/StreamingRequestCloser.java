@@ -0,0 +1,48 @@
+package io.quarkus.cxf.server;
+
+import org.apache.cxf.interceptor.InterceptorChain;
+import org.apache.cxf.interceptor.OutgoingChainInterceptor;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+
+/**
+ * Closes the {@link StreamingList} parameter of a request, and with it the reader of the request, once the exchange
+ * is over, the implementor being free to leave some of its elements unread. The list is closed after the response was
+ * sent, or when an interceptor of the request fails, which unwinds the chain to this one.
+ */
+final class StreamingRequestCloser extends AbstractPhaseInterceptor<Message> {
+
+    private final StreamingList<?> list;
+
+    private StreamingRequestCloser(String phase, StreamingList<?> list) {
+        super(phase);
+        this.list = list;
+    }
+
+    /**
+     * Add the closers of the list to the chain of the request, from the interceptor unmarshalling it.
+     */
+    static void register(Message message, StreamingList<?> list, String unmarshaller) {
+        InterceptorChain chain = message.getInterceptorChain();
+        StreamingRequestCloser onFault = new StreamingRequestCloser(Phase.UNMARSHAL, list);
+        onFault.addAfter(unmarshaller);
+        chain.add(onFault);
+        // the response is sent by the outgoing chain, run by the incoming one
+        StreamingRequestCloser onEnd = new StreamingRequestCloser(Phase.POST_INVOKE, list);
+        onEnd.addAfter(OutgoingChainInterceptor.class.getName());
+        chain.add(onEnd);
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+        if (Phase.POST_INVOKE.equals(getPhase())) {
+            list.close();
+        }
+    }
+
+    @Override
+    public void handleFault(Message message) {
+        list.close();
+    }
+}
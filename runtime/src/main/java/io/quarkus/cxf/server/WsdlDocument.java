@@ -0,0 +1,263 @@
+package io.quarkus.cxf.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.endpoint.Endpoint;
+import org.apache.cxf.endpoint.Server;
+import org.apache.cxf.frontend.WSDLGetUtils;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.ExchangeImpl;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageImpl;
+import org.apache.cxf.service.Service;
+import org.apache.cxf.staxutils.StaxUtils;
+import org.w3c.dom.Document;
+
+/**
+ * The WSDL generated for an endpoint, rendered once by CXF when the endpoint is published and answered as is to the
+ * {@code ?wsdl} requests, instead of CXF building the WSDL from the service model and serializing it for each of them.
+ * <p>
+ * CXF writes the URL of the request as the address of the endpoint, so the document is kept in the segments around
+ * the addresses. The documents of the first request URLs, usually one per host name the endpoint is called with, are
+ * kept whole with their ETag, and with their gzip variant once a request accepting it asks for them. The documents of
+ * the other URLs, whose host name is chosen by the client, are joined for each request and answered uncompressed.
+ * <p>
+ * Unless a maximum age is configured, the clients are asked to revalidate the document with its ETag on each request.
+ */
+public class WsdlDocument {
+
+    private static final String ADDRESS_PLACEHOLDER = "http://quarkus-cxf.invalid/endpoint-address";
+    private static final int MAX_ADDRESSES = 16;
+
+    private final List<byte[]> segments;
+    private final long lastModified;
+    private final String cacheControl;
+    private final boolean gzip;
+    private final Map<String, Rendering> renderings = new ConcurrentHashMap<>();
+
+    private WsdlDocument(List<byte[]> segments, WsdlDocumentInfo info) {
+        this.segments = segments;
+        // the dates of the HTTP headers have a precision of a second
+        this.lastModified = System.currentTimeMillis() / 1000 * 1000;
+        this.cacheControl = info.getMaxAgeSeconds() < 0 ? "no-cache" : "public, max-age=" + info.getMaxAgeSeconds();
+        this.gzip = info.isGzip();
+    }
+
+    /**
+     * Render the WSDL of a published endpoint the way CXF answers a {@code ?wsdl} request.
+     *
+     * @param path the path of the endpoint
+     */
+    public static WsdlDocument render(Bus bus, Server server, String path, WsdlDocumentInfo info)
+            throws XMLStreamException {
+        Endpoint endpoint = server.getEndpoint();
+        Exchange exchange = new ExchangeImpl();
+        exchange.put(Bus.class, bus);
+        exchange.put(Endpoint.class, endpoint);
+        exchange.put(Service.class, endpoint.getService());
+        Message message = new MessageImpl();
+        message.setExchange(exchange);
+        Document document = new WSDLGetUtils().getDocument(message, ADDRESS_PLACEHOLDER,
+                Collections.singletonMap("wsdl", ""), path, endpoint.getEndpointInfo());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XMLStreamWriter writer = StaxUtils.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+        try {
+            StaxUtils.writeDocument(document, writer, true, true);
+            writer.flush();
+        } finally {
+            StaxUtils.close(writer);
+        }
+        return new WsdlDocument(split(out.toByteArray(), ADDRESS_PLACEHOLDER.getBytes(StandardCharsets.UTF_8)),
+                info);
+    }
+
+    private static List<byte[]> split(byte[] bytes, byte[] separator) {
+        List<byte[]> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= bytes.length - separator.length; i++) {
+            if (regionMatches(bytes, i, separator)) {
+                segments.add(copy(bytes, start, i));
+                start = i + separator.length;
+                i = start - 1;
+            }
+        }
+        segments.add(copy(bytes, start, bytes.length));
+        return segments;
+    }
+
+    private static boolean regionMatches(byte[] bytes, int offset, byte[] region) {
+        for (int i = 0; i < region.length; i++) {
+            if (bytes[offset + i] != region[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] copy(byte[] bytes, int from, int to) {
+        byte[] copy = new byte[to - from];
+        System.arraycopy(bytes, from, copy, 0, copy.length);
+        return copy;
+    }
+
+    /**
+     * @return whether the query string asks for the WSDL of the endpoint rather than a document it imports
+     */
+    public static boolean isWsdlQuery(String queryString) {
+        return queryString != null && ("wsdl".equalsIgnoreCase(queryString) || "wsdl=".equalsIgnoreCase(queryString));
+    }
+
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String address = request.getRequestURL().toString();
+        Rendering rendering = renderings.get(address);
+        boolean cached = rendering != null;
+        if (rendering == null) {
+            rendering = new Rendering(join(address));
+            if (renderings.size() < MAX_ADDRESSES) {
+                Rendering previous = renderings.putIfAbsent(address, rendering);
+                if (previous != null) {
+                    rendering = previous;
+                }
+                cached = true;
+            }
+        }
+        boolean gzipped = gzip && cached && acceptsGzip(request);
+        String etag = gzipped ? rendering.gzippedEtag : rendering.etag;
+        response.setHeader("ETag", etag);
+        response.setDateHeader("Last-Modified", lastModified);
+        response.setHeader("Cache-Control", cacheControl);
+        if (gzip) {
+            response.setHeader("Vary", "Accept-Encoding");
+        }
+        if (isNotModified(request, etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        new CachedResponse("text/xml;charset=UTF-8", gzipped ? "gzip" : null,
+                gzipped ? rendering.gzipped() : rendering.bytes).writeTo(response);
+    }
+
+    private byte[] join(String address) {
+        byte[] escapedAddress = escape(address).getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < segments.size(); i++) {
+            if (i > 0) {
+                out.write(escapedAddress, 0, escapedAddress.length);
+            }
+            out.write(segments.get(i), 0, segments.get(i).length);
+        }
+        return out.toByteArray();
+    }
+
+    private static String escape(String attributeValue) {
+        return attributeValue.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"",
+                "&quot;");
+    }
+
+    private boolean isNotModified(HttpServletRequest request, String etag) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(etag) || tag.equals("*")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        try {
+            long ifModifiedSince = request.getDateHeader("If-Modified-Since");
+            return ifModifiedSince >= lastModified;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            if ("gzip".equals(parts[0].trim().toLowerCase(Locale.ROOT))) {
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim();
+                    if (param.startsWith("q=") && isZero(param.substring(2).trim())) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static final class Rendering {
+        private final byte[] bytes;
+        private final String etag;
+        private final String gzippedEtag;
+        private volatile byte[] gzipped;
+
+        Rendering(byte[] bytes) {
+            this.bytes = bytes;
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            String hash = Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(bytes.length);
+            this.etag = "\"" + hash + "\"";
+            this.gzippedEtag = "\"" + hash + "-gzip\"";
+        }
+
+        /**
+         * @return the gzip variant, compressed on the first call; concurrent first calls compress the same bytes
+         */
+        byte[] gzipped() throws IOException {
+            byte[] result = gzipped;
+            if (result == null) {
+                result = gzip(bytes);
+                gzipped = result;
+            }
+            return result;
+        }
+
+        private static byte[] gzip(byte[] bytes) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                gzip.write(bytes);
+            }
+            return out.toByteArray();
+        }
+    }
+}
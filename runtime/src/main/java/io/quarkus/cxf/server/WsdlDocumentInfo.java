@@ -0,0 +1,28 @@
+package io.quarkus.cxf.server;
+
+/**
+ * Build time configuration of the WSDL rendered for an endpoint.
+ */
+public class WsdlDocumentInfo {
+    private long maxAgeSeconds;
+    private boolean gzip;
+
+    /**
+     * @return the time the WSDL may be cached without revalidation, negative if it must be revalidated
+     */
+    public long getMaxAgeSeconds() {
+        return maxAgeSeconds;
+    }
+
+    public void setMaxAgeSeconds(long maxAgeSeconds) {
+        this.maxAgeSeconds = maxAgeSeconds;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    public void setGzip(boolean gzip) {
+        this.gzip = gzip;
+    }
+}
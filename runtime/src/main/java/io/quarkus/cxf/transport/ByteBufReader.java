@@ -0,0 +1,110 @@
+package io.quarkus.cxf.transport;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+import io.undertow.server.HttpServerExchange;
+
+/**
+ * Decodes a UTF-8 request straight from the network buffers of the exchange as they arrive, instead of the servlet
+ * stream copying them into the byte array of the XML parser which then decodes it. A character split between two
+ * buffers is completed byte by byte.
+ */
+class ByteBufReader extends Reader {
+
+    private final HttpServerExchange exchange;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+    private final ByteBuffer split = ByteBuffer.allocate(4);
+    private ByteBuf buffer;
+    private int pending = -1;
+    private boolean finished;
+
+    ByteBufReader(HttpServerExchange exchange) {
+        this.exchange = exchange;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (pending >= 0) {
+            cbuf[off] = (char) pending;
+            pending = -1;
+            return 1;
+        }
+        if (len == 1) {
+            // a supplementary character takes two chars
+            char[] pair = new char[2];
+            int read = read(pair, 0, 2);
+            if (read > 0) {
+                cbuf[off] = pair[0];
+                pending = read == 2 ? pair[1] : -1;
+                return 1;
+            }
+            return read;
+        }
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        while (out.position() == off) {
+            if ((buffer == null || !buffer.isReadable()) && !nextBuffer()) {
+                if (split.position() > 0) {
+                    throw new MalformedInputException(split.position());
+                }
+                return -1;
+            }
+            if (split.position() > 0) {
+                split.put(buffer.readByte());
+                split.flip();
+                check(decoder.decode(split, out, false));
+                split.compact();
+                continue;
+            }
+            ByteBuffer in = buffer.nioBuffer();
+            int start = in.position();
+            CoderResult result = decoder.decode(in, out, false);
+            buffer.skipBytes(in.position() - start);
+            check(result);
+            while (result.isUnderflow() && buffer.isReadable()) {
+                split.put(buffer.readByte());
+            }
+        }
+        return out.position() - off;
+    }
+
+    private static void check(CoderResult result) throws IOException {
+        if (result.isError()) {
+            result.throwException();
+        }
+    }
+
+    private boolean nextBuffer() throws IOException {
+        release();
+        if (!finished) {
+            buffer = exchange.readBlocking();
+            finished = buffer == null;
+        }
+        return !finished;
+    }
+
+    private void release() {
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        release();
+    }
+}
@@ -0,0 +1,84 @@
+package io.quarkus.cxf.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ServletRequestWrapper;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.interceptor.StaxInEndingInterceptor;
+import org.apache.cxf.interceptor.StaxInInterceptor;
+import org.apache.cxf.io.DelegatingInputStream;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.apache.cxf.staxutils.StaxUtils;
+import org.apache.cxf.transport.http.AbstractHTTPDestination;
+
+import io.undertow.servlet.spec.HttpServletRequestImpl;
+
+/**
+ * Parses the XML of the UTF-8 requests from a {@link ByteBufReader} instead of the {@link StaxInInterceptor} reading
+ * the servlet stream. The requests whose stream was replaced or read, e.g. to be decompressed, to split attachments
+ * or by the response cache, and those already parsed by another XML reader, e.g. in Fast Infoset, are left to the
+ * {@link StaxInInterceptor}. The reader is configured with the limits of the message, as the
+ * {@link StaxInInterceptor} configures its own.
+ */
+public class ByteBufReaderInterceptor extends AbstractPhaseInterceptor<Message> {
+
+    public ByteBufReaderInterceptor() {
+        super(Phase.POST_STREAM);
+        addBefore(StaxInInterceptor.class.getName());
+        addAfter("org.apache.cxf.interceptor.FIStaxInInterceptor");
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+        String contentType = (String) message.get(Message.CONTENT_TYPE);
+        String encoding = (String) message.get(Message.ENCODING);
+        if (isRequestor(message) || isGET(message) || message.getContent(XMLStreamReader.class) != null
+                || contentType == null || !contentType.contains("xml")
+                || !StandardCharsets.UTF_8.name().equalsIgnoreCase(encoding)) {
+            return;
+        }
+        HttpServletRequestImpl request = servletRequest(message.get(AbstractHTTPDestination.HTTP_REQUEST));
+        if (request == null || request.getContentLengthLong() == 0 || !isServletStream(message, request)) {
+            return;
+        }
+        ByteBufReader reader = new ByteBufReader(request.getExchange());
+        XMLInputFactory factory = StaxInInterceptor.getXMLInputFactory(message);
+        try {
+            // the limits of the depth, the children and the size of the document, as set by the StaxInInterceptor
+            message.setContent(XMLStreamReader.class, StaxUtils.configureReader(factory == null
+                    ? StaxUtils.createXMLStreamReader(reader)
+                    : factory.createXMLStreamReader(reader), message));
+        } catch (XMLStreamException e) {
+            throw new Fault(e);
+        }
+        message.getInterceptorChain().add(StaxInEndingInterceptor.INSTANCE);
+    }
+
+    private static HttpServletRequestImpl servletRequest(Object request) {
+        while (request instanceof ServletRequestWrapper) {
+            request = ((ServletRequestWrapper) request).getRequest();
+        }
+        return request instanceof HttpServletRequestImpl ? (HttpServletRequestImpl) request : null;
+    }
+
+    /**
+     * Whether the message stream is still the servlet stream as wrapped by the destination, nothing having read it.
+     */
+    private static boolean isServletStream(Message message, HttpServletRequestImpl request) {
+        DelegatingInputStream stream = message.getContent(DelegatingInputStream.class);
+        try {
+            return stream != null && message.getContent(InputStream.class) == stream
+                    && stream.getInputStream() == request.getInputStream();
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.quarkus.cxf.transport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.undertow.servlet.spec.ServletOutputStreamImpl;
+
+/**
+ * Encodes the XML of a response in UTF-8 straight into the pooled direct buffer of the servlet stream, which is handed
+ * to the network when full or when the response ends, instead of encoding it in a byte array copied into that buffer.
+ * Falls back to encoding into the message stream when the response is not written by Undertow, e.g. when it is
+ * captured by the response cache.
+ */
+class ByteBufWriter extends Writer {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final OutputStream messageStream;
+    private final HttpServletResponse response;
+    private ServletOutputStreamImpl direct;
+    private Writer fallback;
+
+    ByteBufWriter(OutputStream messageStream, HttpServletResponse response) {
+        this.messageStream = messageStream;
+        this.response = response;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        if (direct == null && fallback == null) {
+            // the first write of the message stream sends the status and the headers
+            messageStream.write(EMPTY, 0, 0);
+            ServletOutputStream servletStream = response.getOutputStream();
+            if (servletStream instanceof ServletOutputStreamImpl) {
+                direct = (ServletOutputStreamImpl) servletStream;
+            } else {
+                fallback = new OutputStreamWriter(messageStream, StandardCharsets.UTF_8);
+            }
+        }
+        if (fallback != null) {
+            fallback.write(cbuf, off, len);
+            return;
+        }
+        while (len > 0) {
+            ByteBuf buffer = direct.underlyingBuffer();
+            // a char takes up to 3 bytes, a surrogate pair 4 bytes for 2 chars
+            int chars = Math.min(len, buffer.writableBytes() / 3);
+            if (chars < len && chars > 0 && Character.isHighSurrogate(cbuf[off + chars - 1])) {
+                chars--;
+            }
+            if (chars == 0) {
+                direct.flushInternal();
+                continue;
+            }
+            direct.updateWritten(ByteBufUtil.writeUtf8(buffer, CharBuffer.wrap(cbuf, off, chars)));
+            off += chars;
+            len -= chars;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (fallback != null) {
+            fallback.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+}
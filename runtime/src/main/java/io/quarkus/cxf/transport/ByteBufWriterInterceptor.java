@@ -0,0 +1,79 @@
+package io.quarkus.cxf.transport;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ServletResponseWrapper;
+import javax.servlet.http.HttpServletResponse;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.interceptor.StaxOutInterceptor;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.apache.cxf.staxutils.StaxUtils;
+import org.apache.cxf.transport.http.AbstractHTTPDestination;
+
+import io.undertow.servlet.spec.HttpServletResponseImpl;
+
+/**
+ * Writes the XML of the UTF-8 responses with a {@link ByteBufWriter} instead of the {@link StaxOutInterceptor}
+ * encoding it into the message stream. The responses whose stream was replaced, e.g. to be compressed or to carry
+ * attachments, and those already written by another XML writer, e.g. in Fast Infoset, are left to the
+ * {@link StaxOutInterceptor}, as are the responses which are not written by Undertow.
+ */
+public class ByteBufWriterInterceptor extends AbstractPhaseInterceptor<Message> {
+
+    public ByteBufWriterInterceptor() {
+        super(Phase.PRE_STREAM);
+        addBefore(StaxOutInterceptor.class.getName());
+        addAfter("org.apache.cxf.interceptor.FIStaxOutInterceptor");
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+        OutputStream messageStream = message.getContent(OutputStream.class);
+        Object response = message.getExchange().getInMessage() == null ? null
+                : message.getExchange().getInMessage().get(AbstractHTTPDestination.HTTP_RESPONSE);
+        String encoding = (String) message.get(Message.ENCODING);
+        if (isRequestor(message) || !isUndertowResponse(response)
+                || message.getContent(XMLStreamWriter.class) != null
+                || !isDestinationStream(messageStream)
+                || encoding != null && !StandardCharsets.UTF_8.name().equalsIgnoreCase(encoding)) {
+            return;
+        }
+        ByteBufWriter writer = new ByteBufWriter(messageStream, (HttpServletResponse) response);
+        XMLOutputFactory factory = StaxOutInterceptor.getXMLOutputFactory(message);
+        try {
+            message.setContent(XMLStreamWriter.class, factory == null ? StaxUtils.createXMLStreamWriter(writer)
+                    : factory.createXMLStreamWriter(writer));
+        } catch (XMLStreamException e) {
+            throw new Fault(e);
+        }
+        message.getInterceptorChain().add(StaxOutInterceptor.ENDING);
+    }
+
+    /**
+     * Whether the response is written by Undertow, possibly through wrappers, e.g. the one of the response cache which
+     * the {@link ByteBufWriter} falls back from.
+     */
+    private static boolean isUndertowResponse(Object response) {
+        if (!(response instanceof HttpServletResponse)) {
+            return false;
+        }
+        while (response instanceof ServletResponseWrapper) {
+            response = ((ServletResponseWrapper) response).getResponse();
+        }
+        return response instanceof HttpServletResponseImpl;
+    }
+
+    /**
+     * The stream of the destination, which the other interceptors replace by wrapping it.
+     */
+    private static boolean isDestinationStream(OutputStream stream) {
+        return stream != null && stream.getClass().getEnclosingClass() == AbstractHTTPDestination.class;
+    }
+}
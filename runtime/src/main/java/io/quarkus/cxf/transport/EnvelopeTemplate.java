@@ -0,0 +1,85 @@
+package io.quarkus.cxf.transport;
+
+/**
+ * The fixed start and end of a SOAP envelope without headers, down to the body or to the wrapper element of an
+ * operation, computed at build time.
+ */
+public class EnvelopeTemplate {
+    private String wrapperNamespace;
+    private String wrapperName;
+    private String start;
+    private String end;
+
+    /**
+     * @return the template of an envelope whose body content is written by the XML writer
+     */
+    public static EnvelopeTemplate of(String soapNamespace) {
+        EnvelopeTemplate template = new EnvelopeTemplate();
+        template.setStart("<soap:Envelope xmlns:soap=\"" + escape(soapNamespace) + "\"><soap:Body>");
+        template.setEnd("</soap:Body></soap:Envelope>");
+        return template;
+    }
+
+    /**
+     * @return the template of an envelope including the wrapper element, whose parts are written by the XML writer
+     */
+    public static EnvelopeTemplate of(String soapNamespace, String wrapperNamespace, String wrapperName) {
+        EnvelopeTemplate envelope = of(soapNamespace);
+        EnvelopeTemplate template = new EnvelopeTemplate();
+        template.setWrapperNamespace(wrapperNamespace);
+        template.setWrapperName(wrapperName);
+        String wrapper = wrapperNamespace.isEmpty() ? wrapperName : "ns1:" + wrapperName;
+        StringBuilder start = new StringBuilder(envelope.getStart()).append('<').append(wrapper);
+        if (!wrapperNamespace.isEmpty()) {
+            start.append(" xmlns:ns1=\"").append(escape(wrapperNamespace)).append('"');
+        }
+        template.setStart(start.append('>').toString());
+        template.setEnd("</" + wrapper + ">" + envelope.getEnd());
+        return template;
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace("\"", "&quot;");
+    }
+
+    /**
+     * @return the namespace of the wrapper element, or null if the template ends with the body
+     */
+    public String getWrapperNamespace() {
+        return wrapperNamespace;
+    }
+
+    public void setWrapperNamespace(String wrapperNamespace) {
+        this.wrapperNamespace = wrapperNamespace;
+    }
+
+    public String getWrapperName() {
+        return wrapperName;
+    }
+
+    public void setWrapperName(String wrapperName) {
+        this.wrapperName = wrapperName;
+    }
+
+    /**
+     * @return the start tags of the envelope, the body and the wrapper element if any
+     */
+    public String getStart() {
+        return start;
+    }
+
+    public void setStart(String start) {
+        this.start = start;
+    }
+
+    /**
+     * @return the end tags of the wrapper element if any, the body and the envelope
+     */
+    public String getEnd() {
+        return end;
+    }
+
+    public void setEnd(String end) {
+        this.end = end;
+    }
+}
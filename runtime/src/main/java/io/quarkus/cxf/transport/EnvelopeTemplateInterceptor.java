@@ -0,0 +1,159 @@
+package io.quarkus.cxf.transport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.cxf.binding.soap.SoapMessage;
+import org.apache.cxf.binding.soap.interceptor.AbstractSoapInterceptor;
+import org.apache.cxf.binding.soap.interceptor.SoapOutInterceptor;
+import org.apache.cxf.binding.soap.model.SoapHeaderInfo;
+import org.apache.cxf.common.util.PropertyUtils;
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.interceptor.Interceptor;
+import org.apache.cxf.interceptor.InterceptorChain;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageUtils;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.apache.cxf.service.model.BindingMessageInfo;
+import org.apache.cxf.service.model.BindingOperationInfo;
+import org.apache.cxf.staxutils.DelegatingXMLStreamWriter;
+import org.apache.cxf.wsdl.interceptors.WrappedOutInterceptor;
+import org.codehaus.stax2.XMLStreamWriter2;
+
+/**
+ * Copies the UTF-8 bytes of the envelope templates into the message stream instead of the {@link SoapOutInterceptor}
+ * writing the same tags with the XML writer, which then only writes the body content. When the parts of a wrapped
+ * operation are written one by one rather than as a wrapper bean, the template also replaces the wrapper element written
+ * by the {@link WrappedOutInterceptor}. The messages with headers, attachments, additional envelope namespaces or
+ * several body parts, and those not written by a Woodstox writer, e.g. in Fast Infoset or through SAAJ, are left to
+ * these interceptors.
+ */
+public class EnvelopeTemplateInterceptor extends AbstractSoapInterceptor {
+
+    private static final String TEMPLATE = EnvelopeTemplateInterceptor.class.getName() + ".template";
+    private static final String WROTE_ENVELOPE_START = "wrote.envelope.start";
+
+    private final String soapNamespace;
+    private final EncodedTemplate envelope;
+    private final Map<String, EncodedTemplate> requests;
+    private final Map<String, EncodedTemplate> responses;
+    private final EndingInterceptor ending = new EndingInterceptor();
+
+    public EnvelopeTemplateInterceptor(EnvelopeTemplates templates) {
+        super(Phase.WRITE);
+        addBefore(SoapOutInterceptor.class.getName());
+        this.soapNamespace = templates.getSoapNamespace();
+        this.envelope = new EncodedTemplate(templates.getEnvelope());
+        this.requests = encode(templates.getRequests());
+        this.responses = encode(templates.getResponses());
+    }
+
+    private static Map<String, EncodedTemplate> encode(Map<String, EnvelopeTemplate> templates) {
+        Map<String, EncodedTemplate> encoded = new HashMap<>();
+        templates.forEach((operation, template) -> encoded.put(operation, new EncodedTemplate(template)));
+        return encoded;
+    }
+
+    @Override
+    public void handleMessage(SoapMessage message) {
+        BindingOperationInfo bop = message.getExchange().getBindingOperationInfo();
+        String encoding = (String) message.get(Message.ENCODING);
+        if (bop == null || !soapNamespace.equals(message.getVersion().getNamespace())
+                || message.hasHeaders() || message.hasAdditionalEnvNs()
+                || PropertyUtils.isTrue(message.get(WROTE_ENVELOPE_START))
+                || MessageUtils.getContextualBoolean(message, Message.MTOM_ENABLED, false)
+                || message.getAttachments() != null && !message.getAttachments().isEmpty()
+                || encoding != null && !StandardCharsets.UTF_8.name().equalsIgnoreCase(encoding)) {
+            return;
+        }
+        boolean requestor = isRequestor(message);
+        BindingOperationInfo bodyOperation = bop.isUnwrapped() ? bop.getWrappedOperation() : bop;
+        BindingMessageInfo body = requestor ? bodyOperation.getInput() : bodyOperation.getOutput();
+        EncodedTemplate template = bop.isUnwrapped() ? wrapperTemplate(requestor, bop, body) : envelope;
+        XMLStreamWriter writer = message.getContent(XMLStreamWriter.class);
+        OutputStream out = message.getContent(OutputStream.class);
+        if (template == null || body == null || body.getMessageParts().size() != 1
+                || body.getExtensor(SoapHeaderInfo.class) != null || !(writer instanceof XMLStreamWriter2)
+                || out == null) {
+            return;
+        }
+        try {
+            writer.flush();
+            out.write(template.start);
+        } catch (IOException | XMLStreamException e) {
+            throw new Fault(e);
+        }
+        message.put(TEMPLATE, template);
+        InterceptorChain chain = message.getInterceptorChain();
+        List<Interceptor<? extends Message>> writers = new ArrayList<>();
+        for (Interceptor<? extends Message> interceptor : chain) {
+            if (interceptor instanceof SoapOutInterceptor
+                    || interceptor instanceof WrappedOutInterceptor && template != envelope) {
+                writers.add(interceptor);
+            }
+        }
+        writers.forEach(chain::remove);
+        chain.add(ending);
+    }
+
+    /**
+     * The template including the wrapper element that the {@link WrappedOutInterceptor} would write for the parts of
+     * an unwrapped operation, if it is the one of the wrapped operation.
+     */
+    private EncodedTemplate wrapperTemplate(boolean requestor, BindingOperationInfo bop, BindingMessageInfo wrapped) {
+        EncodedTemplate template = (requestor ? requests : responses).get(bop.getName().getLocalPart());
+        if (template == null || wrapped == null
+                || !template.wrapper.equals(wrapped.getMessageParts().get(0).getConcreteName())) {
+            return null;
+        }
+        return template;
+    }
+
+    private static final class EncodedTemplate {
+        private final QName wrapper;
+        private final byte[] start;
+        private final byte[] end;
+
+        EncodedTemplate(EnvelopeTemplate template) {
+            this.wrapper = template.getWrapperName() == null ? null
+                    : new QName(template.getWrapperNamespace(), template.getWrapperName());
+            this.start = template.getStart().getBytes(StandardCharsets.UTF_8);
+            this.end = template.getEnd().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class EndingInterceptor extends AbstractPhaseInterceptor<Message> {
+
+        EndingInterceptor() {
+            super(EnvelopeTemplateInterceptor.class.getName() + ".ending", Phase.WRITE_ENDING);
+        }
+
+        @Override
+        public void handleMessage(Message message) {
+            EncodedTemplate template = (EncodedTemplate) message.get(TEMPLATE);
+            XMLStreamWriter writer = message.getContent(XMLStreamWriter.class);
+            try {
+                writer.flush();
+                message.getContent(OutputStream.class).write(template.end);
+            } catch (IOException | XMLStreamException e) {
+                throw new Fault(e);
+            }
+            // the writer has not seen the envelope, which the template ended
+            message.setContent(XMLStreamWriter.class, new DelegatingXMLStreamWriter(writer) {
+                @Override
+                public void writeEndDocument() {
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.quarkus.cxf.transport;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Build time templates of the envelopes of an endpoint or a client, with those including the wrapper elements of its
+ * wrapped operations by operation name.
+ */
+public class EnvelopeTemplates {
+    private String soapNamespace;
+    private EnvelopeTemplate envelope;
+    private Map<String, EnvelopeTemplate> requests = new HashMap<>();
+    private Map<String, EnvelopeTemplate> responses = new HashMap<>();
+
+    /**
+     * @return the namespace of the SOAP version of the envelopes
+     */
+    public String getSoapNamespace() {
+        return soapNamespace;
+    }
+
+    public void setSoapNamespace(String soapNamespace) {
+        this.soapNamespace = soapNamespace;
+    }
+
+    /**
+     * @return the template of the envelopes whose body content is written by the XML writer
+     */
+    public EnvelopeTemplate getEnvelope() {
+        return envelope;
+    }
+
+    public void setEnvelope(EnvelopeTemplate envelope) {
+        this.envelope = envelope;
+    }
+
+    /**
+     * @return the templates including the request wrapper elements, used when the wrapper is not marshalled as a bean
+     */
+    public Map<String, EnvelopeTemplate> getRequests() {
+        return requests;
+    }
+
+    public void setRequests(Map<String, EnvelopeTemplate> requests) {
+        this.requests = requests;
+    }
+
+    /**
+     * @return the templates including the response wrapper elements, used when the wrapper is not marshalled as a bean
+     */
+    public Map<String, EnvelopeTemplate> getResponses() {
+        return responses;
+    }
+
+    public void setResponses(Map<String, EnvelopeTemplate> responses) {
+        this.responses = responses;
+    }
+}
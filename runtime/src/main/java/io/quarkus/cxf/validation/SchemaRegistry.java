@@ -0,0 +1,252 @@
+package io.quarkus.cxf.validation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+
+import org.apache.cxf.common.xmlschema.LSInputImpl;
+import org.apache.cxf.service.model.SchemaInfo;
+import org.apache.cxf.service.model.ServiceInfo;
+import org.apache.cxf.staxutils.StaxUtils;
+import org.apache.ws.commons.schema.XmlSchema;
+import org.jboss.logging.Logger;
+import org.xml.sax.SAXException;
+
+/**
+ * Process-wide registry of the compiled XML schemas validating the messages of the endpoints.
+ * <p>
+ * CXF compiles a {@link Schema} for each service from its schema documents. Here the documents of the services are
+ * grouped, a service joining a group whose documents of the same namespaces are identical, and each group is compiled
+ * once into a schema shared by its services, e.g. the endpoints of a service interface or of services importing the
+ * same types. The schema is set on the services, where CXF looks for it before compiling one, and the JAXB
+ * unmarshallers and marshallers of the endpoints validate against it while they read and write the messages.
+ */
+public final class SchemaRegistry {
+
+    private static final Logger LOGGER = Logger.getLogger(SchemaRegistry.class);
+    private static final SchemaRegistry INSTANCE = new SchemaRegistry();
+
+    private final List<Grammar> grammars = new ArrayList<>();
+    private final List<Registration> pending = new ArrayList<>();
+
+    private SchemaRegistry() {
+    }
+
+    public static SchemaRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register the schemas of services, which get their compiled schema on the next {@link #compile()}.
+     */
+    public synchronized void register(Collection<ServiceInfo> serviceInfos) {
+        for (ServiceInfo serviceInfo : serviceInfos) {
+            Map<String, SchemaDocument> documents = documents(serviceInfo);
+            if (documents == null) {
+                continue;
+            }
+            Grammar grammar = null;
+            for (Grammar candidate : grammars) {
+                if (candidate.covers(documents)) {
+                    grammar = candidate;
+                    break;
+                }
+            }
+            if (grammar == null) {
+                for (Grammar candidate : grammars) {
+                    if (candidate.schema == null && candidate.isConsistentWith(documents)) {
+                        grammar = candidate;
+                        break;
+                    }
+                }
+            }
+            if (grammar == null) {
+                grammar = new Grammar();
+                grammars.add(grammar);
+            }
+            grammar.documents.putAll(documents);
+            grammar.users++;
+            pending.add(new Registration(serviceInfo, grammar));
+        }
+    }
+
+    /**
+     * Compile the schemas of the services registered since the last call, and set them on the services. The services
+     * whose schema cannot be compiled are left to CXF.
+     */
+    public synchronized void compile() {
+        for (Registration registration : pending) {
+            Grammar grammar = registration.grammar;
+            if (grammar.schema == null && !grammar.failed) {
+                try {
+                    grammar.schema = grammar.compile();
+                } catch (SAXException e) {
+                    grammar.failed = true;
+                    LOGGER.warn("Schema of " + grammar.documents.keySet()
+                            + " not compiled ahead, CXF will compile one per service", e);
+                }
+            }
+            if (grammar.schema != null) {
+                registration.serviceInfo.setProperty(Schema.class.getName(), grammar.schema);
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * @return the documents of the service by namespace, or null if they cannot be shared with other services
+     */
+    private static Map<String, SchemaDocument> documents(ServiceInfo serviceInfo) {
+        Map<String, SchemaDocument> documents = new LinkedHashMap<>();
+        try {
+            for (SchemaInfo schemaInfo : serviceInfo.getSchemas()) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                XMLStreamWriter writer = StaxUtils.createXMLStreamWriter(out);
+                StaxUtils.copy(schemaInfo.getElement(), writer);
+                writer.flush();
+                if (documents.put(namespace(schemaInfo.getNamespaceURI()),
+                        new SchemaDocument(schemaInfo.getSystemId(), out.toByteArray())) != null) {
+                    // the documents of a namespace are included by one another
+                    return null;
+                }
+            }
+            // the schemas imported by the WSDL from other locations
+            for (XmlSchema xmlSchema : serviceInfo.getXmlSchemaCollection().getXmlSchemas()) {
+                String namespace = namespace(xmlSchema.getTargetNamespace());
+                if (xmlSchema.getSourceURI() != null && !documents.containsKey(namespace)
+                        && !XMLConstants.W3C_XML_SCHEMA_NS_URI.equals(namespace)) {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    xmlSchema.write(out);
+                    documents.put(namespace, new SchemaDocument(xmlSchema.getSourceURI(), out.toByteArray()));
+                }
+            }
+        } catch (XMLStreamException | UnsupportedEncodingException e) {
+            LOGGER.debugf(e, "Schemas of %s not registered", serviceInfo.getName());
+            return null;
+        }
+        return documents.isEmpty() ? null : documents;
+    }
+
+    private static String namespace(String namespace) {
+        return namespace == null ? "" : namespace;
+    }
+
+    /**
+     * @return the number of schemas compiled
+     */
+    public synchronized int getSchemaCount() {
+        return (int) grammars.stream().filter(grammar -> grammar.schema != null).count();
+    }
+
+    /**
+     * @return a description of the schemas compiled, with their namespaces and the number of services using them
+     */
+    public synchronized String report() {
+        StringBuilder report = new StringBuilder().append(getSchemaCount()).append(" validation schema(s)");
+        for (Grammar grammar : grammars) {
+            report.append("\n- ").append(String.join(", ", grammar.documents.keySet())).append(": ")
+                    .append(grammar.users).append(" service(s)");
+            if (grammar.failed) {
+                report.append(", not compiled");
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Drop the schemas compiled, e.g. when the application is stopped before a dev mode restart, in which the registry
+     * outlives the application.
+     */
+    public synchronized void clear() {
+        grammars.clear();
+        pending.clear();
+    }
+
+    private static final class SchemaDocument {
+        private final String systemId;
+        private final byte[] bytes;
+        private final byte[] digest;
+
+        SchemaDocument(String systemId, byte[] bytes) {
+            this.systemId = systemId;
+            this.bytes = bytes;
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        boolean sameAs(SchemaDocument other) {
+            return Arrays.equals(digest, other.digest);
+        }
+    }
+
+    private static final class Grammar {
+        private final Map<String, SchemaDocument> documents = new LinkedHashMap<>();
+        private Schema schema;
+        private boolean failed;
+        private int users;
+
+        boolean covers(Map<String, SchemaDocument> others) {
+            for (Map.Entry<String, SchemaDocument> other : others.entrySet()) {
+                SchemaDocument document = documents.get(other.getKey());
+                if (document == null || !document.sameAs(other.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean isConsistentWith(Map<String, SchemaDocument> others) {
+            for (Map.Entry<String, SchemaDocument> other : others.entrySet()) {
+                SchemaDocument document = documents.get(other.getKey());
+                if (document != null && !document.sameAs(other.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Schema compile() throws SAXException {
+            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            // the imports of the namespaces of the grammar are resolved to its documents
+            factory.setResourceResolver((type, namespace, publicId, systemId, baseUri) -> {
+                SchemaDocument document = namespace == null ? null : documents.get(namespace);
+                return document == null ? null
+                        : new LSInputImpl(publicId, document.systemId, new ByteArrayInputStream(document.bytes));
+            });
+            List<Source> sources = new ArrayList<>();
+            for (SchemaDocument document : documents.values()) {
+                sources.add(new StreamSource(new ByteArrayInputStream(document.bytes), document.systemId));
+            }
+            return factory.newSchema(sources.toArray(new Source[0]));
+        }
+    }
+
+    private static final class Registration {
+        private final ServiceInfo serviceInfo;
+        private final Grammar grammar;
+
+        Registration(ServiceInfo serviceInfo, Grammar grammar) {
+            this.serviceInfo = serviceInfo;
+            this.grammar = grammar;
+        }
+    }
+}